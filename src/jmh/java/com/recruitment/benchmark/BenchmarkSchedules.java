@@ -0,0 +1,86 @@
+package com.recruitment.benchmark;
+
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.interview.Seniority;
+import com.recruitment.recruiter.SlotCounter;
+import com.recruitment.recruiter.SlotPeriod;
+import com.recruitment.vacation.Vacation;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deterministic schedules for the benchmarks: every recruiter gets {@code slotsPerWeek} 30-minute slots spread
+ * evenly over {@link #WEEKS} weeks from {@link #START}, so the gap after each slot is the same and known.
+ */
+public final class BenchmarkSchedules {
+
+    public static final LocalDateTime START = LocalDateTime.of(2030, 1, 7, 0, 0);
+    public static final int WEEKS = 52;
+    public static final Duration SLOT_LENGTH = Duration.ofMinutes(30);
+
+    private BenchmarkSchedules() {
+    }
+
+    public static String recruiterId(int recruiter) {
+        return String.format("%024x", recruiter + 1);
+    }
+
+    /**
+     * Time between the starts of two consecutive slots.
+     */
+    public static Duration step(int slotsPerWeek) {
+        return Duration.ofDays(7).dividedBy(slotsPerWeek);
+    }
+
+    public static List<InterviewSlot> slots(int recruiters, int slotsPerWeek) {
+        Duration step = step(slotsPerWeek);
+        List<InterviewSlot> slots = new ArrayList<>();
+        for (int r = 0; r < recruiters; r++) {
+            LocalDateTime start = START;
+            for (int i = 0; i < slotsPerWeek * WEEKS; i++) {
+                slots.add(slot(String.format("%08x%016x", r, i), recruiterId(r), start, start.plus(SLOT_LENGTH)));
+                start = start.plus(step);
+            }
+        }
+        return slots;
+    }
+
+    public static InterviewSlot slot(String id, String recruiterId, LocalDateTime start, LocalDateTime end) {
+        return new InterviewSlot(id, "JAVA", Seniority.MID, start, end, false, null, recruiterId, null, 1, 0);
+    }
+
+    /**
+     * Day, week and month counters matching {@code slots}, keyed by counter ID.
+     */
+    public static Map<String, SlotCounter> counters(List<InterviewSlot> slots) {
+        Map<String, SlotCounter> counters = new HashMap<>();
+        for (InterviewSlot slot : slots) {
+            LocalDate date = slot.getStartTime().toLocalDate();
+            for (SlotPeriod period : SlotPeriod.values()) {
+                SlotCounter counter = counters.computeIfAbsent(period.counterId(slot.getRecruiterId(), date),
+                        id -> new SlotCounter(id, slot.getRecruiterId(), period, period.key(date), 0));
+                counter.setCount(counter.getCount() + 1);
+            }
+        }
+        return counters;
+    }
+
+    /**
+     * Two vacations per recruiter, both after the generated schedule so that validation reads but never hits them.
+     */
+    public static List<Vacation> vacations(int recruiters) {
+        LocalDateTime after = START.plusWeeks(WEEKS + 1);
+        List<Vacation> vacations = new ArrayList<>();
+        for (int r = 0; r < recruiters; r++) {
+            vacations.add(new Vacation(null, recruiterId(r), after, after.plusWeeks(1), "holiday", true));
+            vacations.add(new Vacation(null, recruiterId(r), after.plusWeeks(4), after.plusWeeks(5), "holiday", true));
+        }
+        return vacations;
+    }
+}
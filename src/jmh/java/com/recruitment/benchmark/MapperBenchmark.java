@@ -0,0 +1,61 @@
+package com.recruitment.benchmark;
+
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.interview.InterviewSlotDto;
+import com.recruitment.interview.InterviewSlotMapper;
+import com.recruitment.interview.InterviewSlotMapperImpl;
+import com.recruitment.interview.Seniority;
+import com.recruitment.reservation.CandidateReservation;
+import com.recruitment.reservation.CandidateReservationDto;
+import com.recruitment.reservation.CandidateReservationMapper;
+import com.recruitment.reservation.CandidateReservationMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The MapStruct mappers on the create and update paths of slots and reservations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 7, 10, 0);
+
+    private final InterviewSlotMapper slotMapper = new InterviewSlotMapperImpl();
+    private final CandidateReservationMapper reservationMapper = new CandidateReservationMapperImpl();
+    private final InterviewSlotDto slotDto = new InterviewSlotDto(null, BenchmarkSchedules.recruiterId(0), "JAVA",
+            Seniority.MID, START, START.plusHours(1), true, 15, 3);
+    private final InterviewSlot slot = BenchmarkSchedules.slot("0000000000000000000000a1",
+            BenchmarkSchedules.recruiterId(0), START, START.plusHours(1));
+    private final CandidateReservationDto reservationDto = new CandidateReservationDto(null,
+            "0000000000000000000000a1", "0000000000000000000000b2", START.minusDays(1), "ACTIVE");
+
+    @Benchmark
+    public InterviewSlot slotToEntity() {
+        return slotMapper.toEntity(slotDto);
+    }
+
+    @Benchmark
+    public InterviewSlot slotCopy() {
+        return slotMapper.copy(slot);
+    }
+
+    @Benchmark
+    public CandidateReservation reservationToEntity() {
+        return reservationMapper.toEntity(reservationDto);
+    }
+}
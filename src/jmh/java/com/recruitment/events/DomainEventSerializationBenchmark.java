@@ -0,0 +1,74 @@
+package com.recruitment.events;
+
+import com.recruitment.reservation.CandidateReservation;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turning a reservation into Kafka bytes: the binary event against the former {@code String.format} message, and
+ * decoding the binary event back. Events are built up front, as their timestamp would otherwise dominate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainEventSerializationBenchmark {
+
+    private static final int EVENTS = 1024;
+
+    private final DomainEventSerializer serializer = new DomainEventSerializer();
+    private final DomainEventDeserializer deserializer = new DomainEventDeserializer();
+    private final StringSerializer text = new StringSerializer();
+    private CandidateReservation[] reservations;
+    private DomainEvent[] events;
+    private byte[][] encoded;
+    private int next;
+
+    @Setup
+    public void setup() {
+        reservations = new CandidateReservation[EVENTS];
+        events = new DomainEvent[EVENTS];
+        encoded = new byte[EVENTS][];
+        for (int i = 0; i < EVENTS; i++) {
+            reservations[i] = new CandidateReservation(id(), id(), id(), LocalDateTime.now(), "ACTIVE");
+            events[i] = DomainEvent.reservation(DomainEventType.RESERVATION_CREATED, reservations[i]);
+            encoded[i] = serializer.serialize("t", events[i]);
+        }
+    }
+
+    @Benchmark
+    public byte[] text() {
+        CandidateReservation reservation = reservations[next++ & (EVENTS - 1)];
+        return text.serialize("t", String.format("Reservation created: id=%s slot=%s candidate=%s",
+                reservation.getId(), reservation.getSlotId(), reservation.getCandidateId()));
+    }
+
+    @Benchmark
+    public byte[] binary() {
+        return serializer.serialize("t", events[next++ & (EVENTS - 1)]);
+    }
+
+    @Benchmark
+    public DomainEvent binaryDecode() {
+        return deserializer.deserialize("t", encoded[next++ & (EVENTS - 1)]);
+    }
+
+    private static String id() {
+        return new ObjectId().toHexString();
+    }
+}
@@ -0,0 +1,52 @@
+package com.recruitment.interview;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.recruitment.benchmark.BenchmarkSchedules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of slot lists the size of a search page and of a recruiter's full schedule, with the
+ * ISO date settings the web layer uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterviewSlotJsonBenchmark {
+
+    @Param({"50", "2000"})
+    private int slotCount;
+
+    private ObjectWriter writer;
+    private List<InterviewSlot> slots;
+
+    @Setup
+    public void setup() {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, InterviewSlot.class));
+        slots = BenchmarkSchedules.slots(1, 40).subList(0, slotCount);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(slots);
+    }
+}
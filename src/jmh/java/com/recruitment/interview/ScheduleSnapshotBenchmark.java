@@ -0,0 +1,73 @@
+package com.recruitment.interview;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A booking published into a loaded {@link ScheduleSnapshot}: the cost should stay flat as the snapshot grows, since
+ * a write copies only the chunk holding the slot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class ScheduleSnapshotBenchmark {
+
+    private static final int BOOKINGS = 4096;
+    private static final int RECRUITERS = 1000;
+
+    @Param({"100000", "1000000"})
+    private int slotCount;
+
+    private ScheduleSnapshot snapshot;
+    private InterviewSlot[] booked;
+    private int next;
+
+    @Setup
+    public void setup() {
+        LocalDateTime start = LocalDate.now().atTime(8, 0);
+        long minutes = 7L * 7 * 24 * 60;
+        List<InterviewSlot> slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            LocalDateTime slotStart = start.plusMinutes(minutes * i / slotCount);
+            slots.add(new InterviewSlot(String.format("%024x", i), "JAVA", Seniority.MID, slotStart,
+                    slotStart.plusMinutes(30), false, null, String.format("recr%04d", i % RECRUITERS), null, 1, 0));
+        }
+        InMemoryInterviewSlotRepository repository = new InMemoryInterviewSlotRepository();
+        repository.insert(slots);
+        snapshot = new ScheduleSnapshot(repository, true, 8);
+        snapshot.reload();
+
+        Random random = new Random(42);
+        booked = new InterviewSlot[BOOKINGS];
+        for (int i = 0; i < BOOKINGS; i++) {
+            InterviewSlot slot = slots.get(random.nextInt(slotCount));
+            booked[i] = new InterviewSlot(slot.getId(), slot.getCategory(), slot.getSeniority(), slot.getStartTime(),
+                    slot.getEndTime(), false, null, slot.getRecruiterId(), null, 1, 1 - slot.getBookedCount());
+        }
+    }
+
+    @Benchmark
+    public ScheduleSnapshot.View book() {
+        snapshot.put(booked[next++ & (BOOKINGS - 1)]);
+        return snapshot.view();
+    }
+}
@@ -0,0 +1,81 @@
+package com.recruitment.interview;
+
+import com.recruitment.benchmark.BenchmarkSchedules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overlap detection for a one-hour window in one recruiter's year: {@link SlotIntervalIndex#findOverlapping}
+ * against a scan of all the recruiter's slots, which is what every check cost before the index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlotIntervalIndexBenchmark {
+
+    private static final int WINDOWS = 4096;
+
+    @Param({"5", "40", "160"})
+    private int slotsPerWeek;
+
+    private String recruiterId;
+    private List<InterviewSlot> slots;
+    private SlotIntervalIndex index;
+    private LocalDateTime[] windowStarts;
+    private int next;
+
+    @Setup
+    public void setup() {
+        slots = BenchmarkSchedules.slots(1, slotsPerWeek);
+        recruiterId = BenchmarkSchedules.recruiterId(0);
+        InMemoryInterviewSlotRepository slotRepository = new InMemoryInterviewSlotRepository();
+        slotRepository.insert(slots);
+        index = new SlotIntervalIndex(slotRepository, Duration.ofDays(1));
+        index.findOverlapping(recruiterId, BenchmarkSchedules.START, BenchmarkSchedules.START);
+
+        Random random = new Random(42);
+        long minutes = Duration.ofDays(7L * BenchmarkSchedules.WEEKS).toMinutes();
+        windowStarts = new LocalDateTime[WINDOWS];
+        for (int i = 0; i < WINDOWS; i++) {
+            windowStarts[i] = BenchmarkSchedules.START.plusMinutes((long) (random.nextDouble() * minutes));
+        }
+    }
+
+    @Benchmark
+    public List<SlotInterval> index() {
+        LocalDateTime start = windowStarts[next++ & (WINDOWS - 1)];
+        return index.findOverlapping(recruiterId, start, start.plusHours(1));
+    }
+
+    @Benchmark
+    public List<InterviewSlot> scan() {
+        LocalDateTime start = windowStarts[next++ & (WINDOWS - 1)];
+        LocalDateTime end = start.plusHours(1);
+        List<InterviewSlot> result = new ArrayList<>();
+        for (InterviewSlot slot : slots) {
+            if (slot.getStartTime().isBefore(end) && slot.getEndTime().isAfter(start)) {
+                result.add(slot);
+            }
+        }
+        return result;
+    }
+}
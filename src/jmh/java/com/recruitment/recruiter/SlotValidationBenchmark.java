@@ -0,0 +1,112 @@
+package com.recruitment.recruiter;
+
+import com.recruitment.benchmark.BenchmarkSchedules;
+import com.recruitment.exceptions.OverlapException;
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.interview.InMemoryInterviewSlotRepository;
+import com.recruitment.interview.SlotIntervalIndex;
+import com.recruitment.vacation.InMemoryVacationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RecruiterService#validateNewSlot} over the repositories of the {@code memory} storage, at a sparse, a typical and a packed weekly
+ * schedule. {@code accepted} validates a slot placed in the gap after an existing one; {@code rejected} one that
+ * overlaps it, so the cost of building the {@link OverlapException} shows up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlotValidationBenchmark {
+
+    private static final int RECRUITERS = 20;
+    private static final int CANDIDATES = 4096;
+
+    @Param({"5", "40", "160"})
+    private int slotsPerWeek;
+
+    private RecruiterService recruiterService;
+    private Recruiter[] owners;
+    private InterviewSlot[] free;
+    private InterviewSlot[] overlapping;
+    private int next;
+
+    @Setup
+    public void setup() {
+        List<InterviewSlot> slots = BenchmarkSchedules.slots(RECRUITERS, slotsPerWeek);
+        InMemoryInterviewSlotRepository slotRepository = new InMemoryInterviewSlotRepository();
+        slotRepository.insert(slots);
+        InMemoryVacationRepository vacationRepository = new InMemoryVacationRepository();
+        vacationRepository.saveAll(BenchmarkSchedules.vacations(RECRUITERS));
+        InMemorySlotCounterRepository counterRepository = new InMemorySlotCounterRepository();
+        counterRepository.saveAll(BenchmarkSchedules.counters(slots).values());
+        InMemoryRecruiterRepository recruiterRepository = new InMemoryRecruiterRepository(slotRepository,
+                vacationRepository);
+        SlotIntervalIndex index = new SlotIntervalIndex(slotRepository, Duration.ofDays(1));
+        // The schedule lock and the job lease are only taken by the counter rebuild, which is not measured.
+        SlotCounterService counters = new SlotCounterService(counterRepository, slotRepository, null, null);
+        recruiterService = new RecruiterService(recruiterRepository, vacationRepository, new RecruiterMapperImpl(),
+                index, counters, new SlotValidationMetrics(new SimpleMeterRegistry()));
+
+        Map<String, Recruiter> recruiters = new HashMap<>();
+        for (int r = 0; r < RECRUITERS; r++) {
+            String id = BenchmarkSchedules.recruiterId(r);
+            recruiters.put(id, recruiterRepository.save(new Recruiter(id, "Jan", "Kowalski", 1000, 5000, 20000,
+                    null, null)));
+            index.findOverlapping(id, BenchmarkSchedules.START, BenchmarkSchedules.START);
+        }
+        // The gap after each slot is the step minus the slot length; the free candidate takes a quarter of it.
+        Duration gap = BenchmarkSchedules.step(slotsPerWeek).minus(BenchmarkSchedules.SLOT_LENGTH);
+        free = new InterviewSlot[CANDIDATES];
+        overlapping = new InterviewSlot[CANDIDATES];
+        owners = new Recruiter[CANDIDATES];
+        int stride = slots.size() / CANDIDATES;
+        for (int i = 0; i < CANDIDATES; i++) {
+            InterviewSlot existing = slots.get(i * stride);
+            owners[i] = recruiters.get(existing.getRecruiterId());
+            LocalDateTime freeStart = existing.getEndTime().plus(gap.dividedBy(4));
+            free[i] = BenchmarkSchedules.slot(null, existing.getRecruiterId(), freeStart,
+                    freeStart.plus(gap.dividedBy(4)));
+            overlapping[i] = BenchmarkSchedules.slot(null, existing.getRecruiterId(),
+                    existing.getStartTime().plusMinutes(10), existing.getEndTime().plusMinutes(10));
+        }
+    }
+
+    @Benchmark
+    public InterviewSlot accepted() {
+        int i = next++ & (CANDIDATES - 1);
+        recruiterService.validateNewSlot(owners[i], free[i]);
+        return free[i];
+    }
+
+    @Benchmark
+    public Object rejected() {
+        int i = next++ & (CANDIDATES - 1);
+        try {
+            recruiterService.validateNewSlot(owners[i], overlapping[i]);
+            throw new IllegalStateException("Overlap not detected for " + overlapping[i]);
+        } catch (OverlapException e) {
+            return e;
+        }
+    }
+}
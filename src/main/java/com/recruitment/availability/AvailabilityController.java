@@ -0,0 +1,42 @@
+package com.recruitment.availability;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/availability")
+public class AvailabilityController {
+
+    private final AvailabilityService availabilityService;
+
+    @Operation(summary = "Find open windows of recruiters within working hours, per recruiter and combined")
+    @ApiResponses({@ApiResponse(responseCode = "200", description = "Open windows returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid time range, working hours or duration")})
+    @GetMapping
+    public ResponseEntity<?> findAvailability(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "60") int durationMinutes,
+            @RequestParam(name = "recruiterId", required = false) List<String> recruiterIds,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime workStart,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime workEnd) {
+        try {
+            return ResponseEntity.ok(availabilityService.findAvailability(
+                    new AvailabilityQuery(from, to, durationMinutes, recruiterIds, workStart, workEnd)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
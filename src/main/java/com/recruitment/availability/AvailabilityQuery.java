@@ -0,0 +1,25 @@
+package com.recruitment.availability;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Open windows of at least {@code durationMinutes} within {@code [from, to)} and the daily working hours, for the
+ * given recruiters or all of them when {@code recruiterIds} is empty. Unset working hours use the configured ones.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityQuery {
+
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private int durationMinutes;
+    private List<String> recruiterIds;
+    private LocalTime workStart;
+    private LocalTime workEnd;
+}
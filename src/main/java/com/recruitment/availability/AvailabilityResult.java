@@ -0,0 +1,17 @@
+package com.recruitment.availability;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Open windows per recruiter, plus the windows in which at least one ({@code anyRecruiter}) or every
+ * ({@code allRecruiters}) requested recruiter is free. Recruiters without any window are left out.
+ */
+@Data
+@AllArgsConstructor
+public class AvailabilityResult {
+    private final List<RecruiterAvailability> recruiters;
+    private final List<TimeWindow> anyRecruiter;
+    private final List<TimeWindow> allRecruiters;
+}
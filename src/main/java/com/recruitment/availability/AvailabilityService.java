@@ -0,0 +1,268 @@
+package com.recruitment.availability;
+
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.interview.InterviewSlotRepository;
+import com.recruitment.interview.ScheduleSnapshot;
+import com.recruitment.interview.SlotInterval;
+import com.recruitment.recruiter.Recruiter;
+import com.recruitment.recruiter.RecruiterRepository;
+import com.recruitment.recruiter.SlotCounter;
+import com.recruitment.recruiter.SlotCounterRepository;
+import com.recruitment.recruiter.SlotPeriod;
+import com.recruitment.vacation.Vacation;
+import com.recruitment.vacation.VacationRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Computes open windows on bitsets with one bit per {@value #STEP_MINUTES} minutes: working hours minus buffered
+ * slots, vacations and days on which a daily, weekly or monthly limit is used up. Masks are built per recruiter in
+ * parallel and combined with OR/AND. Slots come from the {@link ScheduleSnapshot} when it covers the range.
+ */
+@Service
+public class AvailabilityService {
+
+    static final int STEP_MINUTES = 5;
+    private static final int STEPS_PER_DAY = 24 * 60 / STEP_MINUTES;
+    private static final long STEP_SECONDS = STEP_MINUTES * 60L;
+    // Slots starting this far outside the window can still reach into it with their buffer.
+    private static final Duration LOOKAROUND = Duration.ofDays(1);
+
+    private final RecruiterRepository recruiterRepository;
+    private final InterviewSlotRepository interviewSlotRepository;
+    private final VacationRepository vacationRepository;
+    private final SlotCounterRepository slotCounterRepository;
+    private final ScheduleSnapshot scheduleSnapshot;
+    private final int maxDays;
+    private final LocalTime workStart;
+    private final LocalTime workEnd;
+
+    public AvailabilityService(RecruiterRepository recruiterRepository,
+            InterviewSlotRepository interviewSlotRepository, VacationRepository vacationRepository,
+            SlotCounterRepository slotCounterRepository, ScheduleSnapshot scheduleSnapshot,
+            @Value("${recruitment.availability.max-days:31}") int maxDays,
+            @Value("${recruitment.availability.work-start:09:00}") String workStart,
+            @Value("${recruitment.availability.work-end:17:00}") String workEnd) {
+        this.recruiterRepository = recruiterRepository;
+        this.interviewSlotRepository = interviewSlotRepository;
+        this.vacationRepository = vacationRepository;
+        this.slotCounterRepository = slotCounterRepository;
+        this.scheduleSnapshot = scheduleSnapshot;
+        this.maxDays = maxDays;
+        this.workStart = LocalTime.parse(workStart);
+        this.workEnd = LocalTime.parse(workEnd);
+    }
+
+    public AvailabilityResult findAvailability(AvailabilityQuery query) {
+        Grid grid = gridFor(query);
+        LocalTime dayStart = query.getWorkStart() != null ? query.getWorkStart() : workStart;
+        LocalTime dayEnd = query.getWorkEnd() != null ? query.getWorkEnd() : workEnd;
+        if (!dayEnd.isAfter(dayStart)) {
+            throw new IllegalArgumentException("Working hours must end after they start.");
+        }
+        if (query.getDurationMinutes() <= 0) {
+            throw new IllegalArgumentException("Duration must be positive.");
+        }
+        int minSteps = (query.getDurationMinutes() + STEP_MINUTES - 1) / STEP_MINUTES;
+        BitSet open = grid.workingHours(query.getFrom(), query.getTo(), dayStart, dayEnd);
+
+        List<String> ids = query.getRecruiterIds() != null ? query.getRecruiterIds() : List.of();
+        List<Recruiter> recruiters = ids.isEmpty() ? recruiterRepository.findAll()
+                : recruiterRepository.findAllById(ids);
+        BusySlots busy = busySlots(ids, grid.start.minus(LOOKAROUND), grid.end().plus(LOOKAROUND));
+        Map<String, List<Vacation>> vacations = vacationRepository.findByStartDateLessThanAndEndDateGreaterThan(
+                        grid.end(), grid.start).stream()
+                .collect(Collectors.groupingBy(Vacation::getRecruiterId));
+        Map<String, Long> counts = counts(grid);
+
+        List<BitSet> masks = recruiters.parallelStream()
+                .map(recruiter -> free(recruiter, open, grid, busy,
+                        vacations.getOrDefault(recruiter.getId(), List.of()), counts))
+                .toList();
+
+        List<RecruiterAvailability> available = new ArrayList<>();
+        BitSet anyRecruiter = new BitSet(grid.size);
+        BitSet allRecruiters = recruiters.isEmpty() ? new BitSet(grid.size) : (BitSet) open.clone();
+        for (int i = 0; i < recruiters.size(); i++) {
+            BitSet mask = masks.get(i);
+            anyRecruiter.or(mask);
+            allRecruiters.and(mask);
+            List<TimeWindow> windows = grid.windows(mask, minSteps);
+            if (!windows.isEmpty()) {
+                available.add(new RecruiterAvailability(recruiters.get(i).getId(), windows));
+            }
+        }
+        return new AvailabilityResult(available, grid.windows(anyRecruiter, minSteps),
+                grid.windows(allRecruiters, minSteps));
+    }
+
+    // Served by the schedule snapshot when it holds the whole range.
+    private BusySlots busySlots(List<String> recruiterIds, LocalDateTime from, LocalDateTime to) {
+        ScheduleSnapshot.View snapshot = scheduleSnapshot.view();
+        if (snapshot != null && snapshot.covers(from, to)) {
+            return (recruiterId, consumer) -> snapshot.forEachBusy(recruiterId, from, to, consumer);
+        }
+        Map<String, List<InterviewSlot>> slots = interviewSlotRepository.findBusy(recruiterIds, from, to).stream()
+                .collect(Collectors.groupingBy(InterviewSlot::getRecruiterId));
+        return (recruiterId, consumer) -> {
+            for (InterviewSlot slot : slots.getOrDefault(recruiterId, List.of())) {
+                if (slot.getStartTime() != null && slot.getEndTime() != null) {
+                    consumer.accept(ScheduleSnapshot.minute(SlotInterval.bufferedStart(slot)),
+                            ScheduleSnapshot.ceilMinute(SlotInterval.bufferedEnd(slot)));
+                }
+            }
+        };
+    }
+
+    private Grid gridFor(AvailabilityQuery query) {
+        if (query.getFrom() == null || query.getTo() == null || !query.getTo().isAfter(query.getFrom())) {
+            throw new IllegalArgumentException("Both from and to are required and to must be after from.");
+        }
+        LocalDate first = query.getFrom().toLocalDate();
+        long days = ChronoUnit.DAYS.between(first, query.getTo().minusNanos(1).toLocalDate()) + 1;
+        if (days > maxDays) {
+            throw new IllegalArgumentException("Availability can span at most " + maxDays + " days.");
+        }
+        return new Grid(first.atStartOfDay(), (int) days);
+    }
+
+    // Counters of every day, week and month the grid touches, keyed by counter ID.
+    private Map<String, Long> counts(Grid grid) {
+        Map<String, Long> counts = new HashMap<>();
+        for (SlotPeriod period : SlotPeriod.values()) {
+            Set<String> keys = new LinkedHashSet<>();
+            for (int day = 0; day < grid.days; day++) {
+                keys.add(period.key(grid.date(day)));
+            }
+            for (SlotCounter counter : slotCounterRepository.findByPeriodAndPeriodKeyIn(period, keys)) {
+                counts.put(counter.getId(), counter.getCount());
+            }
+        }
+        return counts;
+    }
+
+    private BitSet free(Recruiter recruiter, BitSet open, Grid grid, BusySlots busy, List<Vacation> vacations,
+            Map<String, Long> counts) {
+        BitSet free = (BitSet) open.clone();
+        busy.forEach(recruiter.getId(), (start, end) -> free.clear(grid.floorMinute(start), grid.ceilMinute(end)));
+        for (Vacation vacation : vacations) {
+            free.clear(grid.floor(vacation.getStartDate()), grid.ceil(vacation.getEndDate()));
+        }
+        for (int day = 0; day < grid.days; day++) {
+            if (limitReached(recruiter, grid.date(day), counts)) {
+                free.clear(day * STEPS_PER_DAY, (day + 1) * STEPS_PER_DAY);
+            }
+        }
+        return free;
+    }
+
+    private boolean limitReached(Recruiter recruiter, LocalDate date, Map<String, Long> counts) {
+        return reached(recruiter.getMaxDailyInterviews(), counts, SlotPeriod.DAY.counterId(recruiter.getId(), date))
+                || reached(recruiter.getMaxWeeklyInterviews(), counts,
+                        SlotPeriod.WEEK.counterId(recruiter.getId(), date))
+                || reached(recruiter.getMaxMonthlyInterviews(), counts,
+                        SlotPeriod.MONTH.counterId(recruiter.getId(), date));
+    }
+
+    private boolean reached(Integer limit, Map<String, Long> counts, String counterId) {
+        return limit != null && limit > 0 && counts.getOrDefault(counterId, 0L) >= limit;
+    }
+
+    private interface BusySlots {
+        void forEach(String recruiterId, ScheduleSnapshot.IntervalConsumer consumer);
+    }
+
+    /**
+     * Consecutive days starting at midnight, one bit per step; bit {@code day * STEPS_PER_DAY + n} is the n-th step
+     * of that day.
+     */
+    private static final class Grid {
+
+        private final LocalDateTime start;
+        private final int startMinute;
+        private final int days;
+        private final int size;
+
+        Grid(LocalDateTime start, int days) {
+            this.start = start;
+            this.startMinute = ScheduleSnapshot.minute(start);
+            this.days = days;
+            this.size = days * STEPS_PER_DAY;
+        }
+
+        LocalDateTime end() {
+            return start.plusDays(days);
+        }
+
+        LocalDate date(int day) {
+            return start.toLocalDate().plusDays(day);
+        }
+
+        BitSet workingHours(LocalDateTime from, LocalDateTime to, LocalTime dayStart, LocalTime dayEnd) {
+            BitSet bits = new BitSet(size);
+            int startStep = (int) -Math.floorDiv(-dayStart.toSecondOfDay(), STEP_SECONDS);
+            int endStep = (int) (dayEnd.toSecondOfDay() / STEP_SECONDS);
+            for (int day = 0; day < days; day++) {
+                bits.set(day * STEPS_PER_DAY + startStep, day * STEPS_PER_DAY + Math.max(startStep, endStep));
+            }
+            bits.clear(0, ceil(from));
+            bits.clear(floor(to), size);
+            return bits;
+        }
+
+        int floor(LocalDateTime time) {
+            return clamp(Math.floorDiv(secondsFromStart(time), STEP_SECONDS));
+        }
+
+        int ceil(LocalDateTime time) {
+            return clamp(-Math.floorDiv(-secondsFromStart(time), STEP_SECONDS));
+        }
+
+        int floorMinute(int minute) {
+            return clamp(Math.floorDiv(minute - startMinute, STEP_MINUTES));
+        }
+
+        int ceilMinute(int minute) {
+            return clamp(-Math.floorDiv(startMinute - minute, STEP_MINUTES));
+        }
+
+        List<TimeWindow> windows(BitSet free, int minSteps) {
+            List<TimeWindow> windows = new ArrayList<>();
+            int from = free.nextSetBit(0);
+            while (from >= 0) {
+                int to = free.nextClearBit(from);
+                if (to - from >= minSteps) {
+                    windows.add(new TimeWindow(timeOf(from), timeOf(to)));
+                }
+                from = free.nextSetBit(to);
+            }
+            return windows.isEmpty() ? Collections.emptyList() : windows;
+        }
+
+        private LocalDateTime timeOf(int step) {
+            return start.plusMinutes((long) step * STEP_MINUTES);
+        }
+
+        private long secondsFromStart(LocalDateTime time) {
+            return ChronoUnit.SECONDS.between(start, time);
+        }
+
+        private int clamp(long step) {
+            return (int) Math.max(0, Math.min(size, step));
+        }
+    }
+}
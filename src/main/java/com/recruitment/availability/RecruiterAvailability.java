@@ -0,0 +1,12 @@
+package com.recruitment.availability;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class RecruiterAvailability {
+    private final String recruiterId;
+    private final List<TimeWindow> windows;
+}
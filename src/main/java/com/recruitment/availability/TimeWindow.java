@@ -0,0 +1,12 @@
+package com.recruitment.availability;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TimeWindow {
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+}
@@ -1,5 +1,6 @@
 package com.recruitment.candidate;
 
+import com.recruitment.config.NdjsonResponses;
 import com.recruitment.exceptions.ResourceNotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,7 +14,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/candidates")
@@ -21,9 +24,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class CandidateController {
 
     private final CandidateService candidateService;
+    private final NdjsonResponses ndjsonResponses;
 
-    public CandidateController(CandidateService candidateService) {
+    public CandidateController(CandidateService candidateService, NdjsonResponses ndjsonResponses) {
         this.candidateService = candidateService;
+        this.ndjsonResponses = ndjsonResponses;
     }
 
     @Operation(summary = "Get all candidates")
@@ -33,6 +38,25 @@ public class CandidateController {
         return candidateService.findAll();
     }
 
+    @Operation(summary = "Stream all candidates as NDJSON")
+    @ApiResponse(responseCode = "200", description = "Candidates streamed, one JSON document per line")
+    @GetMapping(produces = NdjsonResponses.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return ndjsonResponses.stream(candidateService::streamAll);
+    }
+
+    @Operation(summary = "Get a page of candidates ordered by ID")
+    @ApiResponses({@ApiResponse(responseCode = "200", description = "Page of candidates returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")})
+    @GetMapping(params = "limit")
+    public ResponseEntity<?> getPage(@RequestParam int limit, @RequestParam(required = false) String cursor) {
+        try {
+            return ResponseEntity.ok(candidateService.findPage(cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @Operation(summary = "Get candidate by ID")
     @ApiResponses({@ApiResponse(responseCode = "200", description = "Candidate found"),
             @ApiResponse(responseCode = "404", description = "Candidate not found")})
@@ -1,8 +1,17 @@
 package com.recruitment.candidate;
 
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CandidateRepository extends MongoRepository<Candidate, String> {
-}
\ No newline at end of file
+
+    Stream<Candidate> streamAllBy();
+
+    List<Candidate> findAllBy(Pageable pageable);
+
+    List<Candidate> findByIdGreaterThan(String id, Pageable pageable);
+}
@@ -1,9 +1,18 @@
 package com.recruitment.candidate;
 
+import com.recruitment.config.CacheNames;
+import com.recruitment.config.KeysetCursor;
+import com.recruitment.config.KeysetPage;
 import com.recruitment.exceptions.ResourceNotFoundException;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -13,11 +22,15 @@ public class CandidateService {
     private final CandidateRepository candidateRepository;
     private final CandidateMapper candidateMapper;
 
+    @Value("${recruitment.paging.max-limit:500}")
+    private int maxPageLimit;
+
     public Candidate createCandidate(CandidateDto dto) {
         Candidate entity = candidateMapper.toEntity(dto);
         return candidateRepository.save(entity);
     }
 
+    @CacheEvict(cacheNames = CacheNames.CANDIDATE_EXISTS, key = "#candidateId")
     public Candidate updateCandidate(String candidateId, CandidateDto dto) {
         Candidate candidate = candidateRepository.findById(candidateId)
                 .orElseThrow(() -> new ResourceNotFoundException("Candidate not found: " + candidateId));
@@ -31,10 +44,33 @@ public class CandidateService {
         return candidateRepository.findById(candidateId);
     }
 
+    // Only hits are cached, so a candidate created after a miss is found right away.
+    @Cacheable(cacheNames = CacheNames.CANDIDATE_EXISTS, unless = "!#result")
+    public boolean exists(String candidateId) {
+        return candidateRepository.existsById(candidateId);
+    }
+
     public List<Candidate> findAll() {
         return candidateRepository.findAll();
     }
 
+    public Stream<Candidate> streamAll() {
+        return candidateRepository.streamAllBy();
+    }
+
+    /**
+     * Candidates ordered by ID, which is the only sort key they have.
+     */
+    public KeysetPage<Candidate> findPage(String cursor, int limit) {
+        int pageLimit = KeysetPage.limit(limit, maxPageLimit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest page = PageRequest.of(0, pageLimit + 1, Sort.by("id"));
+        List<Candidate> fetched = (after == null) ? candidateRepository.findAllBy(page)
+                : candidateRepository.findByIdGreaterThan(after.getId(), page);
+        return KeysetPage.of(fetched, pageLimit, candidate -> new KeysetCursor(null, candidate.getId()));
+    }
+
+    @CacheEvict(cacheNames = CacheNames.CANDIDATE_EXISTS, key = "#candidateId")
     public void deleteCandidate(String candidateId) {
         if (!candidateRepository.existsById(candidateId)) {
             throw new ResourceNotFoundException("Candidate not found: " + candidateId);
@@ -0,0 +1,24 @@
+package com.recruitment.config;
+
+/**
+ * Read-through caches of read-mostly lookups. Size and TTL come from {@code spring.cache.caffeine.spec}; hits and
+ * misses are published as the {@code cache.gets} metric. Entries are evicted by the writes of this instance, other
+ * instances see a change once their entry expires.
+ */
+public final class CacheNames {
+
+    /** {@code Recruiter} by ID, evicted by recruiter updates and deletes. */
+    public static final String RECRUITERS = "recruiters";
+
+    /** Candidates known to exist by ID, evicted by candidate updates and deletes. */
+    public static final String CANDIDATE_EXISTS = "candidate-exists";
+
+    /**
+     * {@code InterviewSlot} by ID, evicted by the repository writes that change a slot's time, details or bookings.
+     * Calendar event IDs written back by the sync worker show up after the TTL.
+     */
+    public static final String SLOTS = "slots";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,21 @@
+package com.recruitment.config;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Index keys of one collection, written like {@code recruiterId:1,startTime:1}. {@code unused} lists indexes with no
+ * access since the server started counting, declared or not.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CollectionIndexReport {
+
+    private String collection;
+    private List<String> missing;
+    private List<String> undeclared;
+    private List<String> unused;
+}
@@ -0,0 +1,23 @@
+package com.recruitment.config;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Lease on a scheduled job shared by all nodes: the node that holds it until {@code lockedUntil} runs the job.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "job_leases")
+public class JobLease {
+
+    @Id
+    private String job;
+    private String owner;
+    private LocalDateTime lockedUntil;
+}
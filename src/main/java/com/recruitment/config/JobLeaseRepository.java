@@ -0,0 +1,8 @@
+package com.recruitment.config;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobLeaseRepository extends MongoRepository<JobLease, String>, JobLeaseRepositoryCustom {
+}
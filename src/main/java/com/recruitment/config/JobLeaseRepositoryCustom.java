@@ -0,0 +1,17 @@
+package com.recruitment.config;
+
+import java.time.LocalDateTime;
+
+public interface JobLeaseRepositoryCustom {
+
+    /**
+     * Takes the lease of {@code job} for {@code owner} until {@code leaseUntil} unless another owner holds it past
+     * {@code now}.
+     */
+    boolean acquire(String job, String owner, LocalDateTime now, LocalDateTime leaseUntil);
+
+    /**
+     * Ends the lease early if {@code owner} still holds it.
+     */
+    void release(String job, String owner, LocalDateTime now);
+}
@@ -0,0 +1,35 @@
+package com.recruitment.config;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+
+@RequiredArgsConstructor
+public class JobLeaseRepositoryImpl implements JobLeaseRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean acquire(String job, String owner, LocalDateTime now, LocalDateTime leaseUntil) {
+        try {
+            // While another owner holds the lease the upsert tries to insert a second document with the same _id.
+            mongoTemplate.upsert(query(where("_id").is(job).orOperator(where("lockedUntil").lte(now),
+                            where("owner").is(owner))),
+                    new Update().set("owner", owner).set("lockedUntil", leaseUntil), JobLease.class);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void release(String job, String owner, LocalDateTime now) {
+        mongoTemplate.updateFirst(query(where("_id").is(job).and("owner").is(owner)),
+                new Update().set("lockedUntil", now), JobLease.class);
+    }
+}
@@ -0,0 +1,71 @@
+package com.recruitment.config;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import lombok.Getter;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+/**
+ * Position after the last item of a page: its sort time and ID. The opaque token holds values rather than an offset,
+ * so documents inserted or removed meanwhile never shift the next page.
+ */
+@Getter
+public final class KeysetCursor {
+
+    private static final String VERSION = "1";
+
+    private final LocalDateTime time;
+    private final String id;
+
+    public KeysetCursor(LocalDateTime time, String id) {
+        this.time = time;
+        this.id = id;
+    }
+
+    /**
+     * Matches the documents ordered after this position by {@code timeField} then {@code _id}. Bounded by the time
+     * alone, so an index on {@code (timeField, _id)} serves it without an {@code $or} plan.
+     */
+    public Criteria after(String timeField) {
+        if (time == null) {
+            // Missing times sort first.
+            return new Criteria().orOperator(where(timeField).is(null).and("_id").gt(id),
+                    where(timeField).ne(null));
+        }
+        return new Criteria().andOperator(where(timeField).gte(time),
+                new Criteria().norOperator(where(timeField).is(time).and("_id").lte(id)));
+    }
+
+    public String encode() {
+        String millis = (time == null) ? "" : Long.toString(time.atZone(ZoneId.systemDefault()).toInstant()
+                .toEpochMilli());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                (VERSION + "|" + millis + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the decoded cursor, or {@code null} for a missing token
+     * @throws IllegalArgumentException when the token was not produced by {@link #encode()}
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", 3);
+            if (parts.length != 3 || !VERSION.equals(parts[0]) || parts[2].isEmpty()) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            LocalDateTime time = parts[1].isEmpty() ? null
+                    : LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(parts[1])), ZoneId.systemDefault());
+            return new KeysetCursor(time, parts[2]);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
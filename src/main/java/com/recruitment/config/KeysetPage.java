@@ -0,0 +1,42 @@
+package com.recruitment.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of a keyset-paginated listing; {@code nextCursor} is {@code null} on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeysetPage<T> {
+
+    private List<T> items;
+    private String nextCursor;
+
+    /**
+     * Validates the requested page size and caps it at {@code maxLimit}.
+     */
+    public static int limit(int requested, int maxLimit) {
+        if (requested < 1) {
+            throw new IllegalArgumentException("Page limit must be positive.");
+        }
+        return Math.min(requested, maxLimit);
+    }
+
+    /**
+     * Builds a page from a query that fetched up to {@code limit + 1} items; the extra item only tells that another
+     * page exists.
+     */
+    public static <T> KeysetPage<T> of(List<T> fetched, int limit, Function<T, KeysetCursor> cursorOf) {
+        if (fetched.size() <= limit) {
+            return new KeysetPage<>(fetched, null);
+        }
+        List<T> items = new ArrayList<>(fetched.subList(0, limit));
+        return new KeysetPage<>(items, cursorOf.apply(items.get(limit - 1)).encode());
+    }
+}
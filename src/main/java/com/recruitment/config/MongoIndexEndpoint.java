@@ -0,0 +1,23 @@
+package com.recruitment.config;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code GET /actuator/mongoindexes}: missing, undeclared and unused indexes per collection.
+ */
+@Component
+@Endpoint(id = "mongoindexes")
+@RequiredArgsConstructor
+public class MongoIndexEndpoint {
+
+    private final MongoIndexManager mongoIndexManager;
+
+    @ReadOperation
+    public List<CollectionIndexReport> indexes() {
+        return mongoIndexManager.report();
+    }
+}
@@ -0,0 +1,141 @@
+package com.recruitment.config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Owns the index set of every collection. The set is declared with {@code @CompoundIndex} on the document classes;
+ * this component creates or verifies it before the application serves requests (see {@link MongoIndexMode}) and
+ * reports indexes that are missing, not declared or never used.
+ */
+@Component
+public class MongoIndexManager implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(MongoIndexManager.class);
+    private static final String ID_INDEX = "_id:1";
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoIndexMode mode;
+
+    public MongoIndexManager(MongoTemplate mongoTemplate,
+            @Value("${recruitment.mongo.indexes.mode:CREATE}") MongoIndexMode mode) {
+        this.mongoTemplate = mongoTemplate;
+        this.mode = mode;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (mode != MongoIndexMode.OFF) {
+            ensureIndexes();
+        }
+    }
+
+    public void ensureIndexes() {
+        List<String> missing = new ArrayList<>();
+        for (Map.Entry<MongoPersistentEntity<?>, List<IndexDefinition>> entry : declaredIndexes().entrySet()) {
+            String collection = entry.getKey().getCollection();
+            List<String> existing = existingKeys(collection);
+            for (IndexDefinition index : entry.getValue()) {
+                String keys = keys(index.getIndexKeys());
+                if (existing.contains(keys)) {
+                    continue;
+                }
+                if (mode == MongoIndexMode.CREATE) {
+                    log.info("Creating index {} on {}", keys, collection);
+                    mongoTemplate.indexOps(entry.getKey().getType()).createIndex(index);
+                } else {
+                    missing.add(collection + " {" + keys + "}");
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Missing MongoDB indexes: " + String.join(", ", missing));
+        }
+        for (CollectionIndexReport report : report()) {
+            if (!report.getUndeclared().isEmpty()) {
+                log.warn("Indexes on {} not declared by the application: {}", report.getCollection(),
+                        report.getUndeclared());
+            }
+        }
+    }
+
+    public List<CollectionIndexReport> report() {
+        List<CollectionIndexReport> reports = new ArrayList<>();
+        for (Map.Entry<MongoPersistentEntity<?>, List<IndexDefinition>> entry : declaredIndexes().entrySet()) {
+            String collection = entry.getKey().getCollection();
+            List<String> declared = new ArrayList<>();
+            for (IndexDefinition index : entry.getValue()) {
+                declared.add(keys(index.getIndexKeys()));
+            }
+            List<String> existing = existingKeys(collection);
+
+            List<String> missing = new ArrayList<>(declared);
+            missing.removeAll(existing);
+            List<String> undeclared = new ArrayList<>(existing);
+            undeclared.remove(ID_INDEX);
+            undeclared.removeAll(declared);
+            List<String> unused = new ArrayList<>();
+            if (!existing.isEmpty()) {
+                for (Document stats : mongoTemplate.getCollection(collection)
+                        .aggregate(List.of(new Document("$indexStats", new Document())))) {
+                    String keys = keys(stats.get("key", Document.class));
+                    Number ops = stats.get("accesses", Document.class).get("ops", Number.class);
+                    if (!ID_INDEX.equals(keys) && ops.longValue() == 0) {
+                        unused.add(keys);
+                    }
+                }
+            }
+            reports.add(new CollectionIndexReport(collection, missing, undeclared, unused));
+        }
+        return reports;
+    }
+
+    private Map<MongoPersistentEntity<?>, List<IndexDefinition>> declaredIndexes() {
+        IndexResolver resolver = IndexResolver.create(mongoTemplate.getConverter().getMappingContext());
+        Map<MongoPersistentEntity<?>, List<IndexDefinition>> declared = new LinkedHashMap<>();
+        for (MongoPersistentEntity<?> entity : mongoTemplate.getConverter().getMappingContext()
+                .getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)) {
+                continue;
+            }
+            List<IndexDefinition> indexes = new ArrayList<>();
+            resolver.resolveIndexFor(entity.getTypeInformation()).forEach(indexes::add);
+            declared.put(entity, indexes);
+        }
+        return declared;
+    }
+
+    private List<String> existingKeys(String collection) {
+        List<String> keys = new ArrayList<>();
+        if (!mongoTemplate.collectionExists(collection)) {
+            return keys;
+        }
+        for (Document index : mongoTemplate.getCollection(collection).listIndexes()) {
+            keys.add(keys(index.get("key", Document.class)));
+        }
+        return keys;
+    }
+
+    private static String keys(Document keys) {
+        StringJoiner joined = new StringJoiner(",");
+        for (Map.Entry<String, Object> key : keys.entrySet()) {
+            Object direction = key.getValue();
+            joined.add(key.getKey() + ":" + (direction instanceof Number ? ((Number) direction).intValue()
+                    : direction));
+        }
+        return joined.toString();
+    }
+}
@@ -0,0 +1,9 @@
+package com.recruitment.config;
+
+public enum MongoIndexMode {
+    /** Creates declared indexes that are missing. */
+    CREATE,
+    /** Fails startup when a declared index is missing, for databases whose indexes are built out of band. */
+    VERIFY,
+    OFF
+}
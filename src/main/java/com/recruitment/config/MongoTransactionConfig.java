@@ -0,0 +1,19 @@
+package com.recruitment.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+
+/**
+ * Multi-document transactions, used to write a change together with its outbox event. MongoDB only supports them on
+ * a replica set, which may be a single node.
+ */
+@Configuration
+public class MongoTransactionConfig {
+
+    @Bean
+    public MongoTransactionManager transactionManager(MongoDatabaseFactory databaseFactory) {
+        return new MongoTransactionManager(databaseFactory);
+    }
+}
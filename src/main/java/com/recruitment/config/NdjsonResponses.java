@@ -0,0 +1,50 @@
+package com.recruitment.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Writes a Mongo cursor as {@code application/x-ndjson}, one JSON document per line, so list endpoints can return
+ * whole collections without holding them in memory. The cursor is opened on the response thread and closed when
+ * the response ends, also when the client disconnects.
+ */
+@Component
+@RequiredArgsConstructor
+public class NdjsonResponses {
+
+    public static final String MEDIA_TYPE = "application/x-ndjson";
+
+    // The servlet output is buffered anyway; flushing in chunks lets the client start reading early.
+    private static final int FLUSH_EVERY = 256;
+
+    private final ObjectMapper objectMapper;
+
+    public <T> ResponseEntity<StreamingResponseBody> stream(Supplier<Stream<T>> documents) {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = out -> {
+            try (Stream<T> stream = documents.get();
+                    JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                int written = 0;
+                for (Iterator<T> it = stream.iterator(); it.hasNext(); ) {
+                    writer.writeValue(generator, it.next());
+                    generator.writeRaw('\n');
+                    if (++written % FLUSH_EVERY == 0) {
+                        generator.flush();
+                    }
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(MEDIA_TYPE)).body(body);
+    }
+}
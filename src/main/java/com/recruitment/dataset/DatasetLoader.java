@@ -0,0 +1,206 @@
+package com.recruitment.dataset;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.client.model.InsertManyOptions;
+import com.recruitment.candidate.Candidate;
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.recruiter.Recruiter;
+import com.recruitment.recruiter.SlotCounter;
+import com.recruitment.recruiter.SlotCounterService;
+import com.recruitment.reservation.CandidateReservation;
+import com.recruitment.user.User;
+import com.recruitment.vacation.Vacation;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seeds MongoDB with a {@link SyntheticDataset} at startup when {@code recruitment.dataset.enabled=true}. Recruiters
+ * and candidates are generated in slices on {@code threads} workers, each converting its documents and writing them
+ * with unordered {@code insertMany} batches, so one duplicate or failed document does not stop the rest of a batch.
+ * Slot counters are rebuilt from the loaded slots at the end. Refuses to run with {@code recruitment.storage=memory},
+ * where the application would not read what it writes.
+ */
+@Component
+@ConditionalOnProperty(name = "recruitment.dataset.enabled", havingValue = "true")
+public class DatasetLoader implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetLoader.class);
+
+    private static final int RECRUITERS_PER_TASK = 50;
+    private static final int CANDIDATES_PER_TASK = 10_000;
+    private static final List<Class<?>> COLLECTIONS = Arrays.asList(User.class, Recruiter.class, Candidate.class,
+            Vacation.class, InterviewSlot.class, CandidateReservation.class, SlotCounter.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final SlotCounterService slotCounterService;
+    private final SyntheticDataset dataset;
+    private final int recruiters;
+    private final int slotsPerRecruiter;
+    private final int vacationsPerRecruiter;
+    private final int candidates;
+    private final int batchSize;
+    private final int threads;
+    private final boolean dropExisting;
+    private final String storage;
+    private final Map<String, AtomicLong> inserted = new ConcurrentHashMap<>();
+
+    public DatasetLoader(MongoTemplate mongoTemplate, SlotCounterService slotCounterService,
+            @Value("${recruitment.dataset.seed:42}") long seed,
+            @Value("${recruitment.dataset.start-date:2026-01-05}") String startDate,
+            @Value("${recruitment.dataset.recruiters:10000}") int recruiters,
+            @Value("${recruitment.dataset.slots-per-recruiter:1000}") int slotsPerRecruiter,
+            @Value("${recruitment.dataset.vacations-per-recruiter:3}") int vacationsPerRecruiter,
+            @Value("${recruitment.dataset.candidates:1000000}") int candidates,
+            @Value("${recruitment.dataset.booked-ratio:0.5}") double bookedRatio,
+            @Value("${recruitment.dataset.batch-size:10000}") int batchSize,
+            @Value("${recruitment.dataset.threads:0}") int threads,
+            @Value("${recruitment.dataset.drop-existing:false}") boolean dropExisting,
+            @Value("${recruitment.storage:mongo}") String storage) {
+        this.mongoTemplate = mongoTemplate;
+        this.slotCounterService = slotCounterService;
+        this.dataset = new SyntheticDataset(seed, LocalDate.parse(startDate), candidates, bookedRatio);
+        this.recruiters = recruiters;
+        this.slotsPerRecruiter = slotsPerRecruiter;
+        this.vacationsPerRecruiter = vacationsPerRecruiter;
+        this.candidates = candidates;
+        this.batchSize = batchSize;
+        this.threads = (threads > 0) ? threads : Runtime.getRuntime().availableProcessors();
+        this.dropExisting = dropExisting;
+        this.storage = storage;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException, ExecutionException {
+        if (!"mongo".equals(storage)) {
+            throw new IllegalStateException("recruitment.dataset.enabled needs recruitment.storage=mongo: the loader "
+                    + "writes to MongoDB, but slots, reservations, vacations and recruiters are read from "
+                    + storage + " storage.");
+        }
+        if (dropExisting) {
+            for (Class<?> type : COLLECTIONS) {
+                // Removing documents keeps the indexes MongoIndexManager created at startup.
+                mongoTemplate.getCollection(mongoTemplate.getCollectionName(type)).deleteMany(new Document());
+            }
+        }
+        log.info("Loading {} recruiters with {} slots each and {} candidates on {} threads", recruiters,
+                slotsPerRecruiter, candidates, threads);
+        long started = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int from = 0; from < recruiters; from += RECRUITERS_PER_TASK) {
+                int first = from;
+                int last = Math.min(recruiters, from + RECRUITERS_PER_TASK);
+                tasks.add(executor.submit(() -> loadRecruiters(first, last)));
+            }
+            for (int from = 0; from < candidates; from += CANDIDATES_PER_TASK) {
+                int first = from;
+                int last = Math.min(candidates, from + CANDIDATES_PER_TASK);
+                tasks.add(executor.submit(() -> loadCandidates(first, last)));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Duration loading = Duration.ofNanos(System.nanoTime() - started);
+        long slots = count(InterviewSlot.class);
+        log.info("Loaded {} in {} s ({} slots/s)", inserted, loading.getSeconds(),
+                slots * 1000 / Math.max(1, loading.toMillis()));
+
+        slotCounterService.rebuild();
+        log.info("Rebuilt slot counters in {} s", Duration.ofNanos(System.nanoTime() - started).minus(loading)
+                .getSeconds());
+    }
+
+    private void loadRecruiters(int first, int last) {
+        Batches batches = new Batches();
+        for (int r = first; r < last; r++) {
+            RecruiterData data = dataset.recruiter(r, slotsPerRecruiter, vacationsPerRecruiter);
+            batches.add(data.getUser());
+            batches.add(data.getRecruiter());
+            data.getVacations().forEach(batches::add);
+            data.getSlots().forEach(batches::add);
+            data.getReservations().forEach(batches::add);
+        }
+        batches.flushAll();
+    }
+
+    private void loadCandidates(int first, int last) {
+        Batches batches = new Batches();
+        for (int c = first; c < last; c++) {
+            batches.add(dataset.candidateUser(c));
+            batches.add(dataset.candidate(c));
+        }
+        batches.flushAll();
+    }
+
+    private long count(Class<?> type) {
+        AtomicLong count = inserted.get(mongoTemplate.getCollectionName(type));
+        return (count == null) ? 0 : count.get();
+    }
+
+    /**
+     * Per-task buffers of converted documents, one per collection, written whenever one reaches the batch size.
+     */
+    private class Batches {
+
+        private final MongoConverter converter = mongoTemplate.getConverter();
+        private final Map<String, List<Document>> pending = new HashMap<>();
+
+        void add(Object entity) {
+            Document document = new Document();
+            converter.write(entity, document);
+            String collection = mongoTemplate.getCollectionName(entity.getClass());
+            List<Document> batch = pending.computeIfAbsent(collection, name -> new ArrayList<>(batchSize));
+            batch.add(document);
+            if (batch.size() >= batchSize) {
+                flush(collection, batch);
+            }
+        }
+
+        void flushAll() {
+            pending.forEach(this::flush);
+        }
+
+        private void flush(String collection, List<Document> batch) {
+            if (batch.isEmpty()) {
+                return;
+            }
+            int written = batch.size();
+            try {
+                mongoTemplate.getCollection(collection).insertMany(batch, new InsertManyOptions().ordered(false)
+                        .bypassDocumentValidation(true));
+            } catch (MongoBulkWriteException e) {
+                // Typically duplicates from loading the same seed twice; everything else in the batch is written.
+                written = e.getWriteResult().getInsertedCount();
+                log.warn("{} of {} documents not inserted into {}, first error: {}", e.getWriteErrors().size(),
+                        batch.size(), collection, e.getWriteErrors().get(0).getMessage());
+            }
+            inserted.computeIfAbsent(collection, name -> new AtomicLong()).addAndGet(written);
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.recruitment.dataset;
+
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.recruiter.Recruiter;
+import com.recruitment.reservation.CandidateReservation;
+import com.recruitment.user.User;
+import com.recruitment.vacation.Vacation;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * One generated recruiter with everything hanging off it: its user account, vacations, slots and the reservations
+ * of those slots.
+ */
+@Data
+@AllArgsConstructor
+public class RecruiterData {
+    private final User user;
+    private final Recruiter recruiter;
+    private final List<Vacation> vacations;
+    private final List<InterviewSlot> slots;
+    private final List<CandidateReservation> reservations;
+}
@@ -0,0 +1,244 @@
+package com.recruitment.dataset;
+
+import com.recruitment.candidate.Candidate;
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.interview.Seniority;
+import com.recruitment.recruiter.Recruiter;
+import com.recruitment.reservation.CandidateReservation;
+import com.recruitment.user.Role;
+import com.recruitment.user.User;
+import com.recruitment.vacation.Vacation;
+import java.nio.ByteBuffer;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.bson.types.ObjectId;
+
+/**
+ * Deterministic synthetic data. Every entity is derived from the seed and its own index alone, so any slice can be
+ * generated on any thread and the same seed always yields the same documents with the same IDs.
+ * <p>
+ * Recruiters work Monday to Friday between 8:00 and 18:00 from {@code startDate} on, never above their own daily,
+ * weekly and monthly limits and never during their vacations. Single-place slots are kept apart by at least the
+ * largest buffer; about one placement in twelve is instead a group of two or three overlapping multi-capacity
+ * slots, which the validation allows. Slot booked counts match their active reservations.
+ */
+public class SyntheticDataset {
+
+    public enum Kind {
+        RECRUITER_USER, CANDIDATE_USER, RECRUITER, CANDIDATE, VACATION, SLOT, RESERVATION
+    }
+
+    static final String PASSWORD = "dataset";
+
+    // Reservation IDs are numbered per slot: at most 6 active places plus one cancelled reservation.
+    private static final int RESERVATIONS_PER_SLOT = 8;
+    private static final int MAX_BUFFER_MINUTES = 15;
+
+    private static final String[] CATEGORIES = {"JAVA", "PYTHON", "JAVASCRIPT", "CSHARP", "KOTLIN", "GO", "DEVOPS",
+            "QA"};
+    private static final int[] CATEGORY_WEIGHTS = {30, 20, 15, 8, 8, 7, 7, 5};
+    private static final int[] SENIORITY_WEIGHTS = {30, 45, 25};
+    private static final int[] LENGTHS = {30, 45, 60, 90};
+    private static final int[] LENGTH_WEIGHTS = {20, 20, 50, 10};
+    private static final Integer[] BUFFERS = {null, 5, 10, MAX_BUFFER_MINUTES};
+    private static final int[] BUFFER_WEIGHTS = {40, 20, 25, 15};
+    private static final String[] FIRST_NAMES = {"Anna", "Piotr", "Katarzyna", "Tomasz", "Magdalena", "Paweł",
+            "Agnieszka", "Michał", "Joanna", "Krzysztof", "Aleksandra", "Marcin", "Ewa", "Jakub", "Monika", "Adam"};
+    private static final String[] LAST_NAMES = {"Nowak", "Kowalski", "Wiśniewski", "Wójcik", "Kowalczyk",
+            "Kamiński", "Lewandowski", "Zieliński", "Szymański", "Woźniak", "Dąbrowski", "Kozłowski", "Jankowski"};
+
+    private final long seed;
+    private final LocalDate startDate;
+    private final int candidates;
+    private final double bookedRatio;
+
+    /**
+     * @param startDate   first working day of every recruiter's schedule
+     * @param candidates  size of the candidate pool reservations draw from; 0 generates no reservations
+     * @param bookedRatio probability that a place in a slot is taken
+     */
+    public SyntheticDataset(long seed, LocalDate startDate, int candidates, double bookedRatio) {
+        this.seed = seed;
+        this.startDate = startDate;
+        this.candidates = candidates;
+        this.bookedRatio = bookedRatio;
+    }
+
+    /**
+     * The ObjectId of the {@code index}-th entity of a kind: kind, three bytes of the seed and the index.
+     */
+    public String id(Kind kind, long index) {
+        ByteBuffer bytes = ByteBuffer.allocate(12);
+        bytes.put((byte) (0x60 + kind.ordinal()));
+        bytes.put((byte) (seed >>> 16)).put((byte) (seed >>> 8)).put((byte) seed);
+        bytes.putLong(index);
+        return new ObjectId(bytes.array()).toHexString();
+    }
+
+    public Candidate candidate(int index) {
+        SplittableRandom random = random(Kind.CANDIDATE, index);
+        return new Candidate(id(Kind.CANDIDATE, index), pick(random, FIRST_NAMES), pick(random, LAST_NAMES),
+                id(Kind.CANDIDATE_USER, index));
+    }
+
+    public User candidateUser(int index) {
+        return new User(id(Kind.CANDIDATE_USER, index), "candidate" + index, PASSWORD,
+                Collections.singletonList(Role.CANDIDATE), true);
+    }
+
+    public RecruiterData recruiter(int index, int slotCount, int vacationCount) {
+        SplittableRandom random = random(Kind.RECRUITER, index);
+        String recruiterId = id(Kind.RECRUITER, index);
+        String userId = id(Kind.RECRUITER_USER, index);
+        int maxDaily = 4 + random.nextInt(5);
+        Integer maxWeekly = (random.nextInt(10) < 7) ? maxDaily * 4 : null;
+        Integer maxMonthly = (maxWeekly != null && random.nextInt(10) < 7) ? maxWeekly * 4 : null;
+        Recruiter recruiter = new Recruiter(recruiterId, pick(random, FIRST_NAMES), pick(random, LAST_NAMES),
+                maxDaily, maxWeekly, maxMonthly, userId, "recruiter-" + index + "@group.calendar.google.com");
+        User user = new User(userId, "recruiter" + index, PASSWORD, Collections.singletonList(Role.RECRUITER), true);
+
+        List<Vacation> vacations = vacations(random, index, recruiterId, vacationCount, slotCount / maxDaily + 1);
+        List<InterviewSlot> slots = new ArrayList<>(slotCount);
+        List<CandidateReservation> reservations = new ArrayList<>();
+        long firstSlot = (long) index * slotCount;
+        LocalDate day = startDate;
+        int week = -1;
+        int month = -1;
+        int weekCount = 0;
+        int monthCount = 0;
+        while (slots.size() < slotCount) {
+            if (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY
+                    || onVacation(vacations, day)) {
+                day = day.plusDays(1);
+                continue;
+            }
+            if (day.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR) != week) {
+                week = day.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+                weekCount = 0;
+            }
+            if (day.getMonthValue() != month) {
+                month = day.getMonthValue();
+                monthCount = 0;
+            }
+            int allowed = Math.min(maxDaily, Math.min(remaining(maxWeekly, weekCount),
+                    remaining(maxMonthly, monthCount)));
+            int planned = (allowed <= 0) ? 0 : allowed - random.nextInt((allowed + 1) / 2);
+            LocalDateTime cursor = day.atTime(8, 0).plusMinutes(15L * random.nextInt(4));
+            LocalDateTime close = day.atTime(18, 0);
+            int placed = 0;
+            while (placed < planned && slots.size() < slotCount) {
+                int length = LENGTHS[weighted(random, LENGTH_WEIGHTS)];
+                int group = (planned - placed >= 2 && random.nextInt(12) == 0)
+                        ? Math.min(2 + random.nextInt(2), Math.min(planned - placed, slotCount - slots.size())) : 1;
+                LocalDateTime end = cursor.plusMinutes(15L * (group - 1) + length);
+                if (end.isAfter(close)) {
+                    break;
+                }
+                for (int g = 0; g < group; g++) {
+                    InterviewSlot slot = slot(random, firstSlot + slots.size(), recruiterId,
+                            cursor.plusMinutes(15L * g), length, group > 1);
+                    reservations.addAll(reservations(random, firstSlot + slots.size(), slot));
+                    slots.add(slot);
+                }
+                placed += group;
+                cursor = end.plusMinutes(MAX_BUFFER_MINUTES + 15L * random.nextInt(4));
+            }
+            weekCount += placed;
+            monthCount += placed;
+            day = day.plusDays(1);
+        }
+        return new RecruiterData(user, recruiter, vacations, slots, reservations);
+    }
+
+    private List<Vacation> vacations(SplittableRandom random, int recruiterIndex, String recruiterId, int count,
+            int workingDays) {
+        List<Vacation> vacations = new ArrayList<>(count);
+        int spanDays = workingDays * 7 / 5 + 1;
+        for (int v = 0; v < count; v++) {
+            LocalDate first = startDate.plusDays(random.nextInt(spanDays));
+            LocalDate last = first.plusDays(random.nextInt(10));
+            vacations.add(new Vacation(id(Kind.VACATION, (long) recruiterIndex * count + v), recruiterId,
+                    first.atStartOfDay(), last.plusDays(1).atStartOfDay(), "Urlop", random.nextInt(10) < 9));
+        }
+        return vacations;
+    }
+
+    private boolean onVacation(List<Vacation> vacations, LocalDate day) {
+        LocalDateTime start = day.atStartOfDay();
+        LocalDateTime end = start.plusDays(1);
+        for (Vacation vacation : vacations) {
+            if (vacation.getStartDate().isBefore(end) && vacation.getEndDate().isAfter(start)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private InterviewSlot slot(SplittableRandom random, long index, String recruiterId, LocalDateTime start,
+            int length, boolean multiCapacity) {
+        return new InterviewSlot(id(Kind.SLOT, index), CATEGORIES[weighted(random, CATEGORY_WEIGHTS)],
+                Seniority.values()[weighted(random, SENIORITY_WEIGHTS)], start, start.plusMinutes(length),
+                multiCapacity, BUFFERS[weighted(random, BUFFER_WEIGHTS)], recruiterId, null,
+                multiCapacity ? 2 + random.nextInt(5) : 1, 0);
+    }
+
+    private List<CandidateReservation> reservations(SplittableRandom random, long slotIndex, InterviewSlot slot) {
+        if (candidates == 0) {
+            return Collections.emptyList();
+        }
+        List<CandidateReservation> reservations = new ArrayList<>();
+        long firstId = slotIndex * RESERVATIONS_PER_SLOT;
+        for (int place = 0; place < slot.getCapacity(); place++) {
+            if (random.nextDouble() < bookedRatio) {
+                reservations.add(reservation(random, firstId + reservations.size(), slot, "ACTIVE"));
+            }
+        }
+        slot.setBookedCount(reservations.size());
+        if (random.nextInt(10) == 0) {
+            reservations.add(reservation(random, firstId + reservations.size(), slot, "CANCELLED"));
+        }
+        return reservations;
+    }
+
+    private CandidateReservation reservation(SplittableRandom random, long index, InterviewSlot slot,
+            String status) {
+        return new CandidateReservation(id(Kind.RESERVATION, index), slot.getId(),
+                id(Kind.CANDIDATE, random.nextInt(candidates)),
+                slot.getStartTime().minusHours(1 + random.nextInt(14 * 24)), status);
+    }
+
+    private SplittableRandom random(Kind kind, long index) {
+        long mixed = seed * 0x9E3779B97F4A7C15L + kind.ordinal();
+        return new SplittableRandom(mixed * 0xBF58476D1CE4E5B9L + index);
+    }
+
+    private static int remaining(Integer limit, int used) {
+        return (limit == null) ? Integer.MAX_VALUE : limit - used;
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Index drawn with probability proportional to its weight.
+     */
+    private static int weighted(SplittableRandom random, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        int i = 0;
+        while (roll >= weights[i]) {
+            roll -= weights[i++];
+        }
+        return i;
+    }
+}
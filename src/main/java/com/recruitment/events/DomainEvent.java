@@ -0,0 +1,44 @@
+package com.recruitment.events;
+
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.interview.Seniority;
+import com.recruitment.reservation.CandidateReservation;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A change of a slot or of a reservation, published keyed by slot ID so that all events of one slot stay in order.
+ * Slot events carry the slot's schedule fields, reservation events the reservation's; the other group is null.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DomainEvent {
+
+    private DomainEventType type;
+    private LocalDateTime occurredAt;
+    private String slotId;
+
+    private String recruiterId;
+    private String category;
+    private Seniority seniority;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private Integer capacity;
+
+    private String reservationId;
+    private String candidateId;
+    private String status;
+
+    public static DomainEvent slot(DomainEventType type, InterviewSlot slot) {
+        return new DomainEvent(type, LocalDateTime.now(), slot.getId(), slot.getRecruiterId(), slot.getCategory(),
+                slot.getSeniority(), slot.getStartTime(), slot.getEndTime(), slot.getCapacity(), null, null, null);
+    }
+
+    public static DomainEvent reservation(DomainEventType type, CandidateReservation reservation) {
+        return new DomainEvent(type, LocalDateTime.now(), reservation.getSlotId(), null, null, null, null, null,
+                null, reservation.getId(), reservation.getCandidateId(), reservation.getStatus());
+    }
+}
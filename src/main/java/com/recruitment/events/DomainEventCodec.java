@@ -0,0 +1,215 @@
+package com.recruitment.events;
+
+import com.recruitment.interview.Seniority;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import org.bson.types.ObjectId;
+
+/**
+ * Binary form of {@link DomainEvent}, version {@value #VERSION}: a version byte, the type code, the event time in
+ * epoch milliseconds and the slot ID, followed by the fields of the type's group in declaration order. Numbers are
+ * unsigned varints, times are zigzag varints of their UTC epoch value with 0 for null, and strings are a tag
+ * (0 null, 1 ObjectId as 12 bytes, 2 UTF-8 with a varint length). A later version may only append fields.
+ */
+public final class DomainEventCodec {
+
+    public static final int VERSION = 1;
+
+    private static final int NULL = 0;
+    private static final int OBJECT_ID = 1;
+    private static final int UTF8 = 2;
+    private static final Seniority[] SENIORITIES = Seniority.values();
+
+    private DomainEventCodec() {
+    }
+
+    public static byte[] encode(DomainEvent event) {
+        Writer out = new Writer();
+        out.varint(VERSION);
+        out.varint(event.getType().code());
+        out.time(event.getOccurredAt(), true);
+        out.string(event.getSlotId());
+        if (event.getType().isSlotEvent()) {
+            out.string(event.getRecruiterId());
+            out.string(event.getCategory());
+            out.varint(event.getSeniority() == null ? 0 : event.getSeniority().ordinal() + 1);
+            out.time(event.getStartTime(), false);
+            out.time(event.getEndTime(), false);
+            out.varint(event.getCapacity() == null ? 0 : event.getCapacity() + 1);
+        } else {
+            out.string(event.getReservationId());
+            out.string(event.getCandidateId());
+            out.string(event.getStatus());
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException on an unknown version or type, or a truncated payload
+     */
+    public static DomainEvent decode(byte[] data) {
+        Reader in = new Reader(data);
+        int version = (int) in.varint();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported event version: " + version);
+        }
+        DomainEvent event = new DomainEvent();
+        event.setType(DomainEventType.fromCode((int) in.varint()));
+        event.setOccurredAt(in.time(true));
+        event.setSlotId(in.string());
+        if (event.getType().isSlotEvent()) {
+            event.setRecruiterId(in.string());
+            event.setCategory(in.string());
+            int seniority = (int) in.varint();
+            event.setSeniority(seniority == 0 ? null : SENIORITIES[seniority - 1]);
+            event.setStartTime(in.time(false));
+            event.setEndTime(in.time(false));
+            int capacity = (int) in.varint();
+            event.setCapacity(capacity == 0 ? null : capacity - 1);
+        } else {
+            event.setReservationId(in.string());
+            event.setCandidateId(in.string());
+            event.setStatus(in.string());
+        }
+        return event;
+    }
+
+    private static final class Writer {
+        private byte[] buffer = new byte[64];
+        private int size;
+
+        void varint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            put((byte) value);
+        }
+
+        void time(LocalDateTime time, boolean millis) {
+            if (time == null) {
+                varint(0);
+                return;
+            }
+            long epoch = millis ? time.toInstant(ZoneOffset.UTC).toEpochMilli() : time.toEpochSecond(ZoneOffset.UTC);
+            varint(((epoch << 1) ^ (epoch >> 63)) + 1);
+        }
+
+        void string(String value) {
+            if (value == null) {
+                varint(NULL);
+            } else if (isObjectId(value)) {
+                varint(OBJECT_ID);
+                ensure(12);
+                for (int i = 0; i < 24; i += 2) {
+                    buffer[size++] = (byte) (Character.digit(value.charAt(i), 16) << 4
+                            | Character.digit(value.charAt(i + 1), 16));
+                }
+            } else {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                varint(UTF8);
+                varint(bytes.length);
+                ensure(bytes.length);
+                System.arraycopy(bytes, 0, buffer, size, bytes.length);
+                size += bytes.length;
+            }
+        }
+
+        // Only the lower-case hex form, the one ObjectId.toHexString() gives back on decoding.
+        private static boolean isObjectId(String value) {
+            if (value.length() != 24) {
+                return false;
+            }
+            for (int i = 0; i < 24; i++) {
+                char c = value.charAt(i);
+                if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void put(byte value) {
+            ensure(1);
+            buffer[size++] = value;
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        long varint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte next = next();
+                value |= (long) (next & 0x7F) << shift;
+                if ((next & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint at " + position);
+        }
+
+        LocalDateTime time(boolean millis) {
+            long encoded = varint();
+            if (encoded == 0) {
+                return null;
+            }
+            long zigzag = encoded - 1;
+            long epoch = (zigzag >>> 1) ^ -(zigzag & 1);
+            return millis
+                    ? LocalDateTime.ofInstant(Instant.ofEpochMilli(epoch), ZoneOffset.UTC)
+                    : LocalDateTime.ofEpochSecond(epoch, 0, ZoneOffset.UTC);
+        }
+
+        String string() {
+            int tag = (int) varint();
+            switch (tag) {
+                case NULL:
+                    return null;
+                case OBJECT_ID:
+                    require(12);
+                    ObjectId id = new ObjectId(Arrays.copyOfRange(data, position, position + 12));
+                    position += 12;
+                    return id.toHexString();
+                case UTF8:
+                    int length = (int) varint();
+                    require(length);
+                    String value = new String(data, position, length, StandardCharsets.UTF_8);
+                    position += length;
+                    return value;
+                default:
+                    throw new IllegalArgumentException("Unknown string tag: " + tag);
+            }
+        }
+
+        private byte next() {
+            require(1);
+            return data[position++];
+        }
+
+        private void require(int bytes) {
+            if (bytes < 0 || position + bytes > data.length) {
+                throw new IllegalArgumentException("Truncated event at " + position);
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.recruitment.events;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+public class DomainEventDeserializer implements Deserializer<DomainEvent> {
+
+    @Override
+    public DomainEvent deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return DomainEventCodec.decode(data);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("Cannot read event from " + topic, e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.recruitment.events;
+
+import com.recruitment.outbox.OutboxEvent;
+import com.recruitment.outbox.OutboxEventRepository;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Queues events in the outbox, keyed by slot ID. Called inside a transaction, the event commits with the change.
+ */
+@Component
+public class DomainEventPublisher {
+
+    private final OutboxEventRepository outboxRepository;
+    private final String topic;
+
+    public DomainEventPublisher(OutboxEventRepository outboxRepository,
+            @Value("${recruitment.events.topic:schedule-events}") String topic) {
+        this.outboxRepository = outboxRepository;
+        this.topic = topic;
+    }
+
+    public void publish(DomainEvent event) {
+        outboxRepository.insert(OutboxEvent.of(topic, event.getSlotId(), event));
+    }
+
+    public void publishAll(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<OutboxEvent> queued = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            queued.add(OutboxEvent.of(topic, event.getSlotId(), event));
+        }
+        outboxRepository.insert(queued);
+    }
+}
@@ -0,0 +1,11 @@
+package com.recruitment.events;
+
+import org.apache.kafka.common.serialization.Serializer;
+
+public class DomainEventSerializer implements Serializer<DomainEvent> {
+
+    @Override
+    public byte[] serialize(String topic, DomainEvent event) {
+        return event == null ? null : DomainEventCodec.encode(event);
+    }
+}
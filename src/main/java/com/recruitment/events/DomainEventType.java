@@ -0,0 +1,37 @@
+package com.recruitment.events;
+
+/**
+ * Kinds of schedule change. The code is what goes on the wire, so existing codes must never change.
+ */
+public enum DomainEventType {
+    SLOT_CREATED(1),
+    SLOT_UPDATED(2),
+    SLOT_DELETED(3),
+    RESERVATION_CREATED(10),
+    RESERVATION_UPDATED(11),
+    RESERVATION_CANCELLED(12),
+    RESERVATION_DELETED(13);
+
+    private final int code;
+
+    DomainEventType(int code) {
+        this.code = code;
+    }
+
+    public int code() {
+        return code;
+    }
+
+    public boolean isSlotEvent() {
+        return code < RESERVATION_CREATED.code;
+    }
+
+    public static DomainEventType fromCode(int code) {
+        for (DomainEventType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown event type code: " + code);
+    }
+}
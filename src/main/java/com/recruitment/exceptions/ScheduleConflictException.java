@@ -0,0 +1,7 @@
+package com.recruitment.exceptions;
+
+public class ScheduleConflictException extends RuntimeException {
+    public ScheduleConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package com.recruitment.google.calendar;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CalendarCallResult {
+    private final boolean success;
+    private final boolean retryable;
+    private final String eventId;
+    private final String error;
+
+    public static CalendarCallResult ok(String eventId) {
+        return new CalendarCallResult(true, false, eventId, null);
+    }
+
+    public static CalendarCallResult failed(boolean retryable, String error) {
+        return new CalendarCallResult(false, retryable, null, error);
+    }
+}
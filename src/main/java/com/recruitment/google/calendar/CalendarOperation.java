@@ -0,0 +1,5 @@
+package com.recruitment.google.calendar;
+
+public enum CalendarOperation {
+    CREATE, UPDATE, DELETE
+}
@@ -0,0 +1,34 @@
+package com.recruitment.google.calendar;
+
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spaces Google Calendar requests evenly at {@code google.calendar.sync.rate-per-second} on this node. A caller
+ * taking several permits at once (a batch) goes through immediately and makes the next caller wait for its share.
+ */
+@Component
+public class CalendarRateLimiter {
+
+    private final double permitsPerSecond;
+    private long nextFreeNanos = System.nanoTime();
+
+    public CalendarRateLimiter(@Value("${google.calendar.sync.rate-per-second:10}") double permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    public void acquire(int permits) throws InterruptedException {
+        if (permitsPerSecond <= 0 || permits <= 0) {
+            return;
+        }
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long start = Math.max(now, nextFreeNanos);
+            nextFreeNanos = start + (long) (permits * TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+            waitNanos = start - now;
+        }
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+}
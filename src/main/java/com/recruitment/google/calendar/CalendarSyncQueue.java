@@ -0,0 +1,78 @@
+package com.recruitment.google.calendar;
+
+import com.recruitment.interview.InterviewSlot;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Records calendar changes of slots in the durable {@code calendar_sync_tasks} queue; {@link CalendarSyncWorker}
+ * applies them to Google Calendar outside the request.
+ *
+ * <p>A change is folded into the slot's task that is still waiting for a worker: an UPDATE behind a queued CREATE or
+ * UPDATE is dropped (the worker reads the slot when it runs), and a DELETE cancels a CREATE nobody has attempted yet
+ * or replaces the queued tasks. Tasks a worker already holds are never touched.
+ */
+@Service
+@RequiredArgsConstructor
+public class CalendarSyncQueue {
+
+    private final CalendarSyncTaskRepository taskRepository;
+
+    public void enqueue(CalendarOperation operation, InterviewSlot slot, String calendarId) {
+        enqueue(operation, List.of(slot), calendarId);
+    }
+
+    public void enqueue(CalendarOperation operation, List<InterviewSlot> slots, String calendarId) {
+        if (calendarId == null || slots.isEmpty()) {
+            return;
+        }
+        List<InterviewSlot> remaining = new ArrayList<>();
+        for (InterviewSlot slot : slots) {
+            if (!coalesce(operation, slot)) {
+                remaining.add(slot);
+            }
+        }
+        if (remaining.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<CalendarSyncTask> tasks = new ArrayList<>();
+        for (InterviewSlot slot : remaining) {
+            CalendarSyncTask task = new CalendarSyncTask();
+            task.setSlotId(slot.getId());
+            task.setCalendarId(calendarId);
+            task.setOperation(operation);
+            task.setEventId((operation == CalendarOperation.DELETE) ? eventIdOf(slot)
+                    : slot.getGoogleCalendarEventId());
+            task.setStatus(CalendarSyncStatus.PENDING);
+            task.setCreatedAt(now);
+            task.setNextAttemptAt(now);
+            tasks.add(task);
+        }
+        taskRepository.insert(tasks);
+    }
+
+    /**
+     * @return whether the change is already covered by a queued task of the slot
+     */
+    private boolean coalesce(CalendarOperation operation, InterviewSlot slot) {
+        switch (operation) {
+            case UPDATE:
+                return taskRepository.existsBySlotIdAndStatus(slot.getId(), CalendarSyncStatus.PENDING);
+            case DELETE:
+                return taskRepository.removeUnattemptedCreate(slot.getId())
+                        || taskRepository.convertPendingToDelete(slot.getId(), eventIdOf(slot));
+            default:
+                return false;
+        }
+    }
+
+    // A CREATE still queued or retried has not stored its event ID yet; it creates the event under the derived one.
+    private static String eventIdOf(InterviewSlot slot) {
+        return (slot.getGoogleCalendarEventId() != null) ? slot.getGoogleCalendarEventId()
+                : GoogleCalendarService.eventIdFor(slot.getId());
+    }
+}
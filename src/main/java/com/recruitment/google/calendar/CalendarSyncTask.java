@@ -0,0 +1,39 @@
+package com.recruitment.google.calendar;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * One pending Google Calendar change of a slot. Completed tasks are deleted; tasks that ran out of attempts stay
+ * as {@link CalendarSyncStatus#FAILED}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "calendar_sync_tasks")
+// Claiming due and expired tasks, per-slot ordering and the lease owner's re-read.
+@CompoundIndex(name = "status_next_attempt", def = "{'status': 1, 'nextAttemptAt': 1}")
+@CompoundIndex(name = "status_lease", def = "{'status': 1, 'lockedUntil': 1}")
+@CompoundIndex(name = "slot_status_created", def = "{'slotId': 1, 'status': 1, 'createdAt': 1}")
+@CompoundIndex(name = "locked_by", def = "{'lockedBy': 1}")
+public class CalendarSyncTask {
+
+    @Id
+    private String id;
+    private String slotId;
+    private String calendarId;
+    private CalendarOperation operation;
+    private String eventId;
+    private CalendarSyncStatus status;
+    private int attempts;
+    private LocalDateTime createdAt;
+    private LocalDateTime nextAttemptAt;
+    private String lockedBy;
+    private LocalDateTime lockedUntil;
+    private String lastError;
+}
@@ -0,0 +1,11 @@
+package com.recruitment.google.calendar;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface CalendarSyncTaskRepository extends MongoRepository<CalendarSyncTask, String>,
+        CalendarSyncTaskRepositoryCustom {
+
+    long countByStatus(CalendarSyncStatus status);
+
+    boolean existsBySlotIdAndStatus(String slotId, CalendarSyncStatus status);
+}
@@ -0,0 +1,36 @@
+package com.recruitment.google.calendar;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface CalendarSyncTaskRepositoryCustom {
+
+    /**
+     * Leases up to {@code limit} due tasks, oldest first, to {@code owner} until {@code leaseUntil}. Tasks whose
+     * lease expired (their worker died) are due again.
+     */
+    List<CalendarSyncTask> claim(String owner, int limit, LocalDateTime now, LocalDateTime leaseUntil);
+
+    /**
+     * Returns the IDs of the oldest unfinished task of each slot, so later tasks of a slot can wait for it.
+     */
+    Set<String> firstTaskIdsOf(Collection<String> slotIds);
+
+    /**
+     * Drops the slot's queued CREATE if no worker has attempted it yet, so no event can exist for it.
+     */
+    boolean removeUnattemptedCreate(String slotId);
+
+    /**
+     * Turns the slot's oldest queued (not running) task into a DELETE of {@code eventId} and drops its other queued
+     * tasks, which the deletion supersedes.
+     */
+    boolean convertPendingToDelete(String slotId, String eventId);
+
+    /**
+     * Deletes the completed tasks and saves the retried or failed ones, in one bulk write.
+     */
+    void finish(Collection<String> completedIds, Collection<CalendarSyncTask> rescheduled);
+}
@@ -0,0 +1,114 @@
+package com.recruitment.google.calendar;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+@RequiredArgsConstructor
+public class CalendarSyncTaskRepositoryImpl implements CalendarSyncTaskRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<CalendarSyncTask> claim(String owner, int limit, LocalDateTime now, LocalDateTime leaseUntil) {
+        Criteria due = new Criteria().orOperator(
+                where("status").is(CalendarSyncStatus.PENDING).and("nextAttemptAt").lte(now),
+                where("status").is(CalendarSyncStatus.IN_PROGRESS).and("lockedUntil").lt(now));
+        Query candidates = query(due).with(Sort.by("createdAt", "_id")).limit(limit);
+        candidates.fields().include("_id");
+        List<String> ids = new ArrayList<>();
+        for (CalendarSyncTask task : mongoTemplate.find(candidates, CalendarSyncTask.class)) {
+            ids.add(task.getId());
+        }
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        // Re-checking "due" makes the claim safe when another node leased some of the same tasks in between.
+        mongoTemplate.updateMulti(query(where("_id").in(ids).andOperator(due)),
+                new Update().set("status", CalendarSyncStatus.IN_PROGRESS).set("lockedBy", owner)
+                        .set("lockedUntil", leaseUntil), CalendarSyncTask.class);
+        return mongoTemplate.find(query(where("_id").in(ids).and("lockedBy").is(owner))
+                .with(Sort.by("createdAt", "_id")), CalendarSyncTask.class);
+    }
+
+    @Override
+    public Set<String> firstTaskIdsOf(Collection<String> slotIds) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(where("slotId").in(slotIds).and("status")
+                        .in(CalendarSyncStatus.PENDING, CalendarSyncStatus.IN_PROGRESS)),
+                Aggregation.sort(Sort.by("createdAt", "_id")),
+                Aggregation.group("slotId").first("_id").as("taskId"));
+        Set<String> first = new HashSet<>();
+        for (Document doc : mongoTemplate.aggregate(aggregation, CalendarSyncTask.class, Document.class)) {
+            first.add(doc.get("taskId").toString());
+        }
+        return first;
+    }
+
+    @Override
+    public boolean removeUnattemptedCreate(String slotId) {
+        return mongoTemplate.remove(query(where("slotId").is(slotId).and("status").is(CalendarSyncStatus.PENDING)
+                .and("operation").is(CalendarOperation.CREATE).and("attempts").is(0)), CalendarSyncTask.class)
+                .getDeletedCount() > 0;
+    }
+
+    @Override
+    public boolean convertPendingToDelete(String slotId, String eventId) {
+        Query pending = query(where("slotId").is(slotId).and("status").is(CalendarSyncStatus.PENDING))
+                .with(Sort.by("createdAt", "_id"));
+        pending.fields().include("_id");
+        List<String> ids = new ArrayList<>();
+        for (CalendarSyncTask task : mongoTemplate.find(pending, CalendarSyncTask.class)) {
+            ids.add(task.getId());
+        }
+        if (ids.isEmpty()) {
+            return false;
+        }
+        // The oldest keeps the slot's place in the queue; it is a new operation, so its attempts start over.
+        boolean converted = mongoTemplate.updateFirst(query(where("_id").is(ids.get(0))
+                        .and("status").is(CalendarSyncStatus.PENDING)),
+                new Update().set("operation", CalendarOperation.DELETE).set("eventId", eventId).set("attempts", 0)
+                        .unset("lastError"), CalendarSyncTask.class).getModifiedCount() > 0;
+        if (converted && ids.size() > 1) {
+            mongoTemplate.remove(query(where("_id").in(ids.subList(1, ids.size()))
+                    .and("status").is(CalendarSyncStatus.PENDING)), CalendarSyncTask.class);
+        }
+        return converted;
+    }
+
+    @Override
+    public void finish(Collection<String> completedIds, Collection<CalendarSyncTask> rescheduled) {
+        if (completedIds.isEmpty() && rescheduled.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CalendarSyncTask.class);
+        if (!completedIds.isEmpty()) {
+            bulk.remove(query(where("_id").in(completedIds)));
+        }
+        for (CalendarSyncTask task : rescheduled) {
+            bulk.updateOne(query(where("_id").is(task.getId())), new Update()
+                    .set("status", task.getStatus())
+                    .set("attempts", task.getAttempts())
+                    .set("nextAttemptAt", task.getNextAttemptAt())
+                    .set("lastError", task.getLastError())
+                    .unset("lockedBy")
+                    .unset("lockedUntil"));
+        }
+        bulk.execute();
+    }
+}
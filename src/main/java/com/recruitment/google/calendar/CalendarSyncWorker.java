@@ -0,0 +1,198 @@
+package com.recruitment.google.calendar;
+
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.interview.InterviewSlotRepository;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drains the calendar sync queue with a bounded pool of workers, each sending one claimed batch of tasks through
+ * the Calendar batch endpoint. Tasks of the same slot run strictly in order; failed calls are retried with
+ * exponential backoff until {@code google.calendar.sync.max-attempts}.
+ */
+@Component
+public class CalendarSyncWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(CalendarSyncWorker.class);
+
+    private final CalendarSyncTaskRepository taskRepository;
+    private final InterviewSlotRepository slotRepository;
+    private final GoogleCalendarService googleCalendarService;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final ExecutorService workers;
+    private final Semaphore idleWorkers;
+
+    public CalendarSyncWorker(CalendarSyncTaskRepository taskRepository, InterviewSlotRepository slotRepository,
+            GoogleCalendarService googleCalendarService,
+            @Value("${google.calendar.sync.workers:4}") int workerCount,
+            @Value("${google.calendar.sync.batch-size:50}") int batchSize,
+            @Value("${google.calendar.sync.max-attempts:8}") int maxAttempts,
+            @Value("${google.calendar.sync.lease:2m}") Duration lease,
+            @Value("${google.calendar.sync.base-backoff:1s}") Duration baseBackoff,
+            @Value("${google.calendar.sync.max-backoff:5m}") Duration maxBackoff) {
+        this.taskRepository = taskRepository;
+        this.slotRepository = slotRepository;
+        this.googleCalendarService = googleCalendarService;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+        AtomicInteger threads = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "calendar-sync-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.idleWorkers = new Semaphore(workerCount);
+    }
+
+    /**
+     * Hands one claimed batch to every idle worker; stops as soon as nothing is due.
+     */
+    @Scheduled(fixedDelayString = "${google.calendar.sync.poll-interval-ms:500}")
+    public void poll() {
+        while (idleWorkers.tryAcquire()) {
+            List<CalendarSyncTask> batch;
+            try {
+                LocalDateTime now = LocalDateTime.now();
+                batch = taskRepository.claim(UUID.randomUUID().toString(), batchSize, now, now.plus(lease));
+            } catch (RuntimeException e) {
+                idleWorkers.release();
+                throw e;
+            }
+            if (batch.isEmpty()) {
+                idleWorkers.release();
+                return;
+            }
+            workers.execute(() -> {
+                try {
+                    process(batch);
+                } catch (RuntimeException e) {
+                    // The lease runs out and the batch is claimed again.
+                    log.error("Calendar sync batch of {} tasks failed: {}", batch.size(), e.getMessage(), e);
+                } finally {
+                    idleWorkers.release();
+                }
+            });
+        }
+    }
+
+    void process(List<CalendarSyncTask> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> slotIds = new HashSet<>();
+        for (CalendarSyncTask task : batch) {
+            slotIds.add(task.getSlotId());
+        }
+        Set<String> firstOfSlot = taskRepository.firstTaskIdsOf(slotIds);
+
+        List<CalendarSyncTask> ready = new ArrayList<>();
+        List<CalendarSyncTask> rescheduled = new ArrayList<>();
+        List<String> completed = new ArrayList<>();
+        Set<String> slotsToLoad = new HashSet<>();
+        for (CalendarSyncTask task : batch) {
+            if (!firstOfSlot.contains(task.getId())) {
+                // An earlier change of this slot is still queued or running.
+                task.setStatus(CalendarSyncStatus.PENDING);
+                task.setNextAttemptAt(now.plus(baseBackoff));
+                rescheduled.add(task);
+            } else {
+                ready.add(task);
+                if (task.getOperation() != CalendarOperation.DELETE) {
+                    slotsToLoad.add(task.getSlotId());
+                }
+            }
+        }
+
+        Map<String, InterviewSlot> slots = new HashMap<>();
+        for (InterviewSlot slot : slotRepository.findAllById(slotsToLoad)) {
+            slots.put(slot.getId(), slot);
+        }
+        List<CalendarSyncTask> calls = new ArrayList<>();
+        for (CalendarSyncTask task : ready) {
+            if (task.getOperation() != CalendarOperation.DELETE && !slots.containsKey(task.getSlotId())) {
+                // The slot was deleted meanwhile; its DELETE task takes care of the event.
+                completed.add(task.getId());
+            } else {
+                calls.add(task);
+            }
+        }
+
+        Map<String, CalendarCallResult> results;
+        try {
+            results = calls.isEmpty() ? new HashMap<>() : googleCalendarService.execute(calls, slots);
+        } catch (IOException e) {
+            log.warn("Calendar batch request of {} tasks failed: {}", calls.size(), e.getMessage());
+            results = new HashMap<>();
+            for (CalendarSyncTask task : calls) {
+                results.put(task.getId(), CalendarCallResult.failed(true, e.getMessage()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        Map<String, String> eventIds = new HashMap<>();
+        for (CalendarSyncTask task : calls) {
+            CalendarCallResult result = results.getOrDefault(task.getId(),
+                    CalendarCallResult.failed(true, "No response in batch"));
+            if (result.isSuccess()) {
+                completed.add(task.getId());
+                if (task.getOperation() == CalendarOperation.CREATE && result.getEventId() != null) {
+                    eventIds.put(task.getSlotId(), result.getEventId());
+                }
+            } else {
+                rescheduled.add(retryOrFail(task, result, now));
+            }
+        }
+        // Event IDs first: a later task of the slot may start as soon as this one is gone.
+        slotRepository.setCalendarEventIds(eventIds);
+        taskRepository.finish(completed, rescheduled);
+    }
+
+    private CalendarSyncTask retryOrFail(CalendarSyncTask task, CalendarCallResult result, LocalDateTime now) {
+        task.setAttempts(task.getAttempts() + 1);
+        task.setLastError(result.getError());
+        if (!result.isRetryable() || task.getAttempts() >= maxAttempts) {
+            log.warn("Giving up on calendar {} of slot {} after {} attempts: {}", task.getOperation(),
+                    task.getSlotId(), task.getAttempts(), result.getError());
+            task.setStatus(CalendarSyncStatus.FAILED);
+            return task;
+        }
+        long delay = Math.min(maxBackoff.toMillis(), baseBackoff.toMillis() << Math.min(task.getAttempts() - 1, 20));
+        task.setStatus(CalendarSyncStatus.PENDING);
+        task.setNextAttemptAt(now.plus(Duration.ofMillis(delay / 2 + ThreadLocalRandom.current().nextLong(
+                delay / 2 + 1))));
+        return task;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
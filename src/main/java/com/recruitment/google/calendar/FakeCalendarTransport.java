@@ -0,0 +1,235 @@
+package com.recruitment.google.calendar;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.json.jackson2.JacksonFactory;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.api.services.calendar.Calendar;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * In-memory stand-in for the Google Calendar REST API, including the multipart batch endpoint, so calendar sync
+ * throughput can be measured locally. Every HTTP round trip costs {@code latencyMillis}.
+ */
+public class FakeCalendarTransport extends HttpTransport {
+
+    private static final String EVENTS_PATH = "/calendar/v3/calendars/";
+    private static final String BOUNDARY = "fake_calendar_batch";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, ObjectNode> events = new ConcurrentHashMap<>();
+    private final Map<String, Integer> failingCalendars = new ConcurrentHashMap<>();
+    private final AtomicLong httpRequests = new AtomicLong();
+    private final AtomicLong operations = new AtomicLong();
+    private final long latencyMillis;
+
+    public FakeCalendarTransport(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    public Calendar calendar() {
+        return new Calendar.Builder(this, JacksonFactory.getDefaultInstance(), null)
+                .setApplicationName("Fake Calendar")
+                .build();
+    }
+
+    /**
+     * Makes every call on {@code calendarId} answer {@code status}, e.g. 503 or 429 to exercise retries.
+     */
+    public void failCalendar(String calendarId, int status) {
+        failingCalendars.put(calendarId, status);
+    }
+
+    public ObjectNode event(String calendarId, String eventId) {
+        return events.get(key(calendarId, eventId));
+    }
+
+    public int eventCount() {
+        return events.size();
+    }
+
+    public long httpRequests() {
+        return httpRequests.get();
+    }
+
+    public long operations() {
+        return operations.get();
+    }
+
+    @Override
+    public boolean supportsMethod(String method) {
+        return true;
+    }
+
+    @Override
+    protected LowLevelHttpRequest buildRequest(String method, String url) {
+        return new LowLevelHttpRequest() {
+            private String contentType;
+
+            @Override
+            public void addHeader(String name, String value) {
+                if ("Content-Type".equalsIgnoreCase(name)) {
+                    contentType = value;
+                }
+            }
+
+            @Override
+            public LowLevelHttpResponse execute() throws IOException {
+                httpRequests.incrementAndGet();
+                pause();
+                String body = readContent();
+                if (URI.create(url).getPath().contains("batch")) {
+                    return batch(body, contentType != null ? contentType : getContentType());
+                }
+                return handle(method, url, body).toResponse();
+            }
+
+            private String readContent() throws IOException {
+                if (getStreamingContent() == null) {
+                    return "";
+                }
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                getStreamingContent().writeTo(out);
+                InputStream in = new ByteArrayInputStream(out.toByteArray());
+                if ("gzip".equalsIgnoreCase(getContentEncoding())) {
+                    in = new GZIPInputStream(in);
+                }
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    private LowLevelHttpResponse batch(String body, String contentType) {
+        String boundary = "--" + contentType.substring(contentType.indexOf("boundary=") + 9).replace("\"", "");
+        StringBuilder response = new StringBuilder();
+        for (String part : body.split(Pattern.quote(boundary))) {
+            String trimmed = part.strip();
+            if (trimmed.isEmpty() || trimmed.equals("--")) {
+                continue;
+            }
+            // Outer part headers, blank line, request line, inner headers, blank line, body.
+            String[] sections = part.replace("\r\n", "\n").split("\n\n", 3);
+            String[] requestLine = sections[1].strip().split("\n")[0].split(" ");
+            String innerBody = sections.length > 2 ? sections[2].strip() : "";
+            Reply reply = handle(requestLine[0], requestLine[1], innerBody);
+            response.append("--").append(BOUNDARY).append("\r\n")
+                    .append("Content-Type: application/http\r\n\r\n")
+                    .append("HTTP/1.1 ").append(reply.status).append(" X\r\n")
+                    .append("Content-Type: application/json; charset=UTF-8\r\n\r\n")
+                    .append(reply.body).append("\r\n");
+        }
+        response.append("--").append(BOUNDARY).append("--\r\n");
+        return new MockLowLevelHttpResponse()
+                .setContentType("multipart/mixed; boundary=" + BOUNDARY)
+                .setContent(response.toString());
+    }
+
+    private Reply handle(String method, String url, String body) {
+        operations.incrementAndGet();
+        String path = URI.create(url).getRawPath();
+        int start = path.indexOf(EVENTS_PATH);
+        if (start < 0) {
+            return Reply.error(404, "notFound");
+        }
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.substring(start + EVENTS_PATH.length()).split("/")) {
+            segments.add(URLDecoder.decode(segment, StandardCharsets.UTF_8));
+        }
+        String calendarId = segments.get(0);
+        Integer failure = failingCalendars.get(calendarId);
+        if (failure != null) {
+            return Reply.error(failure, "backendError");
+        }
+        try {
+            if (segments.size() == 2 && "POST".equals(method)) {
+                ObjectNode event = (ObjectNode) objectMapper.readTree(body);
+                if (!event.hasNonNull("id")) {
+                    event.put("id", UUID.randomUUID().toString().replace("-", ""));
+                }
+                if (events.putIfAbsent(key(calendarId, event.get("id").asText()), event) != null) {
+                    return Reply.error(409, "duplicate");
+                }
+                return new Reply(200, event.toString());
+            }
+            String key = key(calendarId, segments.get(2));
+            ObjectNode existing = events.get(key);
+            if (existing == null) {
+                return Reply.error(404, "notFound");
+            }
+            switch (method) {
+                case "GET":
+                    return new Reply(200, existing.toString());
+                case "PUT":
+                    ObjectNode replaced = (ObjectNode) objectMapper.readTree(body);
+                    replaced.put("id", segments.get(2));
+                    events.put(key, replaced);
+                    return new Reply(200, replaced.toString());
+                case "PATCH":
+                    existing.setAll((ObjectNode) objectMapper.readTree(body));
+                    return new Reply(200, existing.toString());
+                case "DELETE":
+                    events.remove(key);
+                    return new Reply(204, "");
+                default:
+                    return Reply.error(405, "methodNotAllowed");
+            }
+        } catch (IOException e) {
+            return Reply.error(400, "badRequest");
+        }
+    }
+
+    private void pause() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String key(String calendarId, String eventId) {
+        return calendarId + "/" + eventId;
+    }
+
+    private static final class Reply {
+        private final int status;
+        private final String body;
+
+        private Reply(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        static Reply error(int status, String reason) {
+            return new Reply(status, "{\"error\":{\"code\":" + status + ",\"message\":\"" + reason
+                    + "\",\"errors\":[{\"reason\":\"" + reason + "\"}]}}");
+        }
+
+        LowLevelHttpResponse toResponse() {
+            return new MockLowLevelHttpResponse()
+                    .setStatusCode(status)
+                    .setContentType("application/json; charset=UTF-8")
+                    .setContent(body);
+        }
+    }
+}
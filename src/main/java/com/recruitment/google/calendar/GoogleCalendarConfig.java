@@ -4,6 +4,7 @@ import com.google.api.client.googleapis.auth.oauth2.GoogleCredential;
 import java.io.InputStream;
 import java.util.Collections;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -17,6 +18,7 @@ public class GoogleCalendarConfig {
     private String applicationName;
 
     @Bean
+    @ConditionalOnProperty(name = "google.calendar.fake.enabled", havingValue = "false", matchIfMissing = true)
     public com.google.api.services.calendar.Calendar calendarService() throws Exception {
         InputStream credentialsStream = getClass().getResourceAsStream(keyPath);
         GoogleCredential credential = GoogleCredential.fromStream(credentialsStream)
@@ -27,4 +29,14 @@ public class GoogleCalendarConfig {
                 credential
         ).setApplicationName(applicationName).build();
     }
-}
\ No newline at end of file
+
+    /**
+     * In-memory calendar for local load tests, enabled with {@code google.calendar.fake.enabled=true}.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "google.calendar.fake.enabled", havingValue = "true")
+    public com.google.api.services.calendar.Calendar fakeCalendarService(
+            @Value("${google.calendar.fake.latency-ms:100}") long latencyMillis) {
+        return new FakeCalendarTransport(latencyMillis).calendar();
+    }
+}
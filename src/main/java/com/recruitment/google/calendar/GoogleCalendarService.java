@@ -1,11 +1,26 @@
 package com.recruitment.google.calendar;
 
 import com.recruitment.interview.InterviewSlot;
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.http.HttpHeaders;
 import com.google.api.services.calendar.Calendar;
 import com.google.api.services.calendar.model.Event;
 import com.google.api.services.calendar.model.EventDateTime;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -13,52 +28,146 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class GoogleCalendarService {
 
-    private final Calendar googleCalendarService;
-
-    public String createCalendarEvent(String calendarId, InterviewSlot slot) throws Exception {
-        Event event = new Event();
-        event.setSummary("Interview: " + slot.getCategory() + " - " + slot.getSeniority());
+    // Google rejects batch requests with more than 50 calls.
+    private static final int MAX_BATCH_SIZE = 50;
 
-        EventDateTime start = new EventDateTime();
-        start.setDateTime(new com.google.api.client.util.DateTime(
-                slot.getStartTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
-        start.setTimeZone(TimeZone.getDefault().getID());
-        event.setStart(start);
+    private final Calendar googleCalendarService;
+    private final CalendarRateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
 
-        EventDateTime end = new EventDateTime();
-        end.setDateTime(new com.google.api.client.util.DateTime(
-                slot.getEndTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
-        end.setTimeZone(TimeZone.getDefault().getID());
-        event.setEnd(end);
+    /**
+     * Event ID derived from the slot ID. Hex digits are valid in Google's base32hex event ID alphabet, and a fixed ID
+     * turns a repeated create of the same slot into a duplicate error instead of a second event.
+     */
+    public static String eventIdFor(String slotId) {
+        StringBuilder id = new StringBuilder("rs");
+        for (byte b : slotId.getBytes(StandardCharsets.UTF_8)) {
+            id.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return id.toString();
+    }
 
-        Event created = googleCalendarService.events().insert(calendarId, event).execute();
-        return created.getId();
+    /**
+     * Executes the tasks through the Calendar batch endpoint in one round trip per 50 tasks. CREATE and UPDATE tasks
+     * need their slot in {@code slots}; updates patch the event from the slot instead of reading it first.
+     *
+     * @return the outcome of every task, keyed by task ID
+     * @throws IOException when a batch request as a whole fails; any task may then have been applied or not
+     */
+    public Map<String, CalendarCallResult> execute(List<CalendarSyncTask> tasks, Map<String, InterviewSlot> slots)
+            throws IOException, InterruptedException {
+        Map<String, CalendarCallResult> results = new HashMap<>();
+        for (int from = 0; from < tasks.size(); from += MAX_BATCH_SIZE) {
+            List<CalendarSyncTask> chunk = tasks.subList(from, Math.min(tasks.size(), from + MAX_BATCH_SIZE));
+            BatchRequest batch = googleCalendarService.batch();
+            for (CalendarSyncTask task : chunk) {
+                queue(batch, task, slots.get(task.getSlotId()), results);
+            }
+            rateLimiter.acquire(chunk.size());
+            long started = System.nanoTime();
+            try {
+                batch.execute();
+            } finally {
+                record(chunk, results, System.nanoTime() - started);
+            }
+        }
+        return results;
     }
 
-    public void updateCalendarEvent(String calendarId, InterviewSlot slot) throws Exception {
-        if (slot.getGoogleCalendarEventId() == null) {
-            return;
+    private void queue(BatchRequest batch, CalendarSyncTask task, InterviewSlot slot,
+            Map<String, CalendarCallResult> results) throws IOException {
+        switch (task.getOperation()) {
+            case CREATE: {
+                String eventId = eventIdFor(slot.getId());
+                Event event = applySlot(new Event().setId(eventId), slot, "Interview: ");
+                googleCalendarService.events().insert(task.getCalendarId(), event).queue(batch,
+                        callback(task, results, CalendarCallResult.ok(eventId),
+                                created -> results.put(task.getId(), CalendarCallResult.ok(created.getId()))));
+                break;
+            }
+            case UPDATE: {
+                String eventId = (slot.getGoogleCalendarEventId() != null) ? slot.getGoogleCalendarEventId()
+                        : eventIdFor(slot.getId());
+                // Only the fields set here change; anything edited on Google's side is kept.
+                Event changes = applySlot(new Event(), slot, "Interview Updated: ");
+                googleCalendarService.events().patch(task.getCalendarId(), eventId, changes).queue(batch,
+                        callback(task, results, CalendarCallResult.ok(null),
+                                patched -> results.put(task.getId(), CalendarCallResult.ok(patched.getId()))));
+                break;
+            }
+            case DELETE: {
+                String eventId = (task.getEventId() != null) ? task.getEventId() : eventIdFor(task.getSlotId());
+                googleCalendarService.events().delete(task.getCalendarId(), eventId).queue(batch,
+                        callback(task, results, CalendarCallResult.ok(null),
+                                ignored -> results.put(task.getId(), CalendarCallResult.ok(eventId))));
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown calendar operation: " + task.getOperation());
         }
-        Event event = googleCalendarService.events().get(calendarId, slot.getGoogleCalendarEventId()).execute();
-        event.setSummary("Interview Updated: " + slot.getCategory() + " - " + slot.getSeniority());
+    }
 
-        EventDateTime start = new EventDateTime();
-        start.setDateTime(new com.google.api.client.util.DateTime(
-                slot.getStartTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
-        event.setStart(start);
+    /**
+     * Records the round trip of a batch once per call in it, since Google answers all of them together. Calls left
+     * without a result by a failed batch count as {@code error}.
+     */
+    private void record(List<CalendarSyncTask> chunk, Map<String, CalendarCallResult> results, long nanos) {
+        for (CalendarSyncTask task : chunk) {
+            CalendarCallResult result = results.get(task.getId());
+            String outcome = (result == null) ? "error" : result.isSuccess() ? "ok" : "failed";
+            Timer.builder("calendar.calls").tag("operation", task.getOperation().name().toLowerCase(Locale.ROOT))
+                    .tag("outcome", outcome).description("Google Calendar batch round trip per call")
+                    .register(meterRegistry).record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
 
-        EventDateTime end = new EventDateTime();
-        end.setDateTime(new com.google.api.client.util.DateTime(
-                slot.getEndTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
-        event.setEnd(end);
+    /**
+     * {@code whenGone} is the result used when Google answers 404/410 (nothing left to change) or 409 (created
+     * before); {@code null} treats those as failures.
+     */
+    private <T> JsonBatchCallback<T> callback(CalendarSyncTask task, Map<String, CalendarCallResult> results,
+            CalendarCallResult whenGone, Consumer<T> onSuccess) {
+        return new JsonBatchCallback<T>() {
+            @Override
+            public void onSuccess(T result, HttpHeaders responseHeaders) {
+                onSuccess.accept(result);
+            }
 
-        googleCalendarService.events().update(calendarId, slot.getGoogleCalendarEventId(), event).execute();
+            @Override
+            public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                int code = error.getCode();
+                boolean gone = code == 404 || code == 410 || (code == 409 && task.getOperation()
+                        == CalendarOperation.CREATE);
+                results.put(task.getId(), (gone && whenGone != null) ? whenGone
+                        : CalendarCallResult.failed(isRetryable(error), code + " " + error.getMessage()));
+            }
+        };
     }
 
-    public void deleteCalendarEvent(String calendarId, String eventId) throws Exception {
-        if (eventId == null) {
-            return;
+    private boolean isRetryable(GoogleJsonError error) {
+        int code = error.getCode();
+        if (code == 403 && error.getErrors() != null) {
+            for (GoogleJsonError.ErrorInfo info : error.getErrors()) {
+                if ("rateLimitExceeded".equals(info.getReason()) || "userRateLimitExceeded".equals(info.getReason())) {
+                    return true;
+                }
+            }
         }
-        googleCalendarService.events().delete(calendarId, eventId).execute();
+        return code == 408 || code == 429 || code >= 500;
+    }
+
+    private Event applySlot(Event event, InterviewSlot slot, String summaryPrefix) {
+        event.setSummary(summaryPrefix + slot.getCategory() + " - " + slot.getSeniority());
+        event.setStart(dateTime(slot.getStartTime()));
+        event.setEnd(dateTime(slot.getEndTime()));
+        return event;
+    }
+
+    private EventDateTime dateTime(LocalDateTime dateTime) {
+        EventDateTime result = new EventDateTime();
+        result.setDateTime(new com.google.api.client.util.DateTime(
+                dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+        result.setTimeZone(TimeZone.getDefault().getID());
+        return result;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,5 @@
+package com.recruitment.interview;
+
+public enum BulkMode {
+    ALL_OR_NOTHING, PARTIAL
+}
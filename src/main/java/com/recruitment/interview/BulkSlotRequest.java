@@ -0,0 +1,15 @@
+package com.recruitment.interview;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkSlotRequest {
+    private List<InterviewSlotDto> slots;
+    private SlotRecurrenceDto recurrence;
+    private BulkMode mode = BulkMode.ALL_OR_NOTHING;
+}
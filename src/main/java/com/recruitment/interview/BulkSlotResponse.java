@@ -0,0 +1,15 @@
+package com.recruitment.interview;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkSlotResponse {
+    private int created;
+    private int rejected;
+    private List<BulkSlotResult> results;
+}
@@ -0,0 +1,18 @@
+package com.recruitment.interview;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkSlotResult {
+    private int index;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private BulkSlotStatus status;
+    private InterviewSlot slot;
+    private String message;
+}
@@ -0,0 +1,361 @@
+package com.recruitment.interview;
+
+import com.recruitment.events.DomainEvent;
+import com.recruitment.events.DomainEventPublisher;
+import com.recruitment.events.DomainEventType;
+import com.recruitment.exceptions.LimitExceededException;
+import com.recruitment.exceptions.ResourceNotFoundException;
+import com.recruitment.google.calendar.CalendarOperation;
+import com.recruitment.google.calendar.CalendarSyncQueue;
+import com.recruitment.recruiter.Recruiter;
+import com.recruitment.recruiter.RecruiterRepository;
+import com.recruitment.recruiter.RecruiterScheduleService;
+import com.recruitment.recruiter.RecruiterService;
+import com.recruitment.recruiter.SlotCounterService;
+import com.recruitment.recruiter.SlotCounts;
+import com.recruitment.recruiter.SlotPeriod;
+import com.recruitment.recruiter.SlotValidationResult;
+import com.recruitment.recruiter.SlotValidationSnapshot;
+import com.recruitment.recruiter.SlotViolation;
+import com.recruitment.recruiter.SlotViolationType;
+import com.recruitment.vacation.Vacation;
+import com.recruitment.vacation.VacationRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Creates many slots of one recruiter at once: the batch is validated in memory against a single read of existing
+ * slots, vacations and limit counters, and the accepted slots are written with one insert.
+ */
+@Service
+@RequiredArgsConstructor
+public class BulkSlotService {
+
+    private final InterviewSlotRepository interviewSlotRepository;
+    private final VacationRepository vacationRepository;
+    private final RecruiterService recruiterService;
+    private final RecruiterRepository recruiterRepository;
+    private final InterviewSlotMapper slotMapper;
+    private final CalendarSyncQueue calendarSyncQueue;
+    private final SlotIntervalIndex slotIntervalIndex;
+    private final SlotCounterService slotCounterService;
+    private final RecruiterScheduleService recruiterScheduleService;
+    private final ScheduleSnapshot scheduleSnapshot;
+    private final DomainEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${recruitment.slots.bulk.max-items:1000}")
+    private int maxItems;
+
+    @Value("${recruitment.slots.default-multi-capacity:10}")
+    private int defaultMultiCapacity;
+
+    public BulkSlotResponse createSlots(BulkSlotRequest request, String recruiterId) {
+        List<InterviewSlot> slots = expand(request);
+        if (slots.isEmpty()) {
+            throw new IllegalArgumentException("Either slots or a recurrence must be given.");
+        }
+        if (slots.size() > maxItems) {
+            throw tooManySlots();
+        }
+        for (InterviewSlot slot : slots) {
+            slot.setRecruiterId(recruiterId);
+            slot.setCapacity(SlotCapacity.resolve(slot.isMultiCapacity(), slot.getCapacity(), defaultMultiCapacity));
+            slot.setBookedCount(0);
+        }
+        BulkMode mode = (request.getMode() != null) ? request.getMode() : BulkMode.ALL_OR_NOTHING;
+
+        BulkWrite write = recruiterScheduleService.change(recruiterId, () -> validateAndInsert(recruiterId, slots,
+                mode), inserted -> {
+            List<String> ids = new ArrayList<>();
+            for (InterviewSlot slot : inserted.created) {
+                ids.add(slot.getId());
+                slotIntervalIndex.remove(slot);
+                scheduleSnapshot.remove(slot.getId());
+            }
+            transactionTemplate.execute(status -> {
+                interviewSlotRepository.deleteAllById(ids);
+                eventPublisher.publishAll(events(DomainEventType.SLOT_DELETED, inserted.created));
+                return null;
+            });
+            slotCounterService.slotsRemoved(inserted.created);
+        });
+
+        calendarSyncQueue.enqueue(CalendarOperation.CREATE, write.created, write.recruiter.getCalendarId());
+        int created = write.created.size();
+        return new BulkSlotResponse(created, write.results.size() - created, write.results);
+    }
+
+    private BulkWrite validateAndInsert(String recruiterId, List<InterviewSlot> slots, BulkMode mode) {
+        // Uncached: limits are checked against the recruiter as stored, not a copy up to a TTL old.
+        Recruiter recruiter = recruiterRepository.findById(recruiterId)
+                .orElseThrow(() -> new ResourceNotFoundException("Recruiter not found: " + recruiterId));
+
+        for (InterviewSlot slot : slots) {
+            slot.setId(null);
+        }
+        ScheduleWindow window = readWindow(recruiterId, slots);
+
+        List<BulkSlotResult> results = new ArrayList<>();
+        List<InterviewSlot> accepted = new ArrayList<>();
+        for (int i = 0; i < slots.size(); i++) {
+            InterviewSlot slot = slots.get(i);
+            BulkSlotResult result = new BulkSlotResult(i, slot.getStartTime(), slot.getEndTime(), null, null, null);
+            results.add(result);
+            if (!isValidTime(slot)) {
+                result.setStatus(BulkSlotStatus.INVALID);
+                result.setMessage("Start time must be before end time.");
+                continue;
+            }
+            SlotValidationResult validation = recruiterService.evaluateAgainst(slot, window.snapshot(recruiter, slot));
+            if (!validation.isValid()) {
+                SlotViolation first = validation.getViolations().get(0);
+                result.setStatus(first.getType().getException() == LimitExceededException.class
+                        ? BulkSlotStatus.LIMIT_EXCEEDED : BulkSlotStatus.CONFLICT);
+                result.setMessage(first.getMessage());
+                continue;
+            }
+            // Assigned up front so later batch items can report which one they collide with.
+            slot.setId(new ObjectId().toHexString());
+            window.add(slot);
+            result.setStatus(BulkSlotStatus.CREATED);
+            accepted.add(slot);
+        }
+
+        if (mode == BulkMode.ALL_OR_NOTHING && accepted.size() < slots.size()) {
+            for (BulkSlotResult result : results) {
+                if (result.getStatus() == BulkSlotStatus.CREATED) {
+                    result.setStatus(BulkSlotStatus.SKIPPED);
+                }
+            }
+            return new BulkWrite(recruiter, new ArrayList<>(), results);
+        }
+
+        // The events commit with the slots; an undone batch is deleted together with its deletion events.
+        List<InterviewSlot> created = accepted.isEmpty() ? new ArrayList<>()
+                : transactionTemplate.execute(status -> {
+                    List<InterviewSlot> inserted = interviewSlotRepository.insert(accepted);
+                    eventPublisher.publishAll(events(DomainEventType.SLOT_CREATED, inserted));
+                    return inserted;
+                });
+        for (InterviewSlot slot : created) {
+            slotIntervalIndex.put(slot);
+            scheduleSnapshot.put(slot);
+        }
+        slotCounterService.slotsAdded(created);
+        int next = 0;
+        for (BulkSlotResult result : results) {
+            if (result.getStatus() == BulkSlotStatus.CREATED) {
+                result.setSlot(created.get(next++));
+            }
+        }
+        return new BulkWrite(recruiter, created, results);
+    }
+
+    /**
+     * Dry run of slot creation: reports every violation of each candidate against the recruiter's stored schedule,
+     * vacations and limits without writing anything. Candidates are checked independently, not against each other.
+     */
+    public List<SlotValidationResult> validateSlots(List<InterviewSlotDto> candidates, String recruiterId) {
+        if (candidates == null || candidates.isEmpty()) {
+            throw new IllegalArgumentException("At least one slot must be given.");
+        }
+        if (candidates.size() > maxItems) {
+            throw new IllegalArgumentException("At most " + maxItems + " slots can be validated at once.");
+        }
+        Recruiter recruiter = recruiterRepository.findById(recruiterId)
+                .orElseThrow(() -> new ResourceNotFoundException("Recruiter not found: " + recruiterId));
+        List<InterviewSlot> slots = new ArrayList<>();
+        for (InterviewSlotDto dto : candidates) {
+            InterviewSlot slot = slotMapper.toEntity(dto);
+            slot.setId(null);
+            slot.setRecruiterId(recruiterId);
+            slots.add(slot);
+        }
+        ScheduleWindow window = readWindow(recruiterId, slots);
+
+        List<SlotValidationResult> results = new ArrayList<>();
+        for (int i = 0; i < slots.size(); i++) {
+            InterviewSlot slot = slots.get(i);
+            SlotValidationResult result;
+            if (isValidTime(slot)) {
+                result = recruiterService.previewAgainst(slot, window.snapshot(recruiter, slot));
+            } else {
+                result = new SlotValidationResult(slot);
+                result.add(SlotViolationType.INVALID_TIME, "Start time must be before end time.", null);
+            }
+            result.setIndex(i);
+            results.add(result);
+        }
+        return results;
+    }
+
+    /**
+     * Reads the stored slots and vacations around the valid slots of a batch and the counters of their periods.
+     */
+    private ScheduleWindow readWindow(String recruiterId, List<InterviewSlot> slots) {
+        List<LocalDateTime> starts = new ArrayList<>();
+        LocalDateTime from = null;
+        LocalDateTime to = null;
+        for (InterviewSlot slot : slots) {
+            if (isValidTime(slot)) {
+                starts.add(slot.getStartTime());
+                from = (from == null || SlotInterval.bufferedStart(slot).isBefore(from))
+                        ? SlotInterval.bufferedStart(slot) : from;
+                to = (to == null || SlotInterval.bufferedEnd(slot).isAfter(to)) ? SlotInterval.bufferedEnd(slot) : to;
+            }
+        }
+
+        ScheduleWindow window = new ScheduleWindow(recruiterId, slotCounterService.countsFor(recruiterId, starts));
+        if (from != null) {
+            for (InterviewSlot existing : interviewSlotRepository
+                    .findByRecruiterIdAndStartTimeLessThanAndEndTimeGreaterThan(recruiterId, to, from)) {
+                window.schedule.put(SlotInterval.of(existing));
+            }
+            window.vacations.addAll(vacationRepository.findByRecruiterIdAndStartDateLessThanAndEndDateGreaterThan(
+                    recruiterId, to, from));
+        }
+        return window;
+    }
+
+    private List<InterviewSlot> expand(BulkSlotRequest request) {
+        List<InterviewSlot> slots = new ArrayList<>();
+        if (request.getSlots() != null) {
+            if (request.getSlots().size() > maxItems) {
+                throw tooManySlots();
+            }
+            for (InterviewSlotDto dto : request.getSlots()) {
+                slots.add(slotMapper.toEntity(dto));
+            }
+        }
+        SlotRecurrenceDto recurrence = request.getRecurrence();
+        if (recurrence == null) {
+            return slots;
+        }
+        if (recurrence.getFirstDay() == null || recurrence.getWeeks() <= 0 || recurrence.getDaysOfWeek() == null
+                || recurrence.getDaysOfWeek().isEmpty() || recurrence.getStartTime() == null
+                || recurrence.getEndTime() == null || !recurrence.getStartTime().isBefore(recurrence.getEndTime())) {
+            throw new IllegalArgumentException("Recurrence needs a first day, weeks, days of week and a time range.");
+        }
+        if (recurrence.getSlotMinutes() != null && (recurrence.getSlotMinutes() <= 0 || recurrence.getSlotMinutes()
+                > Duration.between(recurrence.getStartTime(), recurrence.getEndTime()).toMinutes())) {
+            throw new IllegalArgumentException("Slot length must be positive and fit the time range.");
+        }
+        // Every week then yields at least one slot, so more weeks than items can never be accepted.
+        if (recurrence.getWeeks() > maxItems) {
+            throw tooManySlots();
+        }
+        if (ChronoUnit.WEEKS.between(recurrence.getFirstDay(), LocalDate.MAX) < recurrence.getWeeks()) {
+            throw new IllegalArgumentException("Recurrence must end before " + LocalDate.MAX + ".");
+        }
+        LocalDate end = recurrence.getFirstDay().plusWeeks(recurrence.getWeeks());
+        for (LocalDate day = recurrence.getFirstDay(); day.isBefore(end); day = day.plusDays(1)) {
+            if (!recurrence.getDaysOfWeek().contains(day.getDayOfWeek())) {
+                continue;
+            }
+            LocalDateTime blockEnd = day.atTime(recurrence.getEndTime());
+            LocalDateTime start = day.atTime(recurrence.getStartTime());
+            while (start.isBefore(blockEnd)) {
+                LocalDateTime slotEnd = (recurrence.getSlotMinutes() == null) ? blockEnd
+                        : start.plusMinutes(recurrence.getSlotMinutes());
+                if (slotEnd.isAfter(blockEnd)) {
+                    break;
+                }
+                slots.add(new InterviewSlot(null, recurrence.getCategory(), recurrence.getSeniority(), start, slotEnd,
+                        recurrence.isMultiCapacity(), recurrence.getBufferMinutes(), null, null,
+                        recurrence.getCapacity(), 0));
+                if (slots.size() > maxItems) {
+                    throw tooManySlots();
+                }
+                start = slotEnd;
+            }
+        }
+        return slots;
+    }
+
+    private IllegalArgumentException tooManySlots() {
+        return new IllegalArgumentException("At most " + maxItems + " slots can be created at once.");
+    }
+
+    private static List<DomainEvent> events(DomainEventType type, List<InterviewSlot> slots) {
+        List<DomainEvent> events = new ArrayList<>(slots.size());
+        for (InterviewSlot slot : slots) {
+            events.add(DomainEvent.slot(type, slot));
+        }
+        return events;
+    }
+
+    private boolean isValidTime(InterviewSlot slot) {
+        return slot.getStartTime() != null && slot.getEndTime() != null
+                && slot.getStartTime().isBefore(slot.getEndTime());
+    }
+
+    private SlotCounts countsAt(Map<String, Long> counts, String recruiterId, InterviewSlot slot) {
+        LocalDate day = slot.getStartTime().toLocalDate();
+        return new SlotCounts(counts.getOrDefault(SlotPeriod.DAY.counterId(recruiterId, day), 0L),
+                counts.getOrDefault(SlotPeriod.WEEK.counterId(recruiterId, day), 0L),
+                counts.getOrDefault(SlotPeriod.MONTH.counterId(recruiterId, day), 0L));
+    }
+
+    private List<Vacation> vacationsDuring(List<Vacation> vacations, InterviewSlot slot) {
+        List<Vacation> result = new ArrayList<>();
+        for (Vacation vacation : vacations) {
+            if (vacation.getStartDate().isBefore(slot.getEndTime())
+                    && vacation.getEndDate().isAfter(slot.getStartTime())) {
+                result.add(vacation);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Working view of a recruiter's schedule around a batch: stored slots plus the batch slots accepted so far, the
+     * vacations in the same range and the limit counters of the batch periods.
+     */
+    private final class ScheduleWindow {
+        private final String recruiterId;
+        private final Map<String, Long> counts;
+        private final SlotIntervalIndex.RecruiterSlots schedule = new SlotIntervalIndex.RecruiterSlots();
+        private final List<Vacation> vacations = new ArrayList<>();
+
+        private ScheduleWindow(String recruiterId, Map<String, Long> counts) {
+            this.recruiterId = recruiterId;
+            this.counts = counts;
+        }
+
+        SlotValidationSnapshot snapshot(Recruiter recruiter, InterviewSlot slot) {
+            return new SlotValidationSnapshot(recruiter, countsAt(counts, recruiterId, slot),
+                    schedule.findOverlapping(SlotInterval.bufferedStart(slot), SlotInterval.bufferedEnd(slot)),
+                    vacationsDuring(vacations, slot));
+        }
+
+        void add(InterviewSlot slot) {
+            schedule.put(SlotInterval.of(slot));
+            for (SlotPeriod period : SlotPeriod.values()) {
+                counts.merge(period.counterId(recruiterId, slot.getStartTime().toLocalDate()), 1L, Long::sum);
+            }
+        }
+    }
+
+    private static final class BulkWrite {
+        private final Recruiter recruiter;
+        private final List<InterviewSlot> created;
+        private final List<BulkSlotResult> results;
+
+        private BulkWrite(Recruiter recruiter, List<InterviewSlot> created, List<BulkSlotResult> results) {
+            this.recruiter = recruiter;
+            this.created = created;
+            this.results = results;
+        }
+    }
+}
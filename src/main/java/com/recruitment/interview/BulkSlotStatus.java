@@ -0,0 +1,5 @@
+package com.recruitment.interview;
+
+public enum BulkSlotStatus {
+    CREATED, CONFLICT, LIMIT_EXCEEDED, INVALID, SKIPPED
+}
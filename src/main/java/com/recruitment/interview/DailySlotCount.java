@@ -0,0 +1,14 @@
+package com.recruitment.interview;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailySlotCount {
+    private String recruiterId;
+    private String day;
+    private long count;
+}
@@ -0,0 +1,202 @@
+package com.recruitment.interview;
+
+import com.recruitment.config.KeysetCursor;
+import com.recruitment.storage.InMemoryRepository;
+import com.recruitment.storage.OrderedIndex;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort;
+
+/**
+ * {@link InterviewSlotRepository} of the {@code memory} storage, with ordered indexes matching the compound indexes
+ * declared on {@link InterviewSlot}: by start time, by recruiter and by (seniority, category).
+ */
+public class InMemoryInterviewSlotRepository extends InMemoryRepository<InterviewSlot>
+        implements InterviewSlotRepository {
+
+    private static final String ALL = "";
+
+    private final OrderedIndex<InterviewSlot> byStart = index(slot -> ALL, InterviewSlot::getStartTime);
+    private final OrderedIndex<InterviewSlot> byRecruiter = index(InterviewSlot::getRecruiterId,
+            InterviewSlot::getStartTime);
+    private final OrderedIndex<InterviewSlot> bySearch = index(slot -> searchKey(slot.getSeniority(),
+            slot.getCategory()), InterviewSlot::getStartTime);
+
+    public InMemoryInterviewSlotRepository() {
+        super(InterviewSlot::getId, InterviewSlot::setId, slot -> new InterviewSlot(slot.getId(), slot.getCategory(),
+                slot.getSeniority(), slot.getStartTime(), slot.getEndTime(), slot.isMultiCapacity(),
+                slot.getBufferMinutes(), slot.getRecruiterId(), slot.getGoogleCalendarEventId(), slot.getCapacity(),
+                slot.getBookedCount()));
+    }
+
+    @Override
+    public List<InterviewSlot> findByRecruiterId(String recruiterId) {
+        return read(() -> copies(byRecruiter.range(recruiterId, null, null, null, slot -> true, Integer.MAX_VALUE)));
+    }
+
+    @Override
+    public Stream<InterviewSlot> streamAllBy() {
+        return findAll().stream();
+    }
+
+    @Override
+    public Stream<InterviewSlot> streamByStartTimeBetween(Range<LocalDateTime> startTime, Sort sort) {
+        LocalDateTime from = startTime.getLowerBound().getValue().orElse(null);
+        List<InterviewSlot> slots = read(() -> copies(byStart.range(ALL, from, null, null,
+                slot -> startTime.contains(slot.getStartTime(), LocalDateTime::compareTo), Integer.MAX_VALUE)));
+        slots.sort(comparator(sort));
+        return slots.stream();
+    }
+
+    @Override
+    public long countByRecruiterIdAndStartTimeBetween(String recruiterId, LocalDateTime start, LocalDateTime end) {
+        // Derived Between queries exclude both ends.
+        return read(() -> byRecruiter.range(recruiterId, start, end, null, slot -> slot.getStartTime().isAfter(start),
+                Integer.MAX_VALUE).size());
+    }
+
+    @Override
+    public List<InterviewSlot> findByRecruiterIdAndStartTimeLessThanAndEndTimeGreaterThan(String recruiterId,
+            LocalDateTime endBoundary, LocalDateTime startBoundary) {
+        return read(() -> copies(byRecruiter.range(recruiterId, null, endBoundary, null,
+                slot -> slot.getEndTime() != null && slot.getEndTime().isAfter(startBoundary), Integer.MAX_VALUE)));
+    }
+
+    @Override
+    public List<InterviewSlot> findByCategoryAndSeniority(String category, Seniority seniority) {
+        return read(() -> copies(bySearch.range(searchKey(seniority, category), null, null, null, slot -> true,
+                Integer.MAX_VALUE)));
+    }
+
+    @Override
+    public List<DailySlotCount> countSlotsPerRecruiterAndDay(String timezone) {
+        ZoneId zone = ZoneId.of(timezone);
+        Map<List<String>, Long> counts = read(() -> stored().stream().collect(Collectors.groupingBy(
+                slot -> Arrays.asList(slot.getRecruiterId(), (slot.getStartTime() == null) ? null
+                        : slot.getStartTime().atZone(ZoneId.systemDefault()).withZoneSameInstant(zone).toLocalDate()
+                        .toString()),
+                Collectors.counting())));
+        List<DailySlotCount> result = new ArrayList<>();
+        counts.forEach((key, count) -> result.add(new DailySlotCount(key.get(0), key.get(1), count)));
+        return result;
+    }
+
+    @Override
+    public List<DailySlotCount> countSlotsPerDayOfRecruiter(String recruiterId, String timezone) {
+        List<DailySlotCount> result = new ArrayList<>();
+        for (DailySlotCount count : countSlotsPerRecruiterAndDay(timezone)) {
+            if (recruiterId.equals(count.getRecruiterId())) {
+                result.add(count);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<InterviewSlot> book(String slotId) {
+        return update(slotId, slot -> slot.getCapacity() != null && slot.getBookedCount() < slot.getCapacity(),
+                slot -> slot.setBookedCount(slot.getBookedCount() + 1));
+    }
+
+    @Override
+    public Optional<InterviewSlot> release(String slotId) {
+        return update(slotId, slot -> slot.getBookedCount() > 0,
+                slot -> slot.setBookedCount(slot.getBookedCount() - 1));
+    }
+
+    @Override
+    public Optional<InterviewSlot> updateDetails(InterviewSlot slot) {
+        return update(slot.getId(), stored -> slot.getCapacity() != null
+                && stored.getBookedCount() <= slot.getCapacity(), stored -> {
+                    stored.setCategory(slot.getCategory());
+                    stored.setSeniority(slot.getSeniority());
+                    stored.setStartTime(slot.getStartTime());
+                    stored.setEndTime(slot.getEndTime());
+                    stored.setMultiCapacity(slot.isMultiCapacity());
+                    stored.setBufferMinutes(slot.getBufferMinutes());
+                    stored.setCapacity(slot.getCapacity());
+                });
+    }
+
+    @Override
+    public void setCalendarEventIds(Map<String, String> eventIds) {
+        eventIds.forEach((slotId, eventId) -> update(slotId, slot -> true,
+                slot -> slot.setGoogleCalendarEventId(eventId)));
+    }
+
+    @Override
+    public List<InterviewSlot> findPage(String recruiterId, LocalDateTime from, LocalDateTime to, KeysetCursor after,
+            int limit) {
+        return read(() -> copies((recruiterId != null)
+                ? byRecruiter.range(recruiterId, from, to, after, slot -> true, limit)
+                : byStart.range(ALL, from, to, after, slot -> true, limit)));
+    }
+
+    @Override
+    public List<InterviewSlot> search(SlotSearch search, KeysetCursor after, int limit) {
+        Predicate<InterviewSlot> bookable = slot -> !search.isOnlyBookable()
+                || (slot.getCapacity() != null && slot.getBookedCount() < slot.getCapacity());
+        List<String> categories = search.getCategories();
+        if (search.getSeniority() == null || categories == null || categories.isEmpty()) {
+            return read(() -> copies(byStart.range(ALL, search.getFrom(), search.getTo(), after, slot ->
+                    (search.getSeniority() == null || search.getSeniority() == slot.getSeniority())
+                            && (categories == null || categories.isEmpty()
+                            || categories.contains(slot.getCategory()))
+                            && bookable.test(slot), limit)));
+        }
+        // One range per category, merged like the $in over the search index.
+        return read(() -> {
+            List<InterviewSlot> merged = new ArrayList<>();
+            for (String category : categories.stream().distinct().collect(Collectors.toList())) {
+                merged.addAll(bySearch.range(searchKey(search.getSeniority(), category), search.getFrom(),
+                        search.getTo(), after, bookable, limit));
+            }
+            merged.sort(bySearch.order());
+            return copies(merged.subList(0, Math.min(limit, merged.size())));
+        });
+    }
+
+    @Override
+    public List<InterviewSlot> findBusy(Collection<String> recruiterIds, LocalDateTime from, LocalDateTime to) {
+        if (recruiterIds.isEmpty()) {
+            return read(() -> copies(byStart.range(ALL, from, to, null, slot -> true, Integer.MAX_VALUE)));
+        }
+        return read(() -> {
+            List<InterviewSlot> busy = new ArrayList<>();
+            for (String recruiterId : recruiterIds) {
+                busy.addAll(byRecruiter.range(recruiterId, from, to, null, slot -> true, Integer.MAX_VALUE));
+            }
+            return copies(busy);
+        });
+    }
+
+    @Override
+    public boolean needsBookingBackfill() {
+        return read(() -> stored().stream().anyMatch(slot -> slot.getCapacity() == null));
+    }
+
+    @Override
+    public void backfillBookings(Map<String, Long> activeBookings, int defaultMultiCapacity) {
+        // The booked count is a primitive here and always present, so only capacities can be missing.
+        List<String> missing = read(() -> stored().stream().filter(slot -> slot.getCapacity() == null)
+                .map(InterviewSlot::getId).collect(Collectors.toList()));
+        for (String slotId : missing) {
+            update(slotId, slot -> slot.getCapacity() == null,
+                    slot -> slot.setCapacity(slot.isMultiCapacity() ? defaultMultiCapacity : 1));
+        }
+    }
+
+    private static List<Object> searchKey(Seniority seniority, String category) {
+        return Arrays.asList(seniority, category);
+    }
+}
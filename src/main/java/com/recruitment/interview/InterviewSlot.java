@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -12,6 +13,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Document(collection = "interview_slots")
+// Keyset pages: by recruiter, or across all recruiters, ordered by (startTime, _id).
+@CompoundIndex(name = "recruiter_start", def = "{'recruiterId': 1, 'startTime': 1, '_id': 1}")
+@CompoundIndex(name = "start", def = "{'startTime': 1, '_id': 1}")
+// Slot search: equality on seniority, $in on category, then the (startTime, _id) keyset order.
+@CompoundIndex(name = "search", def = "{'seniority': 1, 'category': 1, 'startTime': 1, '_id': 1}")
 public class InterviewSlot {
 
     @Id
@@ -24,4 +30,6 @@ public class InterviewSlot {
     private Integer bufferMinutes;
     private String recruiterId;
     private String googleCalendarEventId;
+    private Integer capacity;
+    private int bookedCount;
 }
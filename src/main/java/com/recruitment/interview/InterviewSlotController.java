@@ -1,13 +1,17 @@
 package com.recruitment.interview;
 
+import com.recruitment.config.NdjsonResponses;
 import com.recruitment.exceptions.LimitExceededException;
 import com.recruitment.exceptions.OverlapException;
 import com.recruitment.exceptions.ResourceNotFoundException;
+import com.recruitment.exceptions.ScheduleConflictException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -19,6 +23,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -26,6 +31,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class InterviewSlotController {
 
     private final InterviewSlotService slotService;
+    private final BulkSlotService bulkSlotService;
+    private final NdjsonResponses ndjsonResponses;
 
     @Operation(summary = "Get all slots")
     @ApiResponse(responseCode = "200", description = "List of slots returned")
@@ -34,6 +41,28 @@ public class InterviewSlotController {
         return slotService.findAll();
     }
 
+    @Operation(summary = "Stream all slots as NDJSON")
+    @ApiResponse(responseCode = "200", description = "Slots streamed, one JSON document per line")
+    @GetMapping(produces = NdjsonResponses.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return ndjsonResponses.stream(slotService::streamAll);
+    }
+
+    @Operation(summary = "Get a page of slots ordered by start time, optionally by recruiter and start time range")
+    @ApiResponses({@ApiResponse(responseCode = "200", description = "Page of slots returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")})
+    @GetMapping(params = "limit")
+    public ResponseEntity<?> getPage(@RequestParam int limit, @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String recruiterId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            return ResponseEntity.ok(slotService.findPage(recruiterId, from, to, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @Operation(summary = "Get slot by ID")
     @ApiResponses({@ApiResponse(responseCode = "200", description = "Slot found"),
             @ApiResponse(responseCode = "404", description = "Slot not found")})
@@ -45,7 +74,7 @@ public class InterviewSlotController {
     @Operation(summary = "Create new slot for given recruiterId")
     @ApiResponses({@ApiResponse(responseCode = "200", description = "Slot created"),
             @ApiResponse(responseCode = "404", description = "Recruiter not found"),
-            @ApiResponse(responseCode = "409", description = "Overlap or limit exceeded"),
+            @ApiResponse(responseCode = "409", description = "Overlap, limit exceeded or concurrent schedule change"),
             @ApiResponse(responseCode = "400", description = "Bad request")})
     @PostMapping
     public ResponseEntity<?> createSlot(@RequestParam String recruiterId, @RequestBody InterviewSlotDto slot) {
@@ -54,17 +83,55 @@ public class InterviewSlotController {
             return ResponseEntity.ok(created);
         } catch (ResourceNotFoundException e) {
             return ResponseEntity.notFound().build();
-        } catch (OverlapException | LimitExceededException e) {
+        } catch (OverlapException | LimitExceededException | ScheduleConflictException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
+    @Operation(summary = "Create many slots for given recruiterId from a list or a weekly recurrence")
+    @ApiResponses({@ApiResponse(responseCode = "200", description = "Per-slot results returned"),
+            @ApiResponse(responseCode = "404", description = "Recruiter not found"),
+            @ApiResponse(responseCode = "409", description = "No slot created, or concurrent schedule change"),
+            @ApiResponse(responseCode = "400", description = "Bad request")})
+    @PostMapping("/bulk")
+    public ResponseEntity<?> createSlots(@RequestParam String recruiterId, @RequestBody BulkSlotRequest request) {
+        try {
+            BulkSlotResponse response = bulkSlotService.createSlots(request, recruiterId);
+            if (response.getCreated() == 0 && response.getRejected() > 0) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+            }
+            return ResponseEntity.ok(response);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (ScheduleConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @Operation(summary = "Validate slots for given recruiterId without creating them, listing every violation")
+    @ApiResponses({@ApiResponse(responseCode = "200", description = "Per-slot violations returned"),
+            @ApiResponse(responseCode = "404", description = "Recruiter not found"),
+            @ApiResponse(responseCode = "400", description = "Bad request")})
+    @PostMapping("/validate")
+    public ResponseEntity<?> validateSlots(@RequestParam String recruiterId,
+            @RequestBody List<InterviewSlotDto> slots) {
+        try {
+            return ResponseEntity.ok(bulkSlotService.validateSlots(slots, recruiterId));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @Operation(summary = "Update an existing slot by ID")
     @ApiResponses({@ApiResponse(responseCode = "200", description = "Slot updated"),
             @ApiResponse(responseCode = "404", description = "Slot not found"),
-            @ApiResponse(responseCode = "409", description = "Overlap or limit exceeded"),
+            @ApiResponse(responseCode = "409", description = "Overlap, limit exceeded or concurrent schedule change"),
             @ApiResponse(responseCode = "400", description = "Bad request")})
     @PutMapping("/{id}")
     public ResponseEntity<?> updateSlot(@PathVariable String id, @RequestBody InterviewSlotDto dto) {
@@ -73,7 +140,7 @@ public class InterviewSlotController {
             return ResponseEntity.ok(result);
         } catch (ResourceNotFoundException e) {
             return ResponseEntity.notFound().build();
-        } catch (OverlapException | LimitExceededException e) {
+        } catch (OverlapException | LimitExceededException | ScheduleConflictException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -84,10 +151,29 @@ public class InterviewSlotController {
     @ApiResponse(responseCode = "200", description = "List of filtered slots returned")
     @GetMapping("/search")
     public List<InterviewSlot> getSlotsByCategoryAndSeniority(@RequestParam String category,
-            @RequestParam String seniority) {
+            @RequestParam Seniority seniority) {
         return slotService.getSlotsByCategoryAndSeniority(category, seniority);
     }
 
+    @Operation(summary = "Get a page of slots by categories, seniority and start time window, optionally only "
+            + "those with a free place; starts from now unless from is given")
+    @ApiResponses({@ApiResponse(responseCode = "200", description = "Page of matching slots returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, limit or seniority")})
+    @GetMapping(value = "/search", params = "limit")
+    public ResponseEntity<?> searchSlots(@RequestParam int limit, @RequestParam(required = false) String cursor,
+            @RequestParam(name = "category", required = false) List<String> categories,
+            @RequestParam(required = false) Seniority seniority,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean onlyBookable) {
+        try {
+            return ResponseEntity.ok(slotService.searchSlots(
+                    new SlotSearch(categories, seniority, from, to, onlyBookable), cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @Operation(summary = "Delete slot by ID")
     @ApiResponses({@ApiResponse(responseCode = "204", description = "Slot deleted"),
             @ApiResponse(responseCode = "404", description = "Slot not found")})
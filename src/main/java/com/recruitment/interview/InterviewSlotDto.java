@@ -17,4 +17,5 @@ public class InterviewSlotDto {
     private LocalDateTime endTime;
     private boolean multiCapacity;
     private Integer bufferMinutes;
+    private Integer capacity;
 }
\ No newline at end of file
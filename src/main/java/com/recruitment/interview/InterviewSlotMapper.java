@@ -1,8 +1,13 @@
 package com.recruitment.interview;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface InterviewSlotMapper {
+    @Mapping(target = "googleCalendarEventId", ignore = true)
+    @Mapping(target = "bookedCount", ignore = true)
     InterviewSlot toEntity(InterviewSlotDto dto);
+
+    InterviewSlot copy(InterviewSlot slot);
 }
\ No newline at end of file
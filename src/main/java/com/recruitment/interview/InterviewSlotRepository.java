@@ -1,10 +1,39 @@
 package com.recruitment.interview;
 
+import com.recruitment.config.CacheNames;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
-public interface InterviewSlotRepository extends MongoRepository<InterviewSlot, String> {
+public interface InterviewSlotRepository extends MongoRepository<InterviewSlot, String>, InterviewSlotRepositoryCustom {
+
+    @Override
+    @CacheEvict(cacheNames = CacheNames.SLOTS, key = "#p0")
+    void deleteById(String id);
+
+    // Batch writes clear the whole cache: evicting their IDs one by one would cost more than refilling it.
+    @Override
+    @CacheEvict(cacheNames = CacheNames.SLOTS, allEntries = true)
+    <S extends InterviewSlot> List<S> insert(Iterable<S> entities);
+
+    @Override
+    @CacheEvict(cacheNames = CacheNames.SLOTS, allEntries = true)
+    <S extends InterviewSlot> List<S> saveAll(Iterable<S> entities);
+
+    @Override
+    @CacheEvict(cacheNames = CacheNames.SLOTS, allEntries = true)
+    void deleteAllById(Iterable<? extends String> ids);
+
+    List<InterviewSlot> findByRecruiterId(String recruiterId);
+
+    Stream<InterviewSlot> streamAllBy();
+
+    Stream<InterviewSlot> streamByStartTimeBetween(Range<LocalDateTime> startTime, Sort sort);
 
     long countByRecruiterIdAndStartTimeBetween(String recruiterId, LocalDateTime start, LocalDateTime end);
 
@@ -14,6 +43,17 @@ public interface InterviewSlotRepository extends MongoRepository<InterviewSlot,
             LocalDateTime endBoundary,
             LocalDateTime startBoundary);
 
-    List<InterviewSlot> findByCategoryAndSeniority(String category, String seniority);
+    List<InterviewSlot> findByCategoryAndSeniority(String category, Seniority seniority);
+
+    @Aggregation(pipeline = {
+            "{ $group: { _id: { recruiterId: '$recruiterId', day: { $dateToString: { format: '%Y-%m-%d', date: '$startTime', timezone: ?0 } } }, count: { $sum: 1 } } }",
+            "{ $project: { _id: 0, recruiterId: '$_id.recruiterId', day: '$_id.day', count: 1 } }"})
+    List<DailySlotCount> countSlotsPerRecruiterAndDay(String timezone);
+
+    @Aggregation(pipeline = {
+            "{ $match: { recruiterId: ?0 } }",
+            "{ $group: { _id: { recruiterId: '$recruiterId', day: { $dateToString: { format: '%Y-%m-%d', date: '$startTime', timezone: ?1 } } }, count: { $sum: 1 } } }",
+            "{ $project: { _id: 0, recruiterId: '$_id.recruiterId', day: '$_id.day', count: 1 } }"})
+    List<DailySlotCount> countSlotsPerDayOfRecruiter(String recruiterId, String timezone);
 
 }
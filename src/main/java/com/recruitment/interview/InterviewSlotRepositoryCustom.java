@@ -0,0 +1,70 @@
+package com.recruitment.interview;
+
+import com.recruitment.config.CacheNames;
+import com.recruitment.config.KeysetCursor;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.cache.annotation.CacheEvict;
+
+public interface InterviewSlotRepositoryCustom {
+
+    /**
+     * Takes one place in the slot if {@code bookedCount < capacity}, in a single atomic round trip.
+     *
+     * @return the slot after booking, or empty when it is full or does not exist
+     */
+    @CacheEvict(cacheNames = CacheNames.SLOTS, key = "#p0")
+    Optional<InterviewSlot> book(String slotId);
+
+    /**
+     * Gives back one place taken by {@link #book(String)}; never drops the booked count below zero.
+     *
+     * @return the slot after release, or empty when nothing was booked or it does not exist
+     */
+    @CacheEvict(cacheNames = CacheNames.SLOTS, key = "#p0")
+    Optional<InterviewSlot> release(String slotId);
+
+    /**
+     * Writes the editable fields of {@code slot} without touching its booked count, unless the new capacity is
+     * below the places already booked.
+     *
+     * @return the updated slot, or empty when it does not exist or the capacity is too small
+     */
+    @CacheEvict(cacheNames = CacheNames.SLOTS, key = "#p0.id")
+    Optional<InterviewSlot> updateDetails(InterviewSlot slot);
+
+    /**
+     * Stores Google Calendar event IDs keyed by slot ID with one bulk write.
+     */
+    @CacheEvict(cacheNames = CacheNames.SLOTS, allEntries = true)
+    void setCalendarEventIds(Map<String, String> eventIds);
+
+    /**
+     * Slots ordered by start time then ID, starting after {@code after}; every argument but {@code limit} is
+     * optional. {@code [from, to)} bounds the start time.
+     */
+    List<InterviewSlot> findPage(String recruiterId, LocalDateTime from, LocalDateTime to, KeysetCursor after,
+            int limit);
+
+    /**
+     * Slots matching {@code search} in the order of {@link #findPage}. Bookable means a place is left, which the
+     * slot's own booked count tells without reading reservations.
+     */
+    List<InterviewSlot> search(SlotSearch search, KeysetCursor after, int limit);
+
+    /**
+     * Time-blocking fields of the slots starting in {@code [from, to)}, for the given recruiters or all of them when
+     * {@code recruiterIds} is empty.
+     */
+    List<InterviewSlot> findBusy(Collection<String> recruiterIds, LocalDateTime from, LocalDateTime to);
+
+    boolean needsBookingBackfill();
+
+    /**
+     * Initializes capacity and booked count of slots stored before they were tracked.
+     */
+    void backfillBookings(Map<String, Long> activeBookings, int defaultMultiCapacity);
+}
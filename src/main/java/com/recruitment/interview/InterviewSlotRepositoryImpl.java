@@ -0,0 +1,151 @@
+package com.recruitment.interview;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import com.recruitment.config.KeysetCursor;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+@RequiredArgsConstructor
+public class InterviewSlotRepositoryImpl implements InterviewSlotRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<InterviewSlot> book(String slotId) {
+        Query query = query(where("_id").is(slotId)
+                .andOperator(Criteria.expr(ComparisonOperators.valueOf("bookedCount").lessThan("capacity"))));
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, new Update().inc("bookedCount", 1),
+                FindAndModifyOptions.options().returnNew(true), InterviewSlot.class));
+    }
+
+    @Override
+    public Optional<InterviewSlot> release(String slotId) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(query(where("_id").is(slotId).and("bookedCount").gt(0)),
+                new Update().inc("bookedCount", -1), FindAndModifyOptions.options().returnNew(true),
+                InterviewSlot.class));
+    }
+
+    @Override
+    public Optional<InterviewSlot> updateDetails(InterviewSlot slot) {
+        Query query = query(where("_id").is(slot.getId()).and("bookedCount").lte(slot.getCapacity()));
+        Update update = new Update().set("category", slot.getCategory())
+                .set("seniority", slot.getSeniority())
+                .set("startTime", slot.getStartTime())
+                .set("endTime", slot.getEndTime())
+                .set("multiCapacity", slot.isMultiCapacity())
+                .set("bufferMinutes", slot.getBufferMinutes())
+                .set("capacity", slot.getCapacity());
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), InterviewSlot.class));
+    }
+
+    @Override
+    public void setCalendarEventIds(Map<String, String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, InterviewSlot.class);
+        for (Map.Entry<String, String> event : eventIds.entrySet()) {
+            bulk.updateOne(query(where("_id").is(event.getKey())),
+                    new Update().set("googleCalendarEventId", event.getValue()));
+        }
+        bulk.execute();
+    }
+
+    @Override
+    public List<InterviewSlot> findPage(String recruiterId, LocalDateTime from, LocalDateTime to, KeysetCursor after,
+            int limit) {
+        List<Criteria> filters = new ArrayList<>();
+        if (recruiterId != null) {
+            filters.add(where("recruiterId").is(recruiterId));
+        }
+        if (from != null) {
+            filters.add(where("startTime").gte(from));
+        }
+        if (to != null) {
+            filters.add(where("startTime").lt(to));
+        }
+        return page(filters, after, limit);
+    }
+
+    @Override
+    public List<InterviewSlot> search(SlotSearch search, KeysetCursor after, int limit) {
+        List<Criteria> filters = new ArrayList<>();
+        if (search.getSeniority() != null) {
+            filters.add(where("seniority").is(search.getSeniority()));
+        }
+        if (search.getCategories() != null && !search.getCategories().isEmpty()) {
+            filters.add(where("category").in(search.getCategories()));
+        }
+        if (search.getFrom() != null) {
+            filters.add(where("startTime").gte(search.getFrom()));
+        }
+        if (search.getTo() != null) {
+            filters.add(where("startTime").lt(search.getTo()));
+        }
+        if (search.isOnlyBookable()) {
+            filters.add(Criteria.expr(ComparisonOperators.valueOf("bookedCount").lessThan("capacity")));
+        }
+        return page(filters, after, limit);
+    }
+
+    private List<InterviewSlot> page(List<Criteria> filters, KeysetCursor after, int limit) {
+        if (after != null) {
+            filters.add(after.after("startTime"));
+        }
+        Query query = new Query(filters.isEmpty() ? new Criteria() : new Criteria().andOperator(filters))
+                .with(Sort.by("startTime", "_id"))
+                .limit(limit);
+        return mongoTemplate.find(query, InterviewSlot.class);
+    }
+
+    @Override
+    public List<InterviewSlot> findBusy(Collection<String> recruiterIds, LocalDateTime from, LocalDateTime to) {
+        Criteria criteria = where("startTime").gte(from).lt(to);
+        if (!recruiterIds.isEmpty()) {
+            criteria.and("recruiterId").in(recruiterIds);
+        }
+        Query query = query(criteria);
+        query.fields().include("recruiterId", "startTime", "endTime", "bufferMinutes");
+        return mongoTemplate.find(query, InterviewSlot.class);
+    }
+
+    @Override
+    public boolean needsBookingBackfill() {
+        return mongoTemplate.exists(query(new Criteria().orOperator(where("capacity").exists(false),
+                where("bookedCount").exists(false))), InterviewSlot.class);
+    }
+
+    @Override
+    public void backfillBookings(Map<String, Long> activeBookings, int defaultMultiCapacity) {
+        mongoTemplate.updateMulti(query(where("capacity").exists(false).and("multiCapacity").is(true)),
+                new Update().set("capacity", defaultMultiCapacity), InterviewSlot.class);
+        mongoTemplate.updateMulti(query(where("capacity").exists(false)), new Update().set("capacity", 1),
+                InterviewSlot.class);
+        if (!activeBookings.isEmpty()) {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, InterviewSlot.class);
+            for (Map.Entry<String, Long> booking : activeBookings.entrySet()) {
+                bulk.updateOne(query(where("_id").is(booking.getKey()).and("bookedCount").exists(false)),
+                        new Update().set("bookedCount", booking.getValue()));
+            }
+            bulk.execute();
+        }
+        mongoTemplate.updateMulti(query(where("bookedCount").exists(false)), new Update().set("bookedCount", 0),
+                InterviewSlot.class);
+    }
+}
@@ -1,54 +1,83 @@
 package com.recruitment.interview;
 
+import com.recruitment.config.CacheNames;
+import com.recruitment.config.KeysetCursor;
+import com.recruitment.config.KeysetPage;
+import com.recruitment.events.DomainEvent;
+import com.recruitment.events.DomainEventPublisher;
+import com.recruitment.events.DomainEventType;
+import com.recruitment.exceptions.OverlapException;
 import com.recruitment.exceptions.ResourceNotFoundException;
-import com.recruitment.google.calendar.GoogleCalendarService;
+import com.recruitment.google.calendar.CalendarOperation;
+import com.recruitment.google.calendar.CalendarSyncQueue;
 import com.recruitment.recruiter.Recruiter;
+import com.recruitment.recruiter.RecruiterScheduleService;
 import com.recruitment.recruiter.RecruiterService;
+import com.recruitment.recruiter.SlotCounterService;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
 
 public class InterviewSlotService {
 
-    private static final Logger log = LoggerFactory.getLogger(InterviewSlotService.class);
-
     private final InterviewSlotRepository interviewSlotRepository;
     private final RecruiterService recruiterService;
     private final InterviewSlotMapper slotMapper;
-    private final GoogleCalendarService googleCalendarService;
+    private final CalendarSyncQueue calendarSyncQueue;
+    private final SlotIntervalIndex slotIntervalIndex;
+    private final SlotCounterService slotCounterService;
+    private final RecruiterScheduleService recruiterScheduleService;
+    private final ScheduleSnapshot scheduleSnapshot;
+    private final DomainEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    public InterviewSlot createSlot(InterviewSlotDto dto, String recruiterId) {
-        Recruiter recruiter = recruiterService.findById(recruiterId)
-                .orElseThrow(() -> new ResourceNotFoundException("Recruiter not found: " + recruiterId));
+    @Value("${recruitment.slots.default-multi-capacity:10}")
+    private int defaultMultiCapacity;
 
+    @Value("${recruitment.paging.max-limit:500}")
+    private int maxPageLimit;
+
+    public InterviewSlot createSlot(InterviewSlotDto dto, String recruiterId) {
         InterviewSlot entity = slotMapper.toEntity(dto);
         entity.setRecruiterId(recruiterId);
-        recruiterService.validateNewSlot(recruiter, entity);
-
-        InterviewSlot saved = interviewSlotRepository.save(entity);
-
-        if (recruiter.getCalendarId() != null) {
-            try {
-                String eventId = googleCalendarService.createCalendarEvent(recruiter.getCalendarId(), saved);
-                saved.setGoogleCalendarEventId(eventId);
-                saved = interviewSlotRepository.save(saved);
-            } catch (Exception e) {
-                log.error("Failed to create event in Google Calendar for recruiterId {}: {}", recruiterId,
-                        e.getMessage(), e);
-            }
-        }
-        return saved;
+        entity.setCapacity(SlotCapacity.resolve(entity.isMultiCapacity(), entity.getCapacity(), defaultMultiCapacity));
+        entity.setBookedCount(0);
+        SlotWrite write = recruiterScheduleService.change(recruiterId, () -> {
+            Recruiter recruiter = recruiterService.validateSlot(recruiterId, entity, null);
+            InterviewSlot saved = writeWithEvent(DomainEventType.SLOT_CREATED,
+                    () -> interviewSlotRepository.save(entity));
+            slotIntervalIndex.put(saved);
+            scheduleSnapshot.put(saved);
+            slotCounterService.slotAdded(saved);
+            return new SlotWrite(recruiter, saved);
+        }, created -> {
+            writeWithEvent(DomainEventType.SLOT_DELETED, () -> {
+                interviewSlotRepository.deleteById(created.slot.getId());
+                return created.slot;
+            });
+            slotIntervalIndex.remove(created.slot);
+            scheduleSnapshot.remove(created.slot.getId());
+            slotCounterService.slotRemoved(created.slot);
+            entity.setId(null);
+        });
+        calendarSyncQueue.enqueue(CalendarOperation.CREATE, write.slot, write.recruiter.getCalendarId());
+        return write.slot;
     }
 
     public InterviewSlot updateSlot(String slotId, InterviewSlotDto dto) {
         InterviewSlot slot = interviewSlotRepository.findById(slotId)
                 .orElseThrow(() -> new ResourceNotFoundException("Slot not found: " + slotId));
+        InterviewSlot previous = slotMapper.copy(slot);
         boolean timeChanged =
                 !slot.getStartTime().equals(dto.getStartTime()) || !slot.getEndTime().equals(dto.getEndTime());
 
@@ -58,41 +87,51 @@ public class InterviewSlotService {
         slot.setEndTime(dto.getEndTime());
         slot.setMultiCapacity(dto.isMultiCapacity());
         slot.setBufferMinutes(dto.getBufferMinutes());
+        slot.setCapacity(SlotCapacity.resolve(dto.isMultiCapacity(), dto.getCapacity(), defaultMultiCapacity));
 
+        SlotWrite write;
         if (timeChanged) {
-            Recruiter recruiter = recruiterService.findById(slot.getRecruiterId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Recruiter not found for slot: " + slotId));
-            recruiterService.validateNewSlot(recruiter, slot);
+            write = recruiterScheduleService.change(slot.getRecruiterId(), () -> {
+                Recruiter recruiter = recruiterService.validateSlot(slot.getRecruiterId(), slot,
+                        previous.getStartTime());
+                return new SlotWrite(recruiter, saveMoved(previous, slot));
+            }, moved -> saveMoved(moved.slot, previous));
+        } else {
+            Recruiter recruiter = recruiterService.findById(slot.getRecruiterId()).orElse(null);
+            InterviewSlot saved = writeWithEvent(DomainEventType.SLOT_UPDATED, () -> updateDetails(slot));
+            slotIntervalIndex.put(saved);
+            scheduleSnapshot.put(saved);
+            recruiterScheduleService.touch(slot.getRecruiterId());
+            write = new SlotWrite(recruiter, saved);
         }
-
-        InterviewSlot saved = interviewSlotRepository.save(slot);
-
-        Recruiter recruiter = recruiterService.findById(slot.getRecruiterId()).orElse(null);
-        if (recruiter != null && recruiter.getCalendarId() != null) {
-            try {
-                googleCalendarService.updateCalendarEvent(recruiter.getCalendarId(), saved);
-            } catch (Exception e) {
-                log.error("Failed to update event in Google Calendar for slotId {}: {}", slotId, e.getMessage(), e);
-            }
+        if (write.recruiter != null) {
+            calendarSyncQueue.enqueue(CalendarOperation.UPDATE, write.slot, write.recruiter.getCalendarId());
         }
-        return saved;
+        return write.slot;
     }
 
     public void deleteSlot(String slotId) {
         InterviewSlot slot = interviewSlotRepository.findById(slotId)
                 .orElseThrow(() -> new ResourceNotFoundException("Slot not found: " + slotId));
 
+        writeWithEvent(DomainEventType.SLOT_DELETED, () -> {
+            interviewSlotRepository.deleteById(slotId);
+            return slot;
+        });
+        slotIntervalIndex.remove(slot);
+        scheduleSnapshot.remove(slotId);
+        slotCounterService.slotRemoved(slot);
+        recruiterScheduleService.touch(slot.getRecruiterId());
+
         Recruiter recruiter = recruiterService.findById(slot.getRecruiterId()).orElse(null);
-        if (recruiter != null && recruiter.getCalendarId() != null) {
-            try {
-                googleCalendarService.deleteCalendarEvent(recruiter.getCalendarId(), slot.getGoogleCalendarEventId());
-            } catch (Exception e) {
-                log.error("Failed to delete event in Google Calendar for slotId {}: {}", slotId, e.getMessage(), e);
-            }
+        if (recruiter != null) {
+            calendarSyncQueue.enqueue(CalendarOperation.DELETE, slot, recruiter.getCalendarId());
         }
-        interviewSlotRepository.deleteById(slotId);
     }
 
+    // Write paths read the stored slot directly; the repository evicts this cache on every write of an existing slot
+    // and clears it on batch writes.
+    @Cacheable(cacheNames = CacheNames.SLOTS, unless = "#result == null")
     public Optional<InterviewSlot> findById(String slotId) {
         return interviewSlotRepository.findById(slotId);
     }
@@ -101,7 +140,81 @@ public class InterviewSlotService {
         return interviewSlotRepository.findAll();
     }
 
-    public List<InterviewSlot> getSlotsByCategoryAndSeniority(String category, String seniority) {
+    public Stream<InterviewSlot> streamAll() {
+        return interviewSlotRepository.streamAllBy();
+    }
+
+    public KeysetPage<InterviewSlot> findPage(String recruiterId, LocalDateTime from, LocalDateTime to,
+            String cursor, int limit) {
+        int pageLimit = KeysetPage.limit(limit, maxPageLimit);
+        List<InterviewSlot> fetched = interviewSlotRepository.findPage(recruiterId, from, to,
+                KeysetCursor.decode(cursor), pageLimit + 1);
+        return KeysetPage.of(fetched, pageLimit, slot -> new KeysetCursor(slot.getStartTime(), slot.getId()));
+    }
+
+    /**
+     * Pages through the slots matching {@code search}, from the schedule snapshot as far as it reaches and from
+     * Mongo past its horizon; without a {@code from} only slots that have not started yet are returned.
+     */
+    public KeysetPage<InterviewSlot> searchSlots(SlotSearch search, String cursor, int limit) {
+        int pageLimit = KeysetPage.limit(limit, maxPageLimit);
+        if (search.getFrom() == null) {
+            search.setFrom(LocalDateTime.now());
+        }
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        ScheduleSnapshot.View snapshot = scheduleSnapshot.view();
+        List<InterviewSlot> fetched = (snapshot != null) ? snapshot.search(search, after, pageLimit + 1) : null;
+        if (fetched == null) {
+            fetched = interviewSlotRepository.search(search, after, pageLimit + 1);
+        } else if (fetched.size() <= pageLimit
+                && (search.getTo() == null || search.getTo().isAfter(snapshot.horizon()))) {
+            LocalDateTime rest = search.getFrom().isAfter(snapshot.horizon()) ? search.getFrom() : snapshot.horizon();
+            fetched.addAll(interviewSlotRepository.search(new SlotSearch(search.getCategories(),
+                    search.getSeniority(), rest, search.getTo(), search.isOnlyBookable()), after,
+                    pageLimit + 1 - fetched.size()));
+        }
+        return KeysetPage.of(fetched, pageLimit, slot -> new KeysetCursor(slot.getStartTime(), slot.getId()));
+    }
+
+    public List<InterviewSlot> getSlotsByCategoryAndSeniority(String category, Seniority seniority) {
         return interviewSlotRepository.findByCategoryAndSeniority(category, seniority);
     }
-}
\ No newline at end of file
+
+    private InterviewSlot saveMoved(InterviewSlot from, InterviewSlot to) {
+        InterviewSlot saved = writeWithEvent(DomainEventType.SLOT_UPDATED, () -> updateDetails(to));
+        slotIntervalIndex.put(saved);
+        scheduleSnapshot.put(saved);
+        if (!from.getStartTime().equals(saved.getStartTime())) {
+            slotCounterService.slotMoved(from.getStartTime(), saved);
+        }
+        return saved;
+    }
+
+    /**
+     * Writes a slot and queues its event in one transaction, so every committed write has its event. An undone
+     * schedule change is written the same way, with the event of the write that reverts it.
+     */
+    private InterviewSlot writeWithEvent(DomainEventType type, Supplier<InterviewSlot> write) {
+        return transactionTemplate.execute(status -> {
+            InterviewSlot slot = write.get();
+            eventPublisher.publish(DomainEvent.slot(type, slot));
+            return slot;
+        });
+    }
+
+    // Bookings change the stored slot concurrently, so edits must not write back a stale booked count.
+    private InterviewSlot updateDetails(InterviewSlot slot) {
+        return interviewSlotRepository.updateDetails(slot).orElseThrow(() -> new OverlapException(
+                "Capacity of slot " + slot.getId() + " is below its booked places or the slot was removed."));
+    }
+
+    private static final class SlotWrite {
+        private final Recruiter recruiter;
+        private final InterviewSlot slot;
+
+        private SlotWrite(Recruiter recruiter, InterviewSlot slot) {
+            this.recruiter = recruiter;
+            this.slot = slot;
+        }
+    }
+}
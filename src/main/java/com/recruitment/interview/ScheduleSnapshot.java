@@ -0,0 +1,775 @@
+package com.recruitment.interview;
+
+import com.recruitment.config.KeysetCursor;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Slots starting from yesterday up to {@code weeks} ahead, held in primitive columns ordered by start time and ID so
+ * that searches and availability can be answered without Mongo round trips or per-slot objects. Times are kept as
+ * epoch minutes of the local time; while a held slot starts or ends off a whole minute, searches are left to Mongo.
+ * <p>
+ * Writers apply every slot change to a copy and publish it with one volatile write; readers take the current
+ * {@link View} and never wait. The columns are split into chunks and the busy times into one schedule per recruiter,
+ * so a write copies only the chunk it lands in and, when the slot's times change, that recruiter's schedule; a
+ * booking costs the same on a snapshot of ten million slots as on one of ten thousand. A periodic reload picks up
+ * changes made through other nodes.
+ */
+@Component
+public class ScheduleSnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleSnapshot.class);
+    private static final Seniority[] SENIORITIES = Seniority.values();
+    // Rows per chunk after a reload; an insert into a full chunk splits it in two.
+    static final int CHUNK_ROWS = 1024;
+    static final int MAX_CHUNK_ROWS = 2 * CHUNK_ROWS;
+
+    private final InterviewSlotRepository interviewSlotRepository;
+    private final boolean enabled;
+    private final int weeks;
+    private final Object writeLock = new Object();
+    private volatile View view;
+    // Start minute of every slot in view, so that a write finds its row without a scan. Guarded by writeLock.
+    private Map<String, Integer> startsById = new HashMap<>();
+    // Changes made while a reload reads Mongo; re-applied on top of the loaded view. Guarded by writeLock.
+    private List<Row> replay;
+
+    public ScheduleSnapshot(InterviewSlotRepository interviewSlotRepository,
+            @Value("${recruitment.schedule-snapshot.enabled:true}") boolean enabled,
+            @Value("${recruitment.schedule-snapshot.weeks:8}") int weeks) {
+        this.interviewSlotRepository = interviewSlotRepository;
+        this.enabled = enabled;
+        this.weeks = weeks;
+    }
+
+    /**
+     * @return the current snapshot, or {@code null} before the first load or when disabled
+     */
+    public View view() {
+        return view;
+    }
+
+    public void put(InterviewSlot slot) {
+        apply(Row.of(slot));
+    }
+
+    public void remove(String slotId) {
+        apply(Row.removal(slotId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${recruitment.schedule-snapshot.refresh-interval-ms:60000}",
+            initialDelayString = "${recruitment.schedule-snapshot.refresh-interval-ms:60000}")
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime from = LocalDate.now().minusDays(1).atStartOfDay();
+        LocalDateTime to = from.plusDays(1 + 7L * weeks);
+        synchronized (writeLock) {
+            replay = new ArrayList<>();
+        }
+        try {
+            Builder builder = new Builder(minute(from), minute(to));
+            try (Stream<InterviewSlot> slots = interviewSlotRepository.streamByStartTimeBetween(
+                    Range.rightOpen(from, to), Sort.by("startTime", "_id"))) {
+                slots.forEach(slot -> builder.append(Row.of(slot)));
+            }
+            synchronized (writeLock) {
+                View loaded = builder.build();
+                Map<String, Integer> loadedStarts = builder.startsById;
+                for (Row row : replay) {
+                    loaded = loaded.apply(row, loadedStarts);
+                }
+                view = loaded;
+                startsById = loadedStarts;
+            }
+            log.debug("Loaded schedule snapshot of {} slots", view.size());
+        } catch (RuntimeException e) {
+            log.warn("Schedule snapshot reload failed, keeping the previous one: {}", e.getMessage());
+        } finally {
+            synchronized (writeLock) {
+                replay = null;
+            }
+        }
+    }
+
+    private void apply(Row row) {
+        synchronized (writeLock) {
+            if (replay != null) {
+                replay.add(row);
+            }
+            if (view != null) {
+                view = view.apply(row, startsById);
+            }
+        }
+    }
+
+    public static int minute(LocalDateTime time) {
+        return (int) Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    public static int ceilMinute(LocalDateTime time) {
+        return (int) -Math.floorDiv(-time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    static boolean isWholeMinute(LocalDateTime time) {
+        return time.getSecond() == 0 && time.getNano() == 0;
+    }
+
+    static LocalDateTime timeOf(int minute) {
+        return LocalDateTime.ofEpochSecond(minute * 60L, 0, ZoneOffset.UTC);
+    }
+
+    @FunctionalInterface
+    public interface IntervalConsumer {
+        void accept(int startMinute, int endMinute);
+    }
+
+    /**
+     * One immutable snapshot version: the slots in (start, ID) order across {@code chunks}, and the busy times of
+     * recruiter {@code r} in {@code schedules[r]}. Versions share every chunk and schedule a write did not touch.
+     */
+    public static final class View {
+
+        private final int windowStart;
+        private final int horizon;
+        private final int size;
+        // Held slots not starting and ending on a whole minute, whose times the columns round.
+        private final int inexact;
+        private final Chunk[] chunks;
+        private final RecruiterSchedule[] schedules;
+        private final Dictionary recruiterIds;
+        private final Dictionary categoryNames;
+
+        private View(int windowStart, int horizon, int size, int inexact, Chunk[] chunks,
+                RecruiterSchedule[] schedules, Dictionary recruiterIds, Dictionary categoryNames) {
+            this.windowStart = windowStart;
+            this.horizon = horizon;
+            this.size = size;
+            this.inexact = inexact;
+            this.chunks = chunks;
+            this.schedules = schedules;
+            this.recruiterIds = recruiterIds;
+            this.categoryNames = categoryNames;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        int chunkCount() {
+            return chunks.length;
+        }
+
+        /**
+         * Start of the first slot not held: every slot starting before it, and none after, is in the snapshot.
+         */
+        public LocalDateTime horizon() {
+            return timeOf(horizon);
+        }
+
+        /**
+         * Whether every slot starting in {@code [from, to)} is held.
+         */
+        public boolean covers(LocalDateTime from, LocalDateTime to) {
+            return minute(from) >= windowStart && ceilMinute(to) <= horizon;
+        }
+
+        /**
+         * Same result as {@link InterviewSlotRepositoryCustom#search} for the slots starting before the
+         * {@link #horizon()}, or {@code null} when the snapshot cannot tell which slots before it match. A page that
+         * is not full and whose search reaches past the horizon continues with the slots starting at the horizon.
+         */
+        public List<InterviewSlot> search(SlotSearch search, KeysetCursor after, int limit) {
+            if (search.getFrom() == null || inexact > 0) {
+                return null;
+            }
+            LocalDateTime end = timeOf(horizon);
+            if (!search.getFrom().isBefore(end)) {
+                return new ArrayList<>();
+            }
+            if (minute(search.getFrom()) < windowStart) {
+                return null;
+            }
+            // Every held slot starts on a whole minute, so rounding the bounds up keeps them exact.
+            int from = ceilMinute(search.getFrom());
+            int to = (search.getTo() != null && search.getTo().isBefore(end)) ? ceilMinute(search.getTo()) : horizon;
+            int seniority = (search.getSeniority() != null) ? search.getSeniority().ordinal() : -1;
+            int[] wanted = null;
+            if (search.getCategories() != null && !search.getCategories().isEmpty()) {
+                wanted = new int[search.getCategories().size()];
+                int known = 0;
+                for (String name : search.getCategories()) {
+                    // -1 stands for slots without a category, so a name no held slot has is left out instead.
+                    int code = categoryNames.codeOf(name);
+                    if (code >= 0 || name == null) {
+                        wanted[known++] = code;
+                    }
+                }
+                if (known == 0) {
+                    return new ArrayList<>();
+                }
+                wanted = Arrays.copyOf(wanted, known);
+            }
+            int afterStart = Integer.MIN_VALUE;
+            String afterId = null;
+            // Slots always have a start, so a cursor without a time is before all of them.
+            if (after != null && after.getTime() != null) {
+                if (!after.getTime().isBefore(end)) {
+                    return new ArrayList<>();
+                }
+                if (!isWholeMinute(after.getTime())) {
+                    return null;
+                }
+                afterStart = minute(after.getTime());
+                afterId = after.getId();
+            }
+
+            List<InterviewSlot> result = new ArrayList<>(Math.min(limit, 64));
+            int first = Math.max(from, afterStart);
+            for (int c = firstChunkFrom(first); c < chunks.length; c++) {
+                Chunk chunk = chunks[c];
+                for (int i = chunk.lowerBound(first, null); i < chunk.size; i++) {
+                    if (chunk.starts[i] >= to) {
+                        return result;
+                    }
+                    if (chunk.starts[i] == afterStart && chunk.ids[i].compareTo(afterId) <= 0) {
+                        continue;
+                    }
+                    if ((seniority >= 0 && chunk.seniorities[i] != seniority) || (wanted != null
+                            && !contains(wanted, chunk.categories[i])) || (search.isOnlyBookable()
+                            && chunk.booked[i] >= chunk.capacities[i])) {
+                        continue;
+                    }
+                    result.add(slotAt(chunk, i));
+                    if (result.size() == limit) {
+                        return result;
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Calls back with the buffered start and end, in epoch minutes, of every slot of the recruiter starting in
+         * {@code [from, to)}.
+         */
+        public void forEachBusy(String recruiterId, LocalDateTime from, LocalDateTime to, IntervalConsumer consumer) {
+            int recruiter = recruiterIds.codeOf(recruiterId);
+            if (recruiter < 0 || recruiter >= schedules.length || schedules[recruiter] == null) {
+                return;
+            }
+            RecruiterSchedule schedule = schedules[recruiter];
+            int last = ceilMinute(to);
+            for (int k = schedule.lowerBound(minute(from), null); k < schedule.size(); k++) {
+                if (schedule.starts[k] >= last) {
+                    break;
+                }
+                consumer.accept(schedule.busyStarts[k], schedule.busyEnds[k]);
+            }
+        }
+
+        /**
+         * This view with the row applied; {@code startsById} is updated to match.
+         */
+        View apply(Row row, Map<String, Integer> startsById) {
+            Integer previousStart = startsById.get(row.id);
+            boolean keep = !row.removed && row.start >= windowStart && row.start < horizon;
+            if (previousStart == null && !keep) {
+                return this;
+            }
+            Dictionary recruiters = keep ? recruiterIds.with(row.recruiterId) : recruiterIds;
+            Dictionary categories = keep ? categoryNames.with(row.category) : categoryNames;
+            int recruiter = keep ? recruiters.codeOf(row.recruiterId) : -1;
+            int category = keep ? categories.codeOf(row.category) : -1;
+            Chunk[] newChunks = chunks;
+            RecruiterSchedule[] newSchedules = (recruiters.size() > schedules.length)
+                    ? Arrays.copyOf(schedules, recruiters.size()) : schedules;
+            int newSize = size;
+            int newInexact = inexact;
+
+            if (previousStart != null) {
+                int c = chunkOf(chunks, previousStart, row.id);
+                Chunk chunk = chunks[c];
+                int i = chunk.lowerBound(previousStart, row.id);
+                int oldRecruiter = chunk.recruiters[i];
+                boolean sameTimes = keep && oldRecruiter == recruiter && chunk.starts[i] == row.start
+                        && chunk.ends[i] == row.end && chunk.buffers[i] == row.buffer;
+                if (sameTimes) {
+                    // Bookings and calendar IDs: the row keeps its place and its recruiter's schedule.
+                    newChunks = chunks.clone();
+                    newChunks[c] = chunk.replace(i, row, recruiter, category);
+                    newInexact += (chunk.exact[i] ? 0 : -1) + (row.exact ? 0 : 1);
+                    return new View(windowStart, horizon, size, newInexact, newChunks, newSchedules, recruiters,
+                            categories);
+                }
+                Chunk shrunk = chunk.remove(i);
+                newChunks = (shrunk.size == 0) ? without(chunks, c) : with(chunks, c, shrunk);
+                if (oldRecruiter >= 0) {
+                    newSchedules = (newSchedules == schedules) ? schedules.clone() : newSchedules;
+                    newSchedules[oldRecruiter] = newSchedules[oldRecruiter].remove(previousStart, row.id);
+                }
+                startsById.remove(row.id);
+                newSize--;
+                newInexact -= chunk.exact[i] ? 0 : 1;
+            }
+            if (keep) {
+                newChunks = insert(newChunks, row, recruiter, category);
+                if (recruiter >= 0) {
+                    newSchedules = (newSchedules == schedules) ? schedules.clone() : newSchedules;
+                    RecruiterSchedule schedule = newSchedules[recruiter];
+                    newSchedules[recruiter] = ((schedule != null) ? schedule : RecruiterSchedule.EMPTY).insert(row);
+                }
+                startsById.put(row.id, row.start);
+                newSize++;
+                newInexact += row.exact ? 0 : 1;
+            }
+            return new View(windowStart, horizon, newSize, newInexact, newChunks, newSchedules, recruiters,
+                    categories);
+        }
+
+        private InterviewSlot slotAt(Chunk chunk, int i) {
+            return new InterviewSlot(chunk.ids[i], categoryNames.nameOf(chunk.categories[i]),
+                    (chunk.seniorities[i] >= 0) ? SENIORITIES[chunk.seniorities[i]] : null, timeOf(chunk.starts[i]),
+                    timeOf(chunk.ends[i]), chunk.multiCapacity[i], (chunk.buffers[i] >= 0) ? chunk.buffers[i] : null,
+                    recruiterIds.nameOf(chunk.recruiters[i]), chunk.eventIds[i], chunk.capacities[i],
+                    chunk.booked[i]);
+        }
+
+        // First chunk whose last row starts at or after the minute.
+        private int firstChunkFrom(int minute) {
+            int low = 0;
+            int high = chunks.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (chunks[mid].starts[chunks[mid].size - 1] < minute) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // Chunk holding the (start, ID) key, or the one a new row with that key goes into.
+        private static int chunkOf(Chunk[] chunks, int start, String id) {
+            int low = 0;
+            int high = chunks.length - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (chunks[mid].isBefore(chunks[mid].size - 1, start, id)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private static Chunk[] insert(Chunk[] chunks, Row row, int recruiter, int category) {
+            if (chunks.length == 0) {
+                return new Chunk[] {Chunk.EMPTY.insert(0, row, recruiter, category)};
+            }
+            int c = chunkOf(chunks, row.start, row.id);
+            Chunk grown = chunks[c].insert(chunks[c].lowerBound(row.start, row.id), row, recruiter, category);
+            if (grown.size <= MAX_CHUNK_ROWS) {
+                return with(chunks, c, grown);
+            }
+            Chunk[] split = new Chunk[chunks.length + 1];
+            System.arraycopy(chunks, 0, split, 0, c);
+            split[c] = grown.slice(0, grown.size / 2);
+            split[c + 1] = grown.slice(grown.size / 2, grown.size);
+            System.arraycopy(chunks, c + 1, split, c + 2, chunks.length - c - 1);
+            return split;
+        }
+
+        private static Chunk[] with(Chunk[] chunks, int c, Chunk chunk) {
+            Chunk[] copy = chunks.clone();
+            copy[c] = chunk;
+            return copy;
+        }
+
+        private static Chunk[] without(Chunk[] chunks, int c) {
+            Chunk[] copy = new Chunk[chunks.length - 1];
+            System.arraycopy(chunks, 0, copy, 0, c);
+            System.arraycopy(chunks, c + 1, copy, c, chunks.length - c - 1);
+            return copy;
+        }
+
+        private static boolean contains(int[] codes, int code) {
+            for (int candidate : codes) {
+                if (candidate == code) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Immutable columns of up to {@link #MAX_CHUNK_ROWS} consecutive slots. Row {@code i} is described by the i-th
+     * entry of every column; every change returns a copy.
+     */
+    private static final class Chunk {
+
+        static final Chunk EMPTY = new Chunk(0);
+
+        private final int size;
+        private final String[] ids;
+        private final int[] starts;
+        private final int[] ends;
+        private final int[] buffers;
+        private final int[] recruiters;
+        private final int[] categories;
+        private final byte[] seniorities;
+        private final int[] booked;
+        private final int[] capacities;
+        private final boolean[] multiCapacity;
+        private final String[] eventIds;
+        private final boolean[] exact;
+
+        private Chunk(int size) {
+            this.size = size;
+            ids = new String[size];
+            starts = new int[size];
+            ends = new int[size];
+            buffers = new int[size];
+            recruiters = new int[size];
+            categories = new int[size];
+            seniorities = new byte[size];
+            booked = new int[size];
+            capacities = new int[size];
+            multiCapacity = new boolean[size];
+            eventIds = new String[size];
+            exact = new boolean[size];
+        }
+
+        // Whether row i sorts before the (start, ID) key; a null ID sorts before every row of the same start.
+        boolean isBefore(int i, int start, String id) {
+            return starts[i] < start || (starts[i] == start && id != null && ids[i].compareTo(id) < 0);
+        }
+
+        int lowerBound(int start, String id) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (isBefore(mid, start, id)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        Chunk replace(int i, Row row, int recruiter, int category) {
+            Chunk copy = new Chunk(size);
+            copy.copy(this, 0, 0, size);
+            copy.set(i, row, recruiter, category);
+            return copy;
+        }
+
+        Chunk insert(int i, Row row, int recruiter, int category) {
+            Chunk copy = new Chunk(size + 1);
+            copy.copy(this, 0, 0, i);
+            copy.set(i, row, recruiter, category);
+            copy.copy(this, i, i + 1, size - i);
+            return copy;
+        }
+
+        Chunk remove(int i) {
+            Chunk copy = new Chunk(size - 1);
+            copy.copy(this, 0, 0, i);
+            copy.copy(this, i + 1, i, size - i - 1);
+            return copy;
+        }
+
+        Chunk slice(int from, int to) {
+            Chunk copy = new Chunk(to - from);
+            copy.copy(this, from, 0, to - from);
+            return copy;
+        }
+
+        void set(int i, Row row, int recruiter, int category) {
+            ids[i] = row.id;
+            starts[i] = row.start;
+            ends[i] = row.end;
+            buffers[i] = row.buffer;
+            recruiters[i] = recruiter;
+            categories[i] = category;
+            seniorities[i] = row.seniority;
+            booked[i] = row.booked;
+            capacities[i] = row.capacity;
+            multiCapacity[i] = row.multiCapacity;
+            eventIds[i] = row.eventId;
+            exact[i] = row.exact;
+        }
+
+        private void copy(Chunk source, int from, int to, int length) {
+            System.arraycopy(source.ids, from, ids, to, length);
+            System.arraycopy(source.starts, from, starts, to, length);
+            System.arraycopy(source.ends, from, ends, to, length);
+            System.arraycopy(source.buffers, from, buffers, to, length);
+            System.arraycopy(source.recruiters, from, recruiters, to, length);
+            System.arraycopy(source.categories, from, categories, to, length);
+            System.arraycopy(source.seniorities, from, seniorities, to, length);
+            System.arraycopy(source.booked, from, booked, to, length);
+            System.arraycopy(source.capacities, from, capacities, to, length);
+            System.arraycopy(source.multiCapacity, from, multiCapacity, to, length);
+            System.arraycopy(source.eventIds, from, eventIds, to, length);
+            System.arraycopy(source.exact, from, exact, to, length);
+        }
+    }
+
+    /**
+     * Immutable (start, ID) ordered starts and buffered busy intervals of one recruiter's slots.
+     */
+    private static final class RecruiterSchedule {
+
+        static final RecruiterSchedule EMPTY = new RecruiterSchedule(new String[0], new int[0], new int[0],
+                new int[0]);
+
+        private final String[] ids;
+        private final int[] starts;
+        private final int[] busyStarts;
+        private final int[] busyEnds;
+
+        private RecruiterSchedule(String[] ids, int[] starts, int[] busyStarts, int[] busyEnds) {
+            this.ids = ids;
+            this.starts = starts;
+            this.busyStarts = busyStarts;
+            this.busyEnds = busyEnds;
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        int lowerBound(int start, String id) {
+            int low = 0;
+            int high = ids.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] < start || (starts[mid] == start && id != null && ids[mid].compareTo(id) < 0)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        RecruiterSchedule insert(Row row) {
+            int k = lowerBound(row.start, row.id);
+            int length = ids.length + 1;
+            RecruiterSchedule copy = new RecruiterSchedule(new String[length], new int[length], new int[length],
+                    new int[length]);
+            copy.copy(this, 0, 0, k);
+            copy.ids[k] = row.id;
+            copy.starts[k] = row.start;
+            copy.busyStarts[k] = row.start - Math.max(row.buffer, 0);
+            copy.busyEnds[k] = row.end + Math.max(row.buffer, 0);
+            copy.copy(this, k, k + 1, ids.length - k);
+            return copy;
+        }
+
+        RecruiterSchedule remove(int start, String id) {
+            int k = lowerBound(start, id);
+            int length = ids.length - 1;
+            RecruiterSchedule copy = new RecruiterSchedule(new String[length], new int[length], new int[length],
+                    new int[length]);
+            copy.copy(this, 0, 0, k);
+            copy.copy(this, k + 1, k, length - k);
+            return copy;
+        }
+
+        private void copy(RecruiterSchedule source, int from, int to, int length) {
+            System.arraycopy(source.ids, from, ids, to, length);
+            System.arraycopy(source.starts, from, starts, to, length);
+            System.arraycopy(source.busyStarts, from, busyStarts, to, length);
+            System.arraycopy(source.busyEnds, from, busyEnds, to, length);
+        }
+    }
+
+    /**
+     * Collects rows already in (start, ID) order into full chunks and per-recruiter schedules.
+     */
+    private static final class Builder {
+
+        private final int windowStart;
+        private final int horizon;
+        private final List<Chunk> chunks = new ArrayList<>();
+        private final Map<String, Integer> startsById = new HashMap<>();
+        private Chunk current = new Chunk(CHUNK_ROWS);
+        private int filled;
+        private int size;
+        private int inexact;
+        private Dictionary recruiterIds = Dictionary.EMPTY;
+        private Dictionary categoryNames = Dictionary.EMPTY;
+
+        Builder(int windowStart, int horizon) {
+            this.windowStart = windowStart;
+            this.horizon = horizon;
+        }
+
+        void append(Row row) {
+            if (row.removed) {
+                return;
+            }
+            recruiterIds = recruiterIds.with(row.recruiterId);
+            categoryNames = categoryNames.with(row.category);
+            current.set(filled++, row, recruiterIds.codeOf(row.recruiterId), categoryNames.codeOf(row.category));
+            if (filled == CHUNK_ROWS) {
+                chunks.add(current);
+                current = new Chunk(CHUNK_ROWS);
+                filled = 0;
+            }
+            startsById.put(row.id, row.start);
+            size++;
+            inexact += row.exact ? 0 : 1;
+        }
+
+        View build() {
+            if (filled > 0) {
+                chunks.add(current.slice(0, filled));
+            }
+            int[] counts = new int[recruiterIds.size()];
+            for (Chunk chunk : chunks) {
+                for (int i = 0; i < chunk.size; i++) {
+                    if (chunk.recruiters[i] >= 0) {
+                        counts[chunk.recruiters[i]]++;
+                    }
+                }
+            }
+            RecruiterSchedule[] schedules = new RecruiterSchedule[counts.length];
+            for (int r = 0; r < counts.length; r++) {
+                schedules[r] = new RecruiterSchedule(new String[counts[r]], new int[counts[r]], new int[counts[r]],
+                        new int[counts[r]]);
+            }
+            int[] next = new int[counts.length];
+            for (Chunk chunk : chunks) {
+                for (int i = 0; i < chunk.size; i++) {
+                    int r = chunk.recruiters[i];
+                    if (r >= 0) {
+                        RecruiterSchedule schedule = schedules[r];
+                        int k = next[r]++;
+                        schedule.ids[k] = chunk.ids[i];
+                        schedule.starts[k] = chunk.starts[i];
+                        schedule.busyStarts[k] = chunk.starts[i] - Math.max(chunk.buffers[i], 0);
+                        schedule.busyEnds[k] = chunk.ends[i] + Math.max(chunk.buffers[i], 0);
+                    }
+                }
+            }
+            return new View(windowStart, horizon, size, inexact, chunks.toArray(new Chunk[0]), schedules,
+                    recruiterIds, categoryNames);
+        }
+    }
+
+    /**
+     * Append-only string codes shared between views; adding a name copies it.
+     */
+    private static final class Dictionary {
+
+        static final Dictionary EMPTY = new Dictionary(new String[0], Map.of());
+
+        private final String[] names;
+        private final Map<String, Integer> codes;
+
+        private Dictionary(String[] names, Map<String, Integer> codes) {
+            this.names = names;
+            this.codes = codes;
+        }
+
+        int size() {
+            return names.length;
+        }
+
+        int codeOf(String name) {
+            Integer code = (name != null) ? codes.get(name) : null;
+            return (code != null) ? code : -1;
+        }
+
+        String nameOf(int code) {
+            return (code >= 0) ? names[code] : null;
+        }
+
+        Dictionary with(String name) {
+            if (name == null || codes.containsKey(name)) {
+                return this;
+            }
+            Map<String, Integer> grown = new HashMap<>(codes);
+            grown.put(name, names.length);
+            String[] all = Arrays.copyOf(names, names.length + 1);
+            all[names.length] = name;
+            return new Dictionary(all, grown);
+        }
+    }
+
+    private static final class Row {
+
+        private final String id;
+        private final boolean removed;
+        private final int start;
+        private final int end;
+        private final int buffer;
+        private final String recruiterId;
+        private final String category;
+        private final byte seniority;
+        private final int booked;
+        private final int capacity;
+        private final boolean multiCapacity;
+        private final String eventId;
+        private final boolean exact;
+
+        private Row(String id, boolean removed, int start, int end, int buffer, String recruiterId, String category,
+                byte seniority, int booked, int capacity, boolean multiCapacity, String eventId, boolean exact) {
+            this.id = id;
+            this.removed = removed;
+            this.start = start;
+            this.end = end;
+            this.buffer = buffer;
+            this.recruiterId = recruiterId;
+            this.category = category;
+            this.seniority = seniority;
+            this.booked = booked;
+            this.capacity = capacity;
+            this.multiCapacity = multiCapacity;
+            this.eventId = eventId;
+            this.exact = exact;
+        }
+
+        static Row of(InterviewSlot slot) {
+            if (slot.getId() == null || slot.getStartTime() == null || slot.getEndTime() == null) {
+                return removal(slot.getId());
+            }
+            return new Row(slot.getId(), false, minute(slot.getStartTime()), ceilMinute(slot.getEndTime()),
+                    (slot.getBufferMinutes() != null) ? slot.getBufferMinutes() : -1, slot.getRecruiterId(),
+                    slot.getCategory(), (byte) ((slot.getSeniority() != null) ? slot.getSeniority().ordinal() : -1),
+                    slot.getBookedCount(), (slot.getCapacity() != null) ? slot.getCapacity() : 1,
+                    slot.isMultiCapacity(), slot.getGoogleCalendarEventId(),
+                    isWholeMinute(slot.getStartTime()) && isWholeMinute(slot.getEndTime()));
+        }
+
+        static Row removal(String id) {
+            return new Row(id, true, 0, 0, -1, null, null, (byte) -1, 0, 0, false, null, true);
+        }
+    }
+}
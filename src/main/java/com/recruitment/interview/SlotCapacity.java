@@ -0,0 +1,24 @@
+package com.recruitment.interview;
+
+final class SlotCapacity {
+
+    private SlotCapacity() {
+    }
+
+    /**
+     * Single-capacity slots hold exactly one booking; multi-capacity slots hold the requested number, or
+     * {@code defaultMultiCapacity} when none was given.
+     */
+    static int resolve(boolean multiCapacity, Integer requested, int defaultMultiCapacity) {
+        if (!multiCapacity) {
+            return 1;
+        }
+        if (requested == null) {
+            return defaultMultiCapacity;
+        }
+        if (requested < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1.");
+        }
+        return requested;
+    }
+}
@@ -0,0 +1,30 @@
+package com.recruitment.interview;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class SlotInterval {
+    private final String id;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    private final boolean multiCapacity;
+
+    public static SlotInterval of(InterviewSlot slot) {
+        return new SlotInterval(slot.getId(), slot.getStartTime(), slot.getEndTime(), slot.isMultiCapacity());
+    }
+
+    public static LocalDateTime bufferedStart(InterviewSlot slot) {
+        return slot.getStartTime().minusMinutes(bufferOf(slot));
+    }
+
+    public static LocalDateTime bufferedEnd(InterviewSlot slot) {
+        return slot.getEndTime().plusMinutes(bufferOf(slot));
+    }
+
+    private static int bufferOf(InterviewSlot slot) {
+        return (slot.getBufferMinutes() != null) ? slot.getBufferMinutes() : 0;
+    }
+}
@@ -0,0 +1,142 @@
+package com.recruitment.interview;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SlotIntervalIndex {
+
+    private final InterviewSlotRepository interviewSlotRepository;
+    private final Duration maxAge;
+    private final ConcurrentMap<String, RecruiterSlots> recruiters = new ConcurrentHashMap<>();
+
+    public SlotIntervalIndex(InterviewSlotRepository interviewSlotRepository,
+            @Value("${recruitment.slot-index.max-age:5m}") Duration maxAge) {
+        this.interviewSlotRepository = interviewSlotRepository;
+        this.maxAge = maxAge;
+    }
+
+    public List<SlotInterval> findOverlapping(String recruiterId, LocalDateTime start, LocalDateTime end) {
+        return slotsOf(recruiterId).findOverlapping(start, end);
+    }
+
+    public void put(InterviewSlot slot) {
+        recruiters.computeIfPresent(slot.getRecruiterId(), (id, slots) -> {
+            // Skipped like in load(): a slot without times takes no time and cannot be ordered.
+            if (slot.getStartTime() != null && slot.getEndTime() != null) {
+                slots.put(SlotInterval.of(slot));
+            } else {
+                slots.remove(slot.getId());
+            }
+            return slots;
+        });
+    }
+
+    public void remove(InterviewSlot slot) {
+        recruiters.computeIfPresent(slot.getRecruiterId(), (id, slots) -> {
+            slots.remove(slot.getId());
+            return slots;
+        });
+    }
+
+    /**
+     * Drops the recruiter's entry unless it was committed at {@code version}, so it is reloaded with changes made
+     * through other nodes.
+     */
+    public void syncVersion(String recruiterId, long version) {
+        recruiters.computeIfPresent(recruiterId, (id, slots) -> slots.version == version ? slots : null);
+    }
+
+    public void commitVersion(String recruiterId, long version) {
+        recruiters.computeIfPresent(recruiterId, (id, slots) -> {
+            slots.version = version;
+            return slots;
+        });
+    }
+
+    public void invalidate(String recruiterId) {
+        recruiters.remove(recruiterId);
+    }
+
+    public void invalidateAll() {
+        recruiters.clear();
+    }
+
+    private RecruiterSlots slotsOf(String recruiterId) {
+        RecruiterSlots slots = recruiters.get(recruiterId);
+        if (slots != null && slots.isExpired(maxAge)) {
+            recruiters.remove(recruiterId, slots);
+        }
+        // Loading inside computeIfAbsent makes concurrent put/remove calls wait for the rebuild instead of being lost.
+        return recruiters.computeIfAbsent(recruiterId, this::load);
+    }
+
+    private RecruiterSlots load(String recruiterId) {
+        RecruiterSlots slots = new RecruiterSlots();
+        for (InterviewSlot slot : interviewSlotRepository.findByRecruiterId(recruiterId)) {
+            if (slot.getStartTime() != null && slot.getEndTime() != null) {
+                slots.put(SlotInterval.of(slot));
+            }
+        }
+        return slots;
+    }
+
+    static final class RecruiterSlots {
+
+        private static final Comparator<SlotInterval> ORDER = Comparator.comparing(SlotInterval::getStartTime)
+                .thenComparing(SlotInterval::getId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+        private final NavigableSet<SlotInterval> byStart = new TreeSet<>(ORDER);
+        private final Map<String, SlotInterval> byId = new HashMap<>();
+        private final long loadedAt = System.nanoTime();
+        private Duration longest = Duration.ZERO;
+        private volatile long version = -1;
+
+        synchronized void put(SlotInterval interval) {
+            SlotInterval previous = byId.put(interval.getId(), interval);
+            if (previous != null) {
+                byStart.remove(previous);
+            }
+            byStart.add(interval);
+            Duration length = Duration.between(interval.getStartTime(), interval.getEndTime());
+            if (length.compareTo(longest) > 0) {
+                longest = length;
+            }
+        }
+
+        synchronized void remove(String slotId) {
+            SlotInterval previous = byId.remove(slotId);
+            if (previous != null) {
+                byStart.remove(previous);
+            }
+        }
+
+        // Only slots starting within one "longest slot" before the window can still reach into it.
+        synchronized List<SlotInterval> findOverlapping(LocalDateTime start, LocalDateTime end) {
+            SlotInterval from = new SlotInterval(null, start.minus(longest), start, false);
+            SlotInterval to = new SlotInterval(null, end, end, false);
+            List<SlotInterval> result = new ArrayList<>();
+            for (SlotInterval candidate : byStart.subSet(from, true, to, false)) {
+                if (candidate.getEndTime().isAfter(start)) {
+                    result.add(candidate);
+                }
+            }
+            return result;
+        }
+
+        boolean isExpired(Duration maxAge) {
+            return System.nanoTime() - loadedAt > maxAge.toNanos();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.recruitment.interview;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotRecurrenceDto {
+    private LocalDate firstDay;
+    private int weeks;
+    private List<DayOfWeek> daysOfWeek;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private Integer slotMinutes;
+    private String category;
+    private Seniority seniority;
+    private boolean multiCapacity;
+    private Integer bufferMinutes;
+    private Integer capacity;
+}
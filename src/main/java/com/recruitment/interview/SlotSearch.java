@@ -0,0 +1,23 @@
+package com.recruitment.interview;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Filters of the candidate-facing slot search. Empty or {@code null} fields do not filter; {@code [from, to)} bounds
+ * the start time.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotSearch {
+
+    private List<String> categories;
+    private Seniority seniority;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private boolean onlyBookable;
+}
@@ -0,0 +1,32 @@
+package com.recruitment.kafka;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/kafka/dead-letters")
+public class DeadLetterController {
+
+    private final DeadLetterReplayService replayService;
+
+    @Operation(summary = "Send parked schedule events back to the main topic")
+    @ApiResponses({@ApiResponse(responseCode = "200", description = "Number of replayed events returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid limit")})
+    @PostMapping("/replay")
+    public ResponseEntity<?> replay(@RequestParam(defaultValue = "1000") int limit) {
+        try {
+            return ResponseEntity.ok(Map.of("replayed", replayService.replay(limit)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.recruitment.kafka;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Sends parked schedule events from the dead-letter topic back to the main topic, unchanged and with their key.
+ * Progress is kept as the offsets of a dedicated consumer group, so every parked record is replayed once.
+ */
+@Service
+public class DeadLetterReplayService {
+
+    private final ConsumerFactory<String, byte[]> rawConsumerFactory;
+    private final KafkaTemplate<String, Object> forwardingKafkaTemplate;
+    private final String topic;
+    private final String deadLetterTopic;
+    private final String groupId;
+    private final Duration pollTimeout;
+
+    public DeadLetterReplayService(ConsumerFactory<String, byte[]> rawConsumerFactory,
+            KafkaTemplate<String, Object> forwardingKafkaTemplate,
+            @Value("${recruitment.events.topic:schedule-events}") String topic,
+            @Value("${recruitment.events.replay.group-id:schedule-events-replay}") String groupId,
+            @Value("${recruitment.events.replay.poll-timeout:2s}") Duration pollTimeout) {
+        this.rawConsumerFactory = rawConsumerFactory;
+        this.forwardingKafkaTemplate = forwardingKafkaTemplate;
+        this.topic = topic;
+        this.deadLetterTopic = topic + "-failed-dlt";
+        this.groupId = groupId;
+        this.pollTimeout = pollTimeout;
+    }
+
+    /**
+     * Replays up to {@code limit} parked records, oldest first per partition.
+     *
+     * @return the number of records replayed
+     */
+    public int replay(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        try (Consumer<String, byte[]> consumer = rawConsumerFactory.createConsumer(groupId, "replay")) {
+            List<TopicPartition> partitions = new ArrayList<>();
+            for (PartitionInfo partition : consumer.partitionsFor(deadLetterTopic)) {
+                partitions.add(new TopicPartition(deadLetterTopic, partition.partition()));
+            }
+            if (partitions.isEmpty()) {
+                return 0;
+            }
+            consumer.assign(partitions);
+            Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(new HashSet<>(partitions));
+            for (TopicPartition partition : partitions) {
+                OffsetAndMetadata offset = committed.get(partition);
+                if (offset == null) {
+                    consumer.seekToBeginning(List.of(partition));
+                } else {
+                    consumer.seek(partition, offset.offset());
+                }
+            }
+
+            Map<TopicPartition, OffsetAndMetadata> replayed = new HashMap<>();
+            List<CompletableFuture<?>> sends = new ArrayList<>();
+            while (sends.size() < limit) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(pollTimeout);
+                if (records.isEmpty()) {
+                    break;
+                }
+                for (ConsumerRecord<String, byte[]> record : records) {
+                    if (sends.size() == limit) {
+                        break;
+                    }
+                    sends.add(forwardingKafkaTemplate.send(
+                            new ProducerRecord<>(topic, record.key(), record.value())));
+                    replayed.put(new TopicPartition(record.topic(), record.partition()),
+                            new OffsetAndMetadata(record.offset() + 1));
+                }
+            }
+            CompletableFuture.allOf(sends.toArray(new CompletableFuture[0])).join();
+            if (!replayed.isEmpty()) {
+                consumer.commitSync(replayed);
+            }
+            return sends.size();
+        }
+    }
+}
@@ -1,35 +1,71 @@
 package com.recruitment.kafka;
 
+import com.recruitment.events.DomainEvent;
+import com.recruitment.events.DomainEventDeserializer;
+import com.recruitment.events.DomainEventSerializer;
 import java.util.HashMap;
 import java.util.Map;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.annotation.EnableKafkaRetryTopic;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.retrytopic.RetryTopicSchedulerWrapper;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @EnableKafka
+@EnableKafkaRetryTopic
 @Configuration
 public class KafkaConfig {
 
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    @Value("${spring.kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${spring.kafka.producer.batch-size:65536}")
+    private int batchSize;
+
+    @Value("${spring.kafka.producer.properties.linger.ms:20}")
+    private int lingerMs;
+
+    @Value("${recruitment.projection.concurrency:3}")
+    private int projectionConcurrency;
+
+    @Value("${recruitment.projection.max-poll-records:500}")
+    private int projectionMaxPollRecords;
+
+    /**
+     * Idempotent producer, so broker-side retries neither duplicate nor reorder records of a key, with larger
+     * compressed batches for the outbox relay, which sends many records at once.
+     */
     @Bean
     public Map<String, Object> producerConfigs() {
         Map<String, Object> props = new HashMap<>();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
         return props;
     }
 
@@ -43,6 +79,33 @@ public class KafkaConfig {
         return new KafkaTemplate<>(producerFactory());
     }
 
+    @Bean
+    public ProducerFactory<String, DomainEvent> eventProducerFactory() {
+        return new DefaultKafkaProducerFactory<>(producerConfigs(), new StringSerializer(),
+                new DomainEventSerializer());
+    }
+
+    @Bean
+    public KafkaTemplate<String, DomainEvent> eventKafkaTemplate() {
+        return new KafkaTemplate<>(eventProducerFactory());
+    }
+
+    @Bean
+    public ProducerFactory<String, Object> forwardingProducerFactory() {
+        return new DefaultKafkaProducerFactory<>(producerConfigs(), new StringSerializer(),
+                new DelegatingByTypeSerializer(Map.of(byte[].class, new ByteArraySerializer(),
+                        DomainEvent.class, new DomainEventSerializer())));
+    }
+
+    /**
+     * Moves schedule events between the main, retry and dead-letter topics, either decoded or as the bytes they
+     * were received as, which is all there is of a record that could not be decoded.
+     */
+    @Bean
+    public KafkaTemplate<String, Object> forwardingKafkaTemplate() {
+        return new KafkaTemplate<>(forwardingProducerFactory());
+    }
+
     @Bean
     public Map<String, Object> consumerConfigs() {
         Map<String, Object> props = new HashMap<>();
@@ -61,4 +124,58 @@ public class KafkaConfig {
         factory.setConsumerFactory(consumerFactory());
         return factory;
     }
-}
\ No newline at end of file
+
+    /**
+     * Schedule events are consumed a whole poll at a time, with offsets committed by the container after each batch.
+     * A record that cannot be decoded arrives with a null value instead of failing the poll.
+     */
+    @Bean
+    public ConsumerFactory<String, DomainEvent> eventConsumerFactory() {
+        Map<String, Object> props = new HashMap<>(consumerConfigs());
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, projectionMaxPollRecords);
+        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(new DomainEventDeserializer()));
+    }
+
+    @Bean
+    public ConsumerFactory<String, byte[]> rawConsumerFactory() {
+        Map<String, Object> props = new HashMap<>(consumerConfigs());
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, projectionMaxPollRecords);
+        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), new ByteArrayDeserializer());
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, DomainEvent> eventBatchListenerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, DomainEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(eventConsumerFactory());
+        factory.setBatchListener(true);
+        factory.setConcurrency(projectionConcurrency);
+        return factory;
+    }
+
+    /**
+     * One record at a time, for the retry and dead-letter topics of schedule events.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, DomainEvent> eventRetryListenerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, DomainEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(eventConsumerFactory());
+        return factory;
+    }
+
+    /**
+     * Resumes retry topic partitions once their delay has passed, apart from the application's scheduled jobs.
+     */
+    @Bean
+    public RetryTopicSchedulerWrapper retryTopicSchedulerWrapper() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("kafka-retry-");
+        scheduler.initialize();
+        return new RetryTopicSchedulerWrapper(scheduler);
+    }
+}
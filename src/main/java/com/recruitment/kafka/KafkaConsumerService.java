@@ -1,13 +1,105 @@
 package com.recruitment.kafka;
 
+import com.recruitment.events.DomainEvent;
+import com.recruitment.projection.ScheduleProjectionService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Service;
 
+/**
+ * Feeds each poll of schedule events to the projection as one batch. Offsets are committed once the batch is
+ * applied; a failed batch is redelivered, which the projection tolerates.
+ *
+ * <p>Events the projection rejects, and records that cannot be decoded, do not hold up the partition: they are
+ * forwarded to the {@code -failed} topic, retried from there with growing delays and finally parked on its
+ * {@code -dlt} topic, from where {@link DeadLetterReplayService} can send them back. A retried event may be applied
+ * after later events of its slot.
+ */
 @Service
 public class KafkaConsumerService {
 
-    @KafkaListener(topics = "myTopic", groupId = "recruitment-consumers")
-    public void listen(String message) {
-        System.out.println("Odebrano wiadomość z Kafki: " + message);
+    private static final Logger log = LoggerFactory.getLogger(KafkaConsumerService.class);
+    private static final LogAccessor LOG_ACCESSOR = new LogAccessor(KafkaConsumerService.class);
+
+    private final ScheduleProjectionService projectionService;
+    private final KafkaTemplate<String, Object> forwardingKafkaTemplate;
+    private final String failedTopic;
+
+    public KafkaConsumerService(ScheduleProjectionService projectionService,
+            KafkaTemplate<String, Object> forwardingKafkaTemplate,
+            @Value("${recruitment.events.topic:schedule-events}-failed") String failedTopic) {
+        this.projectionService = projectionService;
+        this.forwardingKafkaTemplate = forwardingKafkaTemplate;
+        this.failedTopic = failedTopic;
+    }
+
+    @KafkaListener(topics = "${recruitment.events.topic:schedule-events}",
+            groupId = "${recruitment.projection.group-id:schedule-projection}",
+            containerFactory = "eventBatchListenerFactory")
+    public void listen(List<ConsumerRecord<String, DomainEvent>> records) {
+        List<ConsumerRecord<String, DomainEvent>> decoded = new ArrayList<>(records.size());
+        List<CompletableFuture<?>> forwarded = new ArrayList<>();
+        for (ConsumerRecord<String, DomainEvent> record : records) {
+            if (record.value() != null) {
+                decoded.add(record);
+                continue;
+            }
+            DeserializationException error = SerializationUtils.getExceptionFromHeader(record,
+                    SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOG_ACCESSOR);
+            if (error != null) {
+                forwarded.add(forwardingKafkaTemplate.send(failedTopic, record.key(), error.getData()));
+            }
+        }
+        List<DomainEvent> events = new ArrayList<>(decoded.size());
+        decoded.forEach(record -> events.add(record.value()));
+        try {
+            projectionService.apply(events);
+        } catch (RuntimeException batchError) {
+            // Find the events to blame and apply the others; ordering of the skipped ones is lost anyway.
+            for (ConsumerRecord<String, DomainEvent> record : decoded) {
+                try {
+                    projectionService.apply(List.of(record.value()));
+                } catch (RuntimeException e) {
+                    log.warn("Event at {}-{}@{} failed and goes to {}: {}", record.topic(), record.partition(),
+                            record.offset(), failedTopic, e.getMessage());
+                    forwarded.add(forwardingKafkaTemplate.send(failedTopic, record.key(), record.value()));
+                }
+            }
+        }
+        // Offsets are committed only once every forwarded record is safely stored.
+        CompletableFuture.allOf(forwarded.toArray(new CompletableFuture[0])).join();
+    }
+
+    @RetryableTopic(attempts = "${recruitment.events.retry.attempts:4}",
+            backoff = @Backoff(delayExpression = "${recruitment.events.retry.initial-delay-ms:1000}",
+                    multiplierExpression = "${recruitment.events.retry.multiplier:4}"),
+            kafkaTemplate = "forwardingKafkaTemplate")
+    @KafkaListener(topics = "${recruitment.events.topic:schedule-events}-failed",
+            groupId = "${recruitment.projection.group-id:schedule-projection}-retry",
+            containerFactory = "eventRetryListenerFactory")
+    public void retry(DomainEvent event) {
+        projectionService.apply(List.of(event));
+    }
+
+    @DltHandler
+    public void deadLetter(ConsumerRecord<String, DomainEvent> record,
+            @Header(name = KafkaHeaders.DLT_EXCEPTION_MESSAGE, required = false) String error) {
+        log.error("Event for slot {} parked on {} at offset {}: {}", record.key(), record.topic(), record.offset(),
+                error);
     }
-}
\ No newline at end of file
+}
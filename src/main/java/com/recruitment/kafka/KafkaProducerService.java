@@ -1,24 +1,37 @@
 package com.recruitment.kafka;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
 public class KafkaProducerService {
 
+    private static final Logger log = LoggerFactory.getLogger(KafkaProducerService.class);
+
     private final KafkaTemplate<String, String> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
 
-    public KafkaProducerService(KafkaTemplate<String, String> kafkaTemplate) {
+    public KafkaProducerService(KafkaTemplate<String, String> kafkaTemplate, MeterRegistry meterRegistry) {
         this.kafkaTemplate = kafkaTemplate;
+        this.meterRegistry = meterRegistry;
     }
 
+    /**
+     * Sends without waiting; the time from send to broker acknowledgement lands in {@code kafka.producer.send}.
+     */
     public void sendMessage(String topic, String key, String message) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         kafkaTemplate.send(topic, key, message).whenComplete((result, ex) -> {
+            sample.stop(Timer.builder("kafka.producer.send").tag("topic", topic)
+                    .tag("result", (ex == null) ? "acked" : "failed")
+                    .description("Time from send to broker acknowledgement").register(meterRegistry));
             if (ex != null) {
-                System.err.println("Błąd wysyłania do Kafki: " + ex.getMessage());
-            } else {
-                System.out.println("Wiadomość wysłana do Kafki. Topic: " + topic);
+                log.warn("Sending to Kafka topic {} failed: {}", topic, ex.getMessage());
             }
         });
     }
-}
\ No newline at end of file
+}
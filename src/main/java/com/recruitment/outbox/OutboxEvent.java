@@ -0,0 +1,42 @@
+package com.recruitment.outbox;
+
+import com.recruitment.events.DomainEvent;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * A Kafka record written in the same transaction as the change it describes and deleted once
+ * {@link OutboxRelay} has sent it. An event is due when its lease has run out; new events are due right away. Events
+ * of one key are leased one run at a time, oldest first, so they reach Kafka in the order they were written.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "outbox_events")
+// Claiming due events oldest first, and the lease owner's re-read.
+@CompoundIndex(name = "created", def = "{'createdAt': 1, '_id': 1}")
+@CompoundIndex(name = "lease", def = "{'lockedUntil': 1}")
+@CompoundIndex(name = "locked_by", def = "{'lockedBy': 1}")
+// Events of the claimed keys that are leased elsewhere or older than the claimed ones.
+@CompoundIndex(name = "key_created", def = "{'key': 1, 'createdAt': 1, '_id': 1}")
+public class OutboxEvent {
+
+    @Id
+    private String id;
+    private String topic;
+    private String key;
+    private DomainEvent event;
+    private LocalDateTime createdAt;
+    private String lockedBy;
+    private LocalDateTime lockedUntil;
+
+    public static OutboxEvent of(String topic, String key, DomainEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        return new OutboxEvent(null, topic, key, event, now, null, now);
+    }
+}
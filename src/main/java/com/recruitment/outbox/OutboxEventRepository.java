@@ -0,0 +1,8 @@
+package com.recruitment.outbox;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxEventRepository extends MongoRepository<OutboxEvent, String>, OutboxEventRepositoryCustom {
+}
@@ -0,0 +1,26 @@
+package com.recruitment.outbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepositoryCustom {
+
+    /**
+     * Leases up to {@code limit} due events to {@code owner} until {@code leaseUntil}, oldest first. Events of a key
+     * are only leased when no event of that key is leased to another owner and none older is left unclaimed, so
+     * per-key order holds across nodes.
+     */
+    List<OutboxEvent> claim(String owner, int limit, LocalDateTime now, LocalDateTime leaseUntil);
+
+    /**
+     * Makes the events due again at {@code now}, e.g. after a failed send.
+     */
+    void release(Collection<String> ids, LocalDateTime now);
+
+    /**
+     * Creation time of the oldest event not yet sent.
+     */
+    Optional<LocalDateTime> oldestCreatedAt();
+}
@@ -0,0 +1,119 @@
+package com.recruitment.outbox;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+@RequiredArgsConstructor
+public class OutboxEventRepositoryImpl implements OutboxEventRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<OutboxEvent> claim(String owner, int limit, LocalDateTime now, LocalDateTime leaseUntil) {
+        Query candidates = query(where("lockedUntil").lte(now)).with(Sort.by("createdAt", "_id")).limit(limit);
+        candidates.fields().include("_id").include("key");
+        List<OutboxEvent> due = mongoTemplate.find(candidates, OutboxEvent.class);
+        if (due.isEmpty()) {
+            return new ArrayList<>();
+        }
+        // A key still leased elsewhere has an older event in flight; its newer events wait for that lease to end.
+        Set<String> keys = new HashSet<>();
+        for (OutboxEvent event : due) {
+            keys.add(event.getKey());
+        }
+        Query leased = query(where("key").in(keys).and("lockedUntil").gt(now));
+        leased.fields().include("key");
+        for (OutboxEvent event : mongoTemplate.find(leased, OutboxEvent.class)) {
+            keys.remove(event.getKey());
+        }
+        List<String> ids = new ArrayList<>();
+        for (OutboxEvent event : due) {
+            if (keys.contains(event.getKey())) {
+                ids.add(event.getId());
+            }
+        }
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        // Re-checking the lease makes the claim safe when another node took some of the same events in between.
+        mongoTemplate.updateMulti(query(where("_id").in(ids).and("lockedUntil").lte(now)),
+                new Update().set("lockedBy", owner).set("lockedUntil", leaseUntil), OutboxEvent.class);
+        List<OutboxEvent> claimed = mongoTemplate.find(query(where("_id").in(ids).and("lockedBy").is(owner))
+                .with(Sort.by("createdAt", "_id")), OutboxEvent.class);
+        return keepOldestOfEachKey(owner, claimed, now);
+    }
+
+    /**
+     * Gives back the claimed events of every key that has an older event not claimed by {@code owner}: one another
+     * node took between the two steps above, or one released after a failed send. That event goes first.
+     */
+    private List<OutboxEvent> keepOldestOfEachKey(String owner, List<OutboxEvent> claimed, LocalDateTime now) {
+        if (claimed.isEmpty()) {
+            return claimed;
+        }
+        Map<String, OutboxEvent> oldestClaimed = new HashMap<>();
+        for (OutboxEvent event : claimed) {
+            oldestClaimed.putIfAbsent(event.getKey(), event);
+        }
+        LocalDateTime newest = claimed.get(claimed.size() - 1).getCreatedAt();
+        Query others = query(where("key").in(oldestClaimed.keySet()).and("createdAt").lte(newest)
+                .and("lockedBy").ne(owner));
+        others.fields().include("key").include("createdAt");
+        Set<String> behind = new HashSet<>();
+        for (OutboxEvent other : mongoTemplate.find(others, OutboxEvent.class)) {
+            if (isOlder(other, oldestClaimed.get(other.getKey()))) {
+                behind.add(other.getKey());
+            }
+        }
+        if (behind.isEmpty()) {
+            return claimed;
+        }
+        List<OutboxEvent> kept = new ArrayList<>(claimed.size());
+        List<String> given = new ArrayList<>();
+        for (OutboxEvent event : claimed) {
+            if (behind.contains(event.getKey())) {
+                given.add(event.getId());
+            } else {
+                kept.add(event);
+            }
+        }
+        release(given, now);
+        return kept;
+    }
+
+    private static boolean isOlder(OutboxEvent event, OutboxEvent than) {
+        int byTime = event.getCreatedAt().compareTo(than.getCreatedAt());
+        return byTime < 0 || byTime == 0 && event.getId().compareTo(than.getId()) < 0;
+    }
+
+    @Override
+    public void release(Collection<String> ids, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        mongoTemplate.updateMulti(query(where("_id").in(ids)),
+                new Update().unset("lockedBy").set("lockedUntil", now), OutboxEvent.class);
+    }
+
+    @Override
+    public Optional<LocalDateTime> oldestCreatedAt() {
+        Query oldest = new Query().with(Sort.by("createdAt", "_id")).limit(1);
+        oldest.fields().include("createdAt");
+        return Optional.ofNullable(mongoTemplate.findOne(oldest, OutboxEvent.class)).map(OutboxEvent::getCreatedAt);
+    }
+}
@@ -0,0 +1,142 @@
+package com.recruitment.outbox;
+
+import com.recruitment.events.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drains the outbox to Kafka: claims a batch of due events, sends them all before waiting, and deletes the ones the
+ * broker acknowledged. A failed event is released together with the later events of its key, acknowledged or not, so
+ * they are all sent again after it on the next poll and the last write of a key is still the last record. Delivery is
+ * at least once; every record carries its outbox ID in the {@value #EVENT_ID_HEADER} header for deduplication.
+ */
+@Component
+public class OutboxRelay {
+
+    static final String EVENT_ID_HEADER = "eventId";
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxRepository;
+    private final KafkaTemplate<String, DomainEvent> kafkaTemplate;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration sendTimeout;
+    private final String owner = UUID.randomUUID().toString();
+    private final Counter sent;
+    private final Counter failed;
+    private final Timer batchTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public OutboxRelay(OutboxEventRepository outboxRepository, KafkaTemplate<String, DomainEvent> kafkaTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${recruitment.outbox.relay.batch-size:500}") int batchSize,
+            @Value("${recruitment.outbox.relay.lease:30s}") Duration lease,
+            @Value("${recruitment.outbox.relay.send-timeout:10s}") Duration sendTimeout) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.sendTimeout = sendTimeout;
+        this.sent = Counter.builder("outbox.relay.events").tag("result", "sent")
+                .description("Outbox events acknowledged by Kafka").register(meterRegistry);
+        this.failed = Counter.builder("outbox.relay.events").tag("result", "failed")
+                .description("Outbox events whose send failed and will be retried").register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+                .description("Time to send one claimed batch and record the result").register(meterRegistry);
+        TimeGauge.builder("outbox.relay.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Age of the oldest event still in the outbox").register(meterRegistry);
+    }
+
+    /**
+     * Sends batches until the outbox is drained or a send fails, then refreshes the lag gauge.
+     */
+    @Scheduled(fixedDelayString = "${recruitment.outbox.relay.poll-interval-ms:200}")
+    public void poll() {
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> batch = outboxRepository.claim(owner, batchSize, now, now.plus(lease));
+            if (batch.isEmpty() || !batchTimer.record(() -> relay(batch)) || batch.size() < batchSize) {
+                break;
+            }
+        }
+        lagMillis.set(outboxRepository.oldestCreatedAt()
+                .map(oldest -> Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()))
+                .orElse(0L));
+    }
+
+    /**
+     * @return whether every event of the batch was acknowledged
+     */
+    boolean relay(List<OutboxEvent> batch) {
+        List<CompletableFuture<SendResult<String, DomainEvent>>> sends = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            ProducerRecord<String, DomainEvent> record = new ProducerRecord<>(event.getTopic(), event.getKey(),
+                    event.getEvent());
+            record.headers().add(EVENT_ID_HEADER, event.getId().getBytes(StandardCharsets.UTF_8));
+            sends.add(kafkaTemplate.send(record));
+        }
+        // Lingering records go out now instead of after linger.ms.
+        kafkaTemplate.flush();
+
+        List<String> acknowledged = new ArrayList<>(batch.size());
+        List<String> retry = new ArrayList<>();
+        Set<String> failedKeys = new HashSet<>();
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxEvent event = batch.get(i);
+            boolean ok;
+            try {
+                sends.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                ok = true;
+            } catch (ExecutionException | TimeoutException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                ok = false;
+            }
+            // The batch is in per-key order, so everything of a key after its first failure goes again after it.
+            if (!ok) {
+                failedKeys.add(event.getKey());
+            }
+            if (failedKeys.contains(event.getKey())) {
+                retry.add(event.getId());
+            } else {
+                acknowledged.add(event.getId());
+            }
+        }
+        if (!acknowledged.isEmpty()) {
+            outboxRepository.deleteAllById(acknowledged);
+        }
+        if (!retry.isEmpty()) {
+            log.warn("{} of {} outbox events were not acknowledged by Kafka or follow one that was not, and will be "
+                    + "retried", retry.size(), batch.size());
+            outboxRepository.release(retry, LocalDateTime.now());
+        }
+        sent.increment(acknowledged.size());
+        failed.increment(retry.size());
+        return retry.isEmpty();
+    }
+}
@@ -0,0 +1,38 @@
+package com.recruitment.projection;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/occupancy")
+public class OccupancyController {
+
+    private final SlotOccupancyRepository slotOccupancyRepository;
+    private final RecruiterLoadRepository recruiterLoadRepository;
+
+    @Operation(summary = "Get the booked places of a slot from the event projection")
+    @ApiResponses({@ApiResponse(responseCode = "200", description = "Slot occupancy found"),
+            @ApiResponse(responseCode = "404", description = "Slot not in the projection")})
+    @GetMapping("/slots/{slotId}")
+    public ResponseEntity<SlotOccupancy> getSlot(@PathVariable String slotId) {
+        return slotOccupancyRepository.findById(slotId).filter(slot -> !slot.isDeleted()).map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Get slot, capacity and booking totals of a recruiter from the event projection")
+    @ApiResponses({@ApiResponse(responseCode = "200", description = "Recruiter load found"),
+            @ApiResponse(responseCode = "404", description = "Recruiter has no slots in the projection")})
+    @GetMapping("/recruiters/{recruiterId}")
+    public ResponseEntity<RecruiterLoad> getRecruiter(@PathVariable String recruiterId) {
+        return recruiterLoadRepository.findById(recruiterId).filter(load -> load.getSlots() > 0)
+                .map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+    }
+}
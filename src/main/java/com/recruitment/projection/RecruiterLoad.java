@@ -0,0 +1,27 @@
+package com.recruitment.projection;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Totals over a recruiter's {@link SlotOccupancy} documents, recomputed whenever one of them changes.
+ * {@code updatedAt} is taken before the totals are read, and a write never replaces totals read later. A recruiter
+ * whose last slot went keeps a document with zero totals, so the guard still holds.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "recruiter_load")
+public class RecruiterLoad {
+
+    @Id
+    private String id;
+    private long slots;
+    private long capacity;
+    private long booked;
+    private LocalDateTime updatedAt;
+}
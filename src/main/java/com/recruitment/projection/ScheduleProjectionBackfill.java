@@ -0,0 +1,97 @@
+package com.recruitment.projection;
+
+import com.recruitment.config.JobLeaseRepository;
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.interview.InterviewSlotRepository;
+import com.recruitment.reservation.CandidateReservation;
+import com.recruitment.reservation.CandidateReservationRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Brings slots into the schedule projection that never published a slot event: slots older than the event stream,
+ * slots seeded straight into the database, and slots whose event was lost. Runs at startup and nightly on one node
+ * at a time, holding the job lease.
+ */
+@Component
+public class ScheduleProjectionBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleProjectionBackfill.class);
+    private static final String JOB = "schedule-projection-backfill";
+    private static final String ACTIVE = "ACTIVE";
+    private static final int BATCH = 500;
+
+    private final ScheduleProjectionService projectionService;
+    private final InterviewSlotRepository slotRepository;
+    private final CandidateReservationRepository reservationRepository;
+    private final JobLeaseRepository jobLeaseRepository;
+    private final Duration lease;
+    private final String owner = UUID.randomUUID().toString();
+
+    public ScheduleProjectionBackfill(ScheduleProjectionService projectionService,
+            InterviewSlotRepository slotRepository, CandidateReservationRepository reservationRepository,
+            JobLeaseRepository jobLeaseRepository,
+            @Value("${recruitment.projection.backfill-lease:30m}") Duration lease) {
+        this.projectionService = projectionService;
+        this.slotRepository = slotRepository;
+        this.reservationRepository = reservationRepository;
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.lease = lease;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${recruitment.projection.backfill-cron:0 0 4 * * *}")
+    public void backfill() {
+        LocalDateTime now = LocalDateTime.now();
+        if (!jobLeaseRepository.acquire(JOB, owner, now, now.plus(lease))) {
+            log.info("Schedule projection backfill is running on another node, skipping");
+            return;
+        }
+        try (Stream<InterviewSlot> slots = slotRepository.streamAllBy()) {
+            int filled = 0;
+            List<InterviewSlot> batch = new ArrayList<>(BATCH);
+            Iterator<InterviewSlot> iterator = slots.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == BATCH || !iterator.hasNext()) {
+                    filled += backfill(batch);
+                    batch.clear();
+                }
+            }
+            log.info("Backfilled {} slots into the schedule projection", filled);
+        } finally {
+            jobLeaseRepository.release(JOB, owner, LocalDateTime.now());
+        }
+    }
+
+    private int backfill(List<InterviewSlot> batch) {
+        List<InterviewSlot> missing = projectionService.withoutSlotEvent(batch);
+        if (missing.isEmpty()) {
+            return 0;
+        }
+        List<String> slotIds = new ArrayList<>(missing.size());
+        for (InterviewSlot slot : missing) {
+            slotIds.add(slot.getId());
+        }
+        Map<String, List<String>> active = new HashMap<>();
+        for (CandidateReservation reservation : reservationRepository.findBySlotIdInAndStatus(slotIds, ACTIVE)) {
+            active.computeIfAbsent(reservation.getSlotId(), slotId -> new ArrayList<>()).add(reservation.getId());
+        }
+        projectionService.backfill(missing, active);
+        return missing.size();
+    }
+}
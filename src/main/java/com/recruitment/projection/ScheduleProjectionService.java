@@ -0,0 +1,217 @@
+package com.recruitment.projection;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.recruitment.events.DomainEvent;
+import com.recruitment.events.DomainEventType;
+import com.recruitment.interview.InterviewSlot;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+/**
+ * Applies a batch of events to the {@link SlotOccupancy} and {@link RecruiterLoad} read models with one bulk write
+ * each. A slot event older than the last one applied to its slot is skipped, and a deleted slot keeps a tombstone.
+ * Reservation events add or remove an ID rather than count; on a slot the projection has no slot event for yet they
+ * leave a stub with only the IDs, which the next slot event or {@link #backfill} fills in. Load totals are written
+ * only over totals read earlier, since batches of different partitions run concurrently. A batch delivered twice or
+ * late therefore leaves the read models as they were.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleProjectionService {
+
+    private static final String ACTIVE = "ACTIVE";
+    private static final int DUPLICATE_KEY = 11000;
+    private static final Document NO_SLOTS = new Document("slots", 0).append("capacity", 0).append("booked", 0);
+
+    private final MongoTemplate mongoTemplate;
+
+    public void apply(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Set<String> recruiterIds = new HashSet<>();
+        Set<String> reservedSlotIds = new HashSet<>();
+        Set<String> reservationIds = new HashSet<>();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, SlotOccupancy.class);
+        for (DomainEvent event : events) {
+            if (event.getType().isSlotEvent()) {
+                applySlotEvent(bulk, event);
+                recruiterIds.add(event.getRecruiterId());
+            } else {
+                applyReservationEvent(bulk, event);
+                reservedSlotIds.add(event.getSlotId());
+                reservationIds.add(event.getReservationId());
+            }
+        }
+        // Before the write, so that slots a reservation leaves in this batch are still found by its ID.
+        recruiterIds.addAll(recruitersOf(reservedSlotIds, reservationIds));
+        bulk.execute();
+        recruiterIds.remove(null);
+        refreshRecruiterLoad(recruiterIds);
+    }
+
+    private void applySlotEvent(BulkOperations bulk, DomainEvent event) {
+        LocalDateTime version = event.getOccurredAt();
+        if (event.getType() == DomainEventType.SLOT_DELETED) {
+            // Upserted, so that a tombstone exists even if the creation was never seen.
+            bulk.upsert(query(where("_id").is(event.getSlotId())), new Update()
+                    .set("deletedAt", version)
+                    .set("slotEventAt", version)
+                    .unset("recruiterId").unset("startTime").unset("endTime").unset("capacity")
+                    .unset("activeReservationIds"));
+            return;
+        }
+        // Creates the slot if it is unknown; matching only the ID, it never collides with a newer or deleted one.
+        bulk.upsert(query(where("_id").is(event.getSlotId())), new Update()
+                .setOnInsert("recruiterId", event.getRecruiterId())
+                .setOnInsert("startTime", event.getStartTime())
+                .setOnInsert("endTime", event.getEndTime())
+                .setOnInsert("capacity", event.getCapacity())
+                .setOnInsert("slotEventAt", version));
+        bulk.updateOne(query(where("_id").is(event.getSlotId()).and("deletedAt").exists(false)
+                        .orOperator(where("slotEventAt").exists(false), where("slotEventAt").lte(version))),
+                new Update().set("recruiterId", event.getRecruiterId())
+                        .set("startTime", event.getStartTime())
+                        .set("endTime", event.getEndTime())
+                        .set("capacity", event.getCapacity())
+                        .set("slotEventAt", version));
+    }
+
+    private void applyReservationEvent(BulkOperations bulk, DomainEvent event) {
+        boolean active = event.getType() != DomainEventType.RESERVATION_DELETED && ACTIVE.equals(event.getStatus());
+        Criteria holding = where("activeReservationIds").is(event.getReservationId());
+        if (active) {
+            holding = holding.and("_id").ne(event.getSlotId());
+        }
+        bulk.updateMulti(query(holding), new Update().pull("activeReservationIds", event.getReservationId()));
+        if (active) {
+            // A stub for a slot not seen yet; matching only the ID, it never collides with a tombstone.
+            bulk.upsert(query(where("_id").is(event.getSlotId())),
+                    new Update().setOnInsert("activeReservationIds", List.of()));
+            bulk.updateOne(query(where("_id").is(event.getSlotId()).and("deletedAt").exists(false)),
+                    new Update().addToSet("activeReservationIds", event.getReservationId()));
+        }
+    }
+
+    /**
+     * Of the given slots, those no slot event has reached in the projection: missing, or only a reservation stub.
+     */
+    public List<InterviewSlot> withoutSlotEvent(List<InterviewSlot> slots) {
+        Map<String, InterviewSlot> byId = new LinkedHashMap<>();
+        for (InterviewSlot slot : slots) {
+            byId.put(slot.getId(), slot);
+        }
+        Query seen = query(where("_id").in(byId.keySet()).and("slotEventAt").exists(true));
+        seen.fields().include("_id");
+        for (SlotOccupancy slot : mongoTemplate.find(seen, SlotOccupancy.class)) {
+            byId.remove(slot.getId());
+        }
+        return new ArrayList<>(byId.values());
+    }
+
+    /**
+     * Writes slots the event stream never described, such as slots older than the events or seeded straight into
+     * the database, with their active reservation IDs, and refreshes their recruiters' load. A slot a slot event
+     * reaches meanwhile is left alone. A reservation event applied between the caller's read and this write is
+     * overwritten, and the next backfill repairs it, since the slot still has no slot event.
+     */
+    public void backfill(List<InterviewSlot> slots, Map<String, List<String>> activeReservationIds) {
+        if (slots.isEmpty()) {
+            return;
+        }
+        Set<String> recruiterIds = new HashSet<>();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SlotOccupancy.class);
+        for (InterviewSlot slot : slots) {
+            bulk.upsert(query(where("_id").is(slot.getId()).and("slotEventAt").exists(false)), new Update()
+                    .set("recruiterId", slot.getRecruiterId())
+                    .set("startTime", slot.getStartTime())
+                    .set("endTime", slot.getEndTime())
+                    .set("capacity", slot.getCapacity())
+                    .set("activeReservationIds", activeReservationIds.getOrDefault(slot.getId(), List.of())));
+            recruiterIds.add(slot.getRecruiterId());
+        }
+        executeSkippingNewer(bulk);
+        recruiterIds.remove(null);
+        refreshRecruiterLoad(recruiterIds);
+    }
+
+    private Set<String> recruitersOf(Set<String> slotIds, Set<String> reservationIds) {
+        Set<String> recruiterIds = new HashSet<>();
+        if (slotIds.isEmpty()) {
+            return recruiterIds;
+        }
+        Query slots = query(new Criteria().orOperator(where("_id").in(slotIds),
+                where("activeReservationIds").in(reservationIds)));
+        slots.fields().include("recruiterId");
+        for (SlotOccupancy slot : mongoTemplate.find(slots, SlotOccupancy.class)) {
+            recruiterIds.add(slot.getRecruiterId());
+        }
+        return recruiterIds;
+    }
+
+    private void refreshRecruiterLoad(Set<String> recruiterIds) {
+        if (recruiterIds.isEmpty()) {
+            return;
+        }
+        // Taken before the read: a write stamped later has read totals that include this batch.
+        LocalDateTime readAt = LocalDateTime.now();
+        Aggregation totals = Aggregation.newAggregation(
+                Aggregation.match(where("recruiterId").in(recruiterIds)),
+                Aggregation.group("recruiterId").count().as("slots")
+                        .sum("capacity").as("capacity")
+                        .sum(ArrayOperators.Size.lengthOfArray(
+                                ConditionalOperators.ifNull("activeReservationIds").then(List.of()))).as("booked"));
+        Map<String, Document> totalsById = new HashMap<>();
+        for (Document total : mongoTemplate.aggregate(totals, SlotOccupancy.class, Document.class)) {
+            totalsById.put(total.getString("_id"), total);
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, RecruiterLoad.class);
+        for (String recruiterId : recruiterIds) {
+            Document total = totalsById.getOrDefault(recruiterId, NO_SLOTS);
+            bulk.upsert(query(where("_id").is(recruiterId)
+                            .orOperator(where("updatedAt").exists(false), where("updatedAt").lt(readAt))),
+                    new Update().set("slots", total.get("slots", Number.class).longValue())
+                            .set("capacity", total.get("capacity", Number.class).longValue())
+                            .set("booked", total.get("booked", Number.class).longValue())
+                            .set("updatedAt", readAt));
+        }
+        executeSkippingNewer(bulk);
+    }
+
+    /**
+     * Runs guarded upserts; a duplicate key means the guard did not match an existing document because newer
+     * state is already there.
+     */
+    private static void executeSkippingNewer(BulkOperations bulk) {
+        try {
+            bulk.execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                if (error.getCode() != DUPLICATE_KEY) {
+                    throw e;
+                }
+            }
+        }
+    }
+}
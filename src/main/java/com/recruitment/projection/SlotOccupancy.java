@@ -0,0 +1,44 @@
+package com.recruitment.projection;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Read model of one slot built from the event stream: its schedule and the IDs of its active reservations. Keeping
+ * the IDs rather than a count makes replaying an event harmless. {@code slotEventAt} is the time of the last slot
+ * event applied, so an older one arriving late is skipped; a deleted slot stays as a tombstone with only
+ * {@code deletedAt} set, so no late event can bring it back.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "slot_occupancy")
+@CompoundIndex(name = "recruiter", def = "{'recruiterId': 1}")
+// Finds the slot a reservation moved away from.
+@CompoundIndex(name = "active_reservations", def = "{'activeReservationIds': 1}")
+public class SlotOccupancy {
+
+    @Id
+    private String id;
+    private String recruiterId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private Integer capacity;
+    private List<String> activeReservationIds;
+    private LocalDateTime slotEventAt;
+    private LocalDateTime deletedAt;
+
+    public int getBooked() {
+        return activeReservationIds == null ? 0 : activeReservationIds.size();
+    }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+}
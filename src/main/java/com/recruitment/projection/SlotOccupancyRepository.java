@@ -0,0 +1,8 @@
+package com.recruitment.projection;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SlotOccupancyRepository extends MongoRepository<SlotOccupancy, String> {
+}
@@ -0,0 +1,68 @@
+package com.recruitment.recruiter;
+
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.interview.InterviewSlotRepository;
+import com.recruitment.interview.SlotInterval;
+import com.recruitment.storage.InMemoryRepository;
+import com.recruitment.vacation.Vacation;
+import com.recruitment.vacation.VacationRepository;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link RecruiterRepository} of the {@code memory} storage. The validation snapshot is assembled from the slot and
+ * vacation repositories it is given, with the same filters as the aggregation of {@link RecruiterRepositoryImpl}.
+ */
+public class InMemoryRecruiterRepository extends InMemoryRepository<Recruiter> implements RecruiterRepository {
+
+    private final InterviewSlotRepository slotRepository;
+    private final VacationRepository vacationRepository;
+
+    public InMemoryRecruiterRepository(InterviewSlotRepository slotRepository,
+            VacationRepository vacationRepository) {
+        super(Recruiter::getId, Recruiter::setId, recruiter -> new Recruiter(recruiter.getId(),
+                recruiter.getFirstName(), recruiter.getLastName(), recruiter.getMaxDailyInterviews(),
+                recruiter.getMaxWeeklyInterviews(), recruiter.getMaxMonthlyInterviews(), recruiter.getUserId(),
+                recruiter.getCalendarId()));
+        this.slotRepository = slotRepository;
+        this.vacationRepository = vacationRepository;
+    }
+
+    @Override
+    public Stream<Recruiter> streamAllBy() {
+        return findAll().stream();
+    }
+
+    @Override
+    public Optional<SlotValidationSnapshot> loadValidationSnapshot(String recruiterId, InterviewSlot slot,
+            LocalDateTime overlapStart, LocalDateTime overlapEnd) {
+        return findById(recruiterId).map(recruiter -> {
+            LocalDate day = slot.getStartTime().toLocalDate();
+            LocalDateTime weekStart = day.with(DayOfWeek.MONDAY).atStartOfDay();
+            LocalDateTime monthStart = day.withDayOfMonth(1).atStartOfDay();
+            SlotCounts counts = new SlotCounts(countOthers(recruiterId, slot, day.atStartOfDay(),
+                    day.plusDays(1).atStartOfDay()), countOthers(recruiterId, slot, weekStart, weekStart.plusWeeks(1)),
+                    countOthers(recruiterId, slot, monthStart, monthStart.plusMonths(1)));
+            List<SlotInterval> overlapping = slotRepository
+                    .findByRecruiterIdAndStartTimeLessThanAndEndTimeGreaterThan(recruiterId, overlapEnd, overlapStart)
+                    .stream()
+                    .filter(other -> !other.getId().equals(slot.getId()))
+                    .map(SlotInterval::of)
+                    .collect(Collectors.toList());
+            List<Vacation> vacations = vacationRepository.findByRecruiterIdAndStartDateLessThanAndEndDateGreaterThan(
+                    recruiterId, slot.getEndTime(), slot.getStartTime());
+            return new SlotValidationSnapshot(recruiter, counts, overlapping, vacations);
+        });
+    }
+
+    private long countOthers(String recruiterId, InterviewSlot slot, LocalDateTime from, LocalDateTime to) {
+        return slotRepository.findPage(recruiterId, from, to, null, Integer.MAX_VALUE).stream()
+                .filter(other -> !other.getId().equals(slot.getId()))
+                .count();
+    }
+}
@@ -0,0 +1,54 @@
+package com.recruitment.recruiter;
+
+import com.recruitment.storage.InMemoryRepository;
+import com.recruitment.storage.OrderedIndex;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link SlotCounterRepository} of the {@code memory} storage, indexed by period and per recruiter. The counters live
+ * next to the slots they count, so both start empty together.
+ */
+public class InMemorySlotCounterRepository extends InMemoryRepository<SlotCounter> implements SlotCounterRepository {
+
+    private final OrderedIndex<SlotCounter> byPeriod = index(counter -> periodOf(counter.getPeriod(),
+            counter.getPeriodKey()), counter -> null);
+    private final OrderedIndex<SlotCounter> byRecruiter = index(SlotCounter::getRecruiterId, counter -> null);
+
+    public InMemorySlotCounterRepository() {
+        super(SlotCounter::getId, SlotCounter::setId, counter -> new SlotCounter(counter.getId(),
+                counter.getRecruiterId(), counter.getPeriod(), counter.getPeriodKey(), counter.getCount()));
+    }
+
+    @Override
+    public List<SlotCounter> findByPeriodAndPeriodKeyIn(SlotPeriod period, Collection<String> periodKeys) {
+        return read(() -> {
+            List<SlotCounter> found = new ArrayList<>();
+            for (String periodKey : periodKeys) {
+                found.addAll(byPeriod.range(periodOf(period, periodKey), null, null, null, counter -> true,
+                        Integer.MAX_VALUE));
+            }
+            return copies(found);
+        });
+    }
+
+    @Override
+    public List<SlotCounter> findByRecruiterId(String recruiterId) {
+        return read(() -> copies(byRecruiter.range(recruiterId, null, null, null, counter -> true,
+                Integer.MAX_VALUE)));
+    }
+
+    @Override
+    public void incrementAll(Collection<SlotCounter> deltas) {
+        for (SlotCounter delta : deltas) {
+            upsert(delta.getId(), () -> new SlotCounter(delta.getId(), delta.getRecruiterId(), delta.getPeriod(),
+                    delta.getPeriodKey(), 0), counter -> counter.setCount(counter.getCount() + delta.getCount()));
+        }
+    }
+
+    private static List<Object> periodOf(SlotPeriod period, String periodKey) {
+        return Arrays.asList(period, periodKey);
+    }
+}
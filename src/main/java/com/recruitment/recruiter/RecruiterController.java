@@ -1,5 +1,6 @@
 package com.recruitment.recruiter;
 
+import com.recruitment.config.NdjsonResponses;
 import com.recruitment.exceptions.ResourceNotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,6 +24,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class RecruiterController {
 
     private final RecruiterService recruiterService;
+    private final NdjsonResponses ndjsonResponses;
 
     @Operation(summary = "Get all recruiters")
     @ApiResponse(responseCode = "200", description = "List of recruiters returned")
@@ -30,6 +33,13 @@ public class RecruiterController {
         return recruiterService.findAll();
     }
 
+    @Operation(summary = "Stream all recruiters as NDJSON")
+    @ApiResponse(responseCode = "200", description = "Recruiters streamed, one JSON document per line")
+    @GetMapping(produces = NdjsonResponses.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return ndjsonResponses.stream(recruiterService::streamAll);
+    }
+
     @Operation(summary = "Get recruiter by ID")
     @ApiResponses({@ApiResponse(responseCode = "200", description = "Recruiter found"),
             @ApiResponse(responseCode = "404", description = "Recruiter not found")})
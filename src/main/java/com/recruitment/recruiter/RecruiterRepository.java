@@ -1,8 +1,11 @@
 package com.recruitment.recruiter;
 
+import java.util.stream.Stream;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface RecruiterRepository extends MongoRepository<Recruiter, String> {
+public interface RecruiterRepository extends MongoRepository<Recruiter, String>, RecruiterRepositoryCustom {
+
+    Stream<Recruiter> streamAllBy();
 }
@@ -0,0 +1,16 @@
+package com.recruitment.recruiter;
+
+import com.recruitment.interview.InterviewSlot;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RecruiterRepositoryCustom {
+
+    /**
+     * Loads the recruiter together with its day/week/month slot counts, the slots overlapping
+     * [{@code overlapStart}, {@code overlapEnd}) and the vacations overlapping the slot, in one aggregation.
+     * The slot itself is excluded when it already has an ID.
+     */
+    Optional<SlotValidationSnapshot> loadValidationSnapshot(String recruiterId, InterviewSlot slot,
+            LocalDateTime overlapStart, LocalDateTime overlapEnd);
+}
@@ -0,0 +1,126 @@
+package com.recruitment.recruiter;
+
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.interview.SlotInterval;
+import com.recruitment.vacation.Vacation;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+@RequiredArgsConstructor
+public class RecruiterRepositoryImpl implements RecruiterRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<SlotValidationSnapshot> loadValidationSnapshot(String recruiterId, InterviewSlot slot,
+            LocalDateTime overlapStart, LocalDateTime overlapEnd) {
+        LocalDate day = slot.getStartTime().toLocalDate();
+        LocalDateTime dayStart = day.atStartOfDay();
+        LocalDateTime weekStart = day.with(DayOfWeek.MONDAY).atStartOfDay();
+        LocalDateTime monthStart = day.withDayOfMonth(1).atStartOfDay();
+
+        Document slotFilter = new Document("recruiterId", recruiterId)
+                .append("$or", Arrays.asList(
+                        new Document("startTime", range(min(weekStart, monthStart), max(weekStart.plusWeeks(1),
+                                monthStart.plusMonths(1)))),
+                        new Document("startTime", new Document("$lt", toDate(overlapEnd)))
+                                .append("endTime", new Document("$gt", toDate(overlapStart)))));
+        if (slot.getId() != null) {
+            slotFilter.append("_id", new Document("$ne", toId(slot.getId())));
+        }
+
+        Document facets = new Document("daily", countIn(dayStart, dayStart.plusDays(1)))
+                .append("weekly", countIn(weekStart, weekStart.plusWeeks(1)))
+                .append("monthly", countIn(monthStart, monthStart.plusMonths(1)))
+                .append("overlapping", Arrays.asList(
+                        new Document("$match", new Document("startTime", new Document("$lt", toDate(overlapEnd)))
+                                .append("endTime", new Document("$gt", toDate(overlapStart)))),
+                        new Document("$project", new Document("startTime", 1).append("endTime", 1)
+                                .append("multiCapacity", 1))));
+
+        Document vacationFilter = new Document("recruiterId", recruiterId)
+                .append("startDate", new Document("$lt", toDate(slot.getEndTime())))
+                .append("endDate", new Document("$gt", toDate(slot.getStartTime())));
+
+        List<Document> pipeline = Arrays.asList(
+                new Document("$match", new Document("_id", toId(recruiterId))),
+                new Document("$lookup", new Document("from", mongoTemplate.getCollectionName(InterviewSlot.class))
+                        .append("pipeline", Arrays.asList(new Document("$match", slotFilter),
+                                new Document("$facet", facets)))
+                        .append("as", "slots")),
+                new Document("$lookup", new Document("from", mongoTemplate.getCollectionName(Vacation.class))
+                        .append("pipeline", Arrays.asList(new Document("$match", vacationFilter)))
+                        .append("as", "vacations")));
+
+        Document result = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Recruiter.class))
+                .aggregate(pipeline)
+                .first();
+        if (result == null) {
+            return Optional.empty();
+        }
+
+        Document slotFacets = result.getList("slots", Document.class).get(0);
+        SlotCounts counts = new SlotCounts(count(slotFacets, "daily"), count(slotFacets, "weekly"),
+                count(slotFacets, "monthly"));
+
+        List<SlotInterval> overlapping = new ArrayList<>();
+        for (Document doc : slotFacets.getList("overlapping", Document.class)) {
+            overlapping.add(new SlotInterval(doc.get("_id").toString(), toLocal(doc.getDate("startTime")),
+                    toLocal(doc.getDate("endTime")), Boolean.TRUE.equals(doc.getBoolean("multiCapacity"))));
+        }
+
+        List<Vacation> vacations = new ArrayList<>();
+        for (Document doc : result.getList("vacations", Document.class)) {
+            vacations.add(mongoTemplate.getConverter().read(Vacation.class, doc));
+        }
+
+        Recruiter recruiter = mongoTemplate.getConverter().read(Recruiter.class, result);
+        return Optional.of(new SlotValidationSnapshot(recruiter, counts, overlapping, vacations));
+    }
+
+    private List<Document> countIn(LocalDateTime from, LocalDateTime to) {
+        return Arrays.asList(new Document("$match", new Document("startTime", range(from, to))),
+                new Document("$count", "n"));
+    }
+
+    private long count(Document facets, String name) {
+        List<Document> counted = facets.getList(name, Document.class);
+        return counted.isEmpty() ? 0 : ((Number) counted.get(0).get("n")).longValue();
+    }
+
+    private Document range(LocalDateTime from, LocalDateTime to) {
+        return new Document("$gte", toDate(from)).append("$lt", toDate(to));
+    }
+
+    private LocalDateTime min(LocalDateTime first, LocalDateTime second) {
+        return first.isBefore(second) ? first : second;
+    }
+
+    private LocalDateTime max(LocalDateTime first, LocalDateTime second) {
+        return first.isAfter(second) ? first : second;
+    }
+
+    // Same conversion Spring Data applies to LocalDateTime fields, so raw filters match the stored dates.
+    private Date toDate(LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private LocalDateTime toLocal(Date date) {
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+
+    private Object toId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+}
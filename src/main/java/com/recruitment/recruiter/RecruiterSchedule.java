@@ -0,0 +1,18 @@
+package com.recruitment.recruiter;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "recruiter_schedules")
+public class RecruiterSchedule {
+
+    @Id
+    private String recruiterId;
+    private long version;
+}
@@ -0,0 +1,9 @@
+package com.recruitment.recruiter;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RecruiterScheduleRepository extends MongoRepository<RecruiterSchedule, String>,
+        RecruiterScheduleRepositoryCustom {
+}
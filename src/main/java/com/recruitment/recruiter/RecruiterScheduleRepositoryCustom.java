@@ -0,0 +1,12 @@
+package com.recruitment.recruiter;
+
+public interface RecruiterScheduleRepositoryCustom {
+
+    /**
+     * Bumps the schedule version only if it still equals {@code expectedVersion}; a missing schedule counts as
+     * version 0.
+     */
+    boolean compareAndIncrement(String recruiterId, long expectedVersion);
+
+    void increment(String recruiterId);
+}
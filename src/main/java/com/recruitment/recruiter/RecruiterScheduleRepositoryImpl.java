@@ -0,0 +1,35 @@
+package com.recruitment.recruiter;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+
+@RequiredArgsConstructor
+public class RecruiterScheduleRepositoryImpl implements RecruiterScheduleRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean compareAndIncrement(String recruiterId, long expectedVersion) {
+        try {
+            // With a stale expectedVersion the upsert tries to insert a second document with the same _id.
+            UpdateResult result = mongoTemplate.upsert(
+                    query(where("_id").is(recruiterId).and("version").is(expectedVersion)),
+                    new Update().inc("version", 1), RecruiterSchedule.class);
+            return result.getMatchedCount() == 1 || result.getUpsertedId() != null;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void increment(String recruiterId) {
+        mongoTemplate.upsert(query(where("_id").is(recruiterId)), new Update().inc("version", 1),
+                RecruiterSchedule.class);
+    }
+}
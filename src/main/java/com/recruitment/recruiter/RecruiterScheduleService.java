@@ -0,0 +1,91 @@
+package com.recruitment.recruiter;
+
+import com.recruitment.exceptions.ScheduleConflictException;
+import com.recruitment.interview.SlotIntervalIndex;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Serializes schedule changes per recruiter: striped locks within this node and an optimistic version check on
+ * the recruiter's schedule document across nodes. A change that loses the version race is undone and retried.
+ */
+@Service
+public class RecruiterScheduleService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecruiterScheduleService.class);
+
+    private final RecruiterScheduleRepository scheduleRepository;
+    private final SlotIntervalIndex slotIntervalIndex;
+    private final StripedLocks locks;
+    private final int maxAttempts;
+
+    public RecruiterScheduleService(RecruiterScheduleRepository scheduleRepository,
+            SlotIntervalIndex slotIntervalIndex,
+            @Value("${recruitment.schedule.lock-stripes:64}") int lockStripes,
+            @Value("${recruitment.schedule.max-attempts:5}") int maxAttempts) {
+        this.scheduleRepository = scheduleRepository;
+        this.slotIntervalIndex = slotIntervalIndex;
+        this.locks = new StripedLocks(lockStripes);
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Runs {@code change} (validation plus writes) and commits it by bumping the schedule version it was validated
+     * against. When another node committed in between, {@code undo} reverts the writes and the change is retried.
+     */
+    public <T> T change(String recruiterId, Supplier<T> change, Consumer<T> undo) {
+        ReentrantLock lock = locks.forKey(recruiterId);
+        lock.lock();
+        try {
+            for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+                long version = currentVersion(recruiterId);
+                slotIntervalIndex.syncVersion(recruiterId, version);
+                T result = change.get();
+                if (scheduleRepository.compareAndIncrement(recruiterId, version)) {
+                    slotIntervalIndex.commitVersion(recruiterId, version + 1);
+                    return result;
+                }
+                log.debug("Schedule of recruiter {} changed concurrently (attempt {}), retrying", recruiterId,
+                        attempt);
+                undo.accept(result);
+                // Other nodes may already have indexed the undone writes; a new version makes them reload.
+                scheduleRepository.increment(recruiterId);
+                slotIntervalIndex.invalidate(recruiterId);
+                backOff(recruiterId, attempt);
+            }
+        } finally {
+            lock.unlock();
+        }
+        throw new ScheduleConflictException("Schedule of recruiter " + recruiterId
+                + " is being changed concurrently, please retry.");
+    }
+
+    /**
+     * Marks a change that cannot cause conflicts (e.g. a deletion) so other nodes reload their view.
+     */
+    public void touch(String recruiterId) {
+        scheduleRepository.increment(recruiterId);
+    }
+
+    private long currentVersion(String recruiterId) {
+        return scheduleRepository.findById(recruiterId).map(RecruiterSchedule::getVersion).orElse(0L);
+    }
+
+    private void backOff(String recruiterId, int attempt) {
+        long maxDelay = Math.min(50L, 5L << attempt);
+        try {
+            TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextLong(maxDelay + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ScheduleConflictException("Interrupted while retrying schedule change of recruiter "
+                    + recruiterId);
+        }
+    }
+}
@@ -1,18 +1,25 @@
 package com.recruitment.recruiter;
 
-import com.recruitment.exceptions.LimitExceededException;
-import com.recruitment.exceptions.OverlapException;
+import com.recruitment.config.CacheNames;
 import com.recruitment.exceptions.ResourceNotFoundException;
 import com.recruitment.interview.InterviewSlot;
-import com.recruitment.interview.InterviewSlotRepository;
+import com.recruitment.interview.SlotInterval;
+import com.recruitment.interview.SlotIntervalIndex;
+import com.recruitment.recruiter.SlotValidationMetrics.Check;
 import com.recruitment.vacation.Vacation;
 import com.recruitment.vacation.VacationRepository;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.TemporalAdjusters;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -20,15 +27,21 @@ import org.springframework.stereotype.Service;
 public class RecruiterService {
 
     private final RecruiterRepository recruiterRepository;
-    private final InterviewSlotRepository interviewSlotRepository;
     private final VacationRepository vacationRepository;
     private final RecruiterMapper recruiterMapper;
+    private final SlotIntervalIndex slotIntervalIndex;
+    private final SlotCounterService slotCounterService;
+    private final SlotValidationMetrics validationMetrics;
+
+    @Value("${recruitment.slot-validation.mode:IN_MEMORY}")
+    private SlotValidationMode validationMode;
 
     public Recruiter createRecruiter(RecruiterDto dto) {
         Recruiter entity = recruiterMapper.toEntity(dto);
         return recruiterRepository.save(entity);
     }
 
+    @CacheEvict(cacheNames = CacheNames.RECRUITERS, key = "#id")
     public Recruiter updateRecruiter(String id, RecruiterDto dto) {
         Recruiter existing = recruiterRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Recruiter not found: " + id));
@@ -40,6 +53,7 @@ public class RecruiterService {
         return recruiterRepository.save(existing);
     }
 
+    @Cacheable(cacheNames = CacheNames.RECRUITERS, unless = "#result == null")
     public Optional<Recruiter> findById(String id) {
         return recruiterRepository.findById(id);
     }
@@ -48,87 +62,179 @@ public class RecruiterService {
         return recruiterRepository.findAll();
     }
 
+    public Stream<Recruiter> streamAll() {
+        return recruiterRepository.streamAllBy();
+    }
+
+    @CacheEvict(cacheNames = CacheNames.RECRUITERS, key = "#id")
     public void deleteById(String id) {
         if (!recruiterRepository.existsById(id)) {
             throw new ResourceNotFoundException("Recruiter not found: " + id);
         }
         recruiterRepository.deleteById(id);
+        slotIntervalIndex.invalidate(id);
     }
 
     public void validateNewSlot(Recruiter recruiter, InterviewSlot slot) {
+        validateNewSlot(recruiter, slot, null);
+    }
+
+    /**
+     * Validates a new or moved slot; {@code previousStart} is the stored start of a slot being updated, so that the
+     * slot does not count against its own limits. Stops at the first violation and throws it.
+     */
+    public void validateNewSlot(Recruiter recruiter, InterviewSlot slot, LocalDateTime previousStart) {
+        evaluateNewSlot(recruiter, slot, previousStart, true).throwIfInvalid();
+    }
+
+    /**
+     * Like {@link #validateNewSlot(Recruiter, InterviewSlot, LocalDateTime)}, but runs every check and returns all
+     * violations instead of throwing.
+     */
+    public SlotValidationResult evaluateNewSlot(Recruiter recruiter, InterviewSlot slot, LocalDateTime previousStart) {
+        return evaluateNewSlot(recruiter, slot, previousStart, false);
+    }
+
+    private SlotValidationResult evaluateNewSlot(Recruiter recruiter, InterviewSlot slot, LocalDateTime previousStart,
+            boolean firstOnly) {
         if (recruiter == null || slot == null) {
             throw new IllegalArgumentException("Recruiter or slot cannot be null.");
         }
-        validateLimits(recruiter, slot);
-        validateVacationOverlap(recruiter, slot);
-        validateSlotOverlaps(recruiter, slot);
+        Map<Check, Consumer<SlotValidationResult>> checks = new EnumMap<>(Check.class);
+        if (hasAnyLimit(recruiter)) {
+            checks.put(Check.LIMITS, result -> addLimitViolations(result, recruiter, withoutSelf(
+                    slotCounterService.countsFor(recruiter.getId(), slot.getStartTime()), slot.getStartTime(),
+                    previousStart)));
+        }
+        checks.put(Check.VACATIONS, result -> addVacationViolations(result,
+                vacationRepository.findByRecruiterIdAndStartDateLessThanAndEndDateGreaterThan(recruiter.getId(),
+                        slot.getEndTime(), slot.getStartTime())));
+        checks.put(Check.OVERLAPS, result -> addOverlapViolations(result, slot, slotIntervalIndex.findOverlapping(
+                recruiter.getId(), SlotInterval.bufferedStart(slot), SlotInterval.bufferedEnd(slot))));
+        return evaluate(slot, checks, firstOnly, true);
     }
 
-    private void validateLimits(Recruiter recruiter, InterviewSlot slot) {
-        if (recruiter.getMaxDailyInterviews() != null && recruiter.getMaxDailyInterviews() > 0) {
-            long dailyCount = countSlotsInSameDay(recruiter, slot.getStartTime());
-            if (dailyCount >= recruiter.getMaxDailyInterviews()) {
-                throw new LimitExceededException("Daily limit reached for recruiter: " + recruiter.getId());
-            }
+    /**
+     * Loads the recruiter and validates the slot against it, using a single aggregation round trip when
+     * {@code recruitment.slot-validation.mode=AGGREGATION}. A slot with an ID is excluded from its own checks.
+     */
+    public Recruiter validateSlot(String recruiterId, InterviewSlot slot, LocalDateTime previousStart) {
+        if (validationMode != SlotValidationMode.AGGREGATION) {
+            Recruiter recruiter = recruiterRepository.findById(recruiterId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Recruiter not found: " + recruiterId));
+            validateNewSlot(recruiter, slot, previousStart);
+            return recruiter;
         }
-        if (recruiter.getMaxWeeklyInterviews() != null && recruiter.getMaxWeeklyInterviews() > 0) {
-            long weeklyCount = countSlotsInSameWeek(recruiter, slot.getStartTime());
-            if (weeklyCount >= recruiter.getMaxWeeklyInterviews()) {
-                throw new LimitExceededException("Weekly limit reached for recruiter: " + recruiter.getId());
-            }
+        if (slot == null) {
+            throw new IllegalArgumentException("Recruiter or slot cannot be null.");
         }
-        if (recruiter.getMaxMonthlyInterviews() != null && recruiter.getMaxMonthlyInterviews() > 0) {
-            long monthlyCount = countSlotsInSameMonth(recruiter, slot.getStartTime());
-            if (monthlyCount >= recruiter.getMaxMonthlyInterviews()) {
-                throw new LimitExceededException("Monthly limit reached for recruiter: " + recruiter.getId());
+        SlotValidationSnapshot snapshot = recruiterRepository.loadValidationSnapshot(recruiterId, slot,
+                        SlotInterval.bufferedStart(slot), SlotInterval.bufferedEnd(slot))
+                .orElseThrow(() -> new ResourceNotFoundException("Recruiter not found: " + recruiterId));
+        validateAgainst(slot, snapshot);
+        return snapshot.getRecruiter();
+    }
+
+    public void validateAgainst(InterviewSlot slot, SlotValidationSnapshot snapshot) {
+        evaluateAgainst(slot, snapshot, true, true).throwIfInvalid();
+    }
+
+    /**
+     * Checks the slot against an already loaded snapshot and returns all violations instead of throwing.
+     */
+    public SlotValidationResult evaluateAgainst(InterviewSlot slot, SlotValidationSnapshot snapshot) {
+        return evaluateAgainst(slot, snapshot, false, true);
+    }
+
+    /**
+     * Like {@link #evaluateAgainst(InterviewSlot, SlotValidationSnapshot)} for a dry run: the checks are timed, but
+     * their violations are not counted as rejections.
+     */
+    public SlotValidationResult previewAgainst(InterviewSlot slot, SlotValidationSnapshot snapshot) {
+        return evaluateAgainst(slot, snapshot, false, false);
+    }
+
+    private SlotValidationResult evaluateAgainst(InterviewSlot slot, SlotValidationSnapshot snapshot,
+            boolean firstOnly, boolean counted) {
+        Map<Check, Consumer<SlotValidationResult>> checks = new EnumMap<>(Check.class);
+        checks.put(Check.LIMITS, result -> addLimitViolations(result, snapshot.getRecruiter(), snapshot.getCounts()));
+        checks.put(Check.VACATIONS, result -> addVacationViolations(result, snapshot.getOverlappingVacations()));
+        checks.put(Check.OVERLAPS, result -> addOverlapViolations(result, slot, snapshot.getOverlappingSlots()));
+        return evaluate(slot, checks, firstOnly, counted);
+    }
+
+    // Runs the checks in the order of Check, the order in which the create path has always reported them.
+    private SlotValidationResult evaluate(InterviewSlot slot, Map<Check, Consumer<SlotValidationResult>> checks,
+            boolean firstOnly, boolean counted) {
+        SlotValidationResult result = new SlotValidationResult(slot);
+        for (Map.Entry<Check, Consumer<SlotValidationResult>> check : checks.entrySet()) {
+            if (firstOnly && !result.isValid()) {
+                break;
+            }
+            if (counted) {
+                validationMetrics.check(check.getKey(), result, () -> check.getValue().accept(result));
+            } else {
+                validationMetrics.time(check.getKey(), () -> check.getValue().accept(result));
             }
         }
+        return result;
     }
 
-    private void validateVacationOverlap(Recruiter recruiter, InterviewSlot slot) {
-        List<Vacation> overlapping = vacationRepository.findByRecruiterIdAndStartDateLessThanAndEndDateGreaterThan(
-                recruiter.getId(), slot.getEndTime(), slot.getStartTime());
-        if (!overlapping.isEmpty()) {
-            throw new OverlapException("Recruiter is on vacation during this slot.");
-        }
+    private boolean hasAnyLimit(Recruiter recruiter) {
+        return hasLimit(recruiter.getMaxDailyInterviews()) || hasLimit(recruiter.getMaxWeeklyInterviews())
+                || hasLimit(recruiter.getMaxMonthlyInterviews());
     }
 
-    private void validateSlotOverlaps(Recruiter recruiter, InterviewSlot slot) {
-        int buffer = (slot.getBufferMinutes() != null) ? slot.getBufferMinutes() : 0;
-        LocalDateTime startBuf = slot.getStartTime().minusMinutes(buffer);
-        LocalDateTime endBuf = slot.getEndTime().plusMinutes(buffer);
+    private boolean hasLimit(Integer limit) {
+        return limit != null && limit > 0;
+    }
 
-        List<InterviewSlot> overlap = interviewSlotRepository.findByRecruiterIdAndStartTimeLessThanAndEndTimeGreaterThan(
-                recruiter.getId(), endBuf, startBuf);
-        for (InterviewSlot existing : overlap) {
-            if (!existing.isMultiCapacity() || !slot.isMultiCapacity()) {
-                throw new OverlapException("Slot conflict with ID " + existing.getId());
-            }
+    private SlotCounts withoutSelf(SlotCounts counts, LocalDateTime start, LocalDateTime previousStart) {
+        if (previousStart == null) {
+            return counts;
         }
+        LocalDate day = start.toLocalDate();
+        LocalDate previousDay = previousStart.toLocalDate();
+        return new SlotCounts(
+                counts.getDaily() - (samePeriod(SlotPeriod.DAY, day, previousDay) ? 1 : 0),
+                counts.getWeekly() - (samePeriod(SlotPeriod.WEEK, day, previousDay) ? 1 : 0),
+                counts.getMonthly() - (samePeriod(SlotPeriod.MONTH, day, previousDay) ? 1 : 0));
     }
 
-    private long countSlotsInSameDay(Recruiter recruiter, LocalDateTime dateTime) {
-        LocalDate day = dateTime.toLocalDate();
-        LocalDateTime startOfDay = day.atStartOfDay();
-        LocalDateTime endOfDay = day.atTime(23, 59, 59);
-        return interviewSlotRepository.countByRecruiterIdAndStartTimeBetween(recruiter.getId(), startOfDay, endOfDay);
+    private boolean samePeriod(SlotPeriod period, LocalDate first, LocalDate second) {
+        return period.key(first).equals(period.key(second));
     }
 
-    private long countSlotsInSameWeek(Recruiter recruiter, LocalDateTime dateTime) {
-        LocalDate date = dateTime.toLocalDate();
-        LocalDate monday = date.with(java.time.DayOfWeek.MONDAY);
-        LocalDate sunday = date.with(java.time.DayOfWeek.SUNDAY);
-        LocalDateTime start = monday.atStartOfDay();
-        LocalDateTime end = sunday.atTime(23, 59, 59);
-        return interviewSlotRepository.countByRecruiterIdAndStartTimeBetween(recruiter.getId(), start, end);
+    private void addLimitViolations(SlotValidationResult result, Recruiter recruiter, SlotCounts counts) {
+        if (hasLimit(recruiter.getMaxDailyInterviews()) && counts.getDaily() >= recruiter.getMaxDailyInterviews()) {
+            result.add(SlotViolationType.DAILY_LIMIT, "Daily limit reached for recruiter: " + recruiter.getId(),
+                    null);
+        }
+        if (hasLimit(recruiter.getMaxWeeklyInterviews()) && counts.getWeekly() >= recruiter.getMaxWeeklyInterviews()) {
+            result.add(SlotViolationType.WEEKLY_LIMIT, "Weekly limit reached for recruiter: " + recruiter.getId(),
+                    null);
+        }
+        if (hasLimit(recruiter.getMaxMonthlyInterviews())
+                && counts.getMonthly() >= recruiter.getMaxMonthlyInterviews()) {
+            result.add(SlotViolationType.MONTHLY_LIMIT, "Monthly limit reached for recruiter: " + recruiter.getId(),
+                    null);
+        }
+    }
+
+    private void addVacationViolations(SlotValidationResult result, List<Vacation> overlapping) {
+        for (Vacation vacation : overlapping) {
+            result.add(SlotViolationType.VACATION, "Recruiter is on vacation during this slot.", vacation.getId());
+        }
     }
 
-    private long countSlotsInSameMonth(Recruiter recruiter, LocalDateTime dateTime) {
-        LocalDate date = dateTime.toLocalDate();
-        LocalDate firstDay = date.with(TemporalAdjusters.firstDayOfMonth());
-        LocalDate lastDay = date.with(TemporalAdjusters.lastDayOfMonth());
-        LocalDateTime start = firstDay.atStartOfDay();
-        LocalDateTime end = lastDay.atTime(23, 59, 59);
-        return interviewSlotRepository.countByRecruiterIdAndStartTimeBetween(recruiter.getId(), start, end);
+    private void addOverlapViolations(SlotValidationResult result, InterviewSlot slot, List<SlotInterval> overlap) {
+        for (SlotInterval existing : overlap) {
+            if (existing.getId() != null && existing.getId().equals(slot.getId())) {
+                continue;
+            }
+            if (!existing.isMultiCapacity() || !slot.isMultiCapacity()) {
+                result.add(SlotViolationType.OVERLAP, "Slot conflict with ID " + existing.getId(), existing.getId());
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,24 @@
+package com.recruitment.recruiter;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "recruiter_slot_counters")
+@CompoundIndex(name = "period_key", def = "{'period': 1, 'periodKey': 1}")
+@CompoundIndex(name = "recruiter", def = "{'recruiterId': 1}")
+public class SlotCounter {
+
+    @Id
+    private String id;
+    private String recruiterId;
+    private SlotPeriod period;
+    private String periodKey;
+    private long count;
+}
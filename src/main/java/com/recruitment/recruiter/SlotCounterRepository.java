@@ -0,0 +1,14 @@
+package com.recruitment.recruiter;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SlotCounterRepository extends MongoRepository<SlotCounter, String>, SlotCounterRepositoryCustom {
+
+    List<SlotCounter> findByPeriodAndPeriodKeyIn(SlotPeriod period, Collection<String> periodKeys);
+
+    List<SlotCounter> findByRecruiterId(String recruiterId);
+}
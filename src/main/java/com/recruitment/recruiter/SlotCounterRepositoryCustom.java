@@ -0,0 +1,11 @@
+package com.recruitment.recruiter;
+
+import java.util.Collection;
+
+public interface SlotCounterRepositoryCustom {
+
+    /**
+     * Applies every counter's {@code count} as a {@code $inc} delta, creating missing counters, in one bulk write.
+     */
+    void incrementAll(Collection<SlotCounter> deltas);
+}
@@ -0,0 +1,32 @@
+package com.recruitment.recruiter;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+
+@RequiredArgsConstructor
+public class SlotCounterRepositoryImpl implements SlotCounterRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void incrementAll(Collection<SlotCounter> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SlotCounter.class);
+        for (SlotCounter counter : deltas) {
+            Update update = new Update().inc("count", counter.getCount())
+                    .setOnInsert("recruiterId", counter.getRecruiterId())
+                    .setOnInsert("period", counter.getPeriod())
+                    .setOnInsert("periodKey", counter.getPeriodKey());
+            bulk.upsert(query(where("_id").is(counter.getId())), update);
+        }
+        bulk.execute();
+    }
+}
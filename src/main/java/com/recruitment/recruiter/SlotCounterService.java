@@ -0,0 +1,226 @@
+package com.recruitment.recruiter;
+
+import com.recruitment.config.JobLeaseRepository;
+import com.recruitment.exceptions.ScheduleConflictException;
+import com.recruitment.interview.DailySlotCount;
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.interview.InterviewSlotRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class SlotCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(SlotCounterService.class);
+
+    private static final String REBUILD_JOB = "slot-counter-rebuild";
+
+    private final SlotCounterRepository slotCounterRepository;
+    private final InterviewSlotRepository interviewSlotRepository;
+    private final RecruiterScheduleService recruiterScheduleService;
+    private final JobLeaseRepository jobLeaseRepository;
+    private final String owner = UUID.randomUUID().toString();
+
+    @Value("${recruitment.slot-counters.rebuild-lease:30m}")
+    private Duration rebuildLease;
+
+    public SlotCounts countsFor(String recruiterId, LocalDateTime startTime) {
+        LocalDate date = startTime.toLocalDate();
+        String dayId = SlotPeriod.DAY.counterId(recruiterId, date);
+        String weekId = SlotPeriod.WEEK.counterId(recruiterId, date);
+        String monthId = SlotPeriod.MONTH.counterId(recruiterId, date);
+
+        Map<String, Long> counts = new HashMap<>();
+        for (SlotCounter counter : slotCounterRepository.findAllById(Arrays.asList(dayId, weekId, monthId))) {
+            counts.put(counter.getId(), counter.getCount());
+        }
+        return new SlotCounts(counts.getOrDefault(dayId, 0L), counts.getOrDefault(weekId, 0L),
+                counts.getOrDefault(monthId, 0L));
+    }
+
+    /**
+     * Reads every day, week and month counter touched by {@code startTimes} in one query, keyed by counter ID.
+     */
+    public Map<String, Long> countsFor(String recruiterId, Collection<LocalDateTime> startTimes) {
+        Set<String> ids = new HashSet<>();
+        for (LocalDateTime startTime : startTimes) {
+            for (SlotPeriod period : SlotPeriod.values()) {
+                ids.add(period.counterId(recruiterId, startTime.toLocalDate()));
+            }
+        }
+        Map<String, Long> counts = new HashMap<>();
+        if (ids.isEmpty()) {
+            return counts;
+        }
+        for (SlotCounter counter : slotCounterRepository.findAllById(ids)) {
+            counts.put(counter.getId(), counter.getCount());
+        }
+        return counts;
+    }
+
+    public void slotAdded(InterviewSlot slot) {
+        Map<String, SlotCounter> deltas = new LinkedHashMap<>();
+        addDeltas(deltas, slot.getRecruiterId(), slot.getStartTime(), 1);
+        apply(deltas);
+    }
+
+    public void slotMoved(LocalDateTime previousStart, InterviewSlot slot) {
+        Map<String, SlotCounter> deltas = new LinkedHashMap<>();
+        addDeltas(deltas, slot.getRecruiterId(), previousStart, -1);
+        addDeltas(deltas, slot.getRecruiterId(), slot.getStartTime(), 1);
+        apply(deltas);
+    }
+
+    public void slotRemoved(InterviewSlot slot) {
+        Map<String, SlotCounter> deltas = new LinkedHashMap<>();
+        addDeltas(deltas, slot.getRecruiterId(), slot.getStartTime(), -1);
+        apply(deltas);
+    }
+
+    public void slotsAdded(Collection<InterviewSlot> slots) {
+        Map<String, SlotCounter> deltas = new LinkedHashMap<>();
+        for (InterviewSlot slot : slots) {
+            addDeltas(deltas, slot.getRecruiterId(), slot.getStartTime(), 1);
+        }
+        apply(deltas);
+    }
+
+    public void slotsRemoved(Collection<InterviewSlot> slots) {
+        Map<String, SlotCounter> deltas = new LinkedHashMap<>();
+        for (InterviewSlot slot : slots) {
+            addDeltas(deltas, slot.getRecruiterId(), slot.getStartTime(), -1);
+        }
+        apply(deltas);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (slotCounterRepository.count() == 0) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Repairs counters that drifted from the stored slots. One node at a time runs it, holding the job lease. The
+     * recruiters whose counters disagree with a first, lock-free count are then corrected one by one under their
+     * schedule lock and version check, with {@code $inc} deltas, so counts changed concurrently are never lost.
+     */
+    @Scheduled(cron = "${recruitment.slot-counters.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        if (!jobLeaseRepository.acquire(REBUILD_JOB, owner, now, now.plus(rebuildLease))) {
+            log.info("Slot counter rebuild is running on another node, skipping");
+            return;
+        }
+        try {
+            Map<String, SlotCounter> expected = new HashMap<>();
+            for (DailySlotCount day : interviewSlotRepository.countSlotsPerRecruiterAndDay(timezone())) {
+                addDailyCount(expected, day);
+            }
+            Set<String> drifted = new HashSet<>();
+            for (SlotCounter stored : slotCounterRepository.findAll()) {
+                SlotCounter counter = expected.remove(stored.getId());
+                if (((counter != null) ? counter.getCount() : 0) != stored.getCount()) {
+                    drifted.add(stored.getRecruiterId());
+                }
+            }
+            for (SlotCounter missing : expected.values()) {
+                if (missing.getCount() != 0) {
+                    drifted.add(missing.getRecruiterId());
+                }
+            }
+            int corrected = 0;
+            for (String recruiterId : drifted) {
+                try {
+                    corrected += recruiterScheduleService.change(recruiterId, () -> correct(recruiterId),
+                            deltas -> slotCounterRepository.incrementAll(negated(deltas))).size();
+                } catch (ScheduleConflictException e) {
+                    log.warn("Skipping slot counters of recruiter {}: {}", recruiterId, e.getMessage());
+                }
+            }
+            log.info("Corrected {} slot counters of {} recruiters", corrected, drifted.size());
+        } finally {
+            jobLeaseRepository.release(REBUILD_JOB, owner, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Applies the difference between the recruiter's slots and counters as deltas. Counters are read before the
+     * slots, so a change still in flight on another node can at worst be counted twice and block a slot until the
+     * next rebuild, never be missed and let a limit be exceeded.
+     */
+    private Collection<SlotCounter> correct(String recruiterId) {
+        Map<String, SlotCounter> deltas = new HashMap<>();
+        for (SlotCounter stored : slotCounterRepository.findByRecruiterId(recruiterId)) {
+            stored.setCount(-stored.getCount());
+            deltas.put(stored.getId(), stored);
+        }
+        for (DailySlotCount day : interviewSlotRepository.countSlotsPerDayOfRecruiter(recruiterId, timezone())) {
+            addDailyCount(deltas, day);
+        }
+        deltas.values().removeIf(counter -> counter.getCount() == 0);
+        slotCounterRepository.incrementAll(deltas.values());
+        return deltas.values();
+    }
+
+    private void addDailyCount(Map<String, SlotCounter> counters, DailySlotCount day) {
+        if (day.getRecruiterId() != null && day.getDay() != null) {
+            addDeltas(counters, day.getRecruiterId(), LocalDate.parse(day.getDay()).atStartOfDay(), day.getCount());
+        }
+    }
+
+    private List<SlotCounter> negated(Collection<SlotCounter> deltas) {
+        List<SlotCounter> negated = new ArrayList<>();
+        for (SlotCounter delta : deltas) {
+            negated.add(new SlotCounter(delta.getId(), delta.getRecruiterId(), delta.getPeriod(),
+                    delta.getPeriodKey(), -delta.getCount()));
+        }
+        return negated;
+    }
+
+    private static String timezone() {
+        return ZoneId.systemDefault().getId();
+    }
+
+    private void addDeltas(Map<String, SlotCounter> deltas, String recruiterId, LocalDateTime startTime, long delta) {
+        if (recruiterId == null || startTime == null) {
+            return;
+        }
+        LocalDate date = startTime.toLocalDate();
+        for (SlotPeriod period : SlotPeriod.values()) {
+            String id = period.counterId(recruiterId, date);
+            SlotCounter counter = deltas.get(id);
+            if (counter == null) {
+                counter = new SlotCounter(id, recruiterId, period, period.key(date), 0);
+                deltas.put(id, counter);
+            }
+            counter.setCount(counter.getCount() + delta);
+        }
+    }
+
+    private void apply(Map<String, SlotCounter> deltas) {
+        deltas.values().removeIf(counter -> counter.getCount() == 0);
+        slotCounterRepository.incrementAll(deltas.values());
+    }
+}
@@ -0,0 +1,12 @@
+package com.recruitment.recruiter;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class SlotCounts {
+    private final long daily;
+    private final long weekly;
+    private final long monthly;
+}
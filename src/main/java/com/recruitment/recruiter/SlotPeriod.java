@@ -0,0 +1,24 @@
+package com.recruitment.recruiter;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+
+public enum SlotPeriod {
+    DAY, WEEK, MONTH;
+
+    public String key(LocalDate date) {
+        switch (this) {
+            case DAY:
+                return date.toString();
+            case WEEK:
+                return String.format("%d-W%02d", date.get(IsoFields.WEEK_BASED_YEAR),
+                        date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+            default:
+                return String.format("%d-%02d", date.getYear(), date.getMonthValue());
+        }
+    }
+
+    public String counterId(String recruiterId, LocalDate date) {
+        return recruiterId + ":" + name() + ":" + key(date);
+    }
+}
@@ -0,0 +1,85 @@
+package com.recruitment.recruiter;
+
+import com.recruitment.exceptions.LimitExceededException;
+import com.recruitment.exceptions.OverlapException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * Timers of the slot validation checks ({@code slot.validation}, tagged by check) and counters of the slots they
+ * reject ({@code slot.rejections}, tagged by check and exception). Histograms are switched on in the properties.
+ */
+@Component
+public class SlotValidationMetrics {
+
+    public enum Check {
+        LIMITS, VACATIONS, OVERLAPS, CAPACITY
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Check, Timer> timers = new EnumMap<>(Check.class);
+
+    public SlotValidationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (Check check : Check.values()) {
+            timers.put(check, Timer.builder("slot.validation").tag("check", tag(check))
+                    .description("Time spent in one slot validation check").register(meterRegistry));
+        }
+    }
+
+    /**
+     * Runs and times {@code body}, counting the rejection when it throws one.
+     */
+    public void check(Check check, Runnable body) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            body.run();
+        } catch (OverlapException | LimitExceededException e) {
+            rejected(check, e);
+            throw e;
+        } finally {
+            sample.stop(timers.get(check));
+        }
+    }
+
+    /**
+     * Runs and times {@code body}, a check adding its violations to {@code result}, and counts one rejection when
+     * it added any, tagged with the exception of its first one.
+     */
+    public void check(Check check, SlotValidationResult result, Runnable body) {
+        int before = result.getViolations().size();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            body.run();
+        } finally {
+            sample.stop(timers.get(check));
+        }
+        if (result.getViolations().size() > before) {
+            count(check, result.getViolations().get(before).getType().getException());
+        }
+    }
+
+    /**
+     * Runs and times {@code body} without counting what it finds, for checks that reject nothing, such as a dry run.
+     */
+    public void time(Check check, Runnable body) {
+        timers.get(check).record(body);
+    }
+
+    public void rejected(Check check, RuntimeException rejection) {
+        count(check, rejection.getClass());
+    }
+
+    private void count(Check check, Class<? extends RuntimeException> rejection) {
+        meterRegistry.counter("slot.rejections", "check", tag(check), "exception", rejection.getSimpleName())
+                .increment();
+    }
+
+    private static String tag(Check check) {
+        return check.name().toLowerCase(Locale.ROOT);
+    }
+}
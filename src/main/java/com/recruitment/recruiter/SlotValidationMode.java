@@ -0,0 +1,5 @@
+package com.recruitment.recruiter;
+
+public enum SlotValidationMode {
+    IN_MEMORY, AGGREGATION
+}
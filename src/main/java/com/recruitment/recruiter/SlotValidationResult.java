@@ -0,0 +1,42 @@
+package com.recruitment.recruiter;
+
+import com.recruitment.interview.InterviewSlot;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of validating one slot: the violations found, none when the slot can be created. Checks add to it instead
+ * of throwing; {@link #throwIfInvalid()} turns the first violation into the exception of the create path.
+ * {@code index} is the slot's position in a batch.
+ */
+@Data
+@NoArgsConstructor
+public class SlotValidationResult {
+    private int index;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private List<SlotViolation> violations = new ArrayList<>();
+
+    public SlotValidationResult(InterviewSlot slot) {
+        this.startTime = slot.getStartTime();
+        this.endTime = slot.getEndTime();
+    }
+
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    public void add(SlotViolationType type, String message, String conflictingId) {
+        violations.add(new SlotViolation(type, message, conflictingId));
+    }
+
+    public void throwIfInvalid() {
+        if (!violations.isEmpty()) {
+            SlotViolation first = violations.get(0);
+            throw first.getType().toException(first.getMessage());
+        }
+    }
+}
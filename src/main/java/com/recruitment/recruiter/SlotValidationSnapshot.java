@@ -0,0 +1,16 @@
+package com.recruitment.recruiter;
+
+import com.recruitment.interview.SlotInterval;
+import com.recruitment.vacation.Vacation;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class SlotValidationSnapshot {
+    private final Recruiter recruiter;
+    private final SlotCounts counts;
+    private final List<SlotInterval> overlappingSlots;
+    private final List<Vacation> overlappingVacations;
+}
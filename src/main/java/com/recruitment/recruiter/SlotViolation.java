@@ -0,0 +1,17 @@
+package com.recruitment.recruiter;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One broken rule; {@code conflictingId} names the overlapping slot or vacation, if any.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotViolation {
+    private SlotViolationType type;
+    private String message;
+    private String conflictingId;
+}
@@ -0,0 +1,39 @@
+package com.recruitment.recruiter;
+
+import com.recruitment.exceptions.LimitExceededException;
+import com.recruitment.exceptions.OverlapException;
+
+/**
+ * Kinds of slot validation failures, each mapped to the exception the create path throws for it.
+ */
+public enum SlotViolationType {
+    DAILY_LIMIT(LimitExceededException.class),
+    WEEKLY_LIMIT(LimitExceededException.class),
+    MONTHLY_LIMIT(LimitExceededException.class),
+    VACATION(OverlapException.class),
+    OVERLAP(OverlapException.class),
+    INVALID_TIME(IllegalArgumentException.class);
+
+    private final Class<? extends RuntimeException> exception;
+
+    SlotViolationType(Class<? extends RuntimeException> exception) {
+        this.exception = exception;
+    }
+
+    /**
+     * The exception the create path reports this violation with.
+     */
+    public Class<? extends RuntimeException> getException() {
+        return exception;
+    }
+
+    RuntimeException toException(String message) {
+        if (exception == LimitExceededException.class) {
+            return new LimitExceededException(message);
+        }
+        if (exception == OverlapException.class) {
+            return new OverlapException(message);
+        }
+        return new IllegalArgumentException(message);
+    }
+}
@@ -0,0 +1,22 @@
+package com.recruitment.recruiter;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+final class StripedLocks {
+
+    private final ReentrantLock[] locks;
+
+    StripedLocks(int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    ReentrantLock forKey(String key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return locks[hash & (locks.length - 1)];
+    }
+}
@@ -5,12 +5,17 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Document(collection = "candidate_reservations")
+// Keyset pages: by status, or across all statuses, ordered by (reservationTime, _id).
+@CompoundIndex(name = "status_time", def = "{'status': 1, 'reservationTime': 1, '_id': 1}")
+@CompoundIndex(name = "time", def = "{'reservationTime': 1, '_id': 1}")
+@CompoundIndex(name = "slot_status", def = "{'slotId': 1, 'status': 1}")
 public class CandidateReservation {
 
     @Id
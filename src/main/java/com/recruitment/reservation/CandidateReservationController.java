@@ -1,13 +1,17 @@
 package com.recruitment.reservation;
 
+import com.recruitment.config.NdjsonResponses;
 import com.recruitment.exceptions.LimitExceededException;
 import com.recruitment.exceptions.OverlapException;
 import com.recruitment.exceptions.ResourceNotFoundException;
+import com.recruitment.exceptions.ScheduleConflictException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,7 +21,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,6 +31,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class CandidateReservationController {
 
     private final CandidateReservationService reservationService;
+    private final NdjsonResponses ndjsonResponses;
 
     @Operation(summary = "Get all reservations")
     @ApiResponse(responseCode = "200", description = "List of reservations returned")
@@ -33,6 +40,28 @@ public class CandidateReservationController {
         return reservationService.findAll();
     }
 
+    @Operation(summary = "Stream all reservations as NDJSON")
+    @ApiResponse(responseCode = "200", description = "Reservations streamed, one JSON document per line")
+    @GetMapping(produces = NdjsonResponses.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return ndjsonResponses.stream(reservationService::streamAll);
+    }
+
+    @Operation(summary = "Get a page of reservations ordered by reservation time, optionally by status and time range")
+    @ApiResponses({@ApiResponse(responseCode = "200", description = "Page of reservations returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")})
+    @GetMapping(params = "limit")
+    public ResponseEntity<?> getPage(@RequestParam int limit, @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            return ResponseEntity.ok(reservationService.findPage(status, from, to, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @Operation(summary = "Get reservation by ID")
     @ApiResponses({@ApiResponse(responseCode = "200", description = "Reservation found"),
             @ApiResponse(responseCode = "404", description = "Reservation not found")})
@@ -44,7 +73,7 @@ public class CandidateReservationController {
     @Operation(summary = "Create a new reservation")
     @ApiResponses({@ApiResponse(responseCode = "201", description = "Reservation created"),
             @ApiResponse(responseCode = "404", description = "Candidate/Slot not found"),
-            @ApiResponse(responseCode = "409", description = "Conflict (multiCapacity=false or overlap)"),
+            @ApiResponse(responseCode = "409", description = "Slot fully booked"),
             @ApiResponse(responseCode = "400", description = "Bad request")})
     @PostMapping
     public ResponseEntity<?> createReservation(@RequestBody CandidateReservationDto reservation) {
@@ -72,7 +101,7 @@ public class CandidateReservationController {
             return ResponseEntity.ok(r);
         } catch (ResourceNotFoundException e) {
             return ResponseEntity.notFound().build();
-        } catch (OverlapException | LimitExceededException e) {
+        } catch (OverlapException | LimitExceededException | ScheduleConflictException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -1,10 +1,25 @@
 package com.recruitment.reservation;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface CandidateReservationRepository extends MongoRepository<CandidateReservation, String> {
+public interface CandidateReservationRepository extends MongoRepository<CandidateReservation, String>,
+        CandidateReservationRepositoryCustom {
+
+    Stream<CandidateReservation> streamAllBy();
 
     boolean existsBySlotIdAndStatus(String slotId, String status);
-}
\ No newline at end of file
+
+    List<CandidateReservation> findBySlotIdInAndStatus(Collection<String> slotIds, String status);
+
+    @Aggregation(pipeline = {
+            "{ $match: { status: 'ACTIVE', slotId: { $ne: null } } }",
+            "{ $group: { _id: '$slotId', count: { $sum: 1 } } }",
+            "{ $project: { _id: 0, slotId: '$_id', count: 1 } }"})
+    List<SlotBookingCount> countActivePerSlot();
+}
@@ -0,0 +1,34 @@
+package com.recruitment.reservation;
+
+import com.recruitment.config.KeysetCursor;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface CandidateReservationRepositoryCustom {
+
+    /**
+     * Atomically moves the reservation from {@code expected} to {@code status}.
+     *
+     * @return {@code true} if the reservation was in {@code expected} status
+     */
+    boolean changeStatus(String reservationId, String expected, String status);
+
+    /**
+     * Atomically replaces slot, candidate, status and reservation time of the reservation if it is still in
+     * {@code expectedStatus} on {@code expectedSlotId}.
+     *
+     * @return the updated reservation, or empty if it is missing or was changed in between
+     */
+    Optional<CandidateReservation> updateIf(CandidateReservation reservation, String expectedStatus,
+            String expectedSlotId);
+
+    Optional<CandidateReservation> deleteAndGet(String reservationId);
+
+    /**
+     * Reservations ordered by reservation time then ID, starting after {@code after}; every argument but
+     * {@code limit} is optional. {@code [from, to)} bounds the reservation time.
+     */
+    List<CandidateReservation> findPage(String status, LocalDateTime from, LocalDateTime to, KeysetCursor after,
+            int limit);
+}
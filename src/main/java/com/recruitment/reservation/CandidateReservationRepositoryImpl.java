@@ -0,0 +1,69 @@
+package com.recruitment.reservation;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import com.recruitment.config.KeysetCursor;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+@RequiredArgsConstructor
+public class CandidateReservationRepositoryImpl implements CandidateReservationRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean changeStatus(String reservationId, String expected, String status) {
+        return mongoTemplate.updateFirst(query(where("_id").is(reservationId).and("status").is(expected)),
+                new Update().set("status", status), CandidateReservation.class).getModifiedCount() == 1;
+    }
+
+    @Override
+    public Optional<CandidateReservation> updateIf(CandidateReservation reservation, String expectedStatus,
+            String expectedSlotId) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(query(where("_id").is(reservation.getId())
+                        .and("status").is(expectedStatus).and("slotId").is(expectedSlotId)),
+                new Update().set("slotId", reservation.getSlotId())
+                        .set("candidateId", reservation.getCandidateId())
+                        .set("status", reservation.getStatus())
+                        .set("reservationTime", reservation.getReservationTime()),
+                FindAndModifyOptions.options().returnNew(true), CandidateReservation.class));
+    }
+
+    @Override
+    public Optional<CandidateReservation> deleteAndGet(String reservationId) {
+        return Optional.ofNullable(mongoTemplate.findAndRemove(query(where("_id").is(reservationId)),
+                CandidateReservation.class));
+    }
+
+    @Override
+    public List<CandidateReservation> findPage(String status, LocalDateTime from, LocalDateTime to,
+            KeysetCursor after, int limit) {
+        List<Criteria> filters = new ArrayList<>();
+        if (status != null) {
+            filters.add(where("status").is(status));
+        }
+        if (from != null) {
+            filters.add(where("reservationTime").gte(from));
+        }
+        if (to != null) {
+            filters.add(where("reservationTime").lt(to));
+        }
+        if (after != null) {
+            filters.add(after.after("reservationTime"));
+        }
+        Query query = new Query(filters.isEmpty() ? new Criteria() : new Criteria().andOperator(filters))
+                .with(Sort.by("reservationTime", "_id"))
+                .limit(limit);
+        return mongoTemplate.find(query, CandidateReservation.class);
+    }
+}
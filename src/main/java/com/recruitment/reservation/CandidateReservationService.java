@@ -1,68 +1,139 @@
 package com.recruitment.reservation;
 
-import com.recruitment.candidate.CandidateRepository;
+import com.recruitment.candidate.CandidateService;
+import com.recruitment.config.KeysetCursor;
+import com.recruitment.config.KeysetPage;
+import com.recruitment.events.DomainEvent;
+import com.recruitment.events.DomainEventPublisher;
+import com.recruitment.events.DomainEventType;
 import com.recruitment.exceptions.OverlapException;
 import com.recruitment.exceptions.ResourceNotFoundException;
+import com.recruitment.exceptions.ScheduleConflictException;
 import com.recruitment.interview.InterviewSlot;
 import com.recruitment.interview.InterviewSlotRepository;
+import com.recruitment.interview.ScheduleSnapshot;
+import com.recruitment.recruiter.SlotValidationMetrics;
+import com.recruitment.recruiter.SlotValidationMetrics.Check;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-import com.recruitment.kafka.KafkaProducerService;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
 public class CandidateReservationService {
 
+    private static final Logger log = LoggerFactory.getLogger(CandidateReservationService.class);
+    private static final String ACTIVE = "ACTIVE";
+    private static final String CANCELLED = "CANCELLED";
+
     private final CandidateReservationRepository reservationRepository;
-    private final CandidateRepository candidateRepository;
+    private final CandidateService candidateService;
     private final InterviewSlotRepository slotRepository;
     private final CandidateReservationMapper reservationMapper;
-    private final KafkaProducerService kafkaProducerService;
+    private final ScheduleSnapshot scheduleSnapshot;
+    private final DomainEventPublisher eventPublisher;
+    private final SlotValidationMetrics validationMetrics;
+    // Covers only the reservation write and its outbox event; booking a slot stays outside, as a transaction would
+    // turn concurrent bookings of the same slot into write conflicts.
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${recruitment.slots.default-multi-capacity:10}")
+    private int defaultMultiCapacity;
+
+    @Value("${recruitment.paging.max-limit:500}")
+    private int maxPageLimit;
 
     public CandidateReservation createReservation(CandidateReservationDto dto) {
-        InterviewSlot slot = slotRepository.findById(dto.getSlotId())
-                .orElseThrow(() -> new ResourceNotFoundException("Slot not found: " + dto.getSlotId()));
-        if (!candidateRepository.existsById(dto.getCandidateId())) {
+        if (!candidateService.exists(dto.getCandidateId())) {
             throw new ResourceNotFoundException("Candidate not found: " + dto.getCandidateId());
         }
-        if (!slot.isMultiCapacity()) {
-            boolean alreadyReserved = reservationRepository.existsBySlotIdAndStatus(slot.getId(), "ACTIVE");
-            if (alreadyReserved) {
-                throw new OverlapException("Slot is already reserved (multiCapacity=false).");
-            }
-        }
+        book(dto.getSlotId());
         CandidateReservation entity = reservationMapper.toEntity(dto);
         entity.setReservationTime(LocalDateTime.now());
-        entity.setStatus("ACTIVE");
-        CandidateReservation saved = reservationRepository.save(entity);
-
-        String message = String.format("Reservation created: id=%s slot=%s candidate=%s",
-                saved.getId(), saved.getSlotId(), saved.getCandidateId());
-        kafkaProducerService.sendMessage("reservations", saved.getId(), message);
-
-        return saved;
+        entity.setStatus(ACTIVE);
+        try {
+            return transactionTemplate.execute(status -> {
+                CandidateReservation saved = reservationRepository.save(entity);
+                publish(DomainEventType.RESERVATION_CREATED, saved);
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            release(dto.getSlotId());
+            throw e;
+        }
     }
 
     public CandidateReservation updateReservation(String reservationId, CandidateReservationDto dto) {
         CandidateReservation existing = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Reservation not found: " + reservationId));
+        boolean wasActive = ACTIVE.equals(existing.getStatus());
+        boolean active = ACTIVE.equals(dto.getStatus());
+        boolean slotChanged = !Objects.equals(existing.getSlotId(), dto.getSlotId());
+        String previousSlotId = existing.getSlotId();
+        String previousStatus = existing.getStatus();
+        boolean booked = active && (!wasActive || slotChanged);
+        if (booked) {
+            book(dto.getSlotId());
+        }
         existing.setCandidateId(dto.getCandidateId());
         existing.setSlotId(dto.getSlotId());
         existing.setStatus(dto.getStatus());
         existing.setReservationTime(dto.getReservationTime());
-        return reservationRepository.save(existing);
+        CandidateReservation saved;
+        try {
+            // Conditional on what the places were counted from, so a concurrent cancel or update is not overwritten.
+            saved = transactionTemplate.execute(status -> {
+                CandidateReservation updated = reservationRepository.updateIf(existing, previousStatus,
+                        previousSlotId).orElseThrow(() -> new ScheduleConflictException("Reservation "
+                        + reservationId + " was changed concurrently, please retry."));
+                publish(DomainEventType.RESERVATION_UPDATED, updated);
+                return updated;
+            });
+        } catch (RuntimeException e) {
+            if (booked) {
+                release(dto.getSlotId());
+            }
+            throw e;
+        }
+        if (wasActive && (!active || slotChanged)) {
+            release(previousSlotId);
+        }
+        return saved;
     }
 
     public void cancelReservation(String reservationId) {
         CandidateReservation existing = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Reservation not found: " + reservationId));
-        existing.setStatus("CANCELLED");
-        reservationRepository.save(existing);
+        // Only the caller that actually ends an active reservation gives its place back.
+        boolean endedActive = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (reservationRepository.changeStatus(reservationId, ACTIVE, CANCELLED)) {
+                existing.setStatus(CANCELLED);
+                publish(DomainEventType.RESERVATION_CANCELLED, existing);
+                return true;
+            }
+            if (!CANCELLED.equals(existing.getStatus())) {
+                existing.setStatus(CANCELLED);
+                publish(DomainEventType.RESERVATION_CANCELLED, reservationRepository.save(existing));
+            }
+            return false;
+        }));
+        if (endedActive) {
+            release(existing.getSlotId());
+        }
     }
 
     public Optional<CandidateReservation> findById(String reservationId) {
@@ -73,10 +144,64 @@ public class CandidateReservationService {
         return reservationRepository.findAll();
     }
 
+    public Stream<CandidateReservation> streamAll() {
+        return reservationRepository.streamAllBy();
+    }
+
+    public KeysetPage<CandidateReservation> findPage(String status, LocalDateTime from, LocalDateTime to,
+            String cursor, int limit) {
+        int pageLimit = KeysetPage.limit(limit, maxPageLimit);
+        List<CandidateReservation> fetched = reservationRepository.findPage(status, from, to,
+                KeysetCursor.decode(cursor), pageLimit + 1);
+        return KeysetPage.of(fetched, pageLimit,
+                reservation -> new KeysetCursor(reservation.getReservationTime(), reservation.getId()));
+    }
+
     public void deleteReservation(String reservationId) {
-        if (!reservationRepository.existsById(reservationId)) {
-            throw new ResourceNotFoundException("Reservation not found: " + reservationId);
+        CandidateReservation deleted = transactionTemplate.execute(status -> {
+            CandidateReservation removed = reservationRepository.deleteAndGet(reservationId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Reservation not found: " + reservationId));
+            publish(DomainEventType.RESERVATION_DELETED, removed);
+            return removed;
+        });
+        if (ACTIVE.equals(deleted.getStatus())) {
+            release(deleted.getSlotId());
+        }
+    }
+
+    /**
+     * Fills in capacity and booked count of slots created before bookings were counted on the slot itself.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSlotBookings() {
+        if (!slotRepository.needsBookingBackfill()) {
+            return;
         }
-        reservationRepository.deleteById(reservationId);
+        Map<String, Long> active = new HashMap<>();
+        for (SlotBookingCount booking : reservationRepository.countActivePerSlot()) {
+            active.put(booking.getSlotId(), booking.getCount());
+        }
+        slotRepository.backfillBookings(active, defaultMultiCapacity);
+        log.info("Backfilled booked counts of slots from {} booked slots", active.size());
+    }
+
+    private void publish(DomainEventType type, CandidateReservation reservation) {
+        eventPublisher.publish(DomainEvent.reservation(type, reservation));
+    }
+
+    private void book(String slotId) {
+        validationMetrics.check(Check.CAPACITY, () -> {
+            InterviewSlot booked = slotRepository.book(slotId).orElseThrow(() -> {
+                if (!slotRepository.existsById(slotId)) {
+                    return new ResourceNotFoundException("Slot not found: " + slotId);
+                }
+                return new OverlapException("Slot is fully booked: " + slotId);
+            });
+            scheduleSnapshot.put(booked);
+        });
+    }
+
+    private void release(String slotId) {
+        slotRepository.release(slotId).ifPresent(scheduleSnapshot::put);
     }
-}
\ No newline at end of file
+}
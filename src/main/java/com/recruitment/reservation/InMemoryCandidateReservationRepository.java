@@ -0,0 +1,102 @@
+package com.recruitment.reservation;
+
+import com.recruitment.config.KeysetCursor;
+import com.recruitment.storage.InMemoryRepository;
+import com.recruitment.storage.OrderedIndex;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link CandidateReservationRepository} of the {@code memory} storage, indexed by reservation time overall, per
+ * status and per slot.
+ */
+public class InMemoryCandidateReservationRepository extends InMemoryRepository<CandidateReservation>
+        implements CandidateReservationRepository {
+
+    private static final String ALL = "";
+    private static final String ACTIVE = "ACTIVE";
+
+    private final OrderedIndex<CandidateReservation> byTime = index(reservation -> ALL,
+            CandidateReservation::getReservationTime);
+    private final OrderedIndex<CandidateReservation> byStatus = index(CandidateReservation::getStatus,
+            CandidateReservation::getReservationTime);
+    private final OrderedIndex<CandidateReservation> bySlot = index(CandidateReservation::getSlotId,
+            CandidateReservation::getReservationTime);
+
+    public InMemoryCandidateReservationRepository() {
+        super(CandidateReservation::getId, CandidateReservation::setId, reservation -> new CandidateReservation(
+                reservation.getId(), reservation.getSlotId(), reservation.getCandidateId(),
+                reservation.getReservationTime(), reservation.getStatus()));
+    }
+
+    @Override
+    public Stream<CandidateReservation> streamAllBy() {
+        return findAll().stream();
+    }
+
+    @Override
+    public boolean existsBySlotIdAndStatus(String slotId, String status) {
+        return read(() -> !bySlot.range(slotId, null, null, null,
+                reservation -> Objects.equals(status, reservation.getStatus()), 1).isEmpty());
+    }
+
+    @Override
+    public List<CandidateReservation> findBySlotIdInAndStatus(Collection<String> slotIds, String status) {
+        return read(() -> {
+            List<CandidateReservation> found = new ArrayList<>();
+            for (String slotId : slotIds) {
+                found.addAll(bySlot.range(slotId, null, null, null,
+                        reservation -> Objects.equals(status, reservation.getStatus()), Integer.MAX_VALUE));
+            }
+            return copies(found);
+        });
+    }
+
+    @Override
+    public List<SlotBookingCount> countActivePerSlot() {
+        Map<String, Long> counts = read(() -> byStatus.range(ACTIVE, null, null, null,
+                reservation -> reservation.getSlotId() != null, Integer.MAX_VALUE).stream()
+                .collect(Collectors.groupingBy(CandidateReservation::getSlotId, Collectors.counting())));
+        List<SlotBookingCount> result = new ArrayList<>();
+        counts.forEach((slotId, count) -> result.add(new SlotBookingCount(slotId, count)));
+        return result;
+    }
+
+    @Override
+    public boolean changeStatus(String reservationId, String expected, String status) {
+        return update(reservationId, reservation -> Objects.equals(expected, reservation.getStatus()),
+                reservation -> reservation.setStatus(status)).isPresent();
+    }
+
+    @Override
+    public Optional<CandidateReservation> updateIf(CandidateReservation reservation, String expectedStatus,
+            String expectedSlotId) {
+        return update(reservation.getId(), stored -> Objects.equals(expectedStatus, stored.getStatus())
+                && Objects.equals(expectedSlotId, stored.getSlotId()), stored -> {
+                    stored.setSlotId(reservation.getSlotId());
+                    stored.setCandidateId(reservation.getCandidateId());
+                    stored.setStatus(reservation.getStatus());
+                    stored.setReservationTime(reservation.getReservationTime());
+                });
+    }
+
+    @Override
+    public Optional<CandidateReservation> deleteAndGet(String reservationId) {
+        return remove(reservationId);
+    }
+
+    @Override
+    public List<CandidateReservation> findPage(String status, LocalDateTime from, LocalDateTime to,
+            KeysetCursor after, int limit) {
+        return read(() -> copies((status != null)
+                ? byStatus.range(status, from, to, after, reservation -> true, limit)
+                : byTime.range(ALL, from, to, after, reservation -> true, limit)));
+    }
+}
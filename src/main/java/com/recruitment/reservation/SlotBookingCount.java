@@ -0,0 +1,13 @@
+package com.recruitment.reservation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotBookingCount {
+    private String slotId;
+    private long count;
+}
@@ -0,0 +1,360 @@
+package com.recruitment.storage;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import org.bson.types.ObjectId;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.repository.query.FluentQuery;
+
+/**
+ * The {@link MongoRepository} contract over a map of documents by ID, the base of the repositories of the
+ * {@code memory} storage. Documents are copied on every write and read, so callers never share an instance with the
+ * store, just as with a database. Subclasses declare {@link OrderedIndex ordered indexes} for their derived queries.
+ * <p>
+ * Reads run under the shared lock of the collection, and so does an {@link #update} that leaves the document where
+ * it is in every index, such as booking a place. It checks its condition and writes inside the map's per-document
+ * {@code compute}, which makes it as atomic as a single-document {@code findAndModify} while changes to different
+ * documents run in parallel. Only index maintenance takes the exclusive lock: inserts, deletes and updates that move
+ * a document in an index. Stored documents are never changed in place, only replaced. Query by example is not
+ * supported.
+ */
+public abstract class InMemoryRepository<T> implements MongoRepository<T, String> {
+
+    private final Map<String, T> documents = new ConcurrentHashMap<>();
+    private final List<OrderedIndex<T>> indexes = new ArrayList<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Function<T, String> idOf;
+    private final BiConsumer<T, String> assignId;
+    private final UnaryOperator<T> copy;
+
+    protected InMemoryRepository(Function<T, String> idOf, BiConsumer<T, String> assignId, UnaryOperator<T> copy) {
+        this.idOf = idOf;
+        this.assignId = assignId;
+        this.copy = copy;
+    }
+
+    protected OrderedIndex<T> index(Function<T, Object> partitionOf, Function<T, LocalDateTime> timeOf) {
+        OrderedIndex<T> index = new OrderedIndex<>(partitionOf, timeOf, idOf, documents::get);
+        indexes.add(index);
+        return index;
+    }
+
+    protected <R> R read(Supplier<R> query) {
+        lock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    protected <R> R write(Supplier<R> change) {
+        lock.writeLock().lock();
+        try {
+            return change.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The stored documents themselves; only for use under {@link #read} or {@link #write}, and never returned.
+     */
+    protected Collection<T> stored() {
+        return documents.values();
+    }
+
+    protected List<T> copies(Collection<T> stored) {
+        return stored.stream().map(copy).collect(Collectors.toList());
+    }
+
+    /**
+     * Changes the document if it exists and matches {@code condition}, atomically.
+     *
+     * @return the document after the change, or empty when it is missing or does not match
+     */
+    protected Optional<T> update(String id, Predicate<T> condition, Consumer<T> change) {
+        Change<T> inPlace = read(() -> change(id, condition, change, false));
+        return inPlace.moved ? write(() -> change(id, condition, change, true)).result : inPlace.result;
+    }
+
+    /**
+     * Applies the change inside the document's {@code compute}. Without {@code reindex} a change that would move the
+     * document in an index is not applied but reported, to be redone under the exclusive lock.
+     */
+    private Change<T> change(String id, Predicate<T> condition, Consumer<T> change, boolean reindex) {
+        Change<T> outcome = new Change<>();
+        documents.computeIfPresent(id, (key, current) -> {
+            if (!condition.test(current)) {
+                return current;
+            }
+            T updated = copy.apply(current);
+            change.accept(updated);
+            boolean moves = indexes.stream().anyMatch(index -> !index.samePosition(current, updated));
+            if (moves && !reindex) {
+                outcome.moved = true;
+                return current;
+            }
+            if (moves) {
+                for (OrderedIndex<T> index : indexes) {
+                    index.remove(current);
+                    index.add(updated);
+                }
+            }
+            outcome.result = Optional.of(copy.apply(updated));
+            return updated;
+        });
+        return outcome;
+    }
+
+    /**
+     * Changes the document like {@link #update}, first inserting the one {@code created} gives when it is missing.
+     *
+     * @return the document after the change
+     */
+    protected T upsert(String id, Supplier<T> created, Consumer<T> change) {
+        Optional<T> updated = update(id, document -> true, change);
+        if (updated.isPresent()) {
+            return updated.get();
+        }
+        return write(() -> {
+            if (documents.containsKey(id)) {
+                return change(id, document -> true, change, true).result.orElseThrow();
+            }
+            T document = created.get();
+            change.accept(document);
+            store(document);
+            return copy.apply(document);
+        });
+    }
+
+    protected Optional<T> remove(String id) {
+        return write(() -> {
+            T removed = documents.remove(id);
+            if (removed == null) {
+                return Optional.empty();
+            }
+            indexes.forEach(index -> index.remove(removed));
+            return Optional.of(removed);
+        });
+    }
+
+    private void store(T document) {
+        T previous = documents.put(idOf.apply(document), document);
+        for (OrderedIndex<T> index : indexes) {
+            if (previous != null) {
+                index.remove(previous);
+            }
+            index.add(document);
+        }
+    }
+
+    private <S extends T> S assignIdIfMissing(S entity) {
+        if (idOf.apply(entity) == null) {
+            assignId.accept(entity, new ObjectId().toHexString());
+        }
+        return entity;
+    }
+
+    @Override
+    public <S extends T> S save(S entity) {
+        return write(() -> {
+            store(copy.apply(assignIdIfMissing(entity)));
+            return entity;
+        });
+    }
+
+    @Override
+    public <S extends T> List<S> saveAll(Iterable<S> entities) {
+        return write(() -> {
+            List<S> saved = new ArrayList<>();
+            for (S entity : entities) {
+                store(copy.apply(assignIdIfMissing(entity)));
+                saved.add(entity);
+            }
+            return saved;
+        });
+    }
+
+    @Override
+    public <S extends T> S insert(S entity) {
+        return write(() -> {
+            if (documents.containsKey(idOf.apply(assignIdIfMissing(entity)))) {
+                throw new DuplicateKeyException("Duplicate key " + idOf.apply(entity));
+            }
+            store(copy.apply(entity));
+            return entity;
+        });
+    }
+
+    @Override
+    public <S extends T> List<S> insert(Iterable<S> entities) {
+        List<S> inserted = new ArrayList<>();
+        entities.forEach(entity -> inserted.add(insert(entity)));
+        return inserted;
+    }
+
+    @Override
+    public Optional<T> findById(String id) {
+        return read(() -> Optional.ofNullable(documents.get(id)).map(copy));
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return read(() -> documents.containsKey(id));
+    }
+
+    @Override
+    public List<T> findAll() {
+        return read(() -> copies(documents.values()));
+    }
+
+    @Override
+    public List<T> findAllById(Iterable<String> ids) {
+        return read(() -> {
+            List<T> found = new ArrayList<>();
+            for (String id : ids) {
+                T document = documents.get(id);
+                if (document != null) {
+                    found.add(copy.apply(document));
+                }
+            }
+            return found;
+        });
+    }
+
+    @Override
+    public List<T> findAll(Sort sort) {
+        List<T> all = findAll();
+        all.sort(comparator(sort));
+        return all;
+    }
+
+    @Override
+    public Page<T> findAll(Pageable pageable) {
+        List<T> all = findAll(pageable.getSort());
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(all);
+        }
+        int from = (int) Math.min(pageable.getOffset(), all.size());
+        int to = Math.min(from + pageable.getPageSize(), all.size());
+        return new PageImpl<>(new ArrayList<>(all.subList(from, to)), pageable, all.size());
+    }
+
+    @Override
+    public long count() {
+        return read(documents::size);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        remove(id);
+    }
+
+    @Override
+    public void delete(T entity) {
+        remove(idOf.apply(entity));
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends String> ids) {
+        ids.forEach(this::remove);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends T> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        write(() -> {
+            documents.clear();
+            indexes.forEach(OrderedIndex::clear);
+            return null;
+        });
+    }
+
+    /**
+     * Orders documents like a MongoDB sort on their properties, with missing values first; {@code _id} is the ID.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected Comparator<T> comparator(Sort sort) {
+        Comparator<T> comparator = (first, second) -> 0;
+        for (Sort.Order order : sort) {
+            String property = "_id".equals(order.getProperty()) ? "id" : order.getProperty();
+            Comparator<Comparable> values = Comparator.nullsFirst(Comparator.naturalOrder());
+            Comparator<T> byProperty = Comparator.comparing(
+                    document -> (Comparable) new BeanWrapperImpl(document).getPropertyValue(property), values);
+            comparator = comparator.thenComparing(order.isAscending() ? byProperty : byProperty.reversed());
+        }
+        return comparator;
+    }
+
+    @Override
+    public <S extends T> Optional<S> findOne(Example<S> example) {
+        throw queryByExample();
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example) {
+        throw queryByExample();
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example, Sort sort) {
+        throw queryByExample();
+    }
+
+    @Override
+    public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
+        throw queryByExample();
+    }
+
+    @Override
+    public <S extends T> long count(Example<S> example) {
+        throw queryByExample();
+    }
+
+    @Override
+    public <S extends T> boolean exists(Example<S> example) {
+        throw queryByExample();
+    }
+
+    @Override
+    public <S extends T, R> R findBy(Example<S> example,
+            Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        throw queryByExample();
+    }
+
+    private UnsupportedOperationException queryByExample() {
+        return new UnsupportedOperationException("Query by example is not supported by the in-memory storage");
+    }
+
+    private static final class Change<T> {
+        private Optional<T> result = Optional.empty();
+        private boolean moved;
+    }
+}
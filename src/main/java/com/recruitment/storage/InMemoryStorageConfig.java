@@ -0,0 +1,59 @@
+package com.recruitment.storage;
+
+import com.recruitment.interview.InMemoryInterviewSlotRepository;
+import com.recruitment.recruiter.InMemoryRecruiterRepository;
+import com.recruitment.recruiter.InMemorySlotCounterRepository;
+import com.recruitment.reservation.InMemoryCandidateReservationRepository;
+import com.recruitment.vacation.InMemoryVacationRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * With {@code recruitment.storage=memory}, slots, reservations, vacations, recruiters and the slot limit counters
+ * live in this JVM instead of MongoDB: the in-memory repositories take precedence over the MongoDB ones wherever a
+ * repository is injected. Data is lost on restart and not shared between nodes, and writes do not take part in
+ * MongoDB transactions.
+ * <p>
+ * This mode takes the scheduling hot path off the database; it does not run without one. The event outbox,
+ * candidates, users, recruiter schedule versions, calendar sync tasks, job leases and the schedule projection stay
+ * in MongoDB, and the in-memory repositories do not support query by example. {@code DatasetLoader}, which writes
+ * straight to MongoDB, refuses to run in this mode.
+ */
+@Configuration
+@ConditionalOnProperty(name = "recruitment.storage", havingValue = "memory")
+public class InMemoryStorageConfig {
+
+    @Bean
+    @Primary
+    public InMemoryInterviewSlotRepository inMemoryInterviewSlotRepository() {
+        return new InMemoryInterviewSlotRepository();
+    }
+
+    @Bean
+    @Primary
+    public InMemoryCandidateReservationRepository inMemoryCandidateReservationRepository() {
+        return new InMemoryCandidateReservationRepository();
+    }
+
+    @Bean
+    @Primary
+    public InMemoryVacationRepository inMemoryVacationRepository() {
+        return new InMemoryVacationRepository();
+    }
+
+    // With the slots: counters left in MongoDB would outlive them and count slots lost on restart.
+    @Bean
+    @Primary
+    public InMemorySlotCounterRepository inMemorySlotCounterRepository() {
+        return new InMemorySlotCounterRepository();
+    }
+
+    @Bean
+    @Primary
+    public InMemoryRecruiterRepository inMemoryRecruiterRepository(InMemoryInterviewSlotRepository slotRepository,
+            InMemoryVacationRepository vacationRepository) {
+        return new InMemoryRecruiterRepository(slotRepository, vacationRepository);
+    }
+}
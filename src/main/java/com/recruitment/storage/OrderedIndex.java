@@ -0,0 +1,158 @@
+package com.recruitment.storage;
+
+import com.recruitment.config.KeysetCursor;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Documents grouped by a partition key and ordered by (time, ID) within each partition, the in-memory counterpart
+ * of a compound index {@code {partition fields, time: 1, _id: 1}}. Missing times sort first, as in MongoDB. Entries
+ * hold IDs and are resolved to the current document on read, so a document can be replaced without touching the
+ * index as long as its partition and time stay. Not thread-safe on its own: {@link InMemoryRepository} guards it
+ * with the lock of its collection.
+ */
+public class OrderedIndex<T> {
+
+    // Sorts before every stored ID, so (time, "") is the first position of a time.
+    private static final String BEFORE_ANY_ID = "";
+
+    private final Function<T, Object> partitionOf;
+    private final Function<T, LocalDateTime> timeOf;
+    private final Function<T, String> idOf;
+    private final Function<String, T> documentOf;
+    private final Map<Object, NavigableMap<Key, String>> partitions = new HashMap<>();
+
+    OrderedIndex(Function<T, Object> partitionOf, Function<T, LocalDateTime> timeOf, Function<T, String> idOf,
+            Function<String, T> documentOf) {
+        this.partitionOf = partitionOf;
+        this.timeOf = timeOf;
+        this.idOf = idOf;
+        this.documentOf = documentOf;
+    }
+
+    /**
+     * The order of this index, for merging the ranges of several partitions.
+     */
+    public Comparator<T> order() {
+        return (first, second) -> key(first).compareTo(key(second));
+    }
+
+    /**
+     * Up to {@code limit} documents of the partition matching {@code filter}, in index order. Like the keyset queries
+     * on MongoDB, {@code [from, to)} bounds the time, {@code after} starts behind a cursor and all three are
+     * optional; documents without a time only match when neither bound is given.
+     */
+    public List<T> range(Object partition, LocalDateTime from, LocalDateTime to, KeysetCursor after,
+            Predicate<T> filter, int limit) {
+        NavigableMap<Key, String> documents = partitions.get(partition);
+        if (documents == null) {
+            return Collections.emptyList();
+        }
+        Key lower = null;
+        boolean inclusive = true;
+        if (from != null) {
+            lower = new Key(from, BEFORE_ANY_ID);
+        } else if (to != null) {
+            // $lt never matches a missing time.
+            lower = new Key(LocalDateTime.MIN, BEFORE_ANY_ID);
+        }
+        if (after != null) {
+            Key cursor = new Key(after.getTime(), after.getId());
+            if (lower == null || cursor.compareTo(lower) >= 0) {
+                lower = cursor;
+                inclusive = false;
+            }
+        }
+        NavigableMap<Key, String> view = (lower == null) ? documents : documents.tailMap(lower, inclusive);
+        if (to != null) {
+            Key upper = new Key(to, BEFORE_ANY_ID);
+            if (lower != null && upper.compareTo(lower) <= 0) {
+                return Collections.emptyList();
+            }
+            view = view.headMap(upper, false);
+        }
+        List<T> matches = new ArrayList<>(Math.min(limit, view.size()));
+        for (String id : view.values()) {
+            if (matches.size() >= limit) {
+                break;
+            }
+            T document = documentOf.apply(id);
+            if (filter.test(document)) {
+                matches.add(document);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Whether both versions of a document sit at the same position of this index.
+     */
+    boolean samePosition(T document, T other) {
+        return Objects.equals(partitionOf.apply(document), partitionOf.apply(other))
+                && key(document).equals(key(other));
+    }
+
+    void add(T document) {
+        partitions.computeIfAbsent(partitionOf.apply(document), partition -> new TreeMap<>())
+                .put(key(document), idOf.apply(document));
+    }
+
+    void remove(T document) {
+        Object partition = partitionOf.apply(document);
+        NavigableMap<Key, String> documents = partitions.get(partition);
+        if (documents != null) {
+            documents.remove(key(document));
+            if (documents.isEmpty()) {
+                partitions.remove(partition);
+            }
+        }
+    }
+
+    void clear() {
+        partitions.clear();
+    }
+
+    private Key key(T document) {
+        return new Key(timeOf.apply(document), idOf.apply(document));
+    }
+
+    private static final class Key implements Comparable<Key> {
+
+        private static final Comparator<Key> ORDER = Comparator
+                .comparing((Key key) -> key.time, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+                .thenComparing(key -> key.id);
+
+        private final LocalDateTime time;
+        private final String id;
+
+        Key(LocalDateTime time, String id) {
+            this.time = time;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key && Objects.equals(time, ((Key) other).time) && id.equals(((Key) other).id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(time, id);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.recruitment.user;
 
+import com.recruitment.config.NdjsonResponses;
 import com.recruitment.exceptions.ResourceNotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,6 +24,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController {
 
     private final UserService userService;
+    private final NdjsonResponses ndjsonResponses;
 
     @Operation(summary = "Get all users")
     @ApiResponse(responseCode = "200", description = "List of users returned")
@@ -30,6 +33,13 @@ public class UserController {
         return userService.findAll();
     }
 
+    @Operation(summary = "Stream all users as NDJSON")
+    @ApiResponse(responseCode = "200", description = "Users streamed, one JSON document per line")
+    @GetMapping(produces = NdjsonResponses.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return ndjsonResponses.stream(userService::streamAll);
+    }
+
     @Operation(summary = "Get user by ID")
     @ApiResponses({@ApiResponse(responseCode = "200", description = "User found"),
             @ApiResponse(responseCode = "404", description = "User not found")})
@@ -1,8 +1,11 @@
 package com.recruitment.user;
 
+import java.util.stream.Stream;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserRepository extends MongoRepository<User, String> {
-}
\ No newline at end of file
+
+    Stream<User> streamAllBy();
+}
@@ -3,6 +3,7 @@ package com.recruitment.user;
 import com.recruitment.exceptions.ResourceNotFoundException;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -36,6 +37,10 @@ public class UserService {
         return userRepository.findAll();
     }
 
+    public Stream<User> streamAll() {
+        return userRepository.streamAllBy();
+    }
+
     public void deleteUser(String userId) {
         if (!userRepository.existsById(userId)) {
             throw new ResourceNotFoundException("User not found: " + userId);
@@ -0,0 +1,57 @@
+package com.recruitment.vacation;
+
+import com.recruitment.storage.InMemoryRepository;
+import com.recruitment.storage.OrderedIndex;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * {@link VacationRepository} of the {@code memory} storage, indexed by start date overall and per recruiter.
+ */
+public class InMemoryVacationRepository extends InMemoryRepository<Vacation> implements VacationRepository {
+
+    private static final String ALL = "";
+
+    private final OrderedIndex<Vacation> byStart = index(vacation -> ALL, Vacation::getStartDate);
+    private final OrderedIndex<Vacation> byRecruiter = index(Vacation::getRecruiterId, Vacation::getStartDate);
+
+    public InMemoryVacationRepository() {
+        super(Vacation::getId, Vacation::setId, vacation -> new Vacation(vacation.getId(), vacation.getRecruiterId(),
+                vacation.getStartDate(), vacation.getEndDate(), vacation.getReason(), vacation.isApproved()));
+    }
+
+    @Override
+    public List<Vacation> findByRecruiterId(String recruiterId) {
+        return read(() -> copies(byRecruiter.range(recruiterId, null, null, null, vacation -> true,
+                Integer.MAX_VALUE)));
+    }
+
+    @Override
+    public Stream<Vacation> streamAllBy() {
+        return findAll().stream();
+    }
+
+    @Override
+    public Stream<Vacation> streamByRecruiterId(String recruiterId) {
+        return findByRecruiterId(recruiterId).stream();
+    }
+
+    @Override
+    public List<Vacation> findByRecruiterIdAndStartDateLessThanAndEndDateGreaterThan(String recruiterId,
+            LocalDateTime endBoundary, LocalDateTime startBoundary) {
+        return read(() -> copies(byRecruiter.range(recruiterId, null, endBoundary, null,
+                vacation -> endsAfter(vacation, startBoundary), Integer.MAX_VALUE)));
+    }
+
+    @Override
+    public List<Vacation> findByStartDateLessThanAndEndDateGreaterThan(LocalDateTime endBoundary,
+            LocalDateTime startBoundary) {
+        return read(() -> copies(byStart.range(ALL, null, endBoundary, null,
+                vacation -> endsAfter(vacation, startBoundary), Integer.MAX_VALUE)));
+    }
+
+    private static boolean endsAfter(Vacation vacation, LocalDateTime boundary) {
+        return vacation.getEndDate() != null && vacation.getEndDate().isAfter(boundary);
+    }
+}
@@ -5,12 +5,15 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Document(collection = "vacations")
+@CompoundIndex(name = "recruiter_dates", def = "{'recruiterId': 1, 'startDate': 1, 'endDate': 1}")
+@CompoundIndex(name = "dates", def = "{'startDate': 1, 'endDate': 1}")
 public class Vacation {
 
     @Id
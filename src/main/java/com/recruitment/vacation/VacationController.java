@@ -1,5 +1,6 @@
 package com.recruitment.vacation;
 
+import com.recruitment.config.NdjsonResponses;
 import com.recruitment.exceptions.OverlapException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,6 +27,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class VacationController {
 
     private final VacationService vacationService;
+    private final NdjsonResponses ndjsonResponses;
 
     @Operation(summary = "Get all vacations or by recruiterId")
     @ApiResponses({@ApiResponse(responseCode = "200", description = "List of vacations returned")})
@@ -36,6 +39,16 @@ public class VacationController {
         return vacationService.findByRecruiterId(recruiterId);
     }
 
+    @Operation(summary = "Stream all vacations or by recruiterId as NDJSON")
+    @ApiResponse(responseCode = "200", description = "Vacations streamed, one JSON document per line")
+    @GetMapping(produces = NdjsonResponses.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> streamAll(@RequestParam(required = false) String recruiterId) {
+        if (recruiterId == null) {
+            return ndjsonResponses.stream(vacationService::streamAll);
+        }
+        return ndjsonResponses.stream(() -> vacationService.streamByRecruiterId(recruiterId));
+    }
+
     @Operation(summary = "Get vacation by ID")
     @ApiResponses({@ApiResponse(responseCode = "200", description = "Vacation found"),
             @ApiResponse(responseCode = "404", description = "Vacation not found")})
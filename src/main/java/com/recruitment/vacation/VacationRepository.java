@@ -2,6 +2,7 @@ package com.recruitment.vacation;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,6 +11,13 @@ public interface VacationRepository extends MongoRepository<Vacation, String> {
 
     List<Vacation> findByRecruiterId(String recruiterId);
 
+    Stream<Vacation> streamAllBy();
+
+    Stream<Vacation> streamByRecruiterId(String recruiterId);
+
     List<Vacation> findByRecruiterIdAndStartDateLessThanAndEndDateGreaterThan(String recruiterId,
             LocalDateTime endBoundary, LocalDateTime startBoundary);
+
+    List<Vacation> findByStartDateLessThanAndEndDateGreaterThan(LocalDateTime endBoundary,
+            LocalDateTime startBoundary);
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.recruitment.vacation;
 import com.recruitment.exceptions.ResourceNotFoundException;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -37,10 +38,18 @@ public class VacationService {
         return vacationRepository.findAll();
     }
 
+    public Stream<Vacation> streamAll() {
+        return vacationRepository.streamAllBy();
+    }
+
     public List<Vacation> findByRecruiterId(String recruiterId) {
         return vacationRepository.findByRecruiterId(recruiterId);
     }
 
+    public Stream<Vacation> streamByRecruiterId(String recruiterId) {
+        return vacationRepository.streamByRecruiterId(recruiterId);
+    }
+
     public void deleteVacation(String vacationId) {
         if (!vacationRepository.existsById(vacationId)) {
             throw new ResourceNotFoundException("Vacation not found: " + vacationId);
@@ -0,0 +1,156 @@
+package com.recruitment.availability;
+
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.interview.InterviewSlotRepository;
+import com.recruitment.interview.ScheduleSnapshot;
+import com.recruitment.interview.Seniority;
+import com.recruitment.recruiter.Recruiter;
+import com.recruitment.recruiter.RecruiterRepository;
+import com.recruitment.recruiter.SlotCounter;
+import com.recruitment.recruiter.SlotCounterRepository;
+import com.recruitment.recruiter.SlotPeriod;
+import com.recruitment.vacation.Vacation;
+import com.recruitment.vacation.VacationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityServiceTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 1, 7);
+
+    @Mock
+    private RecruiterRepository recruiterRepository;
+
+    @Mock
+    private InterviewSlotRepository interviewSlotRepository;
+
+    @Mock
+    private VacationRepository vacationRepository;
+
+    @Mock
+    private SlotCounterRepository slotCounterRepository;
+
+    @Mock
+    private ScheduleSnapshot scheduleSnapshot;
+
+    private AvailabilityService availabilityService;
+    private final List<InterviewSlot> slots = new ArrayList<>();
+    private final List<Vacation> vacations = new ArrayList<>();
+    private final List<SlotCounter> counters = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        availabilityService = new AvailabilityService(recruiterRepository, interviewSlotRepository,
+                vacationRepository, slotCounterRepository, scheduleSnapshot, 31, "09:00", "17:00");
+        lenient().when(recruiterRepository.findAll()).thenReturn(List.of(recruiter("r1", null), recruiter("r2", 1)));
+        lenient().when(interviewSlotRepository.findBusy(any(), any(), any())).thenReturn(slots);
+        lenient().when(vacationRepository.findByStartDateLessThanAndEndDateGreaterThan(any(), any()))
+                .thenReturn(vacations);
+        lenient().when(slotCounterRepository.findByPeriodAndPeriodKeyIn(eq(SlotPeriod.DAY), any()))
+                .thenReturn(counters);
+    }
+
+    @Test
+    void findAvailability_shouldCutBufferedSlotsOutOfWorkingHours() {
+        InterviewSlot slot = new InterviewSlot("s1", "JAVA", Seniority.SENIOR, at(MONDAY, 11, 0), at(MONDAY, 12, 0),
+                false, 15, "r1", null, 1, 0);
+        slots.add(slot);
+
+        AvailabilityResult result = availabilityService.findAvailability(oneDay(MONDAY, 60));
+
+        assertEquals(List.of(window(MONDAY, 9, 0, 10, 45), window(MONDAY, 12, 15, 17, 0)),
+                windowsOf(result, "r1"));
+        assertEquals(List.of(window(MONDAY, 9, 0, 17, 0)), windowsOf(result, "r2"));
+        assertEquals(List.of(window(MONDAY, 9, 0, 17, 0)), result.getAnyRecruiter());
+        assertEquals(List.of(window(MONDAY, 9, 0, 10, 45), window(MONDAY, 12, 15, 17, 0)),
+                result.getAllRecruiters());
+    }
+
+    @Test
+    void findAvailability_shouldDropWindowsShorterThanDuration() {
+        slots.add(new InterviewSlot("s1", "JAVA", Seniority.MID, at(MONDAY, 10, 0), at(MONDAY, 16, 30), false, null,
+                "r1", null, 1, 0));
+
+        AvailabilityResult result = availabilityService.findAvailability(oneDay(MONDAY, 45));
+
+        assertEquals(List.of(window(MONDAY, 9, 0, 10, 0)), windowsOf(result, "r1"));
+    }
+
+    @Test
+    void findAvailability_shouldSkipVacationsAndDaysAtDailyLimit() {
+        LocalDate tuesday = MONDAY.plusDays(1);
+        vacations.add(new Vacation("v1", "r1", at(MONDAY, 0, 0), at(tuesday, 12, 0), "Holiday", true));
+        counters.add(new SlotCounter(SlotPeriod.DAY.counterId("r2", MONDAY), "r2", SlotPeriod.DAY,
+                SlotPeriod.DAY.key(MONDAY), 1));
+
+        AvailabilityResult result = availabilityService.findAvailability(
+                new AvailabilityQuery(at(MONDAY, 0, 0), at(tuesday.plusDays(1), 0, 0), 60, null, null, null));
+
+        assertEquals(List.of(window(tuesday, 12, 0, 17, 0)), windowsOf(result, "r1"));
+        assertEquals(List.of(window(tuesday, 9, 0, 17, 0)), windowsOf(result, "r2"));
+        assertEquals(List.of(window(tuesday, 12, 0, 17, 0)), result.getAllRecruiters());
+    }
+
+    @Test
+    void findAvailability_shouldHonourRequestedRecruitersAndHours() {
+        when(recruiterRepository.findAllById(List.of("r1"))).thenReturn(List.of(recruiter("r1", null)));
+
+        AvailabilityResult result = availabilityService.findAvailability(new AvailabilityQuery(at(MONDAY, 13, 2),
+                at(MONDAY.plusDays(1), 0, 0), 30, List.of("r1"), LocalTime.of(8, 0), LocalTime.of(18, 0)));
+
+        assertEquals(1, result.getRecruiters().size());
+        assertEquals(List.of(window(MONDAY, 13, 5, 18, 0)), windowsOf(result, "r1"));
+        verify(interviewSlotRepository).findBusy(eq(List.of("r1")), any(), any());
+        verify(recruiterRepository, never()).findAll();
+    }
+
+    @Test
+    void findAvailability_whenRangeInvalid_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> availabilityService.findAvailability(
+                new AvailabilityQuery(at(MONDAY, 9, 0), at(MONDAY, 9, 0), 60, null, null, null)));
+        assertThrows(IllegalArgumentException.class, () -> availabilityService.findAvailability(
+                new AvailabilityQuery(at(MONDAY, 9, 0), at(MONDAY.plusDays(40), 9, 0), 60, null, null, null)));
+        assertThrows(IllegalArgumentException.class, () -> availabilityService.findAvailability(
+                new AvailabilityQuery(at(MONDAY, 9, 0), at(MONDAY, 17, 0), 0, null, null, null)));
+    }
+
+    private static AvailabilityQuery oneDay(LocalDate day, int durationMinutes) {
+        return new AvailabilityQuery(day.atStartOfDay(), day.plusDays(1).atStartOfDay(), durationMinutes, null, null,
+                null);
+    }
+
+    private static Recruiter recruiter(String id, Integer maxDaily) {
+        return new Recruiter(id, "First", "Last", maxDaily, null, null, null, null);
+    }
+
+    private static List<TimeWindow> windowsOf(AvailabilityResult result, String recruiterId) {
+        return result.getRecruiters().stream()
+                .filter(recruiter -> recruiter.getRecruiterId().equals(recruiterId))
+                .findFirst()
+                .map(RecruiterAvailability::getWindows)
+                .orElse(List.of());
+    }
+
+    private static TimeWindow window(LocalDate day, int fromHour, int fromMinute, int toHour, int toMinute) {
+        return new TimeWindow(at(day, fromHour, fromMinute), at(day, toHour, toMinute));
+    }
+
+    private static LocalDateTime at(LocalDate day, int hour, int minute) {
+        return day.atTime(hour, minute);
+    }
+}
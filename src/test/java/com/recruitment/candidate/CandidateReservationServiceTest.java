@@ -1,16 +1,26 @@
 package com.recruitment.candidate;
 
+import com.recruitment.events.DomainEvent;
+import com.recruitment.events.DomainEventPublisher;
+import com.recruitment.events.DomainEventType;
 import com.recruitment.exceptions.OverlapException;
 import com.recruitment.exceptions.ResourceNotFoundException;
+import com.recruitment.exceptions.ScheduleConflictException;
 import com.recruitment.interview.InterviewSlot;
 import com.recruitment.interview.InterviewSlotRepository;
+import com.recruitment.interview.ScheduleSnapshot;
+import com.recruitment.recruiter.SlotValidationMetrics;
 import com.recruitment.reservation.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -18,6 +28,8 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,7 +39,7 @@ class CandidateReservationServiceTest {
     private CandidateReservationRepository reservationRepository;
 
     @Mock
-    private CandidateRepository candidateRepository;
+    private CandidateService candidateService;
 
     @Mock
     private InterviewSlotRepository slotRepository;
@@ -35,6 +47,20 @@ class CandidateReservationServiceTest {
     @Mock
     private CandidateReservationMapper reservationMapper;
 
+    @Mock
+    private ScheduleSnapshot scheduleSnapshot;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private SlotValidationMetrics validationMetrics = new SlotValidationMetrics(meterRegistry);
+
     @InjectMocks
     private CandidateReservationService reservationService;
 
@@ -50,27 +76,62 @@ class CandidateReservationServiceTest {
 
         reservation = new CandidateReservation("r1", "slot123", "cand123", LocalDateTime.now(), "ACTIVE");
         reservationDto = new CandidateReservationDto("r1", "slot123", "cand123", LocalDateTime.now(), "ACTIVE");
+
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
     }
 
     @Test
     void createReservation_whenSlotNotFound_shouldThrow() {
-        when(slotRepository.findById("slot123")).thenReturn(Optional.empty());
+        when(candidateService.exists("cand123")).thenReturn(true);
+        when(slotRepository.book("slot123")).thenReturn(Optional.empty());
+        when(slotRepository.existsById("slot123")).thenReturn(false);
         assertThrows(ResourceNotFoundException.class, () -> reservationService.createReservation(reservationDto));
     }
 
     @Test
     void createReservation_whenCandidateNotFound_shouldThrow() {
-        when(slotRepository.findById("slot123")).thenReturn(Optional.of(slot));
-        when(candidateRepository.existsById("cand123")).thenReturn(false);
+        when(candidateService.exists("cand123")).thenReturn(false);
         assertThrows(ResourceNotFoundException.class, () -> reservationService.createReservation(reservationDto));
+        verify(slotRepository, never()).book(any());
     }
 
     @Test
-    void createReservation_whenAlreadyReservedAndMultiCapacityFalse_shouldThrowOverlap() {
-        when(slotRepository.findById("slot123")).thenReturn(Optional.of(slot));
-        when(candidateRepository.existsById("cand123")).thenReturn(true);
-        when(reservationRepository.existsBySlotIdAndStatus("slot123", "ACTIVE")).thenReturn(true);
+    void createReservation_whenSlotFullyBooked_shouldThrowOverlap() {
+        when(candidateService.exists("cand123")).thenReturn(true);
+        when(slotRepository.book("slot123")).thenReturn(Optional.empty());
+        when(slotRepository.existsById("slot123")).thenReturn(true);
         assertThrows(OverlapException.class, () -> reservationService.createReservation(reservationDto));
+        verify(reservationRepository, never()).save(any());
+        assertEquals(1, meterRegistry.counter("slot.rejections", "check", "capacity", "exception",
+                "OverlapException").count());
+    }
+
+    @Test
+    void createReservation_whenBooked_shouldSaveActiveReservation() {
+        when(candidateService.exists("cand123")).thenReturn(true);
+        when(slotRepository.book("slot123")).thenReturn(Optional.of(slot));
+        when(reservationMapper.toEntity(reservationDto)).thenReturn(reservation);
+        when(reservationRepository.save(reservation)).thenReturn(reservation);
+
+        CandidateReservation result = reservationService.createReservation(reservationDto);
+
+        assertEquals("ACTIVE", result.getStatus());
+        verify(eventPublisher).publish(argThat(event -> event.getType() == DomainEventType.RESERVATION_CREATED
+                && "r1".equals(event.getReservationId()) && "slot123".equals(event.getSlotId())));
+        verify(slotRepository, never()).release(any());
+    }
+
+    @Test
+    void createReservation_whenSaveFails_shouldReleasePlace() {
+        when(candidateService.exists("cand123")).thenReturn(true);
+        when(slotRepository.book("slot123")).thenReturn(Optional.of(slot));
+        when(reservationMapper.toEntity(reservationDto)).thenReturn(reservation);
+        when(reservationRepository.save(reservation)).thenThrow(new IllegalStateException("down"));
+
+        assertThrows(IllegalStateException.class, () -> reservationService.createReservation(reservationDto));
+        verify(slotRepository).release("slot123");
+        verify(eventPublisher, never()).publish(any(DomainEvent.class));
     }
 
     @Test
@@ -85,11 +146,44 @@ class CandidateReservationServiceTest {
         when(reservationRepository.findById("r1")).thenReturn(Optional.of(reservation));
         CandidateReservationDto dto = new CandidateReservationDto("r1", "slotXYZ", "candXYZ", LocalDateTime.now(), "ACTIVE");
         CandidateReservation updated = new CandidateReservation("r1", "slotXYZ", "candXYZ", LocalDateTime.now(), "ACTIVE");
-        when(reservationRepository.save(any(CandidateReservation.class))).thenReturn(updated);
+        when(reservationRepository.updateIf(any(CandidateReservation.class), eq("ACTIVE"), eq("slot123")))
+                .thenReturn(Optional.of(updated));
+
+        when(slotRepository.book("slotXYZ")).thenReturn(Optional.of(slot));
 
         CandidateReservation result = reservationService.updateReservation("r1", dto);
         assertEquals("slotXYZ", result.getSlotId());
-        verify(reservationRepository, times(1)).save(any(CandidateReservation.class));
+        verify(reservationRepository, times(1)).updateIf(any(CandidateReservation.class), eq("ACTIVE"), eq("slot123"));
+        verify(reservationRepository, never()).save(any());
+        verify(slotRepository).release("slot123");
+    }
+
+    @Test
+    void updateReservation_whenSaveFails_shouldReleaseNewPlaceOnly() {
+        when(reservationRepository.findById("r1")).thenReturn(Optional.of(reservation));
+        CandidateReservationDto dto = new CandidateReservationDto("r1", "slotXYZ", "candXYZ", LocalDateTime.now(), "ACTIVE");
+        when(slotRepository.book("slotXYZ")).thenReturn(Optional.of(slot));
+        when(reservationRepository.updateIf(any(CandidateReservation.class), eq("ACTIVE"), eq("slot123")))
+                .thenThrow(new IllegalStateException("down"));
+
+        assertThrows(IllegalStateException.class, () -> reservationService.updateReservation("r1", dto));
+        verify(slotRepository).release("slotXYZ");
+        verify(slotRepository, never()).release("slot123");
+        verify(eventPublisher, never()).publish(any(DomainEvent.class));
+    }
+
+    @Test
+    void updateReservation_whenCancelledConcurrently_shouldConflictAndReleaseNewPlace() {
+        when(reservationRepository.findById("r1")).thenReturn(Optional.of(reservation));
+        CandidateReservationDto dto = new CandidateReservationDto("r1", "slotXYZ", "candXYZ", LocalDateTime.now(), "ACTIVE");
+        when(slotRepository.book("slotXYZ")).thenReturn(Optional.of(slot));
+        when(reservationRepository.updateIf(any(CandidateReservation.class), eq("ACTIVE"), eq("slot123")))
+                .thenReturn(Optional.empty());
+
+        assertThrows(ScheduleConflictException.class, () -> reservationService.updateReservation("r1", dto));
+        verify(slotRepository).release("slotXYZ");
+        verify(slotRepository, never()).release("slot123");
+        verify(eventPublisher, never()).publish(any(DomainEvent.class));
     }
 
     @Test
@@ -99,11 +193,24 @@ class CandidateReservationServiceTest {
     }
 
     @Test
-    void cancelReservation_shouldSetStatusCancelled() {
+    void cancelReservation_whenActive_shouldCancelAndReleasePlace() {
+        when(reservationRepository.findById("r1")).thenReturn(Optional.of(reservation));
+        when(reservationRepository.changeStatus("r1", "ACTIVE", "CANCELLED")).thenReturn(true);
+        reservationService.cancelReservation("r1");
+        verify(slotRepository, times(1)).release("slot123");
+        verify(eventPublisher).publish(argThat(event -> event.getType() == DomainEventType.RESERVATION_CANCELLED));
+    }
+
+    @Test
+    void cancelReservation_whenAlreadyCancelled_shouldNotReleaseAgain() {
+        reservation.setStatus("CANCELLED");
         when(reservationRepository.findById("r1")).thenReturn(Optional.of(reservation));
+        when(reservationRepository.changeStatus("r1", "ACTIVE", "CANCELLED")).thenReturn(false);
         reservationService.cancelReservation("r1");
         assertEquals("CANCELLED", reservation.getStatus());
-        verify(reservationRepository, times(1)).save(reservation);
+        verify(slotRepository, never()).release(any());
+        verify(reservationRepository, never()).save(any());
+        verify(eventPublisher, never()).publish(any(DomainEvent.class));
     }
 
     @Test
@@ -123,14 +230,14 @@ class CandidateReservationServiceTest {
 
     @Test
     void deleteReservation_whenNotFound_shouldThrow() {
-        when(reservationRepository.existsById("noid")).thenReturn(false);
+        when(reservationRepository.deleteAndGet("noid")).thenReturn(Optional.empty());
         assertThrows(ResourceNotFoundException.class, () -> reservationService.deleteReservation("noid"));
     }
 
     @Test
-    void deleteReservation_whenExists_shouldCallDelete() {
-        when(reservationRepository.existsById("r1")).thenReturn(true);
+    void deleteReservation_whenActive_shouldReleasePlace() {
+        when(reservationRepository.deleteAndGet("r1")).thenReturn(Optional.of(reservation));
         reservationService.deleteReservation("r1");
-        verify(reservationRepository, times(1)).deleteById("r1");
+        verify(slotRepository, times(1)).release("slot123");
     }
 }
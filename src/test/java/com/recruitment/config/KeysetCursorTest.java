@@ -0,0 +1,56 @@
+package com.recruitment.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    void encode_shouldRoundTrip() {
+        LocalDateTime time = LocalDateTime.of(2030, 1, 7, 9, 30, 15);
+
+        KeysetCursor decoded = KeysetCursor.decode(new KeysetCursor(time, "65a1b2c3d4e5f6a7b8c9d0e1").encode());
+
+        assertEquals(time, decoded.getTime());
+        assertEquals("65a1b2c3d4e5f6a7b8c9d0e1", decoded.getId());
+    }
+
+    @Test
+    void encode_withoutTime_shouldRoundTrip() {
+        KeysetCursor decoded = KeysetCursor.decode(new KeysetCursor(null, "cand|1").encode());
+
+        assertNull(decoded.getTime());
+        assertEquals("cand|1", decoded.getId());
+    }
+
+    @Test
+    void decode_missingToken_shouldReturnNull() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(""));
+    }
+
+    @Test
+    void decode_foreignToken_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not a cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("MnwxfGE"));
+    }
+
+    @Test
+    void page_shouldTrimLookaheadItemAndPointAtLastItem() {
+        KeysetPage<String> page = KeysetPage.of(List.of("a", "b", "c"), 2, item -> new KeysetCursor(null, item));
+
+        assertEquals(List.of("a", "b"), page.getItems());
+        assertEquals("b", KeysetCursor.decode(page.getNextCursor()).getId());
+        assertNull(KeysetPage.of(List.of("a", "b"), 2, item -> new KeysetCursor(null, item)).getNextCursor());
+    }
+
+    @Test
+    void limit_shouldBeCappedAndPositive() {
+        assertEquals(500, KeysetPage.limit(10_000, 500));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPage.limit(0, 500));
+    }
+}
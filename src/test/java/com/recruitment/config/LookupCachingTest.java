@@ -0,0 +1,150 @@
+package com.recruitment.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.recruitment.candidate.Candidate;
+import com.recruitment.candidate.CandidateDto;
+import com.recruitment.candidate.CandidateMapper;
+import com.recruitment.candidate.CandidateRepository;
+import com.recruitment.candidate.CandidateService;
+import com.recruitment.interview.SlotIntervalIndex;
+import com.recruitment.recruiter.Recruiter;
+import com.recruitment.recruiter.RecruiterDto;
+import com.recruitment.recruiter.RecruiterMapper;
+import com.recruitment.recruiter.RecruiterRepository;
+import com.recruitment.recruiter.RecruiterService;
+import com.recruitment.recruiter.SlotCounterService;
+import com.recruitment.recruiter.SlotValidationMetrics;
+import com.recruitment.vacation.VacationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(LookupCachingTest.Config.class)
+class LookupCachingTest {
+
+    @MockitoBean
+    private RecruiterRepository recruiterRepository;
+    @MockitoBean
+    private VacationRepository vacationRepository;
+    @MockitoBean
+    private RecruiterMapper recruiterMapper;
+    @MockitoBean
+    private SlotIntervalIndex slotIntervalIndex;
+    @MockitoBean
+    private SlotCounterService slotCounterService;
+    @MockitoBean
+    private SlotValidationMetrics validationMetrics;
+    @MockitoBean
+    private CandidateRepository candidateRepository;
+    @MockitoBean
+    private CandidateMapper candidateMapper;
+
+    @Autowired
+    private RecruiterService recruiterService;
+    @Autowired
+    private CandidateService candidateService;
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void findRecruiter_shouldReadMongoOnceUntilUpdated() {
+        Recruiter recruiter = new Recruiter();
+        recruiter.setId("recr1");
+        when(recruiterRepository.findById("recr1")).thenReturn(Optional.of(recruiter));
+        when(recruiterRepository.save(any(Recruiter.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        recruiterService.findById("recr1");
+        recruiterService.findById("recr1");
+        verify(recruiterRepository, times(1)).findById("recr1");
+
+        recruiterService.updateRecruiter("recr1", new RecruiterDto());
+        recruiterService.findById("recr1");
+        verify(recruiterRepository, times(3)).findById("recr1");
+    }
+
+    @Test
+    void findRecruiter_shouldNotCacheMissingRecruiter() {
+        when(recruiterRepository.findById("recr1")).thenReturn(Optional.empty());
+
+        assertTrue(recruiterService.findById("recr1").isEmpty());
+        assertTrue(recruiterService.findById("recr1").isEmpty());
+
+        verify(recruiterRepository, times(2)).findById("recr1");
+    }
+
+    @Test
+    void candidateExists_shouldCacheHitsUntilDeleted() {
+        when(candidateRepository.existsById("cand1")).thenReturn(true);
+
+        assertTrue(candidateService.exists("cand1"));
+        assertTrue(candidateService.exists("cand1"));
+        verify(candidateRepository, times(1)).existsById("cand1");
+
+        candidateService.deleteCandidate("cand1");
+        when(candidateRepository.existsById("cand1")).thenReturn(false);
+        assertFalse(candidateService.exists("cand1"));
+    }
+
+    @Test
+    void candidateExists_shouldNotCacheMisses() {
+        when(candidateRepository.existsById("cand1")).thenReturn(false, true);
+        when(candidateMapper.toEntity(any())).thenReturn(new Candidate());
+
+        assertFalse(candidateService.exists("cand1"));
+        candidateService.createCandidate(new CandidateDto("cand1", "Jan", "Nowak", null));
+        assertTrue(candidateService.exists("cand1"));
+    }
+
+    @Test
+    void lookups_shouldRecordHitsAndMisses() {
+        when(candidateRepository.existsById("cand1")).thenReturn(true);
+        CacheStats before = candidateStats();
+
+        candidateService.exists("cand1");
+        candidateService.exists("cand1");
+        candidateService.exists("cand1");
+
+        CacheStats stats = candidateStats().minus(before);
+        assertEquals(2, stats.hitCount());
+        assertEquals(1, stats.missCount());
+    }
+
+    private CacheStats candidateStats() {
+        return ((CaffeineCache) cacheManager.getCache(CacheNames.CANDIDATE_EXISTS)).getNativeCache().stats();
+    }
+
+    @Configuration
+    @EnableCaching
+    @Import({RecruiterService.class, CandidateService.class})
+    static class Config {
+
+        @Bean
+        CacheManager cacheManager() {
+            CaffeineCacheManager cacheManager = new CaffeineCacheManager(CacheNames.RECRUITERS,
+                    CacheNames.CANDIDATE_EXISTS, CacheNames.SLOTS);
+            cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(100).recordStats());
+            return cacheManager;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.recruitment.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonResponsesTest {
+
+    private final NdjsonResponses ndjsonResponses = new NdjsonResponses(new ObjectMapper());
+
+    @Test
+    void stream_shouldWriteOneDocumentPerLine() throws Exception {
+        ResponseEntity<StreamingResponseBody> response = ndjsonResponses.stream(
+                () -> Stream.of(Map.of("id", "a"), Map.of("id", "b")));
+
+        assertEquals(NdjsonResponses.MEDIA_TYPE, response.getHeaders().getContentType().toString());
+        assertEquals("{\"id\":\"a\"}\n{\"id\":\"b\"}\n", write(response));
+    }
+
+    @Test
+    void stream_shouldOpenCursorLazilyAndCloseIt() throws Exception {
+        AtomicBoolean opened = new AtomicBoolean();
+        AtomicBoolean closed = new AtomicBoolean();
+        ResponseEntity<StreamingResponseBody> response = ndjsonResponses.stream(() -> {
+            opened.set(true);
+            return IntStream.range(0, 1000).boxed().onClose(() -> closed.set(true));
+        });
+        assertFalse(opened.get());
+
+        String body = write(response);
+
+        assertEquals(1000, body.lines().count());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void stream_emptyCursor_shouldWriteNothing() throws Exception {
+        assertEquals("", write(ndjsonResponses.stream(Stream::empty)));
+    }
+
+    private String write(ResponseEntity<StreamingResponseBody> response) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
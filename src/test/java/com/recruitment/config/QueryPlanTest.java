@@ -0,0 +1,250 @@
+package com.recruitment.config;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.recruitment.candidate.CandidateRepository;
+import com.recruitment.events.DomainEvent;
+import com.recruitment.events.DomainEventType;
+import com.recruitment.google.calendar.CalendarOperation;
+import com.recruitment.google.calendar.CalendarSyncStatus;
+import com.recruitment.google.calendar.CalendarSyncTask;
+import com.recruitment.google.calendar.CalendarSyncTaskRepository;
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.interview.InterviewSlotRepository;
+import com.recruitment.interview.Seniority;
+import com.recruitment.interview.SlotSearch;
+import com.recruitment.outbox.OutboxEvent;
+import com.recruitment.outbox.OutboxEventRepository;
+import com.recruitment.projection.ScheduleProjectionService;
+import com.recruitment.recruiter.RecruiterRepository;
+import com.recruitment.recruiter.SlotCounterRepository;
+import com.recruitment.recruiter.SlotPeriod;
+import com.recruitment.reservation.CandidateReservation;
+import com.recruitment.reservation.CandidateReservationRepository;
+import com.recruitment.vacation.VacationRepository;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs every selective repository query against a real MongoDB with the managed index set, replays the commands the
+ * driver sent through {@code explain} and fails on any collection scan. Skipped when Docker is not available.
+ * Whole-collection reads ({@code findAll}, {@code streamAllBy}, the per-day slot report) scan by design.
+ */
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import({MongoIndexManager.class, QueryPlanTest.CommandCapture.class})
+class QueryPlanTest {
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    private static final Set<String> QUERY_COMMANDS = Set.of("find", "aggregate", "count", "distinct", "update",
+            "delete", "findAndModify");
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 7, 9, 0);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    @Autowired
+    private CommandCapture commands;
+    @Autowired
+    private InterviewSlotRepository slotRepository;
+    @Autowired
+    private CandidateReservationRepository reservationRepository;
+    @Autowired
+    private VacationRepository vacationRepository;
+    @Autowired
+    private RecruiterRepository recruiterRepository;
+    @Autowired
+    private CandidateRepository candidateRepository;
+    @Autowired
+    private CalendarSyncTaskRepository taskRepository;
+    @Autowired
+    private SlotCounterRepository slotCounterRepository;
+    @Autowired
+    private OutboxEventRepository outboxRepository;
+
+    @Test
+    void slotQueries_shouldUseIndexes() {
+        String recruiterId = id();
+        String slotId = id();
+        KeysetCursor cursor = new KeysetCursor(START, slotId);
+
+        assertIndexed(() -> slotRepository.findByRecruiterId(recruiterId));
+        assertIndexed(() -> slotRepository.countByRecruiterIdAndStartTimeBetween(recruiterId, START,
+                START.plusDays(7)));
+        assertIndexed(() -> slotRepository.findByRecruiterIdAndStartTimeLessThanAndEndTimeGreaterThan(recruiterId,
+                START.plusHours(1), START));
+        assertIndexed(() -> slotRepository.findByCategoryAndSeniority("JAVA", Seniority.MID));
+        assertIndexed(() -> slotRepository.search(new SlotSearch(List.of("JAVA", "KOTLIN"), Seniority.MID, START,
+                START.plusDays(14), true), cursor, 51));
+        assertIndexed(() -> slotRepository.findPage(recruiterId, START, START.plusDays(7), cursor, 51));
+        assertIndexed(() -> slotRepository.findPage(null, null, null, cursor, 51));
+        assertIndexed(() -> slotRepository.streamByStartTimeBetween(Range.rightOpen(START, START.plusDays(7)),
+                Sort.by("startTime", "_id")).close());
+        assertIndexed(() -> slotRepository.findBusy(List.of(), START, START.plusDays(7)));
+        assertIndexed(() -> slotRepository.findBusy(List.of(recruiterId), START, START.plusDays(7)));
+        assertIndexed(() -> slotRepository.book(slotId));
+        assertIndexed(() -> slotRepository.release(slotId));
+        assertIndexed(() -> slotRepository.updateDetails(slot(slotId, recruiterId)));
+        assertIndexed(() -> slotRepository.setCalendarEventIds(Map.of(slotId, "event")));
+        assertIndexed(() -> recruiterRepository.loadValidationSnapshot(recruiterId, slot(slotId, recruiterId),
+                START, START.plusHours(1)));
+    }
+
+    @Test
+    void reservationQueries_shouldUseIndexes() {
+        String reservationId = id();
+
+        assertIndexed(() -> reservationRepository.existsBySlotIdAndStatus(id(), "ACTIVE"));
+        assertIndexed(() -> reservationRepository.countActivePerSlot());
+        assertIndexed(() -> reservationRepository.findPage("ACTIVE", START, START.plusDays(7),
+                new KeysetCursor(START, reservationId), 51));
+        assertIndexed(() -> reservationRepository.findPage(null, null, null, new KeysetCursor(START, reservationId),
+                51));
+        assertIndexed(() -> reservationRepository.changeStatus(reservationId, "ACTIVE", "CANCELLED"));
+        assertIndexed(() -> reservationRepository.deleteAndGet(reservationId));
+    }
+
+    @Test
+    void candidateVacationAndCounterQueries_shouldUseIndexes() {
+        String recruiterId = id();
+
+        assertIndexed(() -> candidateRepository.findByIdGreaterThan(id(), PageRequest.of(0, 51, Sort.by("id"))));
+        assertIndexed(() -> vacationRepository.findByRecruiterId(recruiterId));
+        assertIndexed(() -> vacationRepository.findByRecruiterIdAndStartDateLessThanAndEndDateGreaterThan(
+                recruiterId, START.plusHours(1), START));
+        assertIndexed(() -> vacationRepository.findByStartDateLessThanAndEndDateGreaterThan(START.plusDays(7),
+                START));
+        assertIndexed(() -> slotCounterRepository.findByPeriodAndPeriodKeyIn(SlotPeriod.DAY,
+                List.of("2030-01-07", "2030-01-08")));
+        assertIndexed(() -> slotCounterRepository.findByRecruiterId(recruiterId));
+    }
+
+    @Test
+    void calendarQueueQueries_shouldUseIndexes() {
+        String slotId = id();
+        CalendarSyncTask task = new CalendarSyncTask(id(), slotId, "cal1", CalendarOperation.CREATE, null,
+                CalendarSyncStatus.PENDING, 1, START, START, null, null, "503");
+        taskRepository.insert(task);
+
+        assertIndexed(() -> taskRepository.claim("worker", 50, START, START.plusMinutes(2)));
+        assertIndexed(() -> taskRepository.firstTaskIdsOf(List.of(slotId)));
+        assertIndexed(() -> taskRepository.existsBySlotIdAndStatus(slotId, CalendarSyncStatus.PENDING));
+        assertIndexed(() -> taskRepository.countByStatus(CalendarSyncStatus.FAILED));
+        assertIndexed(() -> taskRepository.removeUnattemptedCreate(slotId));
+        assertIndexed(() -> taskRepository.convertPendingToDelete(slotId, "event"));
+        assertIndexed(() -> taskRepository.finish(List.of(id()), List.of(task)));
+    }
+
+    @Test
+    void outboxQueries_shouldUseIndexes() {
+        outboxRepository.insert(OutboxEvent.of("schedule-events", id(),
+                DomainEvent.slot(DomainEventType.SLOT_CREATED, slot(id(), id()))));
+
+        assertIndexed(() -> outboxRepository.claim("relay", 500, LocalDateTime.now(),
+                LocalDateTime.now().plusSeconds(30)));
+        assertIndexed(() -> outboxRepository.release(List.of(id()), LocalDateTime.now()));
+        assertIndexed(() -> outboxRepository.deleteAllById(List.of(id())));
+        assertIndexed(() -> outboxRepository.oldestCreatedAt());
+    }
+
+    @Test
+    void projectionQueries_shouldUseIndexes() {
+        ScheduleProjectionService projection = new ScheduleProjectionService(mongoTemplate);
+        String slotId = id();
+        projection.apply(List.of(DomainEvent.slot(DomainEventType.SLOT_CREATED, slot(slotId, id()))));
+        CandidateReservation reservation = new CandidateReservation(id(), slotId, id(), START, "ACTIVE");
+
+        assertIndexed(() -> projection.apply(List.of(
+                DomainEvent.reservation(DomainEventType.RESERVATION_CREATED, reservation),
+                DomainEvent.slot(DomainEventType.SLOT_UPDATED, slot(slotId, id())))));
+        reservation.setStatus("CANCELLED");
+        assertIndexed(() -> projection.apply(List.of(
+                DomainEvent.reservation(DomainEventType.RESERVATION_CANCELLED, reservation),
+                DomainEvent.slot(DomainEventType.SLOT_DELETED, slot(slotId, id())))));
+    }
+
+    private void assertIndexed(Runnable query) {
+        commands.sent.clear();
+        query.run();
+        List<BsonDocument> sent = new ArrayList<>(commands.sent);
+        assertFalse(sent.isEmpty(), "No query reached MongoDB");
+        for (BsonDocument command : sent) {
+            Document plan = mongoTemplate.getDb().runCommand(new Document("explain", explainable(command))
+                    .append("verbosity", "queryPlanner"));
+            assertFalse(plan.toJson().contains("COLLSCAN"),
+                    () -> "Collection scan for " + command.toJson() + ": " + plan.toJson());
+        }
+    }
+
+    // explain takes the bare command with a single write statement.
+    private BsonDocument explainable(BsonDocument command) {
+        BsonDocument bare = new BsonDocument();
+        for (Map.Entry<String, org.bson.BsonValue> field : command.entrySet()) {
+            if (field.getKey().startsWith("$") || field.getKey().equals("lsid")) {
+                continue;
+            }
+            bare.put(field.getKey(), field.getValue());
+        }
+        for (String statements : List.of("updates", "deletes")) {
+            if (bare.containsKey(statements)) {
+                bare.put(statements, new BsonArray(List.of(bare.getArray(statements).get(0))));
+            }
+        }
+        return bare;
+    }
+
+    private InterviewSlot slot(String slotId, String recruiterId) {
+        return new InterviewSlot(slotId, "JAVA", Seniority.MID, START, START.plusHours(1), false, null,
+                recruiterId, null, 1, 0);
+    }
+
+    private static String id() {
+        return new ObjectId().toHexString();
+    }
+
+    @TestConfiguration
+    static class CommandCapture implements CommandListener {
+
+        private final List<BsonDocument> sent = new CopyOnWriteArrayList<>();
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer captureCommands() {
+            return settings -> settings.addCommandListener(this);
+        }
+
+        @Override
+        public void commandStarted(CommandStartedEvent event) {
+            if (QUERY_COMMANDS.contains(event.getCommandName())) {
+                sent.add(event.getCommand().clone());
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.recruitment.dataset;
+
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.recruiter.Recruiter;
+import com.recruitment.reservation.CandidateReservation;
+import com.recruitment.vacation.Vacation;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticDatasetTest {
+
+    private static final LocalDate START = LocalDate.of(2030, 1, 7);
+
+    @Test
+    void sameSeed_shouldGenerateSameData() {
+        RecruiterData first = new SyntheticDataset(7, START, 1000, 0.5).recruiter(3, 200, 2);
+        RecruiterData second = new SyntheticDataset(7, START, 1000, 0.5).recruiter(3, 200, 2);
+        RecruiterData otherSeed = new SyntheticDataset(8, START, 1000, 0.5).recruiter(3, 200, 2);
+
+        assertEquals(first, second);
+        assertNotEquals(first.getSlots(), otherSeed.getSlots());
+    }
+
+    @Test
+    void recruiter_shouldRespectLimitsVacationsAndOverlapRules() {
+        SyntheticDataset dataset = new SyntheticDataset(42, START, 1000, 0.5);
+        for (int r = 0; r < 20; r++) {
+            RecruiterData data = dataset.recruiter(r, 500, 3);
+            Recruiter recruiter = data.getRecruiter();
+            List<InterviewSlot> slots = data.getSlots();
+            assertEquals(500, slots.size());
+
+            Map<LocalDate, Integer> perDay = new HashMap<>();
+            for (int i = 0; i < slots.size(); i++) {
+                InterviewSlot slot = slots.get(i);
+                assertEquals(recruiter.getId(), slot.getRecruiterId());
+                assertNotEquals(DayOfWeek.SATURDAY, slot.getStartTime().getDayOfWeek());
+                assertNotEquals(DayOfWeek.SUNDAY, slot.getStartTime().getDayOfWeek());
+                perDay.merge(slot.getStartTime().toLocalDate(), 1, Integer::sum);
+                for (Vacation vacation : data.getVacations()) {
+                    assertFalse(vacation.getStartDate().isBefore(slot.getEndTime())
+                            && vacation.getEndDate().isAfter(slot.getStartTime()), "Slot during vacation");
+                }
+                if (i > 0) {
+                    InterviewSlot previous = slots.get(i - 1);
+                    int buffer = (slot.getBufferMinutes() == null) ? 0 : slot.getBufferMinutes();
+                    boolean overlaps = previous.getEndTime().isAfter(slot.getStartTime().minusMinutes(buffer));
+                    assertFalse(overlaps && !(previous.isMultiCapacity() && slot.isMultiCapacity()),
+                            "Single-place slot overlaps " + previous.getId());
+                }
+            }
+            perDay.values().forEach(count -> assertTrue(count <= recruiter.getMaxDailyInterviews()));
+        }
+    }
+
+    @Test
+    void recruiter_shouldMatchBookedCountsAndUseUniqueIds() {
+        SyntheticDataset dataset = new SyntheticDataset(42, START, 1000, 0.5);
+        Set<String> ids = new HashSet<>();
+        Map<String, Integer> active = new HashMap<>();
+        int multiCapacity = 0;
+        for (int r = 0; r < 10; r++) {
+            RecruiterData data = dataset.recruiter(r, 300, 2);
+            for (CandidateReservation reservation : data.getReservations()) {
+                assertTrue(ids.add(reservation.getId()));
+                if ("ACTIVE".equals(reservation.getStatus())) {
+                    active.merge(reservation.getSlotId(), 1, Integer::sum);
+                }
+            }
+            for (InterviewSlot slot : data.getSlots()) {
+                assertTrue(ids.add(slot.getId()));
+                assertEquals(active.getOrDefault(slot.getId(), 0), slot.getBookedCount());
+                assertTrue(slot.getBookedCount() <= slot.getCapacity());
+                multiCapacity += slot.isMultiCapacity() ? 1 : 0;
+            }
+        }
+        assertTrue(multiCapacity > 0);
+    }
+}
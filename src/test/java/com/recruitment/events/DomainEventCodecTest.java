@@ -0,0 +1,67 @@
+package com.recruitment.events;
+
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.interview.Seniority;
+import com.recruitment.reservation.CandidateReservation;
+import org.apache.kafka.common.errors.SerializationException;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DomainEventCodecTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 7, 9, 0);
+
+    private final DomainEventSerializer serializer = new DomainEventSerializer();
+    private final DomainEventDeserializer deserializer = new DomainEventDeserializer();
+
+    @Test
+    void slotEvent_shouldRoundTrip() {
+        InterviewSlot slot = new InterviewSlot(id(), "JAVA", Seniority.SENIOR, START, START.plusMinutes(45), true, 10,
+                id(), "event", 8, 3);
+        DomainEvent event = DomainEvent.slot(DomainEventType.SLOT_UPDATED, slot);
+        event.setOccurredAt(LocalDateTime.of(2030, 1, 1, 12, 0, 0, 123_000_000));
+
+        assertEquals(event, deserializer.deserialize("t", serializer.serialize("t", event)));
+    }
+
+    @Test
+    void reservationEvent_shouldRoundTripAndBeSmallerThanText() {
+        CandidateReservation reservation = new CandidateReservation(id(), id(), id(), START, "CANCELLED");
+        DomainEvent event = DomainEvent.reservation(DomainEventType.RESERVATION_CANCELLED, reservation);
+        event.setOccurredAt(START);
+
+        byte[] bytes = serializer.serialize("t", event);
+
+        assertEquals(event, deserializer.deserialize("t", bytes));
+        String text = String.format("Reservation cancelled: id=%s slot=%s candidate=%s", reservation.getId(),
+                reservation.getSlotId(), reservation.getCandidateId());
+        assertTrue(bytes.length < text.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void nonObjectIdStringsAndNulls_shouldRoundTrip() {
+        DomainEvent event = new DomainEvent(DomainEventType.SLOT_DELETED, START.minusYears(80), "SLOT-ÄÖ", null,
+                null, null, null, null, 0, null, null, null);
+
+        assertEquals(event, DomainEventCodec.decode(DomainEventCodec.encode(event)));
+    }
+
+    @Test
+    void deserialize_whenVersionUnknown_shouldThrow() {
+        byte[] bytes = DomainEventCodec.encode(DomainEvent.reservation(DomainEventType.RESERVATION_CREATED,
+                new CandidateReservation(id(), id(), id(), START, "ACTIVE")));
+        bytes[0] = 9;
+
+        assertThrows(SerializationException.class, () -> deserializer.deserialize("t", bytes));
+        assertThrows(SerializationException.class, () -> deserializer.deserialize("t", new byte[] {1, 10}));
+    }
+
+    private static String id() {
+        return new ObjectId().toHexString();
+    }
+}
@@ -0,0 +1,114 @@
+package com.recruitment.google.calendar;
+
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.interview.Seniority;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarSyncQueueTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 7, 9, 0);
+
+    @Mock
+    private CalendarSyncTaskRepository taskRepository;
+
+    @InjectMocks
+    private CalendarSyncQueue calendarSyncQueue;
+
+    @Test
+    void enqueue_updateBehindQueuedTask_shouldBeDropped() {
+        when(taskRepository.existsBySlotIdAndStatus("s1", CalendarSyncStatus.PENDING)).thenReturn(true);
+
+        calendarSyncQueue.enqueue(CalendarOperation.UPDATE, slot("s1"), "cal1");
+
+        verify(taskRepository, never()).insert(anyList());
+    }
+
+    @Test
+    void enqueue_updateWithoutQueuedTask_shouldInsertTask() {
+        when(taskRepository.existsBySlotIdAndStatus("s1", CalendarSyncStatus.PENDING)).thenReturn(false);
+
+        calendarSyncQueue.enqueue(CalendarOperation.UPDATE, slot("s1"), "cal1");
+
+        CalendarSyncTask task = insertedTask();
+        assertEquals(CalendarOperation.UPDATE, task.getOperation());
+        assertEquals(CalendarSyncStatus.PENDING, task.getStatus());
+    }
+
+    @Test
+    void enqueue_deleteOfUnsyncedSlot_shouldCancelCreate() {
+        when(taskRepository.removeUnattemptedCreate("s1")).thenReturn(true);
+
+        calendarSyncQueue.enqueue(CalendarOperation.DELETE, slot("s1"), "cal1");
+
+        verify(taskRepository, never()).convertPendingToDelete(any(), any());
+        verify(taskRepository, never()).insert(anyList());
+    }
+
+    @Test
+    void enqueue_deleteBehindQueuedUpdate_shouldReplaceIt() {
+        InterviewSlot slot = slot("s1");
+        slot.setGoogleCalendarEventId("ev1");
+        when(taskRepository.removeUnattemptedCreate("s1")).thenReturn(false);
+        when(taskRepository.convertPendingToDelete("s1", "ev1")).thenReturn(true);
+
+        calendarSyncQueue.enqueue(CalendarOperation.DELETE, slot, "cal1");
+
+        verify(taskRepository, never()).insert(anyList());
+    }
+
+    @Test
+    void enqueue_deleteOfSlotWithoutStoredEvent_shouldUseTheDerivedEventId() {
+        when(taskRepository.removeUnattemptedCreate("s1")).thenReturn(false);
+        when(taskRepository.convertPendingToDelete("s1", GoogleCalendarService.eventIdFor("s1"))).thenReturn(false);
+
+        calendarSyncQueue.enqueue(CalendarOperation.DELETE, slot("s1"), "cal1");
+
+        assertEquals(GoogleCalendarService.eventIdFor("s1"), insertedTask().getEventId());
+    }
+
+    @Test
+    void enqueue_deleteWithoutQueuedTask_shouldInsertDelete() {
+        InterviewSlot slot = slot("s1");
+        slot.setGoogleCalendarEventId("ev1");
+
+        calendarSyncQueue.enqueue(CalendarOperation.DELETE, slot, "cal1");
+
+        CalendarSyncTask task = insertedTask();
+        assertEquals(CalendarOperation.DELETE, task.getOperation());
+        assertEquals("ev1", task.getEventId());
+    }
+
+    @Test
+    void enqueue_withoutCalendar_shouldDoNothing() {
+        calendarSyncQueue.enqueue(CalendarOperation.CREATE, slot("s1"), null);
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    private InterviewSlot slot(String id) {
+        return new InterviewSlot(id, "JAVA", Seniority.MID, START, START.plusHours(1), false, null, "recr1", null,
+                1, 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CalendarSyncTask insertedTask() {
+        ArgumentCaptor<List<CalendarSyncTask>> captor = ArgumentCaptor.forClass(List.class);
+        verify(taskRepository).insert(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        return captor.getValue().get(0);
+    }
+}
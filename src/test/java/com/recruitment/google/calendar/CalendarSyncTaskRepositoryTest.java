@@ -0,0 +1,69 @@
+package com.recruitment.google.calendar;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Folds queued calendar tasks against a real MongoDB. Skipped when Docker is not available.
+ */
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+class CalendarSyncTaskRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 7, 9, 0);
+
+    @Autowired
+    private CalendarSyncTaskRepository taskRepository;
+
+    @BeforeEach
+    void setup() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void convertPendingToDelete_shouldKeepOneDeleteInPlaceOfTheQueuedTasks() {
+        taskRepository.insert(List.of(
+                task("t1", "s1", CalendarOperation.CREATE, CalendarSyncStatus.PENDING, 2, 0),
+                task("t2", "s1", CalendarOperation.UPDATE, CalendarSyncStatus.PENDING, 0, 1),
+                task("t3", "s1", CalendarOperation.UPDATE, CalendarSyncStatus.PENDING, 0, 2),
+                task("t4", "s2", CalendarOperation.UPDATE, CalendarSyncStatus.PENDING, 0, 3)));
+
+        assertTrue(taskRepository.convertPendingToDelete("s1", "ev1"));
+
+        CalendarSyncTask delete = taskRepository.findById("t1").orElseThrow();
+        assertEquals(CalendarOperation.DELETE, delete.getOperation());
+        assertEquals("ev1", delete.getEventId());
+        assertEquals(0, delete.getAttempts());
+        assertEquals(List.of("t1", "t4"), taskRepository.findAll().stream().map(CalendarSyncTask::getId).sorted()
+                .toList());
+    }
+
+    @Test
+    void convertPendingToDelete_shouldLeaveRunningTasksAlone() {
+        taskRepository.insert(task("t1", "s1", CalendarOperation.CREATE, CalendarSyncStatus.IN_PROGRESS, 1, 0));
+
+        assertFalse(taskRepository.convertPendingToDelete("s1", "ev1"));
+        assertEquals(CalendarOperation.CREATE, taskRepository.findById("t1").orElseThrow().getOperation());
+    }
+
+    private static CalendarSyncTask task(String id, String slotId, CalendarOperation operation,
+            CalendarSyncStatus status, int attempts, int minute) {
+        return new CalendarSyncTask(id, slotId, "cal1", operation, null, status, attempts, START.plusMinutes(minute),
+                START, null, null, (attempts > 0) ? "503" : null);
+    }
+}
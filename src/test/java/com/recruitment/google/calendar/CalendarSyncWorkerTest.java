@@ -0,0 +1,202 @@
+package com.recruitment.google.calendar;
+
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.interview.InterviewSlotRepository;
+import com.recruitment.interview.Seniority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarSyncWorkerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 7, 9, 0);
+
+    @Mock
+    private CalendarSyncTaskRepository taskRepository;
+
+    @Mock
+    private InterviewSlotRepository slotRepository;
+
+    private FakeCalendarTransport calendar;
+    private CalendarSyncWorker worker;
+    private final Map<String, InterviewSlot> slots = new HashMap<>();
+    private final Set<String> waiting = new HashSet<>();
+
+    @BeforeEach
+    void setup() {
+        calendar = new FakeCalendarTransport(20);
+        GoogleCalendarService calendarService = new GoogleCalendarService(calendar.calendar(),
+                new CalendarRateLimiter(0), new SimpleMeterRegistry());
+        worker = new CalendarSyncWorker(taskRepository, slotRepository, calendarService, 2, 50, 3,
+                Duration.ofMinutes(2), Duration.ofSeconds(1), Duration.ofMinutes(5));
+
+        lenient().when(taskRepository.firstTaskIdsOf(anyCollection())).thenAnswer(inv -> {
+            Set<String> first = new HashSet<>();
+            for (String slotId : inv.<Collection<String>>getArgument(0)) {
+                if (!waiting.contains(slotId)) {
+                    first.add("task-" + slotId);
+                }
+            }
+            return first;
+        });
+        lenient().when(slotRepository.findAllById(any())).thenAnswer(inv -> {
+            List<InterviewSlot> found = new ArrayList<>();
+            for (String id : inv.<Iterable<String>>getArgument(0)) {
+                if (slots.containsKey(id)) {
+                    found.add(slots.get(id));
+                }
+            }
+            return found;
+        });
+    }
+
+    @Test
+    void process_createsEventsInBatchesAndWritesIdsBack() {
+        List<CalendarSyncTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            tasks.add(task(CalendarOperation.CREATE, slot("s" + i)));
+        }
+
+        worker.process(tasks);
+
+        assertEquals(120, calendar.eventCount());
+        assertEquals(3, calendar.httpRequests());
+        Map<String, String> eventIds = captureEventIds();
+        assertEquals(120, eventIds.size());
+        assertEquals(GoogleCalendarService.eventIdFor("s7"), eventIds.get("s7"));
+        assertEquals(120, captureCompleted().size());
+    }
+
+    @Test
+    void process_repeatedCreate_shouldNotDuplicateEvent() {
+        InterviewSlot slot = slot("s1");
+        worker.process(List.of(task(CalendarOperation.CREATE, slot)));
+        worker.process(List.of(task(CalendarOperation.CREATE, slot)));
+
+        assertEquals(1, calendar.eventCount());
+        verify(taskRepository, times(2)).finish(eq(List.of("task-s1")), eq(List.of()));
+    }
+
+    @Test
+    void process_updateAndDelete_shouldChangeExistingEvent() {
+        InterviewSlot slot = slot("s1");
+        worker.process(List.of(task(CalendarOperation.CREATE, slot)));
+        slot.setGoogleCalendarEventId(GoogleCalendarService.eventIdFor("s1"));
+        slot.setStartTime(START.plusHours(3));
+        slot.setEndTime(START.plusHours(4));
+
+        long requestsBefore = calendar.httpRequests();
+        worker.process(List.of(task(CalendarOperation.UPDATE, slot)));
+        assertEquals(1, calendar.httpRequests() - requestsBefore);
+        assertTrue(calendar.event("cal1", slot.getGoogleCalendarEventId()).get("summary").asText()
+                .startsWith("Interview Updated"));
+
+        slots.remove("s1");
+        worker.process(List.of(task(CalendarOperation.DELETE, slot)));
+        assertEquals(0, calendar.eventCount());
+    }
+
+    @Test
+    void process_whenEarlierTaskOfSlotPending_shouldWaitWithoutCallingCalendar() {
+        waiting.add("s1");
+        worker.process(List.of(task(CalendarOperation.UPDATE, slot("s1"))));
+
+        assertEquals(0, calendar.httpRequests());
+        List<CalendarSyncTask> rescheduled = captureRescheduled();
+        assertEquals(CalendarSyncStatus.PENDING, rescheduled.get(0).getStatus());
+        assertEquals(0, rescheduled.get(0).getAttempts());
+    }
+
+    @Test
+    void process_whenDeletedBeforeCreate_shouldSkipCall() {
+        CalendarSyncTask task = task(CalendarOperation.CREATE, slot("s1"));
+        slots.clear();
+
+        worker.process(List.of(task));
+
+        assertEquals(0, calendar.httpRequests());
+        assertEquals(List.of("task-s1"), captureCompleted());
+    }
+
+    @Test
+    void process_whenCalendarUnavailable_shouldRetryThenFail() {
+        calendar.failCalendar("cal1", 503);
+        CalendarSyncTask task = task(CalendarOperation.CREATE, slot("s1"));
+
+        worker.process(List.of(task));
+        assertEquals(CalendarSyncStatus.PENDING, task.getStatus());
+        assertEquals(1, task.getAttempts());
+        assertTrue(task.getNextAttemptAt().isAfter(LocalDateTime.now()));
+
+        worker.process(List.of(task));
+        worker.process(List.of(task));
+        assertEquals(CalendarSyncStatus.FAILED, task.getStatus());
+        assertTrue(task.getLastError().startsWith("503"));
+    }
+
+    @Test
+    void process_whenForbidden_shouldFailWithoutRetry() {
+        calendar.failCalendar("cal1", 403);
+        CalendarSyncTask task = task(CalendarOperation.CREATE, slot("s1"));
+
+        worker.process(List.of(task));
+
+        assertEquals(CalendarSyncStatus.FAILED, task.getStatus());
+        assertEquals(1, task.getAttempts());
+    }
+
+    private InterviewSlot slot(String id) {
+        InterviewSlot slot = new InterviewSlot(id, "JAVA", Seniority.MID, START, START.plusHours(1), false, null,
+                "recr1", null, 1, 0);
+        slots.put(id, slot);
+        return slot;
+    }
+
+    private CalendarSyncTask task(CalendarOperation operation, InterviewSlot slot) {
+        LocalDateTime now = LocalDateTime.now();
+        return new CalendarSyncTask("task-" + slot.getId(), slot.getId(), "cal1", operation,
+                slot.getGoogleCalendarEventId(), CalendarSyncStatus.IN_PROGRESS, 0, now, now, "worker", now, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> captureEventIds() {
+        ArgumentCaptor<Map<String, String>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(slotRepository).setCalendarEventIds(captor.capture());
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> captureCompleted() {
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(taskRepository).finish(captor.capture(), anyCollection());
+        return new ArrayList<>(captor.getValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<CalendarSyncTask> captureRescheduled() {
+        ArgumentCaptor<Collection<CalendarSyncTask>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(taskRepository).finish(anyCollection(), captor.capture());
+        return new ArrayList<>(captor.getValue());
+    }
+}
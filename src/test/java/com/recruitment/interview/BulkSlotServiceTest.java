@@ -0,0 +1,257 @@
+package com.recruitment.interview;
+
+import com.recruitment.events.DomainEventPublisher;
+import com.recruitment.exceptions.ResourceNotFoundException;
+import com.recruitment.google.calendar.CalendarOperation;
+import com.recruitment.google.calendar.CalendarSyncQueue;
+import com.recruitment.recruiter.Recruiter;
+import com.recruitment.recruiter.RecruiterMapper;
+import com.recruitment.recruiter.RecruiterRepository;
+import com.recruitment.recruiter.RecruiterScheduleService;
+import com.recruitment.recruiter.RecruiterService;
+import com.recruitment.recruiter.SlotCounterService;
+import com.recruitment.recruiter.SlotPeriod;
+import com.recruitment.recruiter.SlotValidationMetrics;
+import com.recruitment.recruiter.SlotValidationResult;
+import com.recruitment.recruiter.SlotViolation;
+import com.recruitment.recruiter.SlotViolationType;
+import com.recruitment.vacation.Vacation;
+import com.recruitment.vacation.VacationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkSlotServiceTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 1, 7);
+
+    @Mock
+    private InterviewSlotRepository interviewSlotRepository;
+
+    @Mock
+    private VacationRepository vacationRepository;
+
+    @Mock
+    private RecruiterRepository recruiterRepository;
+
+    @Mock
+    private CalendarSyncQueue calendarSyncQueue;
+
+    @Mock
+    private SlotIntervalIndex slotIntervalIndex;
+
+    @Mock
+    private SlotCounterService slotCounterService;
+
+    @Mock
+    private RecruiterScheduleService recruiterScheduleService;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private BulkSlotService bulkSlotService;
+    private Recruiter recruiter;
+    private final Map<String, Long> counts = new HashMap<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setup() {
+        recruiter = new Recruiter("recr1", "John", "Doe", null, null, null, null, null);
+        RecruiterService recruiterService = new RecruiterService(recruiterRepository, vacationRepository,
+                mock(RecruiterMapper.class), slotIntervalIndex, slotCounterService,
+                new SlotValidationMetrics(meterRegistry));
+        bulkSlotService = new BulkSlotService(interviewSlotRepository, vacationRepository, recruiterService,
+                recruiterRepository, new InterviewSlotMapperImpl(), calendarSyncQueue, slotIntervalIndex, slotCounterService,
+                recruiterScheduleService, mock(ScheduleSnapshot.class), eventPublisher,
+                transactionTemplate);
+        ReflectionTestUtils.setField(bulkSlotService, "maxItems", 100);
+
+        lenient().when(recruiterScheduleService.change(any(), any(), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+        lenient().when(recruiterRepository.findById("recr1")).thenAnswer(inv -> Optional.of(recruiter));
+        lenient().when(slotCounterService.countsFor(anyString(), anyList())).thenAnswer(inv -> new HashMap<>(counts));
+        lenient().when(interviewSlotRepository.insert(anyList())).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    @Test
+    void createSlots_fromRecurrence_shouldInsertAllInOneCall() {
+        SlotRecurrenceDto recurrence = new SlotRecurrenceDto(MONDAY, 2,
+                Arrays.asList(DayOfWeek.TUESDAY, DayOfWeek.THURSDAY), LocalTime.of(9, 0), LocalTime.of(12, 0), 60,
+                "JAVA", Seniority.MID, false, null, null);
+
+        BulkSlotResponse response = bulkSlotService.createSlots(
+                new BulkSlotRequest(null, recurrence, BulkMode.ALL_OR_NOTHING), "recr1");
+
+        assertEquals(12, response.getCreated());
+        assertEquals(0, response.getRejected());
+        assertEquals(LocalDateTime.of(2030, 1, 8, 9, 0), response.getResults().get(0).getStartTime());
+        assertEquals(LocalDateTime.of(2030, 1, 17, 12, 0), response.getResults().get(11).getEndTime());
+        verify(interviewSlotRepository, times(1)).insert(anyList());
+        verify(interviewSlotRepository, times(1))
+                .findByRecruiterIdAndStartTimeLessThanAndEndTimeGreaterThan(eq("recr1"), any(), any());
+        verify(slotCounterService).slotsAdded(argThat(slots -> slots.size() == 12));
+        verify(eventPublisher).publishAll(argThat(events -> events.size() == 12));
+        verify(interviewSlotRepository, never()).save(any());
+    }
+
+    @Test
+    void createSlots_withConflictAllOrNothing_shouldWriteNothing() {
+        LocalDateTime start = MONDAY.atTime(10, 0);
+        when(interviewSlotRepository.findByRecruiterIdAndStartTimeLessThanAndEndTimeGreaterThan(eq("recr1"), any(),
+                any())).thenReturn(List.of(new InterviewSlot("existing", "JAVA", Seniority.MID, start,
+                start.plusHours(1), false, null, "recr1", null, 1, 0)));
+
+        BulkSlotResponse response = bulkSlotService.createSlots(new BulkSlotRequest(Arrays.asList(
+                dto(start.minusHours(2)), dto(start.plusMinutes(30))), null, BulkMode.ALL_OR_NOTHING), "recr1");
+
+        assertEquals(0, response.getCreated());
+        assertEquals(BulkSlotStatus.SKIPPED, response.getResults().get(0).getStatus());
+        assertEquals(BulkSlotStatus.CONFLICT, response.getResults().get(1).getStatus());
+        assertEquals("Slot conflict with ID existing", response.getResults().get(1).getMessage());
+        verify(interviewSlotRepository, never()).insert(anyList());
+    }
+
+    @Test
+    void createSlots_partial_shouldCheckBatchAgainstItselfAndLimits() {
+        recruiter.setMaxDailyInterviews(3);
+        counts.put(SlotPeriod.DAY.counterId("recr1", MONDAY), 1L);
+        LocalDateTime start = MONDAY.atTime(9, 0);
+        when(vacationRepository.findByRecruiterIdAndStartDateLessThanAndEndDateGreaterThan(eq("recr1"), any(), any()))
+                .thenReturn(List.of(new Vacation("v1", "recr1", MONDAY.atTime(15, 0), MONDAY.atTime(18, 0), null,
+                        true)));
+
+        BulkSlotResponse response = bulkSlotService.createSlots(new BulkSlotRequest(Arrays.asList(
+                dto(start), dto(start.plusMinutes(30)), dto(start.plusHours(6)), dto(start.plusHours(2)),
+                dto(start.plusHours(4)), new InterviewSlotDto(null, null, "JAVA", Seniority.MID, start, start, false,
+                        null, null)), null, BulkMode.PARTIAL), "recr1");
+
+        List<BulkSlotStatus> statuses = new ArrayList<>();
+        for (BulkSlotResult result : response.getResults()) {
+            statuses.add(result.getStatus());
+        }
+        assertEquals(Arrays.asList(BulkSlotStatus.CREATED, BulkSlotStatus.CONFLICT, BulkSlotStatus.CONFLICT,
+                BulkSlotStatus.CREATED, BulkSlotStatus.LIMIT_EXCEEDED, BulkSlotStatus.INVALID), statuses);
+        assertEquals(2, response.getCreated());
+        assertEquals(4, response.getRejected());
+        assertNotNull(response.getResults().get(0).getSlot().getId());
+    }
+
+    @Test
+    void createSlots_withCalendar_shouldQueueEventsInOneCall() {
+        recruiter.setCalendarId("cal123");
+
+        bulkSlotService.createSlots(new BulkSlotRequest(Arrays.asList(dto(MONDAY.atTime(9, 0)),
+                dto(MONDAY.atTime(11, 0))), null, null), "recr1");
+
+        verify(calendarSyncQueue, times(1)).enqueue(eq(CalendarOperation.CREATE),
+                argThat((List<InterviewSlot> slots) -> slots.size() == 2), eq("cal123"));
+        verify(interviewSlotRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void createSlots_whenRecruiterNotFound_shouldThrow() {
+        assertThrows(ResourceNotFoundException.class, () -> bulkSlotService.createSlots(
+                new BulkSlotRequest(List.of(dto(MONDAY.atTime(9, 0))), null, null), "recrX"));
+    }
+
+    @Test
+    void createSlots_overMaxItems_shouldThrow() {
+        SlotRecurrenceDto recurrence = new SlotRecurrenceDto(MONDAY, 52, Arrays.asList(DayOfWeek.values()),
+                LocalTime.of(9, 0), LocalTime.of(12, 0), 60, "JAVA", Seniority.MID, false, null, null);
+        assertThrows(IllegalArgumentException.class, () -> bulkSlotService.createSlots(
+                new BulkSlotRequest(null, recurrence, null), "recr1"));
+    }
+
+    @Test
+    void createSlots_withRecurrenceOutOfRange_shouldThrowBeforeExpanding() {
+        SlotRecurrenceDto recurrence = new SlotRecurrenceDto(MONDAY, Integer.MAX_VALUE, List.of(DayOfWeek.MONDAY),
+                LocalTime.of(9, 0), LocalTime.of(10, 0), 60, "JAVA", Seniority.MID, false, null, null);
+        assertThrows(IllegalArgumentException.class, () -> bulkSlotService.createSlots(
+                new BulkSlotRequest(null, recurrence, null), "recr1"));
+
+        recurrence.setWeeks(2);
+        recurrence.setSlotMinutes(90);
+        assertThrows(IllegalArgumentException.class, () -> bulkSlotService.createSlots(
+                new BulkSlotRequest(null, recurrence, null), "recr1"));
+
+        recurrence.setSlotMinutes(60);
+        recurrence.setFirstDay(LocalDate.MAX.minusDays(3));
+        assertThrows(IllegalArgumentException.class, () -> bulkSlotService.createSlots(
+                new BulkSlotRequest(null, recurrence, null), "recr1"));
+        verifyNoInteractions(interviewSlotRepository);
+    }
+
+    @Test
+    void validateSlots_shouldReportEveryViolationWithoutWriting() {
+        recruiter.setMaxDailyInterviews(1);
+        counts.put(SlotPeriod.DAY.counterId("recr1", MONDAY), 1L);
+        LocalDateTime start = MONDAY.atTime(10, 0);
+        when(interviewSlotRepository.findByRecruiterIdAndStartTimeLessThanAndEndTimeGreaterThan(eq("recr1"), any(),
+                any())).thenReturn(List.of(new InterviewSlot("existing", "JAVA", Seniority.MID, start,
+                start.plusHours(1), false, null, "recr1", null, 1, 0)));
+        when(vacationRepository.findByRecruiterIdAndStartDateLessThanAndEndDateGreaterThan(eq("recr1"), any(), any()))
+                .thenReturn(List.of(new Vacation("v1", "recr1", MONDAY.atTime(10, 0), MONDAY.atTime(12, 0), null,
+                        true)));
+
+        List<SlotValidationResult> results = bulkSlotService.validateSlots(Arrays.asList(dto(start.plusMinutes(30)),
+                dto(start.plusDays(1)), new InterviewSlotDto(null, null, "JAVA", Seniority.MID, start, start, false,
+                        null, null)), "recr1");
+
+        assertEquals(3, results.size());
+        List<SlotViolationType> types = new ArrayList<>();
+        for (SlotViolation violation : results.get(0).getViolations()) {
+            types.add(violation.getType());
+        }
+        assertEquals(Arrays.asList(SlotViolationType.DAILY_LIMIT, SlotViolationType.VACATION,
+                SlotViolationType.OVERLAP), types);
+        assertEquals("existing", results.get(0).getViolations().get(2).getConflictingId());
+        assertTrue(results.get(1).isValid());
+        assertEquals(1, results.get(1).getIndex());
+        assertEquals(SlotViolationType.INVALID_TIME, results.get(2).getViolations().get(0).getType());
+        verify(interviewSlotRepository, never()).insert(anyList());
+        verify(slotCounterService, never()).slotsAdded(any());
+        assertTrue(meterRegistry.find("slot.rejections").counters().isEmpty());
+        assertEquals(2, meterRegistry.get("slot.validation").tag("check", "overlaps").timer().count());
+    }
+
+    @Test
+    void validateSlots_whenEmpty_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> bulkSlotService.validateSlots(List.of(), "recr1"));
+    }
+
+    private InterviewSlotDto dto(LocalDateTime start) {
+        return new InterviewSlotDto(null, null, "JAVA", Seniority.MID, start, start.plusHours(1), false, null, null);
+    }
+}
@@ -0,0 +1,244 @@
+package com.recruitment.interview;
+
+import com.recruitment.config.JobLeaseRepository;
+import com.recruitment.exceptions.LimitExceededException;
+import com.recruitment.exceptions.OverlapException;
+import com.recruitment.exceptions.ScheduleConflictException;
+import com.recruitment.events.DomainEventPublisher;
+import com.recruitment.google.calendar.CalendarSyncQueue;
+import com.recruitment.recruiter.Recruiter;
+import com.recruitment.recruiter.RecruiterMapper;
+import com.recruitment.recruiter.RecruiterRepository;
+import com.recruitment.recruiter.RecruiterSchedule;
+import com.recruitment.recruiter.RecruiterScheduleRepository;
+import com.recruitment.recruiter.RecruiterScheduleService;
+import com.recruitment.recruiter.RecruiterService;
+import com.recruitment.recruiter.SlotCounter;
+import com.recruitment.recruiter.SlotCounterRepository;
+import com.recruitment.recruiter.SlotCounterService;
+import com.recruitment.recruiter.SlotValidationMetrics;
+import com.recruitment.vacation.VacationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Hammers one recruiter from many threads spread over two application "nodes" that share only the (faked)
+ * database, and checks that the stored schedule never overbooks the recruiter.
+ */
+class InterviewSlotConcurrencyTest {
+
+    private static final int NODES = 2;
+    private static final int THREADS = 16;
+    private static final int REQUESTS_PER_THREAD = 60;
+    private static final int MAX_DAILY = 4;
+    private static final int MAX_WEEKLY = 12;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2030, 1, 7);
+
+    private final ConcurrentMap<String, InterviewSlot> slots = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Recruiter recruiter = new Recruiter("recr1", "John", "Doe", MAX_DAILY, MAX_WEEKLY, null, null, null);
+
+    private InterviewSlotRepository slotRepository;
+    private SlotCounterRepository counterRepository;
+    private RecruiterScheduleRepository scheduleRepository;
+    private RecruiterRepository recruiterRepository;
+
+    @BeforeEach
+    void setup() {
+        slotRepository = mock(InterviewSlotRepository.class);
+        when(slotRepository.save(any(InterviewSlot.class))).thenAnswer(this::saveSlot);
+        when(slotRepository.findById(anyString())).thenAnswer(inv -> Optional.ofNullable(
+                slots.get(inv.<String>getArgument(0))).map(this::copyOf));
+        doAnswer(inv -> slots.remove(inv.<String>getArgument(0))).when(slotRepository).deleteById(anyString());
+        when(slotRepository.findByRecruiterId(anyString())).thenAnswer(inv -> {
+            List<InterviewSlot> result = new ArrayList<>();
+            for (InterviewSlot slot : slots.values()) {
+                result.add(copyOf(slot));
+            }
+            return result;
+        });
+
+        counterRepository = mock(SlotCounterRepository.class);
+        when(counterRepository.findAllById(any())).thenAnswer(inv -> {
+            List<SlotCounter> result = new ArrayList<>();
+            for (String id : inv.<Iterable<String>>getArgument(0)) {
+                Long count = counters.get(id);
+                if (count != null) {
+                    result.add(new SlotCounter(id, "recr1", null, null, count));
+                }
+            }
+            return result;
+        });
+        doAnswer(inv -> {
+            for (SlotCounter delta : inv.<Collection<SlotCounter>>getArgument(0)) {
+                counters.merge(delta.getId(), delta.getCount(), Long::sum);
+            }
+            return null;
+        }).when(counterRepository).incrementAll(any());
+
+        scheduleRepository = mock(RecruiterScheduleRepository.class);
+        when(scheduleRepository.findById(anyString())).thenAnswer(inv -> Optional.ofNullable(
+                versions.get(inv.<String>getArgument(0)))
+                .map(version -> new RecruiterSchedule(inv.getArgument(0), version.get())));
+        when(scheduleRepository.compareAndIncrement(anyString(), anyLong())).thenAnswer(inv ->
+                versionOf(inv.getArgument(0)).compareAndSet(inv.<Long>getArgument(1), inv.<Long>getArgument(1) + 1));
+        doAnswer(inv -> versionOf(inv.getArgument(0)).incrementAndGet()).when(scheduleRepository)
+                .increment(anyString());
+
+        recruiterRepository = mock(RecruiterRepository.class);
+        when(recruiterRepository.findById("recr1")).thenReturn(Optional.of(recruiter));
+    }
+
+    @Test
+    void concurrentCreates_shouldNeverOverlapOrExceedLimits() throws Exception {
+        List<InterviewSlotService> nodes = new ArrayList<>();
+        for (int i = 0; i < NODES; i++) {
+            nodes.add(newNode());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            InterviewSlotService node = nodes.get(t % NODES);
+            Random random = new Random(t);
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    LocalDateTime slotStart = FIRST_DAY.plusDays(random.nextInt(7)).atTime(8, 0)
+                            .plusMinutes(30L * random.nextInt(18));
+                    InterviewSlotDto dto = new InterviewSlotDto(null, "recr1", "JAVA", Seniority.MID, slotStart,
+                            slotStart.plusMinutes(60), false, 0, null);
+                    try {
+                        node.createSlot(dto, "recr1");
+                        created.incrementAndGet();
+                    } catch (OverlapException | LimitExceededException | ScheduleConflictException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertEquals(THREADS * REQUESTS_PER_THREAD, created.get() + rejected.get());
+        assertEquals(created.get(), slots.size());
+        assertTrue(created.get() > 0);
+
+        List<InterviewSlot> stored = new ArrayList<>(slots.values());
+        Map<LocalDate, Integer> perDay = new HashMap<>();
+        Map<Integer, Integer> perWeek = new HashMap<>();
+        for (int i = 0; i < stored.size(); i++) {
+            InterviewSlot a = stored.get(i);
+            for (int j = i + 1; j < stored.size(); j++) {
+                InterviewSlot b = stored.get(j);
+                assertFalse(a.getStartTime().isBefore(b.getEndTime()) && b.getStartTime().isBefore(a.getEndTime()),
+                        "Slots " + a.getId() + " and " + b.getId() + " overlap");
+            }
+            perDay.merge(a.getStartTime().toLocalDate(), 1, Integer::sum);
+            perWeek.merge(a.getStartTime().get(IsoFields.WEEK_OF_WEEK_BASED_YEAR), 1, Integer::sum);
+        }
+        for (int count : perDay.values()) {
+            assertTrue(count <= MAX_DAILY, "Daily limit exceeded: " + perDay);
+        }
+        for (int count : perWeek.values()) {
+            assertTrue(count <= MAX_WEEKLY, "Weekly limit exceeded: " + perWeek);
+        }
+    }
+
+    private InterviewSlotService newNode() {
+        SlotIntervalIndex index = new SlotIntervalIndex(slotRepository, Duration.ofMinutes(5));
+        RecruiterScheduleService scheduleService = new RecruiterScheduleService(scheduleRepository, index, 16, 50);
+        SlotCounterService counterService = new SlotCounterService(counterRepository, slotRepository,
+                scheduleService, mock(JobLeaseRepository.class));
+        RecruiterService recruiterService = new RecruiterService(recruiterRepository,
+                Mockito.mock(VacationRepository.class), Mockito.mock(RecruiterMapper.class), index, counterService,
+                new SlotValidationMetrics(new SimpleMeterRegistry()));
+        InterviewSlotMapper mapper = mock(InterviewSlotMapper.class);
+        when(mapper.toEntity(any())).thenAnswer(inv -> {
+            InterviewSlotDto dto = inv.getArgument(0);
+            InterviewSlot slot = new InterviewSlot();
+            slot.setCategory(dto.getCategory());
+            slot.setSeniority(dto.getSeniority());
+            slot.setStartTime(dto.getStartTime());
+            slot.setEndTime(dto.getEndTime());
+            slot.setMultiCapacity(dto.isMultiCapacity());
+            slot.setBufferMinutes(dto.getBufferMinutes());
+            return slot;
+        });
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> ((TransactionCallback<?>) inv.getArgument(0)).doInTransaction(null));
+        return new InterviewSlotService(slotRepository, recruiterService, mapper,
+                mock(CalendarSyncQueue.class), index, counterService, scheduleService, mock(ScheduleSnapshot.class),
+                mock(DomainEventPublisher.class), transactionTemplate);
+    }
+
+    private InterviewSlot saveSlot(InvocationOnMock invocation) {
+        InterviewSlot slot = invocation.getArgument(0);
+        if (slot.getId() == null) {
+            slot.setId(UUID.randomUUID().toString());
+        }
+        slots.put(slot.getId(), copyOf(slot));
+        // Widen the window between validation and commit so nodes really race.
+        Thread.yield();
+        return slot;
+    }
+
+    private AtomicLong versionOf(String recruiterId) {
+        return versions.computeIfAbsent(recruiterId, id -> new AtomicLong());
+    }
+
+    private InterviewSlot copyOf(InterviewSlot slot) {
+        InterviewSlot copy = new InterviewSlot();
+        copy.setId(slot.getId());
+        copy.setRecruiterId(slot.getRecruiterId());
+        copy.setCategory(slot.getCategory());
+        copy.setSeniority(slot.getSeniority());
+        copy.setStartTime(slot.getStartTime());
+        copy.setEndTime(slot.getEndTime());
+        copy.setMultiCapacity(slot.isMultiCapacity());
+        copy.setBufferMinutes(slot.getBufferMinutes());
+        return copy;
+    }
+}
@@ -1,20 +1,41 @@
 package com.recruitment.interview;
 
+import com.recruitment.config.KeysetCursor;
+import com.recruitment.config.KeysetPage;
+import com.recruitment.events.DomainEventPublisher;
+import com.recruitment.events.DomainEventType;
+import com.recruitment.exceptions.OverlapException;
 import com.recruitment.exceptions.ResourceNotFoundException;
-import com.recruitment.google.calendar.GoogleCalendarService;
+import com.recruitment.google.calendar.CalendarOperation;
+import com.recruitment.google.calendar.CalendarSyncQueue;
 import com.recruitment.recruiter.Recruiter;
+import com.recruitment.recruiter.RecruiterScheduleService;
 import com.recruitment.recruiter.RecruiterService;
+import com.recruitment.recruiter.SlotCounterService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,7 +51,25 @@ class InterviewSlotServiceTest {
     private InterviewSlotMapper slotMapper;
 
     @Mock
-    private GoogleCalendarService googleCalendarService;
+    private CalendarSyncQueue calendarSyncQueue;
+
+    @Mock
+    private SlotIntervalIndex slotIntervalIndex;
+
+    @Mock
+    private SlotCounterService slotCounterService;
+
+    @Mock
+    private RecruiterScheduleService recruiterScheduleService;
+
+    @Mock
+    private ScheduleSnapshot scheduleSnapshot;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
     @InjectMocks
     private InterviewSlotService slotService;
@@ -50,25 +89,61 @@ class InterviewSlotServiceTest {
         dto = new InterviewSlotDto();
         dto.setCategory("JAVA");
         dto.setSeniority(Seniority.valueOf("MID"));
+
+        lenient().when(recruiterScheduleService.change(any(), any(), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
     }
 
     @Test
     void createSlot_whenRecruiterNotFound_shouldThrow() {
-        when(recruiterService.findById("recrX")).thenReturn(Optional.empty());
+        when(slotMapper.toEntity(dto)).thenReturn(entity);
+        when(recruiterService.validateSlot("recrX", entity, null))
+                .thenThrow(new ResourceNotFoundException("Recruiter not found: recrX"));
         assertThrows(ResourceNotFoundException.class, () -> slotService.createSlot(dto, "recrX"));
     }
 
     @Test
-    void createSlot_whenOk_shouldSaveSlotAndCreateEvent() throws Exception {
-        when(recruiterService.findById("recr1")).thenReturn(Optional.of(recruiter));
+    void createSlot_whenOk_shouldSaveSlotOnceAndQueueEvent() {
         when(slotMapper.toEntity(dto)).thenReturn(entity);
+        when(recruiterService.validateSlot("recr1", entity, null)).thenReturn(recruiter);
         when(interviewSlotRepository.save(entity)).thenReturn(entity);
-        when(googleCalendarService.createCalendarEvent("cal123", entity)).thenReturn("event123");
 
         InterviewSlot result = slotService.createSlot(dto, "recr1");
         assertNotNull(result);
         assertEquals("slot1", result.getId());
-        verify(interviewSlotRepository, times(2)).save(entity);
+        verify(interviewSlotRepository, times(1)).save(entity);
+        verify(calendarSyncQueue).enqueue(CalendarOperation.CREATE, entity, "cal123");
+        assertEquals(1, entity.getCapacity());
+        verify(slotIntervalIndex).put(entity);
+        verify(slotCounterService).slotAdded(entity);
+        verify(scheduleSnapshot).put(entity);
+        verify(eventPublisher).publish(argThat(event -> event.getType() == DomainEventType.SLOT_CREATED
+                && "slot1".equals(event.getSlotId())));
+    }
+
+    @Test
+    void createSlot_whenChangeIsUndone_shouldQueueTheDeletionInTheSameTransaction() {
+        when(slotMapper.toEntity(dto)).thenReturn(entity);
+        when(recruiterService.validateSlot("recr1", entity, null)).thenReturn(recruiter);
+        when(interviewSlotRepository.save(entity)).thenReturn(entity);
+        doAnswer(invocation -> {
+            Supplier<Object> change = invocation.getArgument(1);
+            Consumer<Object> undo = invocation.getArgument(2);
+            undo.accept(change.get());
+            return change.get();
+        }).when(recruiterScheduleService).change(any(), any(), any());
+
+        slotService.createSlot(dto, "recr1");
+
+        InOrder inOrder = inOrder(interviewSlotRepository, eventPublisher);
+        inOrder.verify(interviewSlotRepository).save(entity);
+        inOrder.verify(eventPublisher).publish(argThat(event -> event.getType() == DomainEventType.SLOT_CREATED));
+        inOrder.verify(interviewSlotRepository).deleteById("slot1");
+        inOrder.verify(eventPublisher).publish(argThat(event -> event.getType() == DomainEventType.SLOT_DELETED
+                && "slot1".equals(event.getSlotId())));
+        verify(transactionTemplate, times(3)).execute(any());
     }
 
     @Test
@@ -78,6 +153,64 @@ class InterviewSlotServiceTest {
         assertThrows(ResourceNotFoundException.class, () -> slotService.updateSlot("slotX", d));
     }
 
+    @Test
+    void updateSlot_whenTimeChanged_shouldValidateOnceExcludingPreviousStart() {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 7, 10, 0);
+        entity.setRecruiterId("recr1");
+        entity.setStartTime(start);
+        entity.setEndTime(start.plusHours(1));
+        dto.setStartTime(start.plusHours(2));
+        dto.setEndTime(start.plusHours(3));
+        when(interviewSlotRepository.findById("slot1")).thenReturn(Optional.of(entity));
+        when(slotMapper.copy(entity)).thenReturn(new InterviewSlot("slot1", null, null, start, start.plusHours(1),
+                false, null, "recr1", null, 1, 0));
+        when(recruiterService.validateSlot("recr1", entity, start)).thenReturn(recruiter);
+        when(interviewSlotRepository.updateDetails(entity)).thenReturn(Optional.of(entity));
+
+        slotService.updateSlot("slot1", dto);
+
+        verify(recruiterService, never()).findById(any());
+        verify(slotCounterService).slotMoved(start, entity);
+        verify(recruiterScheduleService).change(eq("recr1"), any(), any());
+    }
+
+    @Test
+    void updateSlot_whenTimeUnchanged_shouldSkipValidationAndTouchSchedule() {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 7, 10, 0);
+        entity.setRecruiterId("recr1");
+        entity.setStartTime(start);
+        entity.setEndTime(start.plusHours(1));
+        dto.setStartTime(start);
+        dto.setEndTime(start.plusHours(1));
+        when(interviewSlotRepository.findById("slot1")).thenReturn(Optional.of(entity));
+        when(recruiterService.findById("recr1")).thenReturn(Optional.of(recruiter));
+        when(interviewSlotRepository.updateDetails(entity)).thenReturn(Optional.of(entity));
+
+        slotService.updateSlot("slot1", dto);
+
+        verify(recruiterService, never()).validateSlot(any(), any(), any());
+        verify(interviewSlotRepository, never()).save(any());
+        verify(recruiterScheduleService).touch("recr1");
+    }
+
+    @Test
+    void updateSlot_whenCapacityBelowBookings_shouldThrowOverlap() {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 7, 10, 0);
+        entity.setRecruiterId("recr1");
+        entity.setStartTime(start);
+        entity.setEndTime(start.plusHours(1));
+        dto.setStartTime(start);
+        dto.setEndTime(start.plusHours(1));
+        dto.setMultiCapacity(true);
+        dto.setCapacity(2);
+        when(interviewSlotRepository.findById("slot1")).thenReturn(Optional.of(entity));
+        when(recruiterService.findById("recr1")).thenReturn(Optional.of(recruiter));
+        when(interviewSlotRepository.updateDetails(entity)).thenReturn(Optional.empty());
+
+        assertThrows(OverlapException.class, () -> slotService.updateSlot("slot1", dto));
+        assertEquals(2, entity.getCapacity());
+    }
+
     @Test
     void deleteSlot_whenNotFound_shouldThrow() {
         when(interviewSlotRepository.findById("noid")).thenReturn(Optional.empty());
@@ -100,9 +233,64 @@ class InterviewSlotServiceTest {
 
     @Test
     void getSlotsByCategoryAndSeniority_shouldReturnFiltered() {
-        when(interviewSlotRepository.findByCategoryAndSeniority("JAVA", "MID"))
+        when(interviewSlotRepository.findByCategoryAndSeniority("JAVA", Seniority.MID))
                 .thenReturn(List.of(entity));
-        List<InterviewSlot> list = slotService.getSlotsByCategoryAndSeniority("JAVA", "MID");
+        List<InterviewSlot> list = slotService.getSlotsByCategoryAndSeniority("JAVA", Seniority.MID);
         assertEquals(1, list.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findPage_shouldFetchOneExtraAndContinueAfterLastSlot() {
+        ReflectionTestUtils.setField(slotService, "maxPageLimit", 500);
+        LocalDateTime start = LocalDateTime.of(2030, 1, 7, 9, 0);
+        InterviewSlot first = new InterviewSlot("s1", "JAVA", Seniority.MID, start, start.plusHours(1), false, null,
+                "recr1", null, 1, 0);
+        InterviewSlot second = new InterviewSlot("s2", "JAVA", Seniority.MID, start.plusHours(2),
+                start.plusHours(3), false, null, "recr1", null, 1, 0);
+        when(interviewSlotRepository.findPage("recr1", null, null, null, 2)).thenReturn(List.of(first, second));
+
+        KeysetPage<InterviewSlot> page = slotService.findPage("recr1", null, null, null, 1);
+
+        assertEquals(List.of(first), page.getItems());
+        KeysetCursor next = KeysetCursor.decode(page.getNextCursor());
+        assertEquals(start, next.getTime());
+        assertEquals("s1", next.getId());
+    }
+
+    @Test
+    void searchSlots_withoutFrom_shouldSkipStartedSlots() {
+        ReflectionTestUtils.setField(slotService, "maxPageLimit", 500);
+        SlotSearch search = new SlotSearch(List.of("JAVA", "KOTLIN"), Seniority.MID, null, null, true);
+        when(interviewSlotRepository.search(search, null, 21)).thenReturn(List.of(entity));
+        LocalDateTime before = LocalDateTime.now();
+
+        KeysetPage<InterviewSlot> page = slotService.searchSlots(search, null, 20);
+
+        assertEquals(List.of(entity), page.getItems());
+        assertNull(page.getNextCursor());
+        assertFalse(search.getFrom().isBefore(before));
+    }
+
+    @Test
+    void searchSlots_pastSnapshotHorizon_shouldContinueInMongo() {
+        ReflectionTestUtils.setField(slotService, "maxPageLimit", 500);
+        LocalDateTime start = LocalDate.now().plusDays(2).atTime(9, 0);
+        InterviewSlot near = new InterviewSlot("near", "JAVA", Seniority.MID, start, start.plusHours(1), false, null,
+                "recr1", null, 1, 0);
+        when(interviewSlotRepository.streamByStartTimeBetween(any(), any())).thenAnswer(inv -> Stream.of(near));
+        ScheduleSnapshot loaded = new ScheduleSnapshot(interviewSlotRepository, true, 2);
+        loaded.reload();
+        when(scheduleSnapshot.view()).thenReturn(loaded.view());
+        LocalDateTime horizon = loaded.view().horizon();
+        InterviewSlot far = new InterviewSlot("far", "JAVA", Seniority.MID, horizon, horizon.plusHours(1), false,
+                null, "recr1", null, 1, 0);
+        when(interviewSlotRepository.search(argThat(rest -> horizon.equals(rest.getFrom())), eq(null), eq(2)))
+                .thenReturn(List.of(far));
+
+        KeysetPage<InterviewSlot> page = slotService.searchSlots(new SlotSearch(null, null, start, null, false),
+                null, 2);
+
+        assertEquals(List.of(near, far), page.getItems());
+        verify(interviewSlotRepository, times(1)).search(any(), any(), anyInt());
+    }
+}
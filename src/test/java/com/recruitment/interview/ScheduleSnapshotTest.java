@@ -0,0 +1,223 @@
+package com.recruitment.interview;
+
+import com.recruitment.config.KeysetCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleSnapshotTest {
+
+    private static final LocalDateTime DAY = LocalDate.now().plusDays(2).atTime(9, 0);
+
+    @Mock
+    private InterviewSlotRepository interviewSlotRepository;
+
+    private ScheduleSnapshot snapshot;
+    private final List<InterviewSlot> stored = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        snapshot = new ScheduleSnapshot(interviewSlotRepository, true, 2);
+        lenient().when(interviewSlotRepository.streamByStartTimeBetween(any(), any()))
+                .thenAnswer(inv -> stored.stream());
+    }
+
+    @Test
+    void search_shouldFilterAndPageInStartOrder() {
+        stored.add(slot("a", "JAVA", Seniority.MID, 0, 0));
+        stored.add(slot("b", "JAVA", Seniority.SENIOR, 1, 0));
+        stored.add(slot("c", "KOTLIN", Seniority.MID, 2, 1));
+        stored.add(slot("d", "PYTHON", Seniority.MID, 3, 0));
+        stored.add(slot("e", "JAVA", Seniority.MID, 4, 0));
+        snapshot.reload();
+
+        SlotSearch search = new SlotSearch(List.of("JAVA", "KOTLIN"), Seniority.MID, DAY, DAY.plusDays(1), false);
+        assertEquals(List.of("a", "c", "e"), ids(snapshot.view().search(search, null, 10)));
+        assertEquals(List.of("c", "e"), ids(snapshot.view().search(search, new KeysetCursor(DAY, "a"), 10)));
+
+        search.setOnlyBookable(true);
+        List<InterviewSlot> bookable = snapshot.view().search(search, null, 10);
+        assertEquals(List.of("a", "e"), ids(bookable));
+        assertEquals("recr1", bookable.get(0).getRecruiterId());
+        assertEquals(DAY.plusHours(1), bookable.get(0).getEndTime());
+    }
+
+    @Test
+    void search_beyondHorizon_shouldReturnTheSlotsBeforeIt() {
+        stored.add(slot("a", "JAVA", Seniority.MID, 0, 0));
+        stored.add(slot("b", "JAVA", Seniority.MID, 1, 0));
+        snapshot.reload();
+        ScheduleSnapshot.View view = snapshot.view();
+
+        SlotSearch open = new SlotSearch(null, null, DAY, null, false);
+        assertEquals(List.of("a", "b"), ids(view.search(open, null, 3)));
+        assertEquals(List.of("a"), ids(view.search(open, null, 1)));
+        assertEquals(List.of(), view.search(new SlotSearch(null, null, view.horizon(), null, false), null, 3));
+        assertNull(view.search(new SlotSearch(null, null, DAY.minusDays(5), DAY, false), null, 2));
+    }
+
+    @Test
+    void search_whenNoCategoryIsHeld_shouldNotMatchSlotsWithoutCategory() {
+        stored.add(slot("a", null, Seniority.MID, 0, 0));
+        stored.add(slot("b", "JAVA", Seniority.MID, 1, 0));
+        snapshot.reload();
+
+        SlotSearch unknown = new SlotSearch(List.of("COBOL"), null, DAY, DAY.plusDays(1), false);
+        assertEquals(List.of(), snapshot.view().search(unknown, null, 10));
+        unknown.setCategories(List.of("COBOL", "JAVA"));
+        assertEquals(List.of("b"), ids(snapshot.view().search(unknown, null, 10)));
+    }
+
+    @Test
+    void search_withSeconds_shouldMatchMongoOrDeferToIt() {
+        stored.add(slot("a", "JAVA", Seniority.MID, 0, 0));
+        stored.add(slot("b", "JAVA", Seniority.MID, 1, 0));
+        snapshot.reload();
+
+        assertEquals(List.of("a", "b"), ids(snapshot.view().search(
+                new SlotSearch(null, null, DAY.minusSeconds(30), DAY.plusHours(1).plusSeconds(1), false), null, 10)));
+        assertEquals(List.of("b"), ids(snapshot.view().search(
+                new SlotSearch(null, null, DAY.plusSeconds(30), DAY.plusDays(1), false), null, 10)));
+        SlotSearch day = new SlotSearch(null, null, DAY, DAY.plusDays(1), false);
+        assertNull(snapshot.view().search(day, new KeysetCursor(DAY.plusSeconds(30), "a"), 10));
+
+        InterviewSlot offMinute = slot("c", "JAVA", Seniority.MID, 2, 0);
+        offMinute.setStartTime(offMinute.getStartTime().plusSeconds(30));
+        snapshot.put(offMinute);
+        assertNull(snapshot.view().search(day, null, 10));
+        snapshot.remove("c");
+        assertEquals(List.of("a", "b"), ids(snapshot.view().search(day, null, 10)));
+    }
+
+    @Test
+    void putAndRemove_shouldPublishNewViewWithoutChangingOldOne() {
+        stored.add(slot("a", "JAVA", Seniority.MID, 0, 0));
+        snapshot.reload();
+        ScheduleSnapshot.View before = snapshot.view();
+
+        InterviewSlot booked = slot("a", "JAVA", Seniority.MID, 0, 1);
+        snapshot.put(booked);
+        snapshot.put(slot("b", "JAVA", Seniority.MID, -1, 0));
+        snapshot.put(slot("far", "JAVA", Seniority.MID, 24 * 60, 0));
+
+        SlotSearch bookable = new SlotSearch(null, null, DAY.minusDays(1), DAY.plusDays(1), true);
+        assertEquals(List.of("b"), ids(snapshot.view().search(bookable, null, 10)));
+        assertEquals(List.of("a"), ids(before.search(bookable, null, 10)));
+        assertEquals(2, snapshot.view().size());
+
+        snapshot.remove("b");
+        assertEquals(1, snapshot.view().size());
+    }
+
+    @Test
+    void reload_shouldKeepChangesMadeWhileLoading() {
+        stored.add(slot("a", "JAVA", Seniority.MID, 0, 0));
+        snapshot.reload();
+        when(interviewSlotRepository.streamByStartTimeBetween(any(), any())).thenAnswer(inv -> {
+            snapshot.put(slot("late", "JAVA", Seniority.MID, 2, 0));
+            return Stream.of(stored.get(0));
+        });
+
+        snapshot.reload();
+
+        assertEquals(2, snapshot.view().size());
+    }
+
+    @Test
+    void forEachBusy_shouldReportBufferedSlotsOfRecruiterInRange() {
+        InterviewSlot buffered = slot("a", "JAVA", Seniority.MID, 0, 0);
+        buffered.setBufferMinutes(10);
+        stored.add(buffered);
+        InterviewSlot other = slot("b", "JAVA", Seniority.MID, 1, 0);
+        other.setRecruiterId("recr2");
+        stored.add(other);
+        stored.add(slot("c", "JAVA", Seniority.MID, 30, 0));
+        snapshot.reload();
+
+        List<int[]> busy = new ArrayList<>();
+        snapshot.view().forEachBusy("recr1", DAY.minusHours(1), DAY.plusHours(5),
+                (start, end) -> busy.add(new int[] {start, end}));
+
+        assertEquals(1, busy.size());
+        assertEquals(ScheduleSnapshot.minute(DAY.minusMinutes(10)), busy.get(0)[0]);
+        assertEquals(ScheduleSnapshot.minute(DAY.plusMinutes(70)), busy.get(0)[1]);
+        assertTrue(snapshot.view().covers(DAY, DAY.plusDays(7)));
+        assertFalse(snapshot.view().covers(DAY, DAY.plusDays(30)));
+    }
+
+    @Test
+    void writes_onSnapshotOfManyChunks_shouldKeepOrderAndTouchOnlyTheirChunk() {
+        int count = 3 * ScheduleSnapshot.CHUNK_ROWS + 10;
+        for (int i = 0; i < count; i++) {
+            stored.add(minuteSlot(String.format("s%05d", i), (i % 2 == 0) ? "recr1" : "recr2", i, 0));
+        }
+        snapshot.reload();
+        ScheduleSnapshot.View loaded = snapshot.view();
+        assertEquals(4, loaded.chunkCount());
+        SlotSearch all = new SlotSearch(null, null, DAY.minusHours(1), DAY.plusDays(7), false);
+        SlotSearch bookable = new SlotSearch(null, null, DAY.minusHours(1), DAY.plusDays(7), true);
+
+        snapshot.put(minuteSlot("s02000", "recr1", 2000, 1));
+        assertEquals(count - 1, snapshot.view().search(bookable, null, count).size());
+        assertEquals(count, loaded.search(bookable, null, count).size());
+
+        snapshot.put(minuteSlot("s00004", "recr1", count + 5, 0));
+        snapshot.remove("s00006");
+        for (int i = 0; i < 2 * ScheduleSnapshot.CHUNK_ROWS; i++) {
+            snapshot.put(minuteSlot(String.format("n%05d", i), "recr3", 100, 0));
+        }
+
+        ScheduleSnapshot.View view = snapshot.view();
+        List<InterviewSlot> slots = view.search(all, null, 10 * count);
+        assertEquals(count - 1 + 2 * ScheduleSnapshot.CHUNK_ROWS, view.size());
+        assertEquals(view.size(), slots.size());
+        assertTrue(view.chunkCount() > 4);
+        for (int i = 1; i < slots.size(); i++) {
+            InterviewSlot previous = slots.get(i - 1);
+            InterviewSlot slot = slots.get(i);
+            assertTrue(previous.getStartTime().isBefore(slot.getStartTime())
+                    || (previous.getStartTime().equals(slot.getStartTime())
+                    && previous.getId().compareTo(slot.getId()) < 0), "Out of order at " + slot.getId());
+        }
+        assertEquals("s00004", slots.get(slots.size() - 1).getId());
+        assertEquals(List.of("s00005", "s00007"), ids(view.search(all, new KeysetCursor(DAY.plusMinutes(3), "s00003"),
+                2)));
+
+        List<Integer> busyStarts = new ArrayList<>();
+        view.forEachBusy("recr1", DAY, DAY.plusMinutes(10), (start, end) -> busyStarts.add(start));
+        assertEquals(List.of(0, 2, 8), busyStarts.stream().map(start -> start - ScheduleSnapshot.minute(DAY))
+                .toList());
+        view.forEachBusy("recr1", DAY.plusMinutes(count), DAY.plusDays(7), (start, end) -> busyStarts.add(start));
+        assertEquals(ScheduleSnapshot.minute(DAY.plusMinutes(count + 5)), busyStarts.get(3));
+    }
+
+    private static InterviewSlot minuteSlot(String id, String recruiterId, int minutesFromDay, int bookedCount) {
+        LocalDateTime start = DAY.plusMinutes(minutesFromDay);
+        return new InterviewSlot(id, "JAVA", Seniority.MID, start, start.plusMinutes(30), false, null, recruiterId,
+                null, 1, bookedCount);
+    }
+
+    private static InterviewSlot slot(String id, String category, Seniority seniority, int hoursFromDay,
+            int bookedCount) {
+        LocalDateTime start = DAY.plusHours(hoursFromDay);
+        return new InterviewSlot(id, category, seniority, start, start.plusHours(1), false, null, "recr1", null, 1,
+                bookedCount);
+    }
+
+    private static List<String> ids(List<InterviewSlot> slots) {
+        return slots.stream().map(InterviewSlot::getId).toList();
+    }
+}
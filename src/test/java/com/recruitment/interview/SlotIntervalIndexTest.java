@@ -0,0 +1,112 @@
+package com.recruitment.interview;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SlotIntervalIndexTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2030, 1, 7, 0, 0);
+
+    @Mock
+    private InterviewSlotRepository interviewSlotRepository;
+
+    private SlotIntervalIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new SlotIntervalIndex(interviewSlotRepository, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void findOverlapping_shouldLoadRecruiterOnlyOnce() {
+        when(interviewSlotRepository.findByRecruiterId("recr1")).thenReturn(List.of(slot("s1", 9, 10)));
+
+        index.findOverlapping("recr1", MONDAY.withHour(9), MONDAY.withHour(11));
+        index.findOverlapping("recr1", MONDAY.withHour(12), MONDAY.withHour(13));
+
+        verify(interviewSlotRepository, times(1)).findByRecruiterId("recr1");
+    }
+
+    @Test
+    void findOverlapping_shouldTreatRangesAsHalfOpen() {
+        when(interviewSlotRepository.findByRecruiterId("recr1"))
+                .thenReturn(List.of(slot("s1", 9, 10), slot("s2", 11, 12)));
+
+        assertTrue(index.findOverlapping("recr1", MONDAY.withHour(10), MONDAY.withHour(11)).isEmpty());
+        assertEquals(2, index.findOverlapping("recr1", MONDAY.withHour(9).plusMinutes(59),
+                MONDAY.withHour(11).plusMinutes(1)).size());
+    }
+
+    @Test
+    void findOverlapping_shouldFindLongSlotStartingLongBeforeWindow() {
+        when(interviewSlotRepository.findByRecruiterId("recr1"))
+                .thenReturn(List.of(slot("long", 6, 18), slot("s2", 7, 8)));
+
+        List<SlotInterval> overlap = index.findOverlapping("recr1", MONDAY.withHour(15), MONDAY.withHour(16));
+        assertEquals(1, overlap.size());
+        assertEquals("long", overlap.get(0).getId());
+    }
+
+    @Test
+    void putAndRemove_shouldUpdateLoadedRecruiter() {
+        when(interviewSlotRepository.findByRecruiterId("recr1")).thenReturn(new ArrayList<>());
+        index.findOverlapping("recr1", MONDAY, MONDAY.plusDays(1));
+
+        InterviewSlot added = slot("s1", 9, 10);
+        index.put(added);
+        assertEquals(1, index.findOverlapping("recr1", MONDAY, MONDAY.plusDays(1)).size());
+
+        added.setStartTime(MONDAY.withHour(14));
+        added.setEndTime(MONDAY.withHour(15));
+        index.put(added);
+        assertTrue(index.findOverlapping("recr1", MONDAY.withHour(9), MONDAY.withHour(10)).isEmpty());
+        assertEquals(1, index.findOverlapping("recr1", MONDAY.withHour(14), MONDAY.withHour(15)).size());
+
+        index.remove(added);
+        assertTrue(index.findOverlapping("recr1", MONDAY, MONDAY.plusDays(1)).isEmpty());
+    }
+
+    @Test
+    void invalidate_shouldReloadFromRepository() {
+        when(interviewSlotRepository.findByRecruiterId("recr1")).thenReturn(List.of(slot("s1", 9, 10)));
+        index.findOverlapping("recr1", MONDAY, MONDAY.plusDays(1));
+
+        index.invalidate("recr1");
+        index.findOverlapping("recr1", MONDAY, MONDAY.plusDays(1));
+
+        verify(interviewSlotRepository, times(2)).findByRecruiterId("recr1");
+    }
+
+    @Test
+    void put_withoutTimes_shouldSkipTheSlot() {
+        when(interviewSlotRepository.findByRecruiterId("recr1")).thenReturn(List.of(slot("s1", 9, 10)));
+        index.findOverlapping("recr1", MONDAY, MONDAY.plusDays(1));
+        InterviewSlot untimed = slot("s1", 9, 10);
+        untimed.setStartTime(null);
+
+        index.put(untimed);
+
+        assertTrue(index.findOverlapping("recr1", MONDAY, MONDAY.plusDays(1)).isEmpty());
+    }
+
+    private InterviewSlot slot(String id, int fromHour, int toHour) {
+        InterviewSlot slot = new InterviewSlot();
+        slot.setId(id);
+        slot.setRecruiterId("recr1");
+        slot.setStartTime(MONDAY.withHour(fromHour));
+        slot.setEndTime(MONDAY.withHour(toHour));
+        return slot;
+    }
+}
@@ -0,0 +1,138 @@
+package com.recruitment.kafka;
+
+import com.recruitment.events.DomainEvent;
+import com.recruitment.events.DomainEventType;
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.interview.Seniority;
+import com.recruitment.projection.ScheduleProjectionService;
+import com.recruitment.reservation.CandidateReservation;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the listeners against an embedded broker: events go through the binary serializer, arrive in batches in
+ * per-slot order, and a poison event is retried off the main topic, parked and replayed.
+ */
+@SpringJUnitConfig(KafkaConsumerServiceTest.Config.class)
+@EmbeddedKafka(partitions = 2, topics = "schedule-events")
+@TestPropertySource(properties = {"spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "recruitment.projection.concurrency=1", "recruitment.events.retry.attempts=2",
+        "recruitment.events.retry.initial-delay-ms=100", "recruitment.events.replay.poll-timeout=500ms"})
+class KafkaConsumerServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 7, 9, 0);
+    private static final long TIMEOUT_MS = 30_000;
+
+    @MockitoBean
+    private ScheduleProjectionService projectionService;
+
+    @Autowired
+    private KafkaTemplate<String, DomainEvent> eventKafkaTemplate;
+
+    @Autowired
+    private DeadLetterReplayService replayService;
+
+    @Test
+    void listen_shouldApplyEventsInBatchesKeepingSlotOrder() {
+        InterviewSlot slot = new InterviewSlot("slot1", "JAVA", Seniority.MID, START, START.plusHours(1), true, null,
+                "recr1", null, 5, 0);
+        List<DomainEvent> sent = List.of(
+                DomainEvent.slot(DomainEventType.SLOT_CREATED, slot),
+                reservation(DomainEventType.RESERVATION_CREATED, "r1", "slot1", "ACTIVE"),
+                reservation(DomainEventType.RESERVATION_CANCELLED, "r1", "slot1", "CANCELLED"));
+        send(sent);
+
+        assertEquals(sent, awaitApplied("slot1", sent.size()));
+    }
+
+    @Test
+    void listen_whenEventFails_shouldRetryParkAndReplayWithoutBlockingOthers() {
+        AtomicBoolean broken = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            List<DomainEvent> events = invocation.getArgument(0);
+            if (broken.get() && events.stream().anyMatch(event -> "poison".equals(event.getReservationId()))) {
+                throw new IllegalStateException("cannot apply");
+            }
+            return null;
+        }).when(projectionService).apply(any());
+        DomainEvent before = reservation(DomainEventType.RESERVATION_CREATED, "r1", "slot2", "ACTIVE");
+        DomainEvent poison = reservation(DomainEventType.RESERVATION_CREATED, "poison", "slot2", "ACTIVE");
+        DomainEvent after = reservation(DomainEventType.RESERVATION_CREATED, "r2", "slot2", "ACTIVE");
+        send(List.of(before, poison, after));
+
+        // Alone in the batch fallback, then once from the failed topic and once from its single retry tier.
+        verify(projectionService, timeout(TIMEOUT_MS).times(3)).apply(List.of(poison));
+        assertTrue(awaitApplied("slot2", 2).containsAll(List.of(before, after)));
+
+        broken.set(false);
+        int replayed = 0;
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (replayed == 0 && System.currentTimeMillis() < deadline) {
+            replayed = replayService.replay(10);
+        }
+        assertEquals(1, replayed);
+        verify(projectionService, timeout(TIMEOUT_MS).atLeast(5)).apply(argThatContains(poison));
+    }
+
+    private void send(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            event.setOccurredAt(START);
+            eventKafkaTemplate.send("schedule-events", event.getSlotId(), event);
+        }
+        eventKafkaTemplate.flush();
+    }
+
+    private List<DomainEvent> awaitApplied(String slotId, int count) {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DomainEvent>> batches = ArgumentCaptor.forClass(List.class);
+        List<DomainEvent> applied = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (applied.size() < count && System.currentTimeMillis() < deadline) {
+            verify(projectionService, timeout(TIMEOUT_MS).atLeastOnce()).apply(batches.capture());
+            applied.clear();
+            batches.getAllValues().stream().flatMap(List::stream).filter(event -> slotId.equals(event.getSlotId()))
+                    .distinct().forEach(applied::add);
+        }
+        return applied;
+    }
+
+    private static List<DomainEvent> argThatContains(DomainEvent event) {
+        return argThat(events -> events != null && events.contains(event));
+    }
+
+    private static DomainEvent reservation(DomainEventType type, String reservationId, String slotId, String status) {
+        return DomainEvent.reservation(type, new CandidateReservation(reservationId, slotId, "c1", START, status));
+    }
+
+    @Configuration
+    @Import({KafkaConfig.class, KafkaConsumerService.class, DeadLetterReplayService.class})
+    static class Config {
+
+        // Binds durations such as "500ms" the way Spring Boot does.
+        @Bean
+        static ConversionService conversionService() {
+            return ApplicationConversionService.getSharedInstance();
+        }
+    }
+}
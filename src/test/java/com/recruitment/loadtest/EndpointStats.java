@@ -0,0 +1,104 @@
+package com.recruitment.loadtest;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Results of one endpoint. {@code latency} runs from the moment the open arrival model scheduled the request, so time
+ * spent waiting behind a saturated client or server counts; {@code service} runs from the actual send.
+ */
+public class EndpointStats {
+
+    // Ordered prefixes of the messages the controllers return with 409, mapped to the exception and its reason.
+    private static final String[][] CONFLICTS = {
+            {"Slot conflict with ID", "OverlapException: overlapping slot"},
+            {"Recruiter is on vacation", "OverlapException: vacation"},
+            {"Slot is fully booked", "OverlapException: fully booked"},
+            {"Capacity of slot", "OverlapException: capacity below bookings"},
+            {"Daily limit reached", "LimitExceededException: daily"},
+            {"Weekly limit reached", "LimitExceededException: weekly"},
+            {"Monthly limit reached", "LimitExceededException: monthly"},
+            {"Schedule of recruiter", "ScheduleConflictException"},
+            {"Interrupted while retrying schedule change", "ScheduleConflictException"}};
+
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final String endpoint;
+    private final Histogram latency = new ConcurrentHistogram(MAX_MICROS, 3);
+    private final Histogram service = new ConcurrentHistogram(MAX_MICROS, 3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> conflicts = new ConcurrentHashMap<>();
+    private final LongAdder failures = new LongAdder();
+    private volatile String firstFailure;
+
+    public EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public Histogram getLatency() {
+        return latency;
+    }
+
+    public void completed(int status, String body, long scheduledNanos, long sentNanos, long doneNanos) {
+        record(scheduledNanos, sentNanos, doneNanos);
+        statuses.computeIfAbsent(status, code -> new LongAdder()).increment();
+        if (status == 409) {
+            conflicts.computeIfAbsent(conflictCause(body), cause -> new LongAdder()).increment();
+        }
+    }
+
+    public void failed(Throwable error, long scheduledNanos, long sentNanos, long doneNanos) {
+        record(scheduledNanos, sentNanos, doneNanos);
+        failures.increment();
+        if (firstFailure == null) {
+            firstFailure = error.toString();
+        }
+    }
+
+    static String conflictCause(String body) {
+        if (body != null) {
+            for (String[] conflict : CONFLICTS) {
+                if (body.startsWith(conflict[0])) {
+                    return conflict[1];
+                }
+            }
+        }
+        return "other";
+    }
+
+    private void record(long scheduledNanos, long sentNanos, long doneNanos) {
+        latency.recordValue(Math.min(MAX_MICROS, TimeUnit.NANOSECONDS.toMicros(doneNanos - scheduledNanos)));
+        service.recordValue(Math.min(MAX_MICROS, TimeUnit.NANOSECONDS.toMicros(doneNanos - sentNanos)));
+    }
+
+    public void print(PrintStream out, double seconds) {
+        long total = latency.getTotalCount();
+        out.printf("%s%n  %d requests, %.1f/s, %d client failures%s%n", endpoint, total, total / seconds,
+                failures.sum(), (firstFailure == null) ? "" : " (first: " + firstFailure + ")");
+        StringBuilder codes = new StringBuilder();
+        new TreeMap<>(statuses).forEach((code, count) -> codes.append(' ').append(code).append('=')
+                .append(count.sum()).append(String.format(" (%.1f%%)", 100.0 * count.sum() / total)));
+        out.printf("  status:%s%n", codes);
+        new TreeMap<>(conflicts).forEach((cause, count) -> out.printf("  409 %-45s %8d (%.1f%%)%n", cause,
+                count.sum(), 100.0 * count.sum() / total));
+        printPercentiles(out, "latency", latency);
+        printPercentiles(out, "service", service);
+    }
+
+    private static void printPercentiles(PrintStream out, String name, Histogram histogram) {
+        out.printf("  %-8s ms  p50 %8.2f  p90 %8.2f  p99 %8.2f  p99.9 %8.2f  max %8.2f%n", name,
+                histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0, histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+}
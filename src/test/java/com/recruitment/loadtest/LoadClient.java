@@ -0,0 +1,64 @@
+package com.recruitment.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Builds requests against the instance under test and runs the synchronous calls of scenario preparation.
+ */
+public class LoadClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final URI baseUrl;
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    public LoadClient(HttpClient http, URI baseUrl) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+    }
+
+    public HttpClient http() {
+        return http;
+    }
+
+    public HttpRequest get(String pathAndQuery) {
+        return HttpRequest.newBuilder(baseUrl.resolve(pathAndQuery)).timeout(TIMEOUT)
+                .header("Accept", "application/json").GET().build();
+    }
+
+    public HttpRequest post(String pathAndQuery, Object body) {
+        try {
+            return HttpRequest.newBuilder(baseUrl.resolve(pathAndQuery)).timeout(TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))).build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize request body " + body, e);
+        }
+    }
+
+    /**
+     * Posts {@code body} and returns the {@code id} of the created document.
+     */
+    public String create(String pathAndQuery, Object body) throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(post(pathAndQuery, body), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("POST " + pathAndQuery + " returned " + response.statusCode() + ": "
+                    + response.body());
+        }
+        return json(response.body()).path("id").asText();
+    }
+
+    public JsonNode json(String body) throws JsonProcessingException {
+        return objectMapper.readTree(body);
+    }
+}
@@ -0,0 +1,66 @@
+package com.recruitment.loadtest;
+
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model driver: requests arrive as a Poisson process at the configured rate, independent of how fast earlier
+ * ones complete, so a slow server builds a queue instead of slowing the load down. Latency is measured from each
+ * request's scheduled arrival. Requests beyond {@code maxInFlight} are not sent and count as client failures.
+ */
+public class LoadDriver {
+
+    private final LoadClient client;
+    private final int maxInFlight;
+
+    public LoadDriver(LoadClient client, int maxInFlight) {
+        this.client = client;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public Map<String, EndpointStats> run(Scenario scenario, double ratePerSecond, Duration duration,
+            SplittableRandom random) throws InterruptedException {
+        Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        double next = start;
+        while (next < end) {
+            long scheduled = (long) next;
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            LoadRequest request = scenario.next(random);
+            EndpointStats endpoint = stats.computeIfAbsent(request.getEndpoint(), EndpointStats::new);
+            if (!inFlight.tryAcquire()) {
+                long now = System.nanoTime();
+                endpoint.failed(new IllegalStateException(maxInFlight + " requests in flight"), scheduled, now, now);
+            } else {
+                long sent = System.nanoTime();
+                client.http().sendAsync(request.getRequest(), HttpResponse.BodyHandlers.ofString())
+                        .whenComplete((response, error) -> {
+                            long done = System.nanoTime();
+                            inFlight.release();
+                            if (error != null) {
+                                endpoint.failed(error, scheduled, sent, done);
+                            } else {
+                                endpoint.completed(response.statusCode(), response.body(), scheduled, sent, done);
+                                scenario.completed(request, response);
+                            }
+                        });
+            }
+            next += -Math.log(1 - random.nextDouble()) * meanGapNanos;
+        }
+        // Let the requests still in flight finish so that the slowest ones are not dropped from the histograms.
+        inFlight.tryAcquire(maxInFlight, 1, TimeUnit.MINUTES);
+        return stats;
+    }
+}
@@ -0,0 +1,15 @@
+package com.recruitment.loadtest;
+
+import java.net.http.HttpRequest;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * One request of a scenario. {@code endpoint} groups requests in the report, e.g. {@code POST /api/reservations}.
+ */
+@Data
+@AllArgsConstructor
+public class LoadRequest {
+    private final String endpoint;
+    private final HttpRequest request;
+}
@@ -0,0 +1,97 @@
+package com.recruitment.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs the scenarios one after another against a running instance, configured with system properties:
+ * <pre>
+ * load.base-url          instance under test (http://localhost:8080)
+ * load.scenarios         comma separated: slot-burst, reservation-stampede, search-mix (all three)
+ * load.rate              arrivals per second (200)
+ * load.duration-seconds  measured run of each scenario (60)
+ * load.warmup-seconds    run at the same rate before it whose results are discarded (10)
+ * load.seed              seed of the arrival times and request choices (42)
+ * load.recruiters        recruiters created by slot-burst (20)
+ * load.candidates        candidates created by reservation-stampede (500)
+ * load.max-in-flight     requests in flight before new arrivals count as client failures (5000)
+ * load.report-dir        where to write the latency distributions (target/load-test)
+ * </pre>
+ * Each endpoint's latency distribution is written as {@code <scenario>/<endpoint>.hgrm} in milliseconds, the
+ * percentile format HdrHistogram's plotter reads, so runs before and after a change can be compared directly.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        URI baseUrl = URI.create(System.getProperty("load.base-url", "http://localhost:8080"));
+        double rate = Double.parseDouble(System.getProperty("load.rate", "200"));
+        Duration duration = Duration.ofSeconds(Long.getLong("load.duration-seconds", 60));
+        Duration warmup = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 10));
+        long seed = Long.getLong("load.seed", 42);
+        Path reportDir = Paths.get(System.getProperty("load.report-dir", "target/load-test"));
+
+        Map<String, Scenario> scenarios = new LinkedHashMap<>();
+        for (Scenario scenario : new Scenario[] {
+                new SlotBurstScenario(Integer.getInteger("load.recruiters", 20), 5),
+                new ReservationStampedeScenario(Integer.getInteger("load.candidates", 500), 20, 50),
+                new SearchMixScenario()}) {
+            scenarios.put(scenario.name(), scenario);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(4,
+                Runtime.getRuntime().availableProcessors() * 2));
+        try {
+            HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5)).executor(executor).build();
+            LoadClient client = new LoadClient(http, baseUrl);
+            LoadDriver driver = new LoadDriver(client, Integer.getInteger("load.max-in-flight", 5000));
+            for (String name : System.getProperty("load.scenarios", String.join(",", scenarios.keySet()))
+                    .split(",")) {
+                Scenario scenario = scenarios.get(name.trim());
+                if (scenario == null) {
+                    throw new IllegalArgumentException("Unknown scenario " + name + ", expected one of "
+                            + scenarios.keySet());
+                }
+                System.out.printf("== %s: %.0f/s for %d s against %s%n", scenario.name(), rate,
+                        duration.getSeconds(), baseUrl);
+                scenario.prepare(client);
+                SplittableRandom random = new SplittableRandom(seed);
+                if (!warmup.isZero()) {
+                    driver.run(scenario, rate, warmup, random.split());
+                }
+                Map<String, EndpointStats> stats = driver.run(scenario, rate, duration, random);
+                report(scenario, stats, duration, reportDir.resolve(scenario.name()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void report(Scenario scenario, Map<String, EndpointStats> stats, Duration duration, Path dir)
+            throws IOException {
+        Files.createDirectories(dir);
+        for (EndpointStats endpoint : new TreeMap<>(stats).values()) {
+            endpoint.print(System.out, duration.getSeconds());
+            Path file = dir.resolve(endpoint.getEndpoint().replaceAll("[^A-Za-z0-9]+", "-") + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, "UTF-8")) {
+                endpoint.getLatency().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        System.out.printf("Latency distributions of %s written to %s%n%n", scenario.name(), dir.toAbsolutePath());
+    }
+}
@@ -0,0 +1,110 @@
+package com.recruitment.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.recruitment.candidate.CandidateDto;
+import com.recruitment.interview.InterviewSlotDto;
+import com.recruitment.interview.Seniority;
+import com.recruitment.recruiter.RecruiterDto;
+import com.recruitment.reservation.CandidateReservationDto;
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Candidates stampeding freshly opened slots: every {@code openEvery}-th request opens a slot with one to three
+ * places, all other requests try to book one of the {@code hotSlots} most recently opened ones. Nearly every booking
+ * after the first few of a slot ends in a 409 for a fully booked slot.
+ */
+public class ReservationStampedeScenario implements Scenario {
+
+    static final String OPEN = "POST /api/interview-slots";
+    static final String BOOK = "POST /api/reservations";
+    private static final int RECRUITERS = 10;
+
+    private final int candidateCount;
+    private final int hotSlots;
+    private final int openEvery;
+    private final List<String> recruiters = new ArrayList<>();
+    private final List<String> candidates = new ArrayList<>();
+    private final AtomicReferenceArray<String> hot;
+    private final AtomicInteger opened = new AtomicInteger();
+    private LoadClient client;
+    private LocalDateTime firstHour;
+    private int requested;
+
+    public ReservationStampedeScenario(int candidateCount, int hotSlots, int openEvery) {
+        this.candidateCount = candidateCount;
+        this.hotSlots = hotSlots;
+        this.openEvery = openEvery;
+        this.hot = new AtomicReferenceArray<>(hotSlots);
+    }
+
+    @Override
+    public String name() {
+        return "reservation-stampede";
+    }
+
+    @Override
+    public void prepare(LoadClient client) throws IOException, InterruptedException {
+        this.client = client;
+        firstHour = LocalDate.now().plusMonths(3).atStartOfDay();
+        for (int i = 0; i < RECRUITERS; i++) {
+            RecruiterDto recruiter = new RecruiterDto();
+            recruiter.setFirstName("Load");
+            recruiter.setLastName("Stampede " + i);
+            recruiters.add(client.create("/api/recruiters", recruiter));
+        }
+        for (int i = 0; i < candidateCount; i++) {
+            candidates.add(client.create("/api/candidates", new CandidateDto(null, "Load", "Candidate " + i, null)));
+        }
+        SplittableRandom random = new SplittableRandom(0);
+        for (int i = 0; i < hotSlots; i++) {
+            opened(client.create(openRequestPath(i), slot(i, random)));
+        }
+    }
+
+    @Override
+    public LoadRequest next(SplittableRandom random) {
+        if (++requested % openEvery == 0) {
+            int index = hotSlots + requested / openEvery;
+            return new LoadRequest(OPEN, client.post(openRequestPath(index), slot(index, random)));
+        }
+        String slotId = hot.get(random.nextInt(Math.min(opened.get(), hotSlots)));
+        CandidateReservationDto reservation = new CandidateReservationDto(null, slotId,
+                candidates.get(random.nextInt(candidates.size())), LocalDateTime.now(), "ACTIVE");
+        return new LoadRequest(BOOK, client.post("/api/reservations", reservation));
+    }
+
+    @Override
+    public void completed(LoadRequest request, HttpResponse<String> response) {
+        if (OPEN.equals(request.getEndpoint()) && response.statusCode() == 200) {
+            try {
+                opened(client.json(response.body()).path("id").asText());
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Unreadable slot " + response.body(), e);
+            }
+        }
+    }
+
+    private void opened(String slotId) {
+        hot.set(opened.getAndIncrement() % hotSlots, slotId);
+    }
+
+    // Recruiters take turns, so slot n of a recruiter starts n hours after its previous one and never overlaps.
+    private String openRequestPath(int index) {
+        return "/api/interview-slots?recruiterId=" + recruiters.get(index % RECRUITERS);
+    }
+
+    private InterviewSlotDto slot(int index, SplittableRandom random) {
+        LocalDateTime start = firstHour.plusHours(index / RECRUITERS);
+        int places = 1 + random.nextInt(3);
+        return new InterviewSlotDto(null, recruiters.get(index % RECRUITERS), "JAVA", Seniority.MID, start,
+                start.plusMinutes(45), places > 1, null, places);
+    }
+}
@@ -0,0 +1,24 @@
+package com.recruitment.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.util.SplittableRandom;
+
+/**
+ * A scripted workload. The driver calls {@link #next} at the arrival rate whether or not earlier requests finished,
+ * from a single thread; {@link #completed} runs on the HTTP client's threads.
+ */
+public interface Scenario {
+
+    String name();
+
+    /**
+     * Creates the recruiters, candidates and slots the requests refer to, before the clock starts.
+     */
+    void prepare(LoadClient client) throws IOException, InterruptedException;
+
+    LoadRequest next(SplittableRandom random);
+
+    default void completed(LoadRequest request, HttpResponse<String> response) {
+    }
+}
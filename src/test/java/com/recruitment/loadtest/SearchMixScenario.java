@@ -0,0 +1,86 @@
+package com.recruitment.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.recruitment.interview.Seniority;
+import java.net.URLEncoder;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Read traffic over existing slots, meant to run against a seeded dataset: searches by categories and seniority,
+ * searches in a one-week window, following the next cursor of earlier pages, and plain listing pages.
+ */
+public class SearchMixScenario implements Scenario {
+
+    static final String SEARCH = "GET /api/interview-slots/search";
+    static final String LIST = "GET /api/interview-slots";
+    private static final String[] CATEGORIES = {"JAVA", "PYTHON", "JAVASCRIPT", "CSHARP", "KOTLIN", "GO", "DEVOPS",
+            "QA"};
+    private static final int MAX_PENDING_CURSORS = 10_000;
+
+    // Follow-up requests of pages that had a next page, with the cursor parameter last.
+    private final Queue<LoadRequest> nextPages = new ConcurrentLinkedQueue<>();
+    private LoadClient client;
+
+    @Override
+    public String name() {
+        return "search-mix";
+    }
+
+    @Override
+    public void prepare(LoadClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public LoadRequest next(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 20) {
+            LoadRequest nextPage = nextPages.poll();
+            if (nextPage != null) {
+                return nextPage;
+            }
+        }
+        if (roll < 85) {
+            StringBuilder query = new StringBuilder("/api/interview-slots/search?limit=20");
+            int categories = 1 + random.nextInt(2);
+            for (int i = 0; i < categories; i++) {
+                query.append("&category=").append(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+            }
+            query.append("&seniority=").append(Seniority.values()[random.nextInt(3)]);
+            query.append("&onlyBookable=").append(random.nextBoolean());
+            if (roll >= 60) {
+                LocalDate from = LocalDate.now().plusDays(random.nextInt(60));
+                query.append("&from=").append(from.atStartOfDay()).append("&to=")
+                        .append(from.plusWeeks(1).atStartOfDay());
+            }
+            return new LoadRequest(SEARCH, client.get(query.toString()));
+        }
+        return new LoadRequest(LIST, client.get("/api/interview-slots?limit=50"));
+    }
+
+    @Override
+    public void completed(LoadRequest request, HttpResponse<String> response) {
+        if (response.statusCode() != 200 || nextPages.size() >= MAX_PENDING_CURSORS) {
+            return;
+        }
+        try {
+            JsonNode cursor = client.json(response.body()).path("nextCursor");
+            if (cursor.isTextual()) {
+                String uri = request.getRequest().uri().toString();
+                int previous = uri.indexOf("&cursor=");
+                String base = (previous < 0) ? uri : uri.substring(0, previous);
+                String path = base.substring(base.indexOf("/api/"));
+                nextPages.add(new LoadRequest(request.getEndpoint(), client.get(path + "&cursor="
+                        + URLEncoder.encode(cursor.asText(), StandardCharsets.UTF_8))));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable page " + response.body(), e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.recruitment.loadtest;
+
+import com.recruitment.interview.InterviewSlotDto;
+import com.recruitment.interview.Seniority;
+import com.recruitment.recruiter.RecruiterDto;
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Recruiters creating slots in bursts: {@code burstSize} consecutive requests go to the same recruiter, at random
+ * quarter hours of the working days four weeks ahead. As the weeks fill up, more requests hit an overlapping slot or
+ * one of the recruiter's limits, and concurrent requests of one recruiter race for its schedule.
+ */
+public class SlotBurstScenario implements Scenario {
+
+    static final String ENDPOINT = "POST /api/interview-slots";
+    private static final String[] CATEGORIES = {"JAVA", "PYTHON", "JAVASCRIPT", "KOTLIN"};
+    private static final int WORKING_DAYS = 20;
+
+    private final int recruiterCount;
+    private final int burstSize;
+    private final List<String> recruiters = new ArrayList<>();
+    private LoadClient client;
+    private LocalDate firstDay;
+    private String burstRecruiter;
+    private int burstLeft;
+
+    public SlotBurstScenario(int recruiterCount, int burstSize) {
+        this.recruiterCount = recruiterCount;
+        this.burstSize = burstSize;
+    }
+
+    @Override
+    public String name() {
+        return "slot-burst";
+    }
+
+    @Override
+    public void prepare(LoadClient client) throws IOException, InterruptedException {
+        this.client = client;
+        firstDay = LocalDate.now().plusWeeks(4).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        for (int i = 0; i < recruiterCount; i++) {
+            RecruiterDto recruiter = new RecruiterDto();
+            recruiter.setFirstName("Load");
+            recruiter.setLastName("Burst " + i);
+            recruiter.setMaxDailyInterviews(6);
+            recruiter.setMaxWeeklyInterviews(25);
+            recruiter.setMaxMonthlyInterviews(80);
+            recruiters.add(client.create("/api/recruiters", recruiter));
+        }
+    }
+
+    @Override
+    public LoadRequest next(SplittableRandom random) {
+        if (burstLeft == 0) {
+            burstRecruiter = recruiters.get(random.nextInt(recruiters.size()));
+            burstLeft = burstSize;
+        }
+        burstLeft--;
+        int day = random.nextInt(WORKING_DAYS);
+        LocalDateTime start = firstDay.plusDays(day / 5 * 7 + day % 5).atTime(8, 0)
+                .plusMinutes(15L * random.nextInt(36));
+        boolean multiCapacity = random.nextInt(10) == 0;
+        InterviewSlotDto slot = new InterviewSlotDto(null, burstRecruiter, CATEGORIES[random.nextInt(
+                CATEGORIES.length)], Seniority.values()[random.nextInt(3)], start, start.plusHours(1), multiCapacity,
+                random.nextBoolean() ? 10 : null, multiCapacity ? 3 : 1);
+        return new LoadRequest(ENDPOINT, client.post("/api/interview-slots?recruiterId=" + burstRecruiter, slot));
+    }
+}
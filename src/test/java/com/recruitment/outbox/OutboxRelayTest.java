@@ -0,0 +1,122 @@
+package com.recruitment.outbox;
+
+import com.recruitment.events.DomainEvent;
+import com.recruitment.events.DomainEventType;
+import com.recruitment.reservation.CandidateReservation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxRepository;
+
+    @Mock
+    private KafkaTemplate<String, DomainEvent> kafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(outboxRepository, kafkaTemplate, meterRegistry, 2, Duration.ofSeconds(30),
+                Duration.ofSeconds(1));
+    }
+
+    @Test
+    void poll_shouldSendWholeBatchWithEventIdAndDeleteAcknowledged() {
+        OutboxEvent first = event("e1", "slot1");
+        OutboxEvent second = event("e2", "slot2");
+        when(outboxRepository.claim(any(), eq(2), any(), any())).thenReturn(List.of(first, second), List.of());
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(acknowledged());
+        when(outboxRepository.oldestCreatedAt()).thenReturn(Optional.empty());
+
+        relay.poll();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, DomainEvent>> records = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(2)).send(records.capture());
+        ProducerRecord<String, DomainEvent> record = records.getAllValues().get(0);
+        assertEquals("schedule-events", record.topic());
+        assertEquals(DomainEventType.RESERVATION_CREATED, record.value().getType());
+        assertEquals("slot1", record.key());
+        assertEquals("e1", new String(record.headers().lastHeader(OutboxRelay.EVENT_ID_HEADER).value(),
+                StandardCharsets.UTF_8));
+        verify(kafkaTemplate).flush();
+        verify(outboxRepository).deleteAllById(List.of("e1", "e2"));
+        verify(outboxRepository, never()).release(any(), any());
+        assertEquals(2.0, meterRegistry.get("outbox.relay.events").tag("result", "sent").counter().count());
+    }
+
+    @Test
+    void poll_whenSendFails_shouldReleaseFailedAndStop() {
+        OutboxEvent first = event("e1", "slot1");
+        OutboxEvent second = event("e2", "slot2");
+        when(outboxRepository.claim(any(), anyInt(), any(), any())).thenReturn(List.of(first, second));
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(acknowledged(), CompletableFuture.failedFuture(new IllegalStateException("down")));
+        when(outboxRepository.oldestCreatedAt()).thenReturn(Optional.of(LocalDateTime.now().minusSeconds(5)));
+
+        relay.poll();
+
+        verify(outboxRepository, times(1)).claim(any(), anyInt(), any(), any());
+        verify(outboxRepository).deleteAllById(List.of("e1"));
+        verify(outboxRepository).release(eq(List.of("e2")), any());
+        assertEquals(1.0, meterRegistry.get("outbox.relay.events").tag("result", "failed").counter().count());
+        assertTrue(meterRegistry.get("outbox.relay.lag").timeGauge().value(TimeUnit.SECONDS) >= 5);
+    }
+
+    @Test
+    void poll_whenSendFails_shouldAlsoRetryLaterEventsOfTheSameKey() {
+        OutboxEvent first = event("e1", "slot1");
+        OutboxEvent second = event("e2", "slot2");
+        OutboxEvent third = event("e3", "slot1");
+        relay = new OutboxRelay(outboxRepository, kafkaTemplate, meterRegistry, 3, Duration.ofSeconds(30),
+                Duration.ofSeconds(1));
+        when(outboxRepository.claim(any(), anyInt(), any(), any())).thenReturn(List.of(first, second, third));
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("down")), acknowledged(),
+                        acknowledged());
+        when(outboxRepository.oldestCreatedAt()).thenReturn(Optional.empty());
+
+        relay.poll();
+
+        verify(outboxRepository).deleteAllById(List.of("e2"));
+        verify(outboxRepository).release(eq(List.of("e1", "e3")), any());
+    }
+
+    private static OutboxEvent event(String id, String key) {
+        OutboxEvent event = OutboxEvent.of("schedule-events", key, DomainEvent.reservation(
+                DomainEventType.RESERVATION_CREATED, new CandidateReservation(id, key, "c1", null, "ACTIVE")));
+        event.setId(id);
+        return event;
+    }
+
+    private static CompletableFuture<SendResult<String, DomainEvent>> acknowledged() {
+        return CompletableFuture.completedFuture(null);
+    }
+}
@@ -0,0 +1,141 @@
+package com.recruitment.projection;
+
+import com.recruitment.events.DomainEvent;
+import com.recruitment.events.DomainEventType;
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.interview.Seniority;
+import com.recruitment.reservation.CandidateReservation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Replays late and repeated events against a real MongoDB. Skipped when Docker is not available.
+ */
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+class ScheduleProjectionServiceTest {
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 7, 9, 0);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    @Autowired
+    private SlotOccupancyRepository slotOccupancyRepository;
+    @Autowired
+    private RecruiterLoadRepository recruiterLoadRepository;
+
+    private ScheduleProjectionService projection;
+
+    @BeforeEach
+    void setup() {
+        slotOccupancyRepository.deleteAll();
+        recruiterLoadRepository.deleteAll();
+        projection = new ScheduleProjectionService(mongoTemplate);
+    }
+
+    @Test
+    void apply_whenSlotEventArrivesLate_shouldKeepTheNewerSchedule() {
+        DomainEvent created = slotEvent(DomainEventType.SLOT_CREATED, "s1", START, 1);
+        DomainEvent updated = slotEvent(DomainEventType.SLOT_UPDATED, "s1", START.plusHours(2), 2);
+
+        projection.apply(List.of(created, updated));
+        projection.apply(List.of(created));
+
+        SlotOccupancy slot = slotOccupancyRepository.findById("s1").orElseThrow();
+        assertEquals(START.plusHours(2), slot.getStartTime());
+        assertEquals(1, recruiterLoadRepository.findById("r1").orElseThrow().getSlots());
+    }
+
+    @Test
+    void apply_whenSlotEventArrivesAfterDeletion_shouldNotBringTheSlotBack() {
+        DomainEvent updated = slotEvent(DomainEventType.SLOT_UPDATED, "s1", START, 2);
+        projection.apply(List.of(slotEvent(DomainEventType.SLOT_CREATED, "s1", START, 1),
+                slotEvent(DomainEventType.SLOT_DELETED, "s1", START, 3)));
+
+        projection.apply(List.of(updated));
+
+        assertTrue(slotOccupancyRepository.findById("s1").orElseThrow().isDeleted());
+        assertEquals(0, recruiterLoadRepository.findById("r1").orElseThrow().getSlots());
+    }
+
+    @Test
+    void apply_whenReservationOfSlotWithoutSlotEvent_shouldKeepItForTheSlotEvent() {
+        projection.apply(List.of(DomainEvent.reservation(DomainEventType.RESERVATION_CREATED,
+                new CandidateReservation("res1", "s1", "c1", START, "ACTIVE"))));
+
+        projection.apply(List.of(slotEvent(DomainEventType.SLOT_UPDATED, "s1", START, 1)));
+
+        SlotOccupancy slot = slotOccupancyRepository.findById("s1").orElseThrow();
+        assertEquals("r1", slot.getRecruiterId());
+        assertEquals(1, slot.getBooked());
+        assertEquals(1, recruiterLoadRepository.findById("r1").orElseThrow().getBooked());
+    }
+
+    @Test
+    void backfill_whenReservationOfSlotWithoutSlotEvent_shouldFillTheSlotIn() {
+        InterviewSlot seeded = new InterviewSlot("s1", "JAVA", Seniority.MID, START, START.plusHours(1), false, null,
+                "r1", null, 2, 1);
+        projection.apply(List.of(DomainEvent.reservation(DomainEventType.RESERVATION_CREATED,
+                new CandidateReservation("res1", "s1", "c1", START, "ACTIVE"))));
+
+        List<InterviewSlot> missing = projection.withoutSlotEvent(List.of(seeded));
+        projection.backfill(missing, Map.of("s1", List.of("res1")));
+
+        assertEquals(List.of(seeded), missing);
+        SlotOccupancy slot = slotOccupancyRepository.findById("s1").orElseThrow();
+        assertEquals(START, slot.getStartTime());
+        assertEquals(1, slot.getBooked());
+        RecruiterLoad load = recruiterLoadRepository.findById("r1").orElseThrow();
+        assertEquals(1, load.getSlots());
+        assertEquals(1, load.getBooked());
+    }
+
+    @Test
+    void backfill_whenSlotEventWasApplied_shouldLeaveTheSlotAlone() {
+        projection.apply(List.of(slotEvent(DomainEventType.SLOT_CREATED, "s1", START.plusHours(2), 1)));
+        InterviewSlot stale = new InterviewSlot("s1", "JAVA", Seniority.MID, START, START.plusHours(1), false, null,
+                "r1", null, 1, 0);
+
+        assertTrue(projection.withoutSlotEvent(List.of(stale)).isEmpty());
+        projection.backfill(List.of(stale), Map.of());
+
+        assertEquals(START.plusHours(2), slotOccupancyRepository.findById("s1").orElseThrow().getStartTime());
+    }
+
+    @Test
+    void apply_whenBatchIsDeliveredTwice_shouldCountReservationOnce() {
+        List<DomainEvent> batch = List.of(slotEvent(DomainEventType.SLOT_CREATED, "s1", START, 1),
+                DomainEvent.reservation(DomainEventType.RESERVATION_CREATED,
+                        new CandidateReservation("res1", "s1", "c1", START, "ACTIVE")));
+
+        projection.apply(batch);
+        projection.apply(batch);
+
+        assertEquals(1, slotOccupancyRepository.findById("s1").orElseThrow().getBooked());
+        assertEquals(1, recruiterLoadRepository.findById("r1").orElseThrow().getBooked());
+    }
+
+    private static DomainEvent slotEvent(DomainEventType type, String slotId, LocalDateTime start, int second) {
+        DomainEvent event = DomainEvent.slot(type, new InterviewSlot(slotId, "JAVA", Seniority.MID, start,
+                start.plusHours(1), false, null, "r1", null, 1, 0));
+        event.setOccurredAt(START.minusDays(1).plusSeconds(second));
+        return event;
+    }
+}
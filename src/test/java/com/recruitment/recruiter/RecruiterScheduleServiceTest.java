@@ -0,0 +1,85 @@
+package com.recruitment.recruiter;
+
+import com.recruitment.exceptions.ScheduleConflictException;
+import com.recruitment.interview.SlotIntervalIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecruiterScheduleServiceTest {
+
+    @Mock
+    private RecruiterScheduleRepository scheduleRepository;
+
+    @Mock
+    private SlotIntervalIndex slotIntervalIndex;
+
+    private RecruiterScheduleService scheduleService;
+
+    @BeforeEach
+    void setup() {
+        scheduleService = new RecruiterScheduleService(scheduleRepository, slotIntervalIndex, 4, 3);
+    }
+
+    @Test
+    void change_whenVersionUnchanged_shouldCommitOnce() {
+        when(scheduleRepository.findById("recr1")).thenReturn(Optional.of(new RecruiterSchedule("recr1", 7)));
+        when(scheduleRepository.compareAndIncrement("recr1", 7)).thenReturn(true);
+
+        String result = scheduleService.change("recr1", () -> "saved", saved -> fail("should not undo"));
+
+        assertEquals("saved", result);
+        verify(slotIntervalIndex).syncVersion("recr1", 7);
+        verify(slotIntervalIndex).commitVersion("recr1", 8);
+    }
+
+    @Test
+    void change_whenVersionMovedOnce_shouldUndoAndRetry() {
+        when(scheduleRepository.findById("recr1")).thenReturn(Optional.empty(),
+                Optional.of(new RecruiterSchedule("recr1", 2)));
+        when(scheduleRepository.compareAndIncrement("recr1", 0)).thenReturn(false);
+        when(scheduleRepository.compareAndIncrement("recr1", 2)).thenReturn(true);
+        List<String> undone = new ArrayList<>();
+        int[] attempts = {0};
+
+        String result = scheduleService.change("recr1", () -> "attempt" + (++attempts[0]), undone::add);
+
+        assertEquals("attempt2", result);
+        assertEquals(List.of("attempt1"), undone);
+        verify(scheduleRepository).increment("recr1");
+        verify(slotIntervalIndex).invalidate("recr1");
+    }
+
+    @Test
+    void change_whenAttemptsExhausted_shouldThrowConflict() {
+        when(scheduleRepository.findById("recr1")).thenReturn(Optional.empty());
+        when(scheduleRepository.compareAndIncrement("recr1", 0)).thenReturn(false);
+        List<String> undone = new ArrayList<>();
+
+        assertThrows(ScheduleConflictException.class,
+                () -> scheduleService.change("recr1", () -> "slot", undone::add));
+        assertEquals(3, undone.size());
+    }
+
+    @Test
+    void change_whenValidationFails_shouldNotTouchVersion() {
+        when(scheduleRepository.findById("recr1")).thenReturn(Optional.empty());
+
+        assertThrows(IllegalStateException.class, () -> scheduleService.change("recr1", () -> {
+            throw new IllegalStateException("invalid");
+        }, saved -> fail("should not undo")));
+        verify(scheduleRepository, never()).compareAndIncrement(any(), anyLong());
+    }
+}
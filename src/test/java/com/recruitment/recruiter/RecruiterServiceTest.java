@@ -1,23 +1,29 @@
 package com.recruitment.recruiter;
 
+import com.recruitment.exceptions.LimitExceededException;
 import com.recruitment.exceptions.OverlapException;
 import com.recruitment.exceptions.ResourceNotFoundException;
 import com.recruitment.interview.InterviewSlot;
-import com.recruitment.interview.InterviewSlotRepository;
+import com.recruitment.interview.SlotInterval;
+import com.recruitment.interview.SlotIntervalIndex;
 import com.recruitment.vacation.Vacation;
 import com.recruitment.vacation.VacationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,15 +32,23 @@ class RecruiterServiceTest {
     @Mock
     private RecruiterRepository recruiterRepository;
 
-    @Mock
-    private InterviewSlotRepository interviewSlotRepository;
-
     @Mock
     private VacationRepository vacationRepository;
 
     @Mock
     private RecruiterMapper recruiterMapper;
 
+    @Mock
+    private SlotIntervalIndex slotIntervalIndex;
+
+    @Mock
+    private SlotCounterService slotCounterService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private SlotValidationMetrics validationMetrics = new SlotValidationMetrics(meterRegistry);
+
     @InjectMocks
     private RecruiterService recruiterService;
 
@@ -94,6 +108,7 @@ class RecruiterServiceTest {
         when(recruiterRepository.existsById("recr1")).thenReturn(true);
         recruiterService.deleteById("recr1");
         verify(recruiterRepository, times(1)).deleteById("recr1");
+        verify(slotIntervalIndex).invalidate("recr1");
     }
 
     @Test
@@ -102,10 +117,127 @@ class RecruiterServiceTest {
         slot.setStartTime(LocalDateTime.now());
         slot.setEndTime(LocalDateTime.now().plusHours(1));
 
+        when(slotCounterService.countsFor("recr1", slot.getStartTime())).thenReturn(new SlotCounts(0, 0, 0));
         when(vacationRepository.findByRecruiterIdAndStartDateLessThanAndEndDateGreaterThan(
                 "recr1", slot.getEndTime(), slot.getStartTime()))
                 .thenReturn(List.of(new Vacation()));
 
         assertThrows(OverlapException.class, () -> recruiterService.validateNewSlot(recruiter, slot));
     }
+
+    @Test
+    void validateNewSlot_whenBufferedSlotOverlaps_shouldThrowOverlap() {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 7, 10, 0);
+        InterviewSlot slot = new InterviewSlot();
+        slot.setStartTime(start);
+        slot.setEndTime(start.plusHours(1));
+        slot.setBufferMinutes(15);
+
+        when(slotCounterService.countsFor("recr1", start)).thenReturn(new SlotCounts(0, 0, 0));
+        when(slotIntervalIndex.findOverlapping("recr1", start.minusMinutes(15), start.plusMinutes(75)))
+                .thenReturn(List.of(new SlotInterval("other", start.plusMinutes(65), start.plusMinutes(125), false)));
+
+        assertThrows(OverlapException.class, () -> recruiterService.validateNewSlot(recruiter, slot));
+    }
+
+    @Test
+    void validateNewSlot_whenDailyLimitReached_shouldThrowLimitExceeded() {
+        InterviewSlot slot = new InterviewSlot();
+        slot.setStartTime(LocalDateTime.of(2030, 1, 7, 10, 0));
+        slot.setEndTime(LocalDateTime.of(2030, 1, 7, 11, 0));
+
+        when(slotCounterService.countsFor("recr1", slot.getStartTime())).thenReturn(new SlotCounts(2, 2, 2));
+
+        assertThrows(LimitExceededException.class, () -> recruiterService.validateNewSlot(recruiter, slot));
+        verifyNoInteractions(vacationRepository, slotIntervalIndex);
+        assertEquals(1, meterRegistry.counter("slot.rejections", "check", "limits", "exception",
+                "LimitExceededException").count());
+        assertEquals(1, meterRegistry.timer("slot.validation", "check", "limits").count());
+        assertEquals(0, meterRegistry.timer("slot.validation", "check", "overlaps").count());
+    }
+
+    @Test
+    void evaluateNewSlot_shouldCollectAllViolations() {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 7, 10, 0);
+        InterviewSlot slot = new InterviewSlot();
+        slot.setStartTime(start);
+        slot.setEndTime(start.plusHours(1));
+        Vacation vacation = new Vacation();
+        vacation.setId("v1");
+
+        when(slotCounterService.countsFor("recr1", start)).thenReturn(new SlotCounts(2, 2, 2));
+        when(vacationRepository.findByRecruiterIdAndStartDateLessThanAndEndDateGreaterThan("recr1",
+                slot.getEndTime(), start)).thenReturn(List.of(vacation));
+        when(slotIntervalIndex.findOverlapping("recr1", start, start.plusHours(1))).thenReturn(List.of(
+                new SlotInterval("a", start.minusMinutes(30), start.plusMinutes(30), false),
+                new SlotInterval("b", start.plusMinutes(30), start.plusMinutes(90), false)));
+
+        SlotValidationResult result = recruiterService.evaluateNewSlot(recruiter, slot, null);
+
+        assertFalse(result.isValid());
+        assertEquals(4, result.getViolations().size());
+        assertEquals(SlotViolationType.DAILY_LIMIT, result.getViolations().get(0).getType());
+        assertEquals("v1", result.getViolations().get(1).getConflictingId());
+        assertEquals("a", result.getViolations().get(2).getConflictingId());
+        assertEquals("b", result.getViolations().get(3).getConflictingId());
+        assertEquals(1, meterRegistry.counter("slot.rejections", "check", "overlaps", "exception",
+                "OverlapException").count());
+        assertThrows(LimitExceededException.class, result::throwIfInvalid);
+    }
+
+    @Test
+    void validateNewSlot_whenNoLimitsConfigured_shouldNotReadCounters() {
+        recruiter.setMaxDailyInterviews(null);
+        InterviewSlot slot = new InterviewSlot();
+        slot.setStartTime(LocalDateTime.of(2030, 1, 7, 10, 0));
+        slot.setEndTime(LocalDateTime.of(2030, 1, 7, 11, 0));
+
+        recruiterService.validateNewSlot(recruiter, slot);
+
+        verifyNoInteractions(slotCounterService);
+    }
+
+    @Test
+    void validateNewSlot_whenMovedWithinSameDay_shouldNotCountItself() {
+        InterviewSlot slot = new InterviewSlot();
+        slot.setId("slot1");
+        slot.setStartTime(LocalDateTime.of(2030, 1, 7, 14, 0));
+        slot.setEndTime(LocalDateTime.of(2030, 1, 7, 15, 0));
+
+        when(slotCounterService.countsFor("recr1", slot.getStartTime())).thenReturn(new SlotCounts(2, 2, 2));
+        when(slotIntervalIndex.findOverlapping(any(), any(), any()))
+                .thenReturn(List.of(new SlotInterval("slot1", slot.getStartTime(), slot.getEndTime(), false)));
+
+        assertDoesNotThrow(() -> recruiterService.validateNewSlot(recruiter, slot, LocalDateTime.of(2030, 1, 7, 9, 0)));
+    }
+
+    @Test
+    void validateSlot_inAggregationMode_shouldUseSingleSnapshot() {
+        ReflectionTestUtils.setField(recruiterService, "validationMode", SlotValidationMode.AGGREGATION);
+        InterviewSlot slot = new InterviewSlot();
+        slot.setStartTime(LocalDateTime.of(2030, 1, 7, 10, 0));
+        slot.setEndTime(LocalDateTime.of(2030, 1, 7, 11, 0));
+        slot.setBufferMinutes(10);
+
+        when(recruiterRepository.loadValidationSnapshot("recr1", slot, slot.getStartTime().minusMinutes(10),
+                slot.getEndTime().plusMinutes(10)))
+                .thenReturn(Optional.of(new SlotValidationSnapshot(recruiter, new SlotCounts(1, 1, 1), List.of(),
+                        List.of())));
+
+        assertSame(recruiter, recruiterService.validateSlot("recr1", slot, null));
+        verify(recruiterRepository, never()).findById(any());
+        verifyNoInteractions(slotCounterService, vacationRepository, slotIntervalIndex);
+    }
+
+    @Test
+    void validateSlot_inAggregationMode_whenRecruiterMissing_shouldThrowNotFound() {
+        ReflectionTestUtils.setField(recruiterService, "validationMode", SlotValidationMode.AGGREGATION);
+        InterviewSlot slot = new InterviewSlot();
+        slot.setStartTime(LocalDateTime.of(2030, 1, 7, 10, 0));
+        slot.setEndTime(LocalDateTime.of(2030, 1, 7, 11, 0));
+
+        when(recruiterRepository.loadValidationSnapshot(any(), any(), any(), any())).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> recruiterService.validateSlot("x", slot, null));
+    }
 }
@@ -0,0 +1,147 @@
+package com.recruitment.recruiter;
+
+import com.recruitment.config.JobLeaseRepository;
+import com.recruitment.interview.DailySlotCount;
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.interview.InterviewSlotRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SlotCounterServiceTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2030, 1, 7, 10, 0);
+
+    @Mock
+    private SlotCounterRepository slotCounterRepository;
+
+    @Mock
+    private InterviewSlotRepository interviewSlotRepository;
+
+    @Mock
+    private RecruiterScheduleService recruiterScheduleService;
+
+    @Mock
+    private JobLeaseRepository jobLeaseRepository;
+
+    @InjectMocks
+    private SlotCounterService slotCounterService;
+
+    @Test
+    void countsFor_shouldReadAllPeriodsInOneLookup() {
+        when(slotCounterRepository.findAllById(any())).thenReturn(List.of(
+                new SlotCounter("recr1:DAY:2030-01-07", "recr1", SlotPeriod.DAY, "2030-01-07", 2),
+                new SlotCounter("recr1:MONTH:2030-01", "recr1", SlotPeriod.MONTH, "2030-01", 9)));
+
+        SlotCounts counts = slotCounterService.countsFor("recr1", MONDAY);
+
+        assertEquals(new SlotCounts(2, 0, 9), counts);
+        verify(slotCounterRepository, times(1)).findAllById(List.of(
+                "recr1:DAY:2030-01-07", "recr1:WEEK:2030-W02", "recr1:MONTH:2030-01"));
+    }
+
+    @Test
+    void slotAdded_shouldIncrementEveryPeriod() {
+        slotCounterService.slotAdded(slot(MONDAY));
+
+        Map<String, Long> deltas = capturedDeltas();
+        assertEquals(Map.of("recr1:DAY:2030-01-07", 1L, "recr1:WEEK:2030-W02", 1L, "recr1:MONTH:2030-01", 1L), deltas);
+    }
+
+    @Test
+    void slotMoved_withinSameWeek_shouldOnlyTouchDays() {
+        slotCounterService.slotMoved(MONDAY, slot(MONDAY.plusDays(2)));
+
+        Map<String, Long> deltas = capturedDeltas();
+        assertEquals(Map.of("recr1:DAY:2030-01-07", -1L, "recr1:DAY:2030-01-09", 1L), deltas);
+    }
+
+    @Test
+    void rebuild_shouldCorrectDriftedRecruitersWithDeltasUnderTheirScheduleLock() {
+        leaseAcquired(true);
+        when(recruiterScheduleService.change(eq("recr1"), any(), any()))
+                .thenAnswer(inv -> ((Supplier<?>) inv.getArgument(1)).get());
+        when(interviewSlotRepository.countSlotsPerRecruiterAndDay(anyString())).thenReturn(List.of(
+                new DailySlotCount("recr1", "2030-01-07", 2),
+                new DailySlotCount("recr1", "2030-01-08", 1),
+                new DailySlotCount("recr2", "2030-01-07", 1)));
+        when(slotCounterRepository.findAll()).thenReturn(List.of(
+                new SlotCounter("recr1:DAY:2029-12-31", "recr1", SlotPeriod.DAY, "2029-12-31", 4),
+                new SlotCounter("recr2:DAY:2030-01-07", "recr2", SlotPeriod.DAY, "2030-01-07", 1),
+                new SlotCounter("recr2:WEEK:2030-W02", "recr2", SlotPeriod.WEEK, "2030-W02", 1),
+                new SlotCounter("recr2:MONTH:2030-01", "recr2", SlotPeriod.MONTH, "2030-01", 1)));
+        // Re-read under the lock: a slot added since the first count already moved the day counter to 3.
+        when(slotCounterRepository.findByRecruiterId("recr1")).thenReturn(List.of(
+                new SlotCounter("recr1:DAY:2029-12-31", "recr1", SlotPeriod.DAY, "2029-12-31", 4),
+                new SlotCounter("recr1:DAY:2030-01-07", "recr1", SlotPeriod.DAY, "2030-01-07", 3)));
+        when(interviewSlotRepository.countSlotsPerDayOfRecruiter(eq("recr1"), anyString())).thenReturn(List.of(
+                new DailySlotCount("recr1", "2030-01-07", 3),
+                new DailySlotCount("recr1", "2030-01-08", 1)));
+
+        slotCounterService.rebuild();
+
+        assertEquals(Map.of("recr1:DAY:2029-12-31", -4L, "recr1:DAY:2030-01-08", 1L, "recr1:WEEK:2030-W02", 4L,
+                "recr1:MONTH:2030-01", 4L), capturedDeltas());
+        verify(recruiterScheduleService, never()).change(eq("recr2"), any(), any());
+        verify(jobLeaseRepository).release(eq("slot-counter-rebuild"), anyString(), any());
+    }
+
+    @Test
+    void rebuild_whenAnotherNodeHoldsTheLease_shouldSkip() {
+        leaseAcquired(false);
+
+        slotCounterService.rebuild();
+
+        verifyNoInteractions(interviewSlotRepository, recruiterScheduleService);
+        verify(slotCounterRepository, never()).incrementAll(any());
+    }
+
+    private void leaseAcquired(boolean acquired) {
+        ReflectionTestUtils.setField(slotCounterService, "rebuildLease", Duration.ofMinutes(30));
+        when(jobLeaseRepository.acquire(eq("slot-counter-rebuild"), anyString(), any(), any())).thenReturn(acquired);
+    }
+
+    private Map<String, Long> capturedDeltas() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<SlotCounter>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(slotCounterRepository).incrementAll(captor.capture());
+        return toMap(captor.getValue());
+    }
+
+    private Map<String, Long> toMap(Collection<SlotCounter> counters) {
+        Map<String, Long> result = new HashMap<>();
+        for (SlotCounter counter : new ArrayList<>(counters)) {
+            result.put(counter.getId(), counter.getCount());
+        }
+        return result;
+    }
+
+    private InterviewSlot slot(LocalDateTime start) {
+        InterviewSlot slot = new InterviewSlot();
+        slot.setId("slot1");
+        slot.setRecruiterId("recr1");
+        slot.setStartTime(start);
+        slot.setEndTime(start.plusHours(1));
+        return slot;
+    }
+}
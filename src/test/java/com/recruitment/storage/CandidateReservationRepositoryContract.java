@@ -0,0 +1,116 @@
+package com.recruitment.storage;
+
+import com.recruitment.config.KeysetCursor;
+import com.recruitment.reservation.CandidateReservation;
+import com.recruitment.reservation.CandidateReservationRepository;
+import com.recruitment.reservation.SlotBookingCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Behaviour every {@link CandidateReservationRepository} implementation must share.
+ */
+abstract class CandidateReservationRepositoryContract {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 7, 9, 0);
+
+    protected abstract CandidateReservationRepository repository();
+
+    @BeforeEach
+    void clear() {
+        repository().deleteAll();
+    }
+
+    @Test
+    void changeStatus_shouldOnlyMoveFromExpectedStatus() {
+        CandidateReservation reservation = save("s1", START, "ACTIVE");
+
+        assertTrue(repository().changeStatus(reservation.getId(), "ACTIVE", "CANCELLED"));
+        assertFalse(repository().changeStatus(reservation.getId(), "ACTIVE", "CANCELLED"));
+        assertFalse(repository().changeStatus("missing", "ACTIVE", "CANCELLED"));
+        assertEquals("CANCELLED", repository().findById(reservation.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void updateIf_shouldOnlyApplyToExpectedStatusAndSlot() {
+        CandidateReservation reservation = save("s1", START, "ACTIVE");
+        CandidateReservation moved = new CandidateReservation(reservation.getId(), "s2", "c2", START.plusHours(1),
+                "ACTIVE");
+
+        assertTrue(repository().updateIf(moved, "ACTIVE", "s2").isEmpty());
+        assertTrue(repository().updateIf(moved, "CANCELLED", "s1").isEmpty());
+        assertEquals(moved, repository().updateIf(moved, "ACTIVE", "s1").orElseThrow());
+        assertTrue(repository().updateIf(moved, "ACTIVE", "s1").isEmpty());
+        assertEquals(moved, repository().findById(reservation.getId()).orElseThrow());
+    }
+
+    @Test
+    void deleteAndGet_shouldReturnRemovedReservationOnce() {
+        CandidateReservation reservation = save("s1", START, "ACTIVE");
+
+        assertEquals(reservation, repository().deleteAndGet(reservation.getId()).orElseThrow());
+        assertTrue(repository().deleteAndGet(reservation.getId()).isEmpty());
+        assertFalse(repository().existsBySlotIdAndStatus("s1", "ACTIVE"));
+    }
+
+    @Test
+    void existsAndCountActive_shouldOnlySeeActiveReservationsOfSlots() {
+        save("s1", START, "ACTIVE");
+        save("s1", START.plusHours(1), "ACTIVE");
+        save("s1", START.plusHours(2), "CANCELLED");
+        save("s2", START, "CANCELLED");
+        save(null, START, "ACTIVE");
+
+        Map<String, Long> active = repository().countActivePerSlot().stream()
+                .collect(Collectors.toMap(SlotBookingCount::getSlotId, SlotBookingCount::getCount));
+
+        assertTrue(repository().existsBySlotIdAndStatus("s1", "ACTIVE"));
+        assertTrue(repository().existsBySlotIdAndStatus("s2", "CANCELLED"));
+        assertFalse(repository().existsBySlotIdAndStatus("s2", "ACTIVE"));
+        assertEquals(Map.of("s1", 2L), active);
+    }
+
+    @Test
+    void findBySlotIdInAndStatus_shouldOnlyReturnGivenSlotsInStatus() {
+        CandidateReservation first = save("s1", START, "ACTIVE");
+        CandidateReservation second = save("s2", START, "ACTIVE");
+        save("s2", START.plusHours(1), "CANCELLED");
+        save("s3", START, "ACTIVE");
+
+        assertEquals(Set.of(first.getId(), second.getId()), repository().findBySlotIdInAndStatus(List.of("s1", "s2",
+                "missing"), "ACTIVE").stream().map(CandidateReservation::getId).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void findPage_shouldFilterStatusAndWindowAndContinueAfterCursor() {
+        CandidateReservation first = save("s1", START, "ACTIVE");
+        CandidateReservation second = save("s2", START, "ACTIVE");
+        save("s3", START.plusHours(1), "CANCELLED");
+        CandidateReservation third = save("s4", START.plusHours(2), "ACTIVE");
+        save("s5", START.plusDays(1), "ACTIVE");
+        List<CandidateReservation> tied = Arrays.asList(first, second);
+        tied.sort((a, b) -> a.getId().compareTo(b.getId()));
+
+        List<CandidateReservation> firstPage = repository().findPage("ACTIVE", START, START.plusDays(1), null, 2);
+        CandidateReservation last = firstPage.get(1);
+        List<CandidateReservation> secondPage = repository().findPage("ACTIVE", START, START.plusDays(1),
+                new KeysetCursor(last.getReservationTime(), last.getId()), 2);
+
+        assertEquals(tied, firstPage);
+        assertEquals(List.of(third), secondPage);
+        assertEquals(5, repository().findPage(null, null, null, null, 10).size());
+    }
+
+    private CandidateReservation save(String slotId, LocalDateTime time, String status) {
+        return repository().save(new CandidateReservation(null, slotId, "c1", time, status));
+    }
+}
@@ -0,0 +1,86 @@
+package com.recruitment.storage;
+
+import com.recruitment.interview.InMemoryInterviewSlotRepository;
+import com.recruitment.interview.InterviewSlotRepository;
+import com.recruitment.recruiter.InMemoryRecruiterRepository;
+import com.recruitment.recruiter.InMemorySlotCounterRepository;
+import com.recruitment.recruiter.RecruiterRepository;
+import com.recruitment.recruiter.SlotCounterRepository;
+import com.recruitment.reservation.CandidateReservationRepository;
+import com.recruitment.reservation.InMemoryCandidateReservationRepository;
+import com.recruitment.vacation.InMemoryVacationRepository;
+import com.recruitment.vacation.VacationRepository;
+import org.junit.jupiter.api.Nested;
+
+/**
+ * Runs the repository contracts against the in-memory storage.
+ */
+class InMemoryRepositoryConformanceTest {
+
+    @Nested
+    class Slots extends InterviewSlotRepositoryContract {
+
+        private final InterviewSlotRepository repository = new InMemoryInterviewSlotRepository();
+
+        @Override
+        protected InterviewSlotRepository repository() {
+            return repository;
+        }
+    }
+
+    @Nested
+    class Reservations extends CandidateReservationRepositoryContract {
+
+        private final CandidateReservationRepository repository = new InMemoryCandidateReservationRepository();
+
+        @Override
+        protected CandidateReservationRepository repository() {
+            return repository;
+        }
+    }
+
+    @Nested
+    class Vacations extends VacationRepositoryContract {
+
+        private final VacationRepository repository = new InMemoryVacationRepository();
+
+        @Override
+        protected VacationRepository repository() {
+            return repository;
+        }
+    }
+
+    @Nested
+    class SlotCounters extends SlotCounterRepositoryContract {
+
+        private final SlotCounterRepository repository = new InMemorySlotCounterRepository();
+
+        @Override
+        protected SlotCounterRepository repository() {
+            return repository;
+        }
+    }
+
+    @Nested
+    class Recruiters extends RecruiterRepositoryContract {
+
+        private final InterviewSlotRepository slots = new InMemoryInterviewSlotRepository();
+        private final VacationRepository vacations = new InMemoryVacationRepository();
+        private final RecruiterRepository recruiters = new InMemoryRecruiterRepository(slots, vacations);
+
+        @Override
+        protected RecruiterRepository recruiters() {
+            return recruiters;
+        }
+
+        @Override
+        protected InterviewSlotRepository slots() {
+            return slots;
+        }
+
+        @Override
+        protected VacationRepository vacations() {
+            return vacations;
+        }
+    }
+}
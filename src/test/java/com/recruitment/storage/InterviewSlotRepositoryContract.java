@@ -0,0 +1,263 @@
+package com.recruitment.storage;
+
+import com.recruitment.config.KeysetCursor;
+import com.recruitment.interview.DailySlotCount;
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.interview.InterviewSlotRepository;
+import com.recruitment.interview.Seniority;
+import com.recruitment.interview.SlotSearch;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Behaviour every {@link InterviewSlotRepository} implementation must share, run against each storage by
+ * {@link InMemoryRepositoryConformanceTest} and {@link MongoRepositoryConformanceTest}.
+ */
+abstract class InterviewSlotRepositoryContract {
+
+    static final LocalDateTime START = LocalDateTime.of(2030, 1, 7, 9, 0);
+
+    protected abstract InterviewSlotRepository repository();
+
+    @BeforeEach
+    void clear() {
+        repository().deleteAll();
+    }
+
+    @Test
+    void save_shouldAssignIdAndKeepStoredCopyApart() {
+        InterviewSlot slot = slot("r1", START, 1);
+        repository().save(slot);
+        slot.setCategory("PYTHON");
+
+        InterviewSlot found = repository().findById(slot.getId()).orElseThrow();
+        found.setCategory("GO");
+
+        assertNotNull(slot.getId());
+        assertEquals("JAVA", repository().findById(slot.getId()).orElseThrow().getCategory());
+        assertEquals(1, repository().count());
+    }
+
+    @Test
+    void overlapQuery_shouldExcludeTouchingSlotsAndOtherRecruiters() {
+        InterviewSlot first = save(slot("r1", START, 1));
+        InterviewSlot second = save(slot("r1", START.plusHours(1), 1));
+        save(slot("r1", START.plusHours(2), 1));
+        save(slot("r2", START, 1));
+
+        List<InterviewSlot> found = repository().findByRecruiterIdAndStartTimeLessThanAndEndTimeGreaterThan("r1",
+                START.plusHours(2), START.plusMinutes(30));
+
+        assertEquals(ids(first, second), ids(found));
+    }
+
+    @Test
+    void countBetween_shouldExcludeBothEnds() {
+        save(slot("r1", START, 1));
+        save(slot("r1", START.plusHours(1), 1));
+        save(slot("r1", START.plusHours(2), 1));
+
+        assertEquals(1, repository().countByRecruiterIdAndStartTimeBetween("r1", START, START.plusHours(2)));
+    }
+
+    @Test
+    void bookAndRelease_shouldStayWithinCapacity() {
+        InterviewSlot slot = save(slot("r1", START, 2));
+
+        assertEquals(1, repository().book(slot.getId()).orElseThrow().getBookedCount());
+        assertEquals(2, repository().book(slot.getId()).orElseThrow().getBookedCount());
+        assertTrue(repository().book(slot.getId()).isEmpty());
+        assertEquals(1, repository().release(slot.getId()).orElseThrow().getBookedCount());
+        assertEquals(0, repository().release(slot.getId()).orElseThrow().getBookedCount());
+        assertTrue(repository().release(slot.getId()).isEmpty());
+        assertTrue(repository().book(new ObjectId().toHexString()).isEmpty());
+    }
+
+    @Test
+    void book_shouldNeverOverbookUnderConcurrency() throws Exception {
+        InterviewSlot slot = save(slot("r1", START, 50));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> attempts = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                attempts.add(executor.submit(() -> repository().book(slot.getId()).isPresent()));
+            }
+            int booked = 0;
+            for (Future<Boolean> attempt : attempts) {
+                booked += attempt.get() ? 1 : 0;
+            }
+            assertEquals(50, booked);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(50, repository().findById(slot.getId()).orElseThrow().getBookedCount());
+    }
+
+    @Test
+    void updateDetails_shouldKeepBookedCountAndRejectCapacityBelowIt() {
+        InterviewSlot slot = save(slot("r1", START, 3));
+        repository().book(slot.getId());
+        repository().book(slot.getId());
+
+        InterviewSlot changed = slot("r1", START.plusHours(1), 2);
+        changed.setId(slot.getId());
+        changed.setCategory("PYTHON");
+        InterviewSlot updated = repository().updateDetails(changed).orElseThrow();
+        changed.setCapacity(1);
+
+        assertEquals(2, updated.getBookedCount());
+        assertEquals("PYTHON", updated.getCategory());
+        assertEquals(START.plusHours(1), updated.getStartTime());
+        assertTrue(repository().updateDetails(changed).isEmpty());
+        assertEquals(2, repository().findById(slot.getId()).orElseThrow().getCapacity());
+    }
+
+    @Test
+    void findPage_shouldWalkEverySlotOnceInKeysetOrder() {
+        List<InterviewSlot> all = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            // Pairs of slots share a start time, so the ID decides their order.
+            all.add(save(slot((i % 2 == 0) ? "r1" : "r2", START.plusHours(i / 2), 1)));
+        }
+        all.sort(Comparator.comparing(InterviewSlot::getStartTime).thenComparing(InterviewSlot::getId));
+
+        List<String> walked = new ArrayList<>();
+        KeysetCursor cursor = null;
+        List<InterviewSlot> page;
+        do {
+            page = repository().findPage(null, null, null, cursor, 2);
+            page.forEach(slot -> walked.add(slot.getId()));
+            if (!page.isEmpty()) {
+                InterviewSlot last = page.get(page.size() - 1);
+                cursor = new KeysetCursor(last.getStartTime(), last.getId());
+            }
+        } while (page.size() == 2);
+
+        assertEquals(all.stream().map(InterviewSlot::getId).collect(Collectors.toList()), walked);
+        assertEquals(all.stream().filter(slot -> slot.getRecruiterId().equals("r1")
+                        && slot.getStartTime().isBefore(START.plusHours(2))).map(InterviewSlot::getId)
+                        .collect(Collectors.toList()),
+                inOrder(repository().findPage("r1", START, START.plusHours(2), null, 10)));
+    }
+
+    @Test
+    void search_shouldFilterByCategoriesSeniorityWindowAndBookability() {
+        InterviewSlot java = save(slot("r1", START, 1));
+        InterviewSlot kotlin = save(slot("r1", START.plusHours(1), 1, "KOTLIN", Seniority.MID));
+        save(slot("r1", START.plusHours(2), 1, "PYTHON", Seniority.MID));
+        InterviewSlot senior = save(slot("r1", START.plusHours(3), 1, "JAVA", Seniority.SENIOR));
+        InterviewSlot full = save(slot("r2", START.plusHours(4), 1));
+        repository().book(full.getId());
+        save(slot("r2", START.plusDays(10), 1));
+
+        List<InterviewSlot> bookable = repository().search(new SlotSearch(Arrays.asList("JAVA", "KOTLIN"),
+                Seniority.MID, START, START.plusDays(1), true), null, 10);
+        List<InterviewSlot> anyFirstThree = repository().search(new SlotSearch(null, null, null, null, false), null,
+                3);
+        List<InterviewSlot> afterJava = repository().search(new SlotSearch(null, null, START, START.plusDays(1),
+                false), new KeysetCursor(java.getStartTime(), java.getId()), 10);
+
+        assertEquals(Arrays.asList(java.getId(), kotlin.getId()), inOrder(bookable));
+        assertEquals(3, anyFirstThree.size());
+        assertEquals(java.getId(), anyFirstThree.get(0).getId());
+        assertEquals(4, afterJava.size());
+        assertEquals(senior.getId(), afterJava.get(2).getId());
+    }
+
+    @Test
+    void findBusy_shouldSelectRecruitersAndStartWindow() {
+        InterviewSlot first = save(slot("r1", START, 1));
+        InterviewSlot second = save(slot("r2", START.plusHours(1), 1));
+        save(slot("r3", START.plusHours(1), 1));
+        save(slot("r1", START.plusDays(1), 1));
+
+        assertEquals(ids(first, second), ids(repository().findBusy(Arrays.asList("r1", "r2"), START,
+                START.plusDays(1))));
+        assertEquals(3, repository().findBusy(List.of(), START, START.plusDays(1)).size());
+    }
+
+    @Test
+    void streamByStartTimeBetween_shouldHonourBoundsAndSort() {
+        InterviewSlot first = save(slot("r1", START, 1));
+        InterviewSlot second = save(slot("r2", START.plusHours(1), 1));
+        save(slot("r1", START.plusHours(2), 1));
+
+        List<String> found = repository().streamByStartTimeBetween(Range.rightOpen(START, START.plusHours(2)),
+                Sort.by(Sort.Direction.DESC, "startTime")).map(InterviewSlot::getId).collect(Collectors.toList());
+
+        assertEquals(Arrays.asList(second.getId(), first.getId()), found);
+    }
+
+    @Test
+    void countSlotsPerRecruiterAndDay_shouldGroupByLocalDay() {
+        save(slot("r1", START, 1));
+        save(slot("r1", START.plusHours(2), 1));
+        save(slot("r1", START.plusDays(1), 1));
+        save(slot("r2", START, 1));
+
+        Map<String, Long> counts = repository().countSlotsPerRecruiterAndDay(ZoneId.systemDefault().getId()).stream()
+                .collect(Collectors.toMap(count -> count.getRecruiterId() + "@" + count.getDay(),
+                        DailySlotCount::getCount));
+
+        assertEquals(Map.of("r1@2030-01-07", 2L, "r1@2030-01-08", 1L, "r2@2030-01-07", 1L), counts);
+        assertEquals(Map.of("r2@2030-01-07", 1L), repository().countSlotsPerDayOfRecruiter("r2",
+                ZoneId.systemDefault().getId()).stream().collect(Collectors.toMap(
+                count -> count.getRecruiterId() + "@" + count.getDay(), DailySlotCount::getCount)));
+    }
+
+    @Test
+    void setCalendarEventIdsAndDelete_shouldChangeOnlyGivenSlots() {
+        InterviewSlot first = save(slot("r1", START, 1));
+        InterviewSlot second = save(slot("r1", START.plusHours(1), 1));
+
+        repository().setCalendarEventIds(Map.of(first.getId(), "event-1"));
+        repository().deleteById(second.getId());
+
+        assertEquals("event-1", repository().findById(first.getId()).orElseThrow().getGoogleCalendarEventId());
+        assertEquals(ids(first), ids(repository().findByRecruiterId("r1")));
+        assertEquals(ids(first), ids(repository().findPage(null, null, null, null, 10)));
+    }
+
+    InterviewSlot save(InterviewSlot slot) {
+        return repository().save(slot);
+    }
+
+    static InterviewSlot slot(String recruiterId, LocalDateTime start, int capacity) {
+        return slot(recruiterId, start, capacity, "JAVA", Seniority.MID);
+    }
+
+    static InterviewSlot slot(String recruiterId, LocalDateTime start, int capacity, String category,
+            Seniority seniority) {
+        return new InterviewSlot(null, category, seniority, start, start.plusHours(1), capacity > 1, null,
+                recruiterId, null, capacity, 0);
+    }
+
+    static List<String> ids(InterviewSlot... slots) {
+        return ids(Arrays.asList(slots));
+    }
+
+    static List<String> ids(List<InterviewSlot> slots) {
+        return slots.stream().map(InterviewSlot::getId).sorted().collect(Collectors.toList());
+    }
+
+    static List<String> inOrder(List<InterviewSlot> slots) {
+        return slots.stream().map(InterviewSlot::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,92 @@
+package com.recruitment.storage;
+
+import com.recruitment.interview.InterviewSlotRepository;
+import com.recruitment.recruiter.RecruiterRepository;
+import com.recruitment.recruiter.SlotCounterRepository;
+import com.recruitment.reservation.CandidateReservationRepository;
+import com.recruitment.vacation.VacationRepository;
+import org.junit.jupiter.api.Nested;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Runs the repository contracts against a real MongoDB. Skipped when Docker is not available.
+ */
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+class MongoRepositoryConformanceTest {
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    private InterviewSlotRepository slotRepository;
+    @Autowired
+    private CandidateReservationRepository reservationRepository;
+    @Autowired
+    private VacationRepository vacationRepository;
+    @Autowired
+    private RecruiterRepository recruiterRepository;
+    @Autowired
+    private SlotCounterRepository slotCounterRepository;
+
+    @Nested
+    class Slots extends InterviewSlotRepositoryContract {
+
+        @Override
+        protected InterviewSlotRepository repository() {
+            return slotRepository;
+        }
+    }
+
+    @Nested
+    class Reservations extends CandidateReservationRepositoryContract {
+
+        @Override
+        protected CandidateReservationRepository repository() {
+            return reservationRepository;
+        }
+    }
+
+    @Nested
+    class Vacations extends VacationRepositoryContract {
+
+        @Override
+        protected VacationRepository repository() {
+            return vacationRepository;
+        }
+    }
+
+    @Nested
+    class SlotCounters extends SlotCounterRepositoryContract {
+
+        @Override
+        protected SlotCounterRepository repository() {
+            return slotCounterRepository;
+        }
+    }
+
+    @Nested
+    class Recruiters extends RecruiterRepositoryContract {
+
+        @Override
+        protected RecruiterRepository recruiters() {
+            return recruiterRepository;
+        }
+
+        @Override
+        protected InterviewSlotRepository slots() {
+            return slotRepository;
+        }
+
+        @Override
+        protected VacationRepository vacations() {
+            return vacationRepository;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.recruitment.storage;
+
+import com.recruitment.interview.InterviewSlot;
+import com.recruitment.interview.InterviewSlotRepository;
+import com.recruitment.interview.SlotInterval;
+import com.recruitment.recruiter.Recruiter;
+import com.recruitment.recruiter.RecruiterRepository;
+import com.recruitment.recruiter.SlotCounts;
+import com.recruitment.recruiter.SlotValidationSnapshot;
+import com.recruitment.vacation.Vacation;
+import com.recruitment.vacation.VacationRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.recruitment.storage.InterviewSlotRepositoryContract.slot;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Behaviour every {@link RecruiterRepository} implementation must share, together with the slot and vacation
+ * repositories its validation snapshot reads.
+ */
+abstract class RecruiterRepositoryContract {
+
+    // Wednesday of the week from Monday 2030-01-14.
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 1, 16, 0, 0);
+
+    protected abstract RecruiterRepository recruiters();
+
+    protected abstract InterviewSlotRepository slots();
+
+    protected abstract VacationRepository vacations();
+
+    @BeforeEach
+    void clear() {
+        recruiters().deleteAll();
+        slots().deleteAll();
+        vacations().deleteAll();
+    }
+
+    @Test
+    void loadValidationSnapshot_shouldCountPeriodsAndCollectOverlapsWithoutTheSlotItself() {
+        Recruiter recruiter = recruiters().save(new Recruiter(null, "Anna", "Nowak", 4, 10, 20, null, null));
+        String id = recruiter.getId();
+        InterviewSlot validated = slots().save(slot(id, DAY.plusHours(10), 1));
+        InterviewSlot overlapping = slots().save(slot(id, DAY.plusHours(9).plusMinutes(30), 1));
+        slots().save(slot(id, DAY.plusHours(14), 1));
+        slots().save(slot(id, DAY.minusDays(2).plusHours(10), 1));
+        slots().save(slot(id, DAY.minusDays(13).plusHours(10), 1));
+        slots().save(slot(id, DAY.plusDays(20).plusHours(10), 1));
+        slots().save(slot(new ObjectId().toHexString(), DAY.plusHours(10), 1));
+        Vacation vacation = vacations().save(new Vacation(null, id, DAY, DAY.plusDays(1), "Urlop", true));
+        vacations().save(new Vacation(null, id, DAY.plusDays(4), DAY.plusDays(5), "Urlop", true));
+
+        SlotValidationSnapshot snapshot = recruiters().loadValidationSnapshot(id, validated,
+                validated.getStartTime(), validated.getEndTime()).orElseThrow();
+
+        assertEquals(recruiter, snapshot.getRecruiter());
+        assertEquals(new SlotCounts(2, 3, 4), snapshot.getCounts());
+        assertEquals(List.of(overlapping.getId()), snapshot.getOverlappingSlots().stream().map(SlotInterval::getId)
+                .collect(Collectors.toList()));
+        assertEquals(List.of(vacation), snapshot.getOverlappingVacations());
+    }
+
+    @Test
+    void loadValidationSnapshot_shouldBeEmptyForUnknownRecruiter() {
+        assertTrue(recruiters().loadValidationSnapshot(new ObjectId().toHexString(), slot("r1", DAY, 1), DAY,
+                DAY.plusHours(1)).isEmpty());
+    }
+}
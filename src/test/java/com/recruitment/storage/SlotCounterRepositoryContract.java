@@ -0,0 +1,49 @@
+package com.recruitment.storage;
+
+import com.recruitment.recruiter.SlotCounter;
+import com.recruitment.recruiter.SlotCounterRepository;
+import com.recruitment.recruiter.SlotPeriod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Behaviour every {@link SlotCounterRepository} implementation must share.
+ */
+abstract class SlotCounterRepositoryContract {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 1, 7);
+
+    protected abstract SlotCounterRepository repository();
+
+    @BeforeEach
+    void clear() {
+        repository().deleteAll();
+    }
+
+    @Test
+    void incrementAll_shouldCreateMissingCountersAndAddDeltas() {
+        repository().incrementAll(List.of(delta("r1", SlotPeriod.DAY, 2), delta("r1", SlotPeriod.WEEK, 1)));
+        repository().incrementAll(List.of(delta("r1", SlotPeriod.DAY, -1), delta("r2", SlotPeriod.DAY, 3)));
+
+        assertEquals(Map.of(SlotPeriod.DAY.counterId("r1", MONDAY), 1L, SlotPeriod.DAY.counterId("r2", MONDAY), 3L),
+                counts(repository().findByPeriodAndPeriodKeyIn(SlotPeriod.DAY,
+                        List.of(SlotPeriod.DAY.key(MONDAY), "2030-01-08"))));
+        assertEquals(Map.of(SlotPeriod.DAY.counterId("r1", MONDAY), 1L, SlotPeriod.WEEK.counterId("r1", MONDAY), 1L),
+                counts(repository().findByRecruiterId("r1")));
+    }
+
+    private static SlotCounter delta(String recruiterId, SlotPeriod period, long count) {
+        return new SlotCounter(period.counterId(recruiterId, MONDAY), recruiterId, period, period.key(MONDAY), count);
+    }
+
+    private static Map<String, Long> counts(List<SlotCounter> counters) {
+        return counters.stream().collect(Collectors.toMap(SlotCounter::getId, SlotCounter::getCount));
+    }
+}
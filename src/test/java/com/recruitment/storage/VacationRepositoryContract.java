@@ -0,0 +1,64 @@
+package com.recruitment.storage;
+
+import com.recruitment.vacation.Vacation;
+import com.recruitment.vacation.VacationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Behaviour every {@link VacationRepository} implementation must share.
+ */
+abstract class VacationRepositoryContract {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 7, 0, 0);
+
+    protected abstract VacationRepository repository();
+
+    @BeforeEach
+    void clear() {
+        repository().deleteAll();
+    }
+
+    @Test
+    void overlapQueries_shouldExcludeTouchingVacations() {
+        Vacation week = save("r1", START, START.plusDays(7));
+        save("r1", START.plusDays(7), START.plusDays(9));
+        save("r1", START.minusDays(3), START);
+        Vacation other = save("r2", START.plusDays(2), START.plusDays(3));
+
+        assertEquals(ids(week), ids(repository().findByRecruiterIdAndStartDateLessThanAndEndDateGreaterThan("r1",
+                START.plusDays(7), START)));
+        assertEquals(ids(week, other), ids(repository().findByStartDateLessThanAndEndDateGreaterThan(
+                START.plusDays(7), START)));
+    }
+
+    @Test
+    void recruiterQueries_shouldReturnOnlyThatRecruiter() {
+        Vacation first = save("r1", START, START.plusDays(1));
+        Vacation second = save("r1", START.plusDays(5), START.plusDays(6));
+        save("r2", START, START.plusDays(1));
+
+        assertEquals(ids(first, second), ids(repository().findByRecruiterId("r1")));
+        assertEquals(ids(first, second), ids(repository().streamByRecruiterId("r1").collect(Collectors.toList())));
+        assertEquals(3, repository().streamAllBy().count());
+    }
+
+    private Vacation save(String recruiterId, LocalDateTime start, LocalDateTime end) {
+        return repository().save(new Vacation(null, recruiterId, start, end, "Urlop", true));
+    }
+
+    private static List<String> ids(Vacation... vacations) {
+        return ids(Arrays.asList(vacations));
+    }
+
+    private static List<String> ids(List<Vacation> vacations) {
+        return vacations.stream().map(Vacation::getId).sorted().collect(Collectors.toList());
+    }
+}